@@ -0,0 +1,50 @@
+package dimstyl.orm.annotations;
+
+import dimstyl.orm.enums.AggregateFunction;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to mark a method for computing an aggregate over a column of a table.
+ * <p>
+ * This annotation is used in repository interfaces to specify that a method should return the result
+ * of an {@link AggregateFunction} over the column of an entity field, without loading any record.
+ * Ungrouped aggregates return the value directly, e.g. as a {@code long} or a {@code double};
+ * when there are no records, primitive return types get zero and wrapper types get {@code null}.
+ * Grouped aggregates return a {@link java.util.Map} of each group's value to its aggregate,
+ * ordered by group value.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     &#64;Aggregate(function = AggregateFunction.COUNT, column = "id", groupBy = "customerId")
+ *     Map&lt;Integer, Long&gt; countByCustomerId();
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Aggregate {
+
+    /**
+     * Specifies the aggregate function.
+     *
+     * @return The {@link AggregateFunction}.
+     */
+    AggregateFunction function();
+
+    /**
+     * Specifies the entity field whose column is aggregated.
+     *
+     * @return The name of the field.
+     */
+    String column();
+
+    /**
+     * Specifies the entity field whose column the records are grouped by.
+     *
+     * @return The name of the field, or an empty string if the records are not grouped.
+     */
+    String groupBy() default "";
+
+}
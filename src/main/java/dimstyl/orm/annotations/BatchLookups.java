@@ -0,0 +1,37 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to opt a {@link FindById} method into micro-batching.
+ * <p>
+ * Concurrent lookups arriving within the batching window are collected and answered together with a single
+ * multi-key query, as with {@link FindAllById}, and each caller gets the result of its own key. The window opens
+ * with the first lookup of a batch, and the batch is sent early once it reaches its maximum size.
+ * Callers looking up the same key within a window share the same entity instance.
+ * </p>
+ * <p>
+ * Lookups of methods without this annotation can also be batched within an explicit scope,
+ * see {@link dimstyl.orm.runtime.LookupBatching}.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface BatchLookups {
+
+    /**
+     * Specifies how long, in microseconds, a batch waits for more lookups before being sent.
+     *
+     * @return The batching window in microseconds.
+     */
+    long windowMicros() default 2_000;
+
+    /**
+     * Specifies the number of distinct keys at which a batch is sent without waiting for its window to close.
+     *
+     * @return The maximum number of keys per batch.
+     */
+    int maxBatchSize() default 256;
+
+}
@@ -0,0 +1,55 @@
+package dimstyl.orm.annotations;
+
+import dimstyl.orm.enums.OverflowPolicy;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to limit the number of concurrent operations of a repository or a database.
+ * <p>
+ * When placed on a repository interface, the limit applies to the operations of that repository only.
+ * When placed on a class annotated with {@link Database}, the limit applies to the operations of all
+ * repositories of that database. An operation must be admitted by both bulkheads before it is executed,
+ * so a burst on one repository cannot starve the other repositories of the same database.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Bulkhead {
+
+    /**
+     * Specifies the maximum number of operations executed concurrently.
+     *
+     * @return The maximum number of concurrent operations.
+     */
+    int maxConcurrent();
+
+    /**
+     * Specifies what happens to an operation that arrives while all permits are in use.
+     *
+     * @return The {@link OverflowPolicy} of the bulkhead.
+     */
+    OverflowPolicy overflowPolicy() default OverflowPolicy.QUEUE;
+
+    /**
+     * Specifies the maximum number of operations waiting for a permit.
+     * <p>
+     * Only applies to {@link OverflowPolicy#SHED_LOAD}.
+     * </p>
+     *
+     * @return The maximum queue depth.
+     */
+    int maxQueueDepth() default 64;
+
+    /**
+     * Specifies how long, in milliseconds, an operation waits for a permit before it is rejected.
+     * <p>
+     * The wait is also bounded by the caller's deadline, if any.
+     * </p>
+     *
+     * @return The maximum wait in milliseconds.
+     */
+    long maxWaitMillis() default 1_000;
+
+}
@@ -6,7 +6,7 @@ import java.lang.annotation.*;
  * Represents a database column mapping for an entity field in the custom ORM framework.
  * <p>
  * This annotation is used to specify metadata for a field that corresponds to a database column,
- * such as its name, nullability, and uniqueness constraints.
+ * such as its name, nullability, uniqueness constraints, and the size of its type.
  * </p>
  */
 @Documented
@@ -44,4 +44,35 @@ public @interface Column {
      */
     boolean unique() default false;
 
+    /**
+     * Specifies the maximum length of the column, for {@code String} and {@code byte[]} fields.
+     * <p>
+     * Defaults to {@code 255}. It is ignored by engines whose text and binary types have no declared length,
+     * such as SQLite.
+     * </p>
+     *
+     * @return The maximum length of the column.
+     */
+    int length() default 255;
+
+    /**
+     * Specifies the total number of digits of the column, for {@code BigDecimal} fields.
+     * <p>
+     * Defaults to {@code 19}. It is ignored by SQLite, which stores decimals as text to keep them exact.
+     * </p>
+     *
+     * @return The precision of the column.
+     */
+    int precision() default 19;
+
+    /**
+     * Specifies the number of digits after the decimal point of the column, for {@code BigDecimal} fields.
+     * <p>
+     * Defaults to {@code 2}. It is ignored by SQLite, which stores decimals as text to keep them exact.
+     * </p>
+     *
+     * @return The scale of the column.
+     */
+    int scale() default 2;
+
 }
@@ -0,0 +1,42 @@
+package dimstyl.orm.annotations;
+
+import dimstyl.orm.model.AttributeConverter;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to store the values of a type the ORM does not support through an {@link AttributeConverter}.
+ * <p>
+ * On a field, the converter applies to the field's column only. On a value type, it applies to the columns
+ * of every field of that type, unless a field declares its own converter. The column type is the one of the
+ * primitive or string the converter stores the values as, so that a converted column costs no more to bind
+ * and read than a primitive one.
+ * </p>
+ * <p>
+ * Converters must have an accessible no-arg constructor, and are instantiated once per converter class.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     &#64;Convert(MoneyConverter.class)
+ *     public record Money(long cents) { }
+ *
+ *     public class MoneyConverter implements LongConverter&lt;Money&gt; {
+ *         public long toColumn(Money money) { return money.cents(); }
+ *         public Money fromColumn(long cents) { return new Money(cents); }
+ *     }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.TYPE})
+public @interface Convert {
+
+    /**
+     * Specifies the converter of the values.
+     *
+     * @return The {@link AttributeConverter} class.
+     */
+    Class<? extends AttributeConverter<?>> value();
+
+}
@@ -0,0 +1,16 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to mark a method for counting the records of a table.
+ * <p>
+ * This annotation is used in repository interfaces to specify that a method should return
+ * the number of records as a {@code long} or an {@code int}, without loading any of them.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Count {
+}
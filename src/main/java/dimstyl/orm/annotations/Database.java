@@ -47,4 +47,58 @@ public @interface Database {
      */
     Class<? extends Entity>[] tables() default {};
 
+    /**
+     * Specifies the packages scanned for further entity classes of this database.
+     * <p>
+     * The concrete classes annotated with {@link Table} in these packages and their subpackages are added
+     * to the {@link #tables()}, in name order. The packages are looked up in the component index on the classpath,
+     * if any, and scanned by reading class files otherwise, so that unrelated classes are never loaded.
+     * </p>
+     *
+     * @return The names of the scanned packages.
+     */
+    String[] scanPackages() default {};
+
+    /**
+     * Specifies whether the schema of the database is synchronized with its tables, instead of created.
+     * <p>
+     * When enabled, the live schema is read through JDBC and only the missing tables, columns and unique
+     * indexes are created, so that an existing database can be reopened and evolved without being rebuilt.
+     * Columns are never dropped or altered.
+     * </p>
+     *
+     * @return {@code true} if the schema is synchronized, {@code false} if it is created.
+     */
+    boolean syncSchema() default false;
+
+    /**
+     * Defines the SQLite tuning profile of the database.
+     * <p>
+     * Only applies when {@link #engine()} is {@link DatabaseEngine#SQLITE}.
+     * </p>
+     *
+     * @return The {@link SQLiteTuning} of the database.
+     */
+    SQLiteTuning sqliteTuning() default @SQLiteTuning;
+
+    /**
+     * Defines the H2 tuning profile of the database.
+     * <p>
+     * Only applies when {@link #engine()} is {@link DatabaseEngine#H2}.
+     * </p>
+     *
+     * @return The {@link H2Tuning} of the database.
+     */
+    H2Tuning h2Tuning() default @H2Tuning;
+
+    /**
+     * Defines the Apache Derby tuning profile of the database.
+     * <p>
+     * Only applies when {@link #engine()} is {@link DatabaseEngine#DERBY}.
+     * </p>
+     *
+     * @return The {@link DerbyTuning} of the database.
+     */
+    DerbyTuning derbyTuning() default @DerbyTuning;
+
 }
@@ -0,0 +1,50 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to define the Apache Derby tuning profile of a database.
+ * <p>
+ * This annotation is used inside {@link Database} to specify the Derby storage properties.
+ * Derby reads these properties when it boots, so they must be in place before the first connection
+ * to a database is opened. Properties left at {@link #ENGINE_DEFAULT} use the Derby default.
+ * It is ignored for databases that do not use the Derby engine.
+ * </p>
+ *
+ * @see <a href="https://db.apache.org/derby/docs/10.17/tuning/ctunproper22250.html">Derby properties reference</a>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DerbyTuning {
+
+    /**
+     * Marker value meaning that a property is left to the Derby default.
+     */
+    int ENGINE_DEFAULT = Integer.MIN_VALUE;
+
+    /**
+     * Specifies the number of pages kept in the page cache ({@code derby.storage.pageCacheSize}).
+     *
+     * @return The page cache size in pages.
+     */
+    int pageCacheSize() default ENGINE_DEFAULT;
+
+    /**
+     * Specifies the page size, in bytes, of tables and indexes created afterwards ({@code derby.storage.pageSize}).
+     * <p>
+     * Valid values are {@code 4096}, {@code 8192}, {@code 16384} and {@code 32768}.
+     * </p>
+     *
+     * @return The page size in bytes.
+     */
+    int pageSize() default ENGINE_DEFAULT;
+
+    /**
+     * Specifies the size, in bytes, of the transaction log buffer ({@code derby.storage.logBufferSize}).
+     *
+     * @return The log buffer size in bytes.
+     */
+    int logBufferSize() default ENGINE_DEFAULT;
+
+}
@@ -0,0 +1,23 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to mark a value type whose {@link Column} fields are stored in the table of the entities embedding it.
+ * <p>
+ * An embeddable is either a record, whose components must all be {@link Column} fields, or a class with
+ * an accessible no-arg constructor. It is mapped by {@link Embedded} fields of entities, and cannot itself
+ * embed another embeddable.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     &#64;Embeddable
+ *     public record Address(&#64;Column String street, &#64;Column String city) { }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Embeddable {
+}
@@ -0,0 +1,41 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to flatten an {@link Embeddable} value into columns of the entity's own table.
+ * <p>
+ * Each {@link Column} field of the embeddable is stored in a column named after its own column name,
+ * prefixed with {@link #prefix()}, so that an entity may embed the same embeddable several times.
+ * The value is rebuilt from the same row as the entity, and is {@code null} when all of its columns are.
+ * A {@code null} value is stored as {@code NULL} in all of its columns, so the columns of an embeddable
+ * declared not nullable require the value to be set.
+ * </p>
+ * <p>
+ * The columns of the embeddable are addressed by criteria as {@code <field>.<embeddable field>},
+ * e.g. {@code property("address.city")}.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     &#64;Embedded(prefix = "billing_")
+ *     private Address billingAddress;
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Embedded {
+
+    /**
+     * Specifies the prefix of the columns of the embeddable.
+     * <p>
+     * If left empty, the default column name of the field followed by an underscore is used,
+     * e.g. {@code billing_address_} for a {@code billingAddress} field.
+     * </p>
+     *
+     * @return The prefix of the column names.
+     */
+    String prefix() default "";
+
+}
@@ -0,0 +1,16 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to mark a method for checking whether an entity exists by its identifier.
+ * <p>
+ * This annotation is used in repository interfaces to specify that a method should return, as a {@code boolean},
+ * whether a record matches the entity's primary key, without loading the record.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ExistsById {
+}
@@ -0,0 +1,19 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to mark a method for finding the entities matching a collection of identifiers.
+ * <p>
+ * This annotation is used in repository interfaces to specify that a method should take a
+ * {@link java.util.Collection} of primary keys and return the matching entities as a {@link java.util.List},
+ * in the order of the given identifiers. Identifiers matching no record are skipped, and repeated identifiers
+ * repeat their entity. Depending on the number of identifiers, the records are fetched with one or more
+ * {@code IN} lists, or by joining a temporary table loaded with the identifiers.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface FindAllById {
+}
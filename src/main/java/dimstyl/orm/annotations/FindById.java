@@ -0,0 +1,16 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to mark a method for finding an entity by its identifier.
+ * <p>
+ * This annotation is used in repository interfaces to specify that a method
+ * should fetch the single entity matching the entity's primary key, returned as an {@link java.util.Optional}.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface FindById {
+}
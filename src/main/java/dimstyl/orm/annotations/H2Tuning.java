@@ -0,0 +1,63 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to define the H2 tuning profile of a database.
+ * <p>
+ * This annotation is used inside {@link Database} to specify the settings appended to every H2 connection string.
+ * Settings left at {@link #ENGINE_DEFAULT} are not passed to H2, which then uses its own default.
+ * It is ignored for databases that do not use the H2 engine.
+ * </p>
+ *
+ * @see <a href="https://h2database.com/html/commands.html#set_cache_size">H2 SET commands</a>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface H2Tuning {
+
+    /**
+     * Marker value meaning that a setting is left to the H2 default.
+     */
+    int ENGINE_DEFAULT = Integer.MIN_VALUE;
+
+    /**
+     * Specifies the size of the page cache in KiB ({@code CACHE_SIZE}).
+     *
+     * @return The cache size in KiB.
+     */
+    int cacheSize() default ENGINE_DEFAULT;
+
+    /**
+     * Specifies how long, in milliseconds, a statement waits for a lock ({@code LOCK_TIMEOUT}).
+     *
+     * @return The lock timeout in milliseconds.
+     */
+    int lockTimeout() default ENGINE_DEFAULT;
+
+    /**
+     * Specifies the maximum delay, in milliseconds, between a commit and flushing the MVStore to disk ({@code WRITE_DELAY}).
+     *
+     * @return The write delay in milliseconds.
+     */
+    int writeDelay() default ENGINE_DEFAULT;
+
+    /**
+     * Specifies how long, in milliseconds, the MVStore retains old chunks before reusing their space ({@code RETENTION_TIME}).
+     *
+     * @return The retention time in milliseconds.
+     */
+    int retentionTime() default ENGINE_DEFAULT;
+
+    /**
+     * Specifies how long, in seconds, the database stays open after its last connection is closed ({@code DB_CLOSE_DELAY}).
+     * <p>
+     * A value of {@code -1} keeps the database open until the virtual machine exits.
+     * </p>
+     *
+     * @return The close delay in seconds.
+     */
+    int dbCloseDelay() default ENGINE_DEFAULT;
+
+}
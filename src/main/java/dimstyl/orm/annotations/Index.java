@@ -0,0 +1,63 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to define a non-unique index on one or more database columns of an entity's table.
+ * <p>
+ * The index is created after the tables of the database, and may be declared several times on the same entity.
+ * The column names should correspond to the actual column names in the database, not the entity class field names.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     &#64;Table
+ *     &#64;Index(columnNames = {"customer_id", "created_at"}, descending = "created_at")
+ *     public class Purchase implements Entity { ... }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Repeatable(Indexes.class)
+public @interface Index {
+
+    /**
+     * Specifies the name of the index.
+     * <p>
+     * If left empty, the name is derived from the table and column names, as {@code idx_<table>_<columns>}.
+     * </p>
+     *
+     * @return The name of the index.
+     */
+    String name() default "";
+
+    /**
+     * Specifies the names of the indexed database columns, in index order.
+     *
+     * @return An array of column names.
+     */
+    String[] columnNames();
+
+    /**
+     * Specifies the indexed columns sorted in descending order, all others being sorted in ascending order.
+     * <p>
+     * Each name must also be listed in {@link #columnNames()}.
+     * </p>
+     *
+     * @return An array of column names.
+     */
+    String[] descending() default {};
+
+    /**
+     * Specifies the condition of a partial index, restricting it to the rows matching the SQL expression.
+     * <p>
+     * Only SQLite supports partial indexes. On the other engines, the condition is ignored
+     * and the index covers all rows.
+     * </p>
+     *
+     * @return The SQL condition, or an empty string if the index covers all rows.
+     */
+    String where() default "";
+
+}
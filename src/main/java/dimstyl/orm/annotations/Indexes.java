@@ -0,0 +1,23 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Container annotation for the {@link Index} annotations declared on an entity.
+ * <p>
+ * It is implied when {@link Index} is repeated, and does not need to be declared explicitly.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Indexes {
+
+    /**
+     * Specifies the indexes of the entity's table.
+     *
+     * @return An array of {@link Index} annotations.
+     */
+    Index[] value();
+
+}
@@ -0,0 +1,61 @@
+package dimstyl.orm.annotations;
+
+import dimstyl.orm.enums.ForeignKeyAction;
+
+import java.lang.annotation.*;
+
+/**
+ * Represents a many-to-one association from an entity to the entity referenced by one of its columns.
+ * <p>
+ * This annotation is placed on a field whose type is the referenced entity. The foreign key column is mapped
+ * by another field of the same entity annotated with {@link Column}, which holds the raw key, while the annotated
+ * field holds the referenced entity once loaded. A {@code FOREIGN KEY} constraint referencing the primary key
+ * of the referenced entity's table is added to the table definition.
+ * </p>
+ * <p>
+ * Repository methods returning the entity load the association of all returned rows at once,
+ * with a single {@code IN} query per association, see {@link OneToMany}.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     &#64;Column(nullable = false)
+ *     private Integer customerId;
+ *
+ *     &#64;ManyToOne(column = "customer_id")
+ *     private Customer customer;
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ManyToOne {
+
+    /**
+     * Specifies the name of the foreign key column, which must be mapped by a {@link Column} field of the entity.
+     *
+     * @return The name of the foreign key column.
+     */
+    String column();
+
+    /**
+     * Specifies the action taken on the referencing rows when the referenced row is deleted.
+     * <p>
+     * Defaults to {@link ForeignKeyAction#NO_ACTION}, meaning referenced rows cannot be deleted.
+     * </p>
+     *
+     * @return The {@link ForeignKeyAction} of the foreign key.
+     */
+    ForeignKeyAction onDelete() default ForeignKeyAction.NO_ACTION;
+
+    /**
+     * Specifies whether persisting the entity also persists the referenced entity, see {@link Persist}.
+     * <p>
+     * Defaults to {@code false}, meaning the referenced entity must already exist.
+     * </p>
+     *
+     * @return {@code true} if persistence cascades to the referenced entity, otherwise {@code false}.
+     */
+    boolean cascadePersist() default false;
+
+}
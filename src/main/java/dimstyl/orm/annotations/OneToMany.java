@@ -0,0 +1,48 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Represents a one-to-many association from an entity to the entities referencing it.
+ * <p>
+ * This annotation is placed on a {@link java.util.List} field whose element type is the referencing entity,
+ * and names the {@link ManyToOne} field of the referencing entity that maps the association. No column is added
+ * to the table of the annotated entity.
+ * </p>
+ * <p>
+ * Repository methods returning the entity load the association of all returned rows at once: the primary keys
+ * of the rows are collected, and all referencing entities are fetched with a single {@code IN} query,
+ * or a join with a temporary table for large results. Each loaded entity gets an unmodifiable list,
+ * empty if nothing references it, and its {@link ManyToOne} field points back to it.
+ * Associations are loaded one level deep, so the associations of loaded entities are left unset.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     &#64;OneToMany(mappedBy = "customer")
+ *     private List&lt;Purchase&gt; purchases;
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface OneToMany {
+
+    /**
+     * Specifies the name of the {@link ManyToOne} field of the referencing entity mapping the association.
+     *
+     * @return The name of the field owning the association.
+     */
+    String mappedBy();
+
+    /**
+     * Specifies whether persisting the entity also persists the entities of the list, see {@link Persist}.
+     * <p>
+     * Defaults to {@code false}, meaning the list is ignored when the entity is persisted.
+     * </p>
+     *
+     * @return {@code true} if persistence cascades to the entities of the list, otherwise {@code false}.
+     */
+    boolean cascadePersist() default false;
+
+}
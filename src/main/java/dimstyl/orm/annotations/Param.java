@@ -0,0 +1,24 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to name a parameter of a method annotated with {@link Query}.
+ * <p>
+ * Parameters without this annotation are named after the method's parameter names,
+ * which are only available when the repository is compiled with {@code -parameters}.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface Param {
+
+    /**
+     * Specifies the name of the parameter, as referenced in the SQL statement.
+     *
+     * @return The name of the parameter.
+     */
+    String value();
+
+}
@@ -0,0 +1,27 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to mark a method for inserting new entities, along with the entities reachable from them
+ * through associations that cascade persistence.
+ * <p>
+ * This annotation is used in repository interfaces to specify that a method should take an entity,
+ * or a {@link java.util.Collection} of entities, and insert it with every entity reachable through
+ * {@link ManyToOne} and {@link OneToMany} fields whose {@code cascadePersist} is set. The inserts are grouped
+ * per table into JDBC batches, executed in foreign key order, referenced tables first, within a single transaction,
+ * so either the whole graph is inserted or nothing is. The method returns nothing, or the number of inserted rows
+ * as an {@code int}.
+ * </p>
+ * <p>
+ * Before being inserted, the foreign key column of each {@link ManyToOne} association is set to the primary key
+ * of its referenced entity, and the entities of each cascaded {@link OneToMany} association get their back
+ * reference set to their owning entity, so only the object references of a new graph need to be set.
+ * Primary keys are not generated and must be assigned beforehand.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Persist {
+}
@@ -0,0 +1,30 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to mark a method executing a native SQL statement.
+ * <p>
+ * This annotation is used in repository interfaces for statements that cannot be derived, e.g. joins between
+ * tables or engine-specific functions. Parameters are referenced by name, e.g. {@code :email}, and resolved
+ * against the method's parameters annotated with {@link Param}. The statement is parsed and validated once,
+ * when the repository is processed.
+ * </p>
+ *
+ * <p>Queries return a {@link java.util.List} or an {@link java.util.Optional} of entities, records or
+ * single-column values. Other statements return nothing, the number of affected rows as an {@code int},
+ * or whether any row was affected as a {@code boolean}.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Query {
+
+    /**
+     * Specifies the SQL statement.
+     *
+     * @return The SQL statement, with named parameters.
+     */
+    String value();
+
+}
@@ -0,0 +1,63 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to define how the operations of a repository are retried after transient errors.
+ * <p>
+ * Transient errors are lock contention errors reported by the database engine, such as SQLite's
+ * {@code SQLITE_BUSY} or Derby's lock timeouts and deadlocks. Only idempotent operations are retried,
+ * after a jittered exponential backoff, and only while the repository's retry budget allows it.
+ * Repositories that are not annotated are retried with the default values of this annotation.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Retry {
+
+    /**
+     * Specifies the maximum number of attempts of an operation, including the first one.
+     * A value of {@code 1} disables retries.
+     *
+     * @return The maximum number of attempts.
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * Specifies the backoff, in milliseconds, before the first retry.
+     *
+     * @return The initial backoff in milliseconds.
+     */
+    long initialBackoffMillis() default 10;
+
+    /**
+     * Specifies the maximum backoff, in milliseconds, between two attempts.
+     *
+     * @return The maximum backoff in milliseconds.
+     */
+    long maxBackoffMillis() default 1_000;
+
+    /**
+     * Specifies the factor by which the backoff grows after each retry.
+     *
+     * @return The backoff multiplier.
+     */
+    double backoffMultiplier() default 2.0;
+
+    /**
+     * Specifies the number of retries earned by each operation, e.g. {@code 0.2} allows one retry
+     * for every five operations once the initial budget is spent.
+     *
+     * @return The retry budget ratio.
+     */
+    double budgetRatio() default 0.2;
+
+    /**
+     * Specifies the maximum number of retries the budget can hold, which is also its initial balance.
+     *
+     * @return The retry budget capacity.
+     */
+    int budgetCapacity() default 10;
+
+}
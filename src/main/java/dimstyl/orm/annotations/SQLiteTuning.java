@@ -0,0 +1,80 @@
+package dimstyl.orm.annotations;
+
+import dimstyl.orm.enums.SQLiteJournalMode;
+import dimstyl.orm.enums.SQLiteSynchronousMode;
+import dimstyl.orm.enums.SQLiteTempStore;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to define the SQLite tuning profile of a database.
+ * <p>
+ * This annotation is used inside {@link Database} to specify the pragmas applied to every SQLite connection,
+ * as well as the size of the read-only connection pool used by the single-writer runtime.
+ * It is ignored for databases that do not use the SQLite engine.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface SQLiteTuning {
+
+    /**
+     * Specifies the journal mode of the database.
+     * <p>
+     * Defaults to {@link SQLiteJournalMode#WAL}, allowing readers to proceed while a write is in progress.
+     * </p>
+     *
+     * @return The {@link SQLiteJournalMode} of the database.
+     */
+    SQLiteJournalMode journalMode() default SQLiteJournalMode.WAL;
+
+    /**
+     * Specifies how aggressively SQLite flushes data to disk.
+     *
+     * @return The {@link SQLiteSynchronousMode} of the database.
+     */
+    SQLiteSynchronousMode synchronous() default SQLiteSynchronousMode.NORMAL;
+
+    /**
+     * Specifies the maximum number of bytes of the database file that are memory-mapped.
+     * <p>
+     * A value of {@code 0} disables memory-mapped I/O.
+     * </p>
+     *
+     * @return The memory-mapped size in bytes.
+     */
+    long mmapSize() default 268_435_456L;
+
+    /**
+     * Specifies the page cache size of each connection.
+     * <p>
+     * A positive value is a number of pages, a negative value is an amount of memory in KiB.
+     * </p>
+     *
+     * @return The page cache size.
+     */
+    int cacheSize() default -20_000;
+
+    /**
+     * Specifies where temporary tables and indices are stored.
+     *
+     * @return The {@link SQLiteTempStore} of the database.
+     */
+    SQLiteTempStore tempStore() default SQLiteTempStore.MEMORY;
+
+    /**
+     * Specifies how long, in milliseconds, a connection waits for a lock before failing with {@code SQLITE_BUSY}.
+     *
+     * @return The busy timeout in milliseconds.
+     */
+    int busyTimeout() default 5_000;
+
+    /**
+     * Specifies the number of read-only connections kept by the single-writer runtime.
+     *
+     * @return The size of the read-only connection pool.
+     */
+    int readPoolSize() default 4;
+
+}
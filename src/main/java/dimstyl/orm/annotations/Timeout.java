@@ -0,0 +1,25 @@
+package dimstyl.orm.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to define the maximum time a repository operation is allowed to take.
+ * <p>
+ * When placed on a repository interface, the timeout applies to all of its operations.
+ * When placed on a repository method, it applies to that method only and overrides the repository's timeout.
+ * Statements exceeding the timeout are cancelled.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Timeout {
+
+    /**
+     * Specifies the timeout in milliseconds.
+     *
+     * @return The timeout in milliseconds.
+     */
+    long millis();
+
+}
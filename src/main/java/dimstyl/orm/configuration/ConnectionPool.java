@@ -0,0 +1,252 @@
+package dimstyl.orm.configuration;
+
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.exceptions.DatabaseConnectionException;
+import dimstyl.orm.exceptions.QueryTimeoutException;
+import dimstyl.orm.internal.sql.execution.SqlQueryExecutor;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.runtime.Deadline;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Fixed-size pool of connections to an H2 or Derby database, shared by concurrent callers.
+ * <p>
+ * Unlike the connection of a {@link DatabaseConfiguration}, which is opened and closed around each operation,
+ * the pooled connections stay open for the lifetime of the pool, so operations do not pay for a new connection.
+ * A connection returned closed, or found invalid after a failed operation, is replaced by a new one, and one
+ * returned within a transaction is rolled back to auto-commit mode, so the next caller always gets a usable
+ * connection. SQLite databases use their {@link SQLiteRuntime} instead.
+ * </p>
+ */
+public final class ConnectionPool implements AutoCloseable {
+
+    /**
+     * The number of connections of a pool.
+     */
+    static final int DEFAULT_SIZE = 8;
+
+    /**
+     * The number of seconds to wait for the validation of a connection after a failed operation.
+     */
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    /**
+     * The name of the database.
+     */
+    private final String databaseName;
+
+    /**
+     * The connection string of the database, used to replace dead connections.
+     */
+    private final String connectionString;
+
+    /**
+     * The idle connections.
+     */
+    private final BlockingQueue<Connection> idleConnections;
+
+    /**
+     * All connections, idle or in use, replacements included, closed together with the pool.
+     */
+    private final Set<Connection> allConnections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Whether the pool has been closed.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * Private constructor, use {@link #open(String, DatabaseEngine, int)}.
+     *
+     * @param databaseName     The name of the database.
+     * @param connectionString The connection string of the database.
+     * @param connections      The pooled connections.
+     */
+    private ConnectionPool(final String databaseName,
+                           final String connectionString,
+                           final List<Connection> connections) {
+        this.databaseName = databaseName;
+        this.connectionString = connectionString;
+        this.allConnections.addAll(connections);
+        this.idleConnections = new ArrayBlockingQueue<>(connections.size(), false, connections);
+    }
+
+    /**
+     * Opens the connections of a pool.
+     *
+     * @param databaseName   The name of the database.
+     * @param databaseEngine The {@link DatabaseEngine} of the database.
+     * @param size           The number of connections.
+     * @return The opened {@link ConnectionPool}.
+     * @throws DatabaseConnectionException If a connection cannot be established.
+     */
+    static ConnectionPool open(final String databaseName, final DatabaseEngine databaseEngine, final int size)
+            throws DatabaseConnectionException {
+        final List<Connection> connections = new ArrayList<>();
+        try {
+            ConsoleUtils.printFormatted("\n🔄️ Opening %s connection pool for database '%s'...\n", databaseEngine, databaseName);
+            final String connectionString =
+                    ConnectionStrings.build(databaseEngine, databaseName, SqlOperation.SELECT_ALL);
+            DatabaseConfigurationFactory.findTuningProfile(databaseName, databaseEngine)
+                    .ifPresent(TuningProfile::applySystemProperties);
+            for (int i = 0; i < Math.max(1, size); i++) connections.add(DriverManager.getConnection(connectionString));
+            ConsoleUtils.printFormatted("✅ Connection pool opened with %d connection(s)\n", connections.size());
+            return new ConnectionPool(databaseName, connectionString, connections);
+        } catch (SQLException e) {
+            ConsoleUtils.printFormatted("⚠️ Could not open connection pool for database '%s'\n\tERROR: %s\n", databaseName, e.getMessage());
+            closeQuietly(connections);
+            throw new DatabaseConnectionException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Executes an operation on one of the pooled connections.
+     * <p>
+     * The calling thread waits until a connection is available, or until the {@link Deadline}
+     * active on it passes. The connection is checked before it is returned to the pool, and replaced if it died.
+     * </p>
+     *
+     * @param work The operation to execute.
+     * @param <R>  The type of the operation's result.
+     * @return The result of the operation.
+     * @throws DatabaseConnectionException If the pool is closed or the calling thread is interrupted while waiting.
+     * @throws QueryTimeoutException       If the deadline passes while waiting for a connection.
+     */
+    public <R> R execute(final Function<Connection, R> work) throws DatabaseConnectionException {
+        if (closed) {
+            throw new DatabaseConnectionException("Connection pool for database '" + databaseName + "' is closed.");
+        }
+        final Connection connection = acquire(idleConnections, "a pooled connection");
+        boolean failed = true;
+        try {
+            final R result = work.apply(connection);
+            failed = false;
+            return result;
+        } finally {
+            recycle(connection, failed).ifPresent(idleConnections::offer);
+        }
+    }
+
+    /**
+     * Prepares a connection returned by a caller for the next one, replacing it if it died.
+     * <p>
+     * Closed connections are always replaced, and so are invalid ones, which are only checked after a failed
+     * operation to spare successful operations a round trip. A connection left within a transaction is rolled back
+     * and returned to auto-commit mode.
+     * </p>
+     *
+     * @param connection The returned connection.
+     * @param failed     Whether the caller's operation failed.
+     * @return An {@link Optional} containing the connection to return to the pool, otherwise empty if the connection
+     * died and could not be replaced.
+     */
+    private Optional<Connection> recycle(final Connection connection, final boolean failed) {
+        try {
+            if (!connection.isClosed() && (!failed || connection.isValid(VALIDATION_TIMEOUT_SECONDS))) {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+                return Optional.of(connection);
+            }
+        } catch (SQLException ignored) {
+            // The connection cannot be reset, so it is replaced
+        }
+
+        allConnections.remove(connection);
+        closeQuietly(List.of(connection));
+        if (closed) return Optional.empty();
+        try {
+            final Connection replacement = DriverManager.getConnection(connectionString);
+            allConnections.add(replacement);
+            // The pool may have been closed while the replacement was opened
+            if (closed) {
+                allConnections.remove(replacement);
+                closeQuietly(List.of(replacement));
+                return Optional.empty();
+            }
+            return Optional.of(replacement);
+        } catch (SQLException e) {
+            ConsoleUtils.printFormatted("⚠️ Could not replace a dead connection of database '%s'\n\tERROR: %s\n",
+                    databaseName, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checks whether the pool has been closed.
+     *
+     * @return {@code true} if the pool is closed, {@code false} otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes all connections of the pool.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        closeQuietly(allConnections);
+        ConsoleUtils.printFormatted("✅ Connection pool for database '%s' closed\n", databaseName);
+    }
+
+    /**
+     * Takes an idle connection, waiting until one is available or the {@link Deadline} active
+     * on the calling thread passes.
+     *
+     * @param connections The idle connections.
+     * @param description The description of the awaited connection, used in error messages.
+     * @return The taken connection.
+     * @throws DatabaseConnectionException If the calling thread is interrupted while waiting.
+     * @throws QueryTimeoutException       If the deadline passes while waiting.
+     */
+    static Connection acquire(final BlockingQueue<Connection> connections, final String description)
+            throws DatabaseConnectionException, QueryTimeoutException {
+        final Optional<Deadline> deadline = Deadline.current();
+        try {
+            if (deadline.isEmpty()) return connections.take();
+            final Connection connection = connections.poll(deadline.get().remainingNanos(), TimeUnit.NANOSECONDS);
+            if (connection == null) {
+                throw new QueryTimeoutException("The deadline passed while waiting for " + description + ".", null);
+            }
+            return connection;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseConnectionException("Interrupted while waiting for " + description + ".", e);
+        }
+    }
+
+    /**
+     * Closes the given connections and their cached statements, ignoring any errors.
+     *
+     * @param connections The connections to close.
+     */
+    private static void closeQuietly(final Collection<Connection> connections) {
+        for (final Connection connection : connections) {
+            SqlQueryExecutor.releaseCachedStatements(connection);
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // Nothing left to release
+            }
+        }
+    }
+
+}
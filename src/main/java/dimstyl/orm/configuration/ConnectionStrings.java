@@ -0,0 +1,84 @@
+package dimstyl.orm.configuration;
+
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.enums.SqlOperation;
+
+import java.nio.file.Paths;
+
+/**
+ * Utility class responsible for building JDBC connection strings.
+ * <p>
+ * The connection strings point to the project's {@code /db} directory and include the options
+ * of the {@link TuningProfile} registered for the database, if any.
+ * </p>
+ */
+final class ConnectionStrings {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ConnectionStrings() {
+    }
+
+    /**
+     * Builds the connection string based on the {@link DatabaseEngine} and the {@link SqlOperation}.
+     * <p>
+     *     <ul>
+     *         <li>For Derby: The database is stored in the project's {@code /db/derby} directory.</li>
+     *         <li>For SQLite: The database is stored in the project's {@code /db/sqlite} directory.</li>
+     *         <li>For H2: The database is stored in the project's {@code /db/h2} directory.</li>
+     *     </ul>
+     * </p>
+     * SQLite databases without a registered profile use {@link SQLiteTuningProfile#DEFAULT}.
+     *
+     * @param databaseEngine The {@link DatabaseEngine} of the database.
+     * @param databaseName   The name of the database.
+     * @param sqlOperation   The {@link SqlOperation} to determine if database creation is needed.
+     * @return A connection string for the specified database engine.
+     */
+    static String build(final DatabaseEngine databaseEngine,
+                        final String databaseName,
+                        final SqlOperation sqlOperation) {
+        final String connectionString = buildBase(databaseEngine, databaseName, sqlOperation);
+        return DatabaseConfigurationFactory.findTuningProfile(databaseName, databaseEngine)
+                .map(tuningProfile -> tuningProfile.decorate(connectionString))
+                .orElse(connectionString);
+    }
+
+    /**
+     * Builds the connection string of an SQLite database without any tuning options.
+     *
+     * @param databaseName The name of the database.
+     * @return A connection string for the SQLite database.
+     */
+    static String buildSQLiteBase(final String databaseName) {
+        return buildBase(DatabaseEngine.SQLITE, databaseName, SqlOperation.SELECT_ALL);
+    }
+
+    /**
+     * Builds the connection string without any tuning options.
+     *
+     * @param databaseEngine The {@link DatabaseEngine} of the database.
+     * @param databaseName   The name of the database.
+     * @param sqlOperation   The {@link SqlOperation} to determine if database creation is needed.
+     * @return A connection string for the specified database engine.
+     */
+    private static String buildBase(final DatabaseEngine databaseEngine,
+                                    final String databaseName,
+                                    final SqlOperation sqlOperation) {
+        String projectRoot = Paths.get("").toAbsolutePath().toString();
+        return switch (databaseEngine) {
+            case DERBY -> String.format(
+                    "jdbc:derby:%s/db/derby/%s.db%s",
+                    projectRoot,
+                    databaseName,
+                    sqlOperation == SqlOperation.CREATE_TABLE || sqlOperation == SqlOperation.SYNC_SCHEMA
+                            ? ";create=true"
+                            : ""
+            );
+            case SQLITE -> String.format("jdbc:sqlite:%s/db/sqlite/%s.db", projectRoot, databaseName);
+            case H2 -> String.format("jdbc:h2:%s/db/h2/%s", projectRoot, databaseName);
+        };
+    }
+
+}
@@ -1,6 +1,13 @@
 package dimstyl.orm.configuration;
 
 import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.enums.SqlOperation;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * A factory class for obtaining database configuration instances.
@@ -9,9 +16,29 @@ import dimstyl.orm.enums.DatabaseEngine;
  * based on the specified {@link DatabaseEngine}. It ensures that the same configuration
  * instance is used consistently.
  * </p>
+ * <p>
+ * It also keeps the {@link TuningProfile} registered for each database, the
+ * {@link SQLiteRuntime} opened for each SQLite database and the {@link ConnectionPool}
+ * opened for each H2 and Derby database.
+ * </p>
  */
 public final class DatabaseConfigurationFactory {
 
+    /**
+     * The tuning profiles registered per database name.
+     */
+    private static final Map<String, TuningProfile> TUNING_PROFILES = new ConcurrentHashMap<>();
+
+    /**
+     * The SQLite runtimes opened per database name.
+     */
+    private static final Map<String, SQLiteRuntime> SQLITE_RUNTIMES = new ConcurrentHashMap<>();
+
+    /**
+     * The connection pools opened per database name.
+     */
+    private static final Map<String, ConnectionPool> CONNECTION_POOLS = new ConcurrentHashMap<>();
+
     /**
      * Private constructor to prevent instantiation of this utility class.
      */
@@ -33,4 +60,94 @@ public final class DatabaseConfigurationFactory {
         return GenericDatabaseConfiguration.INSTANCE;
     }
 
-}
\ No newline at end of file
+    /**
+     * Registers the tuning profile of a database.
+     * <p>
+     * The profile replaces any previously registered profile and applies to connections opened afterwards.
+     * </p>
+     *
+     * @param databaseName  The name of the database.
+     * @param tuningProfile The {@link TuningProfile} to apply to the database's connections.
+     */
+    public static void registerTuningProfile(final String databaseName, final TuningProfile tuningProfile) {
+        TUNING_PROFILES.put(databaseName, tuningProfile);
+    }
+
+    /**
+     * Retrieves the single-writer runtime of an SQLite database, opening it on first use.
+     * <p>
+     * The runtime uses the {@link SQLiteTuningProfile} registered for the database,
+     * or {@link SQLiteTuningProfile#DEFAULT} if none is registered.
+     * </p>
+     *
+     * @param databaseName The name of the SQLite database.
+     * @return The {@link SQLiteRuntime} of the database.
+     */
+    public static SQLiteRuntime getSQLiteRuntime(final String databaseName) {
+        return SQLITE_RUNTIMES.compute(databaseName, (name, runtime) -> {
+            if (runtime != null && !runtime.isClosed()) return runtime;
+            final var tuningProfile = (SQLiteTuningProfile) findTuningProfile(name, DatabaseEngine.SQLITE)
+                    .orElseThrow();
+            return SQLiteRuntime.open(name, tuningProfile);
+        });
+    }
+
+    /**
+     * Retrieves the connection pool of an H2 or Derby database, opening it on first use.
+     *
+     * @param databaseName   The name of the database.
+     * @param databaseEngine The {@link DatabaseEngine} of the database.
+     * @return The {@link ConnectionPool} of the database.
+     */
+    public static ConnectionPool getConnectionPool(final String databaseName, final DatabaseEngine databaseEngine) {
+        return CONNECTION_POOLS.compute(databaseName, (name, pool) -> {
+            if (pool != null && !pool.isClosed()) return pool;
+            return ConnectionPool.open(name, databaseEngine, ConnectionPool.DEFAULT_SIZE);
+        });
+    }
+
+    /**
+     * Executes an operation on a shared connection of a database.
+     * <p>
+     * SQLite operations go through the database's {@link SQLiteRuntime}: read-only operations run on a pooled
+     * read-only connection and all others on the writer queue. H2 and Derby operations run on a connection
+     * of the database's {@link ConnectionPool}.
+     * </p>
+     *
+     * @param databaseName   The name of the database.
+     * @param databaseEngine The {@link DatabaseEngine} of the database.
+     * @param sqlOperation   The {@link SqlOperation} being executed.
+     * @param work           The operation to execute.
+     * @param <R>            The type of the operation's result.
+     * @return The result of the operation.
+     */
+    public static <R> R execute(final String databaseName,
+                                final DatabaseEngine databaseEngine,
+                                final SqlOperation sqlOperation,
+                                final Function<Connection, R> work) {
+        if (databaseEngine != DatabaseEngine.SQLITE) {
+            return getConnectionPool(databaseName, databaseEngine).execute(work);
+        }
+        final SQLiteRuntime sqliteRuntime = getSQLiteRuntime(databaseName);
+        return sqlOperation.isReadOnly() ? sqliteRuntime.read(work) : sqliteRuntime.write(work);
+    }
+
+    /**
+     * Finds the tuning profile that applies to a database.
+     * <p>
+     * A registered profile is only returned if it targets the given engine.
+     * SQLite databases without a registered profile fall back to {@link SQLiteTuningProfile#DEFAULT}.
+     * </p>
+     *
+     * @param databaseName   The name of the database.
+     * @param databaseEngine The {@link DatabaseEngine} of the database.
+     * @return An {@link Optional} containing the applicable {@link TuningProfile}, otherwise empty.
+     */
+    static Optional<TuningProfile> findTuningProfile(final String databaseName, final DatabaseEngine databaseEngine) {
+        final Optional<TuningProfile> tuningProfile = Optional.ofNullable(TUNING_PROFILES.get(databaseName))
+                .filter(profile -> profile.databaseEngine() == databaseEngine);
+        if (tuningProfile.isPresent() || databaseEngine != DatabaseEngine.SQLITE) return tuningProfile;
+        return Optional.of(SQLiteTuningProfile.DEFAULT);
+    }
+
+}
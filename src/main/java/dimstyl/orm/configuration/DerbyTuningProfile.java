@@ -0,0 +1,103 @@
+package dimstyl.orm.configuration;
+
+import dimstyl.orm.annotations.DerbyTuning;
+import dimstyl.orm.enums.DatabaseEngine;
+import lombok.Builder;
+
+/**
+ * Represents the Apache Derby tuning profile of a database.
+ * <p>
+ * Derby reads its storage properties from system properties when it boots, so this profile
+ * sets them right before a connection is opened. Properties equal to {@link DerbyTuning#ENGINE_DEFAULT}
+ * are left untouched. Since the properties are system-wide, the profile of the first Derby database
+ * booted in the virtual machine applies to all Derby databases booted afterwards, unless another profile
+ * overrides them.
+ * </p>
+ *
+ * @param pageCacheSize The number of pages kept in the page cache.
+ * @param pageSize      The page size in bytes of tables and indexes created afterwards.
+ * @param logBufferSize The size in bytes of the transaction log buffer.
+ */
+@Builder(toBuilder = true)
+public record DerbyTuningProfile(int pageCacheSize,
+                                 int pageSize,
+                                 int logBufferSize) implements TuningProfile {
+
+    /**
+     * A profile that leaves every property to the Derby default.
+     */
+    public static final DerbyTuningProfile DEFAULT = DerbyTuningProfile.builder()
+            .pageCacheSize(DerbyTuning.ENGINE_DEFAULT)
+            .pageSize(DerbyTuning.ENGINE_DEFAULT)
+            .logBufferSize(DerbyTuning.ENGINE_DEFAULT)
+            .build();
+
+    /**
+     * A profile for hosts with plenty of memory.
+     * <p>
+     * It keeps ten times the default number of pages cached, uses 16 KiB pages and an
+     * eight times larger log buffer, reducing disk reads and log flushes under load.
+     * </p>
+     */
+    public static final DerbyTuningProfile THROUGHPUT = DerbyTuningProfile.builder()
+            .pageCacheSize(10_000)
+            .pageSize(16_384)
+            .logBufferSize(262_144)
+            .build();
+
+    /**
+     * Creates a profile from a {@link DerbyTuning} annotation.
+     *
+     * @param derbyTuning The annotation to read the properties from.
+     * @return The corresponding {@link DerbyTuningProfile}.
+     */
+    public static DerbyTuningProfile from(final DerbyTuning derbyTuning) {
+        return DerbyTuningProfile.builder()
+                .pageCacheSize(derbyTuning.pageCacheSize())
+                .pageSize(derbyTuning.pageSize())
+                .logBufferSize(derbyTuning.logBufferSize())
+                .build();
+    }
+
+    /**
+     * Returns the database engine this profile applies to.
+     *
+     * @return {@link DatabaseEngine#DERBY}.
+     */
+    @Override
+    public DatabaseEngine databaseEngine() {
+        return DatabaseEngine.DERBY;
+    }
+
+    /**
+     * Returns the connection string unchanged, since Derby storage properties are not connection attributes.
+     *
+     * @param connectionString The connection string without any tuning options.
+     * @return The same connection string.
+     */
+    @Override
+    public String decorate(final String connectionString) {
+        return connectionString;
+    }
+
+    /**
+     * Sets the Derby storage properties of this profile as system properties.
+     */
+    @Override
+    public void applySystemProperties() {
+        setProperty("derby.storage.pageCacheSize", pageCacheSize);
+        setProperty("derby.storage.pageSize", pageSize);
+        setProperty("derby.storage.logBufferSize", logBufferSize);
+    }
+
+    /**
+     * Sets a system property unless it is left to the Derby default.
+     *
+     * @param name  The name of the property.
+     * @param value The value of the property.
+     */
+    private static void setProperty(final String name, final int value) {
+        if (value != DerbyTuning.ENGINE_DEFAULT) System.setProperty(name, String.valueOf(value));
+    }
+
+}
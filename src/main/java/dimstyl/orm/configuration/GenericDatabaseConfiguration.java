@@ -3,6 +3,7 @@ package dimstyl.orm.configuration;
 import dimstyl.orm.enums.DatabaseEngine;
 import dimstyl.orm.enums.SqlOperation;
 import dimstyl.orm.exceptions.DatabaseConnectionException;
+import dimstyl.orm.internal.sql.execution.SqlQueryExecutor;
 import dimstyl.orm.internal.utils.ConsoleUtils;
 import lombok.Setter;
 
@@ -43,7 +44,8 @@ enum GenericDatabaseConfiguration implements DatabaseConfiguration {
      * Establishes a connection to the specified database.
      * <p>
      * If the database engine is SQLite, it ensures that the required directory exists.
-     * The connection string is built based on the selected {@link DatabaseEngine} and the SQL operation.
+     * The connection string is built based on the selected {@link DatabaseEngine}, the SQL operation
+     * and the {@link TuningProfile} registered for the database.
      * </p>
      *
      * @param databaseName The name of the database.
@@ -56,7 +58,9 @@ enum GenericDatabaseConfiguration implements DatabaseConfiguration {
             ConsoleUtils.printFormatted("\n🔄️ Connecting to %s database '%s'...\n", databaseEngine, databaseName);
             if (isConnected()) return;
             if (databaseEngine == DatabaseEngine.SQLITE) ensureDirectoryExists("./db/sqlite");
-            final String connectionString = buildConnectionString(databaseName, sqlOperation);
+            final String connectionString = ConnectionStrings.build(databaseEngine, databaseName, sqlOperation);
+            DatabaseConfigurationFactory.findTuningProfile(databaseName, databaseEngine)
+                    .ifPresent(TuningProfile::applySystemProperties);
             connection = DriverManager.getConnection(connectionString);
             ConsoleUtils.printFormatted("✅ Connection established successfully\n");
         } catch (SQLException | IOException e) {
@@ -78,6 +82,7 @@ enum GenericDatabaseConfiguration implements DatabaseConfiguration {
         try {
             if (isConnected()) {
                 ConsoleUtils.printFormatted("\n🔄️ Closing %s connection...\n", databaseEngine);
+                SqlQueryExecutor.releaseCachedStatements(connection);
                 connection.close();
                 ConsoleUtils.printFormatted("✅ %s connection closed\n", databaseEngine);
                 connection = null;
@@ -129,34 +134,6 @@ enum GenericDatabaseConfiguration implements DatabaseConfiguration {
         }
     }
 
-    /**
-     * Builds the connection string based on the selected {@link DatabaseEngine} and the {@link SqlOperation}.
-     * <p>
-     *     <ul>
-     *         <li>For Derby: The database is stored in the project's {@code /db/derby} directory.</li>
-     *         <li>For SQLite: The database is stored in the project's {@code /db/sqlite} directory.</li>
-     *         <li>For H2: The database is stored in the project's {@code /db/h2} directory.</li>
-     *     </ul>
-     * </p>
-     *
-     * @param databaseName The name of the database.
-     * @param sqlOperation The {@link SqlOperation} to determine if database creation is needed.
-     * @return A connection string for the specified database engine.
-     */
-    private String buildConnectionString(final String databaseName, final SqlOperation sqlOperation) {
-        String projectRoot = Paths.get("").toAbsolutePath().toString();
-        return switch (databaseEngine) {
-            case DERBY -> String.format(
-                    "jdbc:derby:%s/db/derby/%s.db%s",
-                    projectRoot,
-                    databaseName,
-                    sqlOperation == SqlOperation.CREATE_TABLE ? ";create=true" : ""
-            );
-            case SQLITE -> String.format("jdbc:sqlite:%s/db/sqlite/%s.db", projectRoot, databaseName);
-            case H2 -> String.format("jdbc:h2:%s/db/h2/%s", projectRoot, databaseName);
-        };
-    }
-
     /**
      * Ensures that the specified directory exists.
      * <p>
@@ -0,0 +1,108 @@
+package dimstyl.orm.configuration;
+
+import dimstyl.orm.annotations.H2Tuning;
+import dimstyl.orm.enums.DatabaseEngine;
+import lombok.Builder;
+
+/**
+ * Represents the H2 tuning profile of a database.
+ * <p>
+ * The settings of this profile are appended to the H2 connection string, so they are applied
+ * to every connection as soon as it is opened. Settings equal to {@link H2Tuning#ENGINE_DEFAULT}
+ * are left out.
+ * </p>
+ *
+ * @param cacheSize     The size of the page cache in KiB.
+ * @param lockTimeout   The lock timeout in milliseconds.
+ * @param writeDelay    The MVStore write delay in milliseconds.
+ * @param retentionTime The MVStore retention time in milliseconds.
+ * @param dbCloseDelay  The delay in seconds before the database is closed after its last connection.
+ */
+@Builder(toBuilder = true)
+public record H2TuningProfile(int cacheSize,
+                              int lockTimeout,
+                              int writeDelay,
+                              int retentionTime,
+                              int dbCloseDelay) implements TuningProfile {
+
+    /**
+     * A profile that leaves every setting to the H2 default.
+     */
+    public static final H2TuningProfile DEFAULT = H2TuningProfile.builder()
+            .cacheSize(H2Tuning.ENGINE_DEFAULT)
+            .lockTimeout(H2Tuning.ENGINE_DEFAULT)
+            .writeDelay(H2Tuning.ENGINE_DEFAULT)
+            .retentionTime(H2Tuning.ENGINE_DEFAULT)
+            .dbCloseDelay(H2Tuning.ENGINE_DEFAULT)
+            .build();
+
+    /**
+     * A profile for hosts with plenty of memory.
+     * <p>
+     * It uses a 256 MiB page cache, waits up to 10 seconds for locks, batches MVStore writes
+     * and keeps the database open between connections, so it is not reopened on every operation.
+     * </p>
+     */
+    public static final H2TuningProfile THROUGHPUT = H2TuningProfile.builder()
+            .cacheSize(262_144)
+            .lockTimeout(10_000)
+            .writeDelay(2_000)
+            .retentionTime(H2Tuning.ENGINE_DEFAULT)
+            .dbCloseDelay(-1)
+            .build();
+
+    /**
+     * Creates a profile from an {@link H2Tuning} annotation.
+     *
+     * @param h2Tuning The annotation to read the settings from.
+     * @return The corresponding {@link H2TuningProfile}.
+     */
+    public static H2TuningProfile from(final H2Tuning h2Tuning) {
+        return H2TuningProfile.builder()
+                .cacheSize(h2Tuning.cacheSize())
+                .lockTimeout(h2Tuning.lockTimeout())
+                .writeDelay(h2Tuning.writeDelay())
+                .retentionTime(h2Tuning.retentionTime())
+                .dbCloseDelay(h2Tuning.dbCloseDelay())
+                .build();
+    }
+
+    /**
+     * Returns the database engine this profile applies to.
+     *
+     * @return {@link DatabaseEngine#H2}.
+     */
+    @Override
+    public DatabaseEngine databaseEngine() {
+        return DatabaseEngine.H2;
+    }
+
+    /**
+     * Appends the settings of this profile to an H2 connection string.
+     *
+     * @param connectionString The connection string without any tuning options.
+     * @return The connection string including the settings.
+     */
+    @Override
+    public String decorate(final String connectionString) {
+        final StringBuilder connectionStringBuilder = new StringBuilder(connectionString);
+        appendSetting(connectionStringBuilder, "CACHE_SIZE", cacheSize);
+        appendSetting(connectionStringBuilder, "LOCK_TIMEOUT", lockTimeout);
+        appendSetting(connectionStringBuilder, "WRITE_DELAY", writeDelay);
+        appendSetting(connectionStringBuilder, "RETENTION_TIME", retentionTime);
+        appendSetting(connectionStringBuilder, "DB_CLOSE_DELAY", dbCloseDelay);
+        return connectionStringBuilder.toString();
+    }
+
+    /**
+     * Appends a setting to the connection string unless it is left to the H2 default.
+     *
+     * @param connectionStringBuilder The {@link StringBuilder} for the connection string.
+     * @param name                    The name of the setting.
+     * @param value                   The value of the setting.
+     */
+    private static void appendSetting(final StringBuilder connectionStringBuilder, final String name, final int value) {
+        if (value != H2Tuning.ENGINE_DEFAULT) connectionStringBuilder.append(';').append(name).append('=').append(value);
+    }
+
+}
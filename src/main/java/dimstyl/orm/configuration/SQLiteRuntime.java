@@ -0,0 +1,257 @@
+package dimstyl.orm.configuration;
+
+import dimstyl.orm.exceptions.DatabaseConnectionException;
+import dimstyl.orm.exceptions.QueryTimeoutException;
+import dimstyl.orm.internal.sql.execution.SqlQueryExecutor;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.runtime.Deadline;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Connection runtime for SQLite databases that funnels all writes through a single writer.
+ * <p>
+ * SQLite allows a single writer at a time, so concurrent writers on separate connections contend for the
+ * database lock and fail with {@code SQLITE_BUSY}. This runtime owns one read-write connection that is only
+ * used by a dedicated writer thread, consuming write tasks from a queue one at a time, and a pool of read-only
+ * connections shared by concurrent readers. Combined with {@link dimstyl.orm.enums.SQLiteJournalMode#WAL},
+ * readers never block the writer and the writer never blocks readers.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     SQLiteRuntime runtime = DatabaseConfigurationFactory.getSQLiteRuntime("sqliteDB");
+ *     List&lt;Customer&gt; customers = runtime.read(connection -&gt;
+ *             SqlQueryExecutor.executeSelectAllQuery(query, connection, Customer.class));
+ *     runtime.write(connection -&gt; {
+ *         SqlQueryExecutor.executeDeleteByIdQuery(deleteQuery, connection, 1);
+ *         return null;
+ *     });
+ * </pre>
+ */
+public final class SQLiteRuntime implements AutoCloseable {
+
+    /**
+     * The name of the database.
+     */
+    private final String databaseName;
+
+    /**
+     * The only read-write connection, used exclusively by the writer thread.
+     */
+    private final Connection writerConnection;
+
+    /**
+     * The queue of write tasks, executed one at a time by the writer thread.
+     */
+    private final ExecutorService writerQueue;
+
+    /**
+     * The idle read-only connections.
+     */
+    private final BlockingQueue<Connection> readerConnections;
+
+    /**
+     * All read-only connections, idle or in use, closed together with the runtime.
+     */
+    private final List<Connection> allReaderConnections;
+
+    /**
+     * Whether the runtime has been closed.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * Private constructor, use {@link #open(String, SQLiteTuningProfile)}.
+     *
+     * @param databaseName         The name of the database.
+     * @param writerConnection     The read-write connection.
+     * @param allReaderConnections The read-only connections.
+     */
+    private SQLiteRuntime(final String databaseName,
+                          final Connection writerConnection,
+                          final List<Connection> allReaderConnections) {
+        this.databaseName = databaseName;
+        this.writerConnection = writerConnection;
+        this.allReaderConnections = List.copyOf(allReaderConnections);
+        this.readerConnections = new ArrayBlockingQueue<>(allReaderConnections.size(), false, allReaderConnections);
+        this.writerQueue = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("sqlite-writer-" + databaseName).daemon().factory()
+        );
+    }
+
+    /**
+     * Opens the writer connection and the read-only connection pool of an SQLite database.
+     * <p>
+     * The writer connection is opened first, so that the database file and its journal mode
+     * exist before the read-only connections attach to it.
+     * </p>
+     *
+     * @param databaseName  The name of the database.
+     * @param tuningProfile The {@link SQLiteTuningProfile} applied to every connection.
+     * @return The opened {@link SQLiteRuntime}.
+     * @throws DatabaseConnectionException If a connection cannot be established.
+     */
+    static SQLiteRuntime open(final String databaseName, final SQLiteTuningProfile tuningProfile)
+            throws DatabaseConnectionException {
+        final List<Connection> readers = new ArrayList<>();
+        Connection writer = null;
+        try {
+            ConsoleUtils.printFormatted("\n🔄️ Opening SQLite runtime for database '%s'...\n", databaseName);
+            Files.createDirectories(Paths.get("./db/sqlite"));
+            final String connectionString = ConnectionStrings.buildSQLiteBase(databaseName);
+            writer = DriverManager.getConnection(tuningProfile.decorate(connectionString));
+            final String readOnlyConnectionString = tuningProfile.decorateReadOnly(connectionString);
+            for (int i = 0; i < Math.max(1, tuningProfile.readPoolSize()); i++)
+                readers.add(DriverManager.getConnection(readOnlyConnectionString));
+            ConsoleUtils.printFormatted("✅ SQLite runtime opened with 1 writer and %d reader(s)\n", readers.size());
+            return new SQLiteRuntime(databaseName, writer, readers);
+        } catch (SQLException | IOException e) {
+            ConsoleUtils.printFormatted("⚠️ Could not open SQLite runtime for database '%s'\n\tERROR: %s\n", databaseName, e.getMessage());
+            if (writer != null) readers.add(writer);
+            closeQuietly(readers);
+            throw new DatabaseConnectionException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Executes a read operation on one of the pooled read-only connections.
+     * <p>
+     * The calling thread waits until a read-only connection is available, or until the {@link Deadline}
+     * active on it passes.
+     * </p>
+     *
+     * @param work The operation to execute.
+     * @param <R>  The type of the operation's result.
+     * @return The result of the operation.
+     * @throws DatabaseConnectionException If the runtime is closed or the calling thread is interrupted while waiting.
+     * @throws QueryTimeoutException       If the deadline passes while waiting for a connection.
+     */
+    public <R> R read(final Function<Connection, R> work) throws DatabaseConnectionException {
+        validateOpen();
+        final Connection connection = ConnectionPool.acquire(readerConnections, "an SQLite read-only connection");
+        try {
+            return work.apply(connection);
+        } finally {
+            readerConnections.offer(connection);
+        }
+    }
+
+    /**
+     * Executes a write operation on the writer connection.
+     * <p>
+     * The operation is queued behind any pending writes and executed by the writer thread.
+     * The calling thread waits for its completion, and any {@link RuntimeException} thrown by the operation
+     * is rethrown to the caller.
+     * </p>
+     * <p>
+     * The {@link Deadline} active on the calling thread is carried over to the writer thread, so that the
+     * operation's statements are cancelled once it passes. The caller stops waiting when the deadline passes
+     * or it is interrupted, and the operation is then cancelled, whether still queued or running.
+     * </p>
+     *
+     * @param work The operation to execute.
+     * @param <R>  The type of the operation's result.
+     * @return The result of the operation.
+     * @throws DatabaseConnectionException If the runtime is closed or the calling thread is interrupted while waiting.
+     * @throws QueryTimeoutException       If the deadline passes while waiting for the operation.
+     */
+    public <R> R write(final Function<Connection, R> work) throws DatabaseConnectionException {
+        validateOpen();
+        final Optional<Deadline> deadline = Deadline.current();
+        final Future<R> future;
+        try {
+            future = writerQueue.submit(() -> deadline.isEmpty()
+                    ? work.apply(writerConnection)
+                    : Deadline.call(deadline.get(), () -> work.apply(writerConnection)));
+        } catch (RejectedExecutionException e) {
+            throw new DatabaseConnectionException("SQLite runtime for database '" + databaseName + "' is closed.", e);
+        }
+        try {
+            return deadline.isEmpty()
+                    ? future.get()
+                    : future.get(deadline.get().remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new QueryTimeoutException("The deadline passed while waiting for the SQLite writer queue.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new DatabaseConnectionException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new DatabaseConnectionException("Interrupted while waiting for the SQLite writer queue.", e);
+        }
+    }
+
+    /**
+     * Checks whether the runtime has been closed.
+     *
+     * @return {@code true} if the runtime is closed, {@code false} otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes the runtime.
+     * <p>
+     * Pending writes are completed before the writer connection is closed.
+     * </p>
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        ConsoleUtils.printFormatted("\n🔄️ Closing SQLite runtime for database '%s'...\n", databaseName);
+        writerQueue.shutdown();
+        try {
+            if (!writerQueue.awaitTermination(30, TimeUnit.SECONDS)) writerQueue.shutdownNow();
+        } catch (InterruptedException e) {
+            writerQueue.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        final List<Connection> connections = new ArrayList<>(allReaderConnections);
+        connections.add(writerConnection);
+        closeQuietly(connections);
+        ConsoleUtils.printFormatted("✅ SQLite runtime closed\n");
+    }
+
+    /**
+     * Validates that the runtime has not been closed.
+     *
+     * @throws DatabaseConnectionException If the runtime is closed.
+     */
+    private void validateOpen() throws DatabaseConnectionException {
+        if (closed)
+            throw new DatabaseConnectionException("SQLite runtime for database '" + databaseName + "' is closed.");
+    }
+
+    /**
+     * Closes the given connections and their cached statements, ignoring any errors.
+     *
+     * @param connections The connections to close.
+     */
+    private static void closeQuietly(final List<Connection> connections) {
+        for (final Connection connection : connections) {
+            SqlQueryExecutor.releaseCachedStatements(connection);
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // Nothing left to release
+            }
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package dimstyl.orm.configuration;
+
+import dimstyl.orm.annotations.SQLiteTuning;
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.enums.SQLiteJournalMode;
+import dimstyl.orm.enums.SQLiteSynchronousMode;
+import dimstyl.orm.enums.SQLiteTempStore;
+import lombok.Builder;
+
+/**
+ * Represents the SQLite tuning profile of a database.
+ * <p>
+ * The pragmas of this profile are passed to the SQLite JDBC driver as connection string parameters,
+ * so they are applied to every connection as soon as it is opened.
+ * </p>
+ *
+ * @param journalMode  The {@link SQLiteJournalMode} of the database.
+ * @param synchronous  The {@link SQLiteSynchronousMode} of the database.
+ * @param mmapSize     The maximum number of bytes of the database file that are memory-mapped.
+ * @param cacheSize    The page cache size (pages if positive, KiB if negative).
+ * @param tempStore    The {@link SQLiteTempStore} of the database.
+ * @param busyTimeout  The busy timeout in milliseconds.
+ * @param readPoolSize The number of read-only connections kept by {@link SQLiteRuntime}.
+ */
+@Builder(toBuilder = true)
+public record SQLiteTuningProfile(SQLiteJournalMode journalMode,
+                                  SQLiteSynchronousMode synchronous,
+                                  long mmapSize,
+                                  int cacheSize,
+                                  SQLiteTempStore tempStore,
+                                  int busyTimeout,
+                                  int readPoolSize) implements TuningProfile {
+
+    /**
+     * The profile used for SQLite databases that have no registered profile.
+     * <p>
+     * It matches the defaults of the {@link SQLiteTuning} annotation.
+     * </p>
+     */
+    public static final SQLiteTuningProfile DEFAULT = SQLiteTuningProfile.builder()
+            .journalMode(SQLiteJournalMode.WAL)
+            .synchronous(SQLiteSynchronousMode.NORMAL)
+            .mmapSize(268_435_456L)
+            .cacheSize(-20_000)
+            .tempStore(SQLiteTempStore.MEMORY)
+            .busyTimeout(5_000)
+            .readPoolSize(4)
+            .build();
+
+    /**
+     * Creates a profile from a {@link SQLiteTuning} annotation.
+     *
+     * @param sqliteTuning The annotation to read the options from.
+     * @return The corresponding {@link SQLiteTuningProfile}.
+     */
+    public static SQLiteTuningProfile from(final SQLiteTuning sqliteTuning) {
+        return SQLiteTuningProfile.builder()
+                .journalMode(sqliteTuning.journalMode())
+                .synchronous(sqliteTuning.synchronous())
+                .mmapSize(sqliteTuning.mmapSize())
+                .cacheSize(sqliteTuning.cacheSize())
+                .tempStore(sqliteTuning.tempStore())
+                .busyTimeout(sqliteTuning.busyTimeout())
+                .readPoolSize(sqliteTuning.readPoolSize())
+                .build();
+    }
+
+    /**
+     * Returns the database engine this profile applies to.
+     *
+     * @return {@link DatabaseEngine#SQLITE}.
+     */
+    @Override
+    public DatabaseEngine databaseEngine() {
+        return DatabaseEngine.SQLITE;
+    }
+
+    /**
+     * Appends the pragmas of this profile to an SQLite connection string.
+     * <p>
+     * Foreign key enforcement, which SQLite leaves off by default, is turned on as well,
+     * so that {@code FOREIGN KEY} constraints declared through associations hold.
+     * </p>
+     *
+     * @param connectionString The connection string without any tuning options.
+     * @return The connection string including the pragmas.
+     */
+    @Override
+    public String decorate(final String connectionString) {
+        return String.format("%s?journal_mode=%s&foreign_keys=true&%s", connectionString, journalMode, sharedPragmas());
+    }
+
+    /**
+     * Appends the pragmas of this profile to an SQLite connection string, opening the database in read-only mode.
+     * <p>
+     * The journal mode is left out, since it can only be changed by a connection that is allowed to write.
+     * </p>
+     *
+     * @param connectionString The connection string without any tuning options.
+     * @return The read-only connection string including the pragmas.
+     */
+    String decorateReadOnly(final String connectionString) {
+        // open_mode=1 -> SQLITE_OPEN_READONLY
+        return String.format("%s?open_mode=1&%s", connectionString, sharedPragmas());
+    }
+
+    /**
+     * Builds the pragmas shared by read-write and read-only connections.
+     *
+     * @return The pragmas as connection string parameters.
+     */
+    private String sharedPragmas() {
+        return String.format(
+                "synchronous=%s&mmap_size=%d&cache_size=%d&temp_store=%s&busy_timeout=%d",
+                synchronous,
+                mmapSize,
+                cacheSize,
+                tempStore,
+                busyTimeout
+        );
+    }
+
+}
@@ -0,0 +1,40 @@
+package dimstyl.orm.configuration;
+
+import dimstyl.orm.enums.DatabaseEngine;
+
+/**
+ * Represents an engine-specific set of tuning options applied when connecting to a database.
+ * <p>
+ * A tuning profile is registered per database through
+ * {@link DatabaseConfigurationFactory#registerTuningProfile(String, TuningProfile)}, either at runtime
+ * or automatically from the {@code @Database} annotation, and is applied to every connection
+ * opened to that database.
+ * </p>
+ */
+public sealed interface TuningProfile permits SQLiteTuningProfile, H2TuningProfile, DerbyTuningProfile {
+
+    /**
+     * Returns the database engine this profile applies to.
+     *
+     * @return The {@link DatabaseEngine} of this profile.
+     */
+    DatabaseEngine databaseEngine();
+
+    /**
+     * Decorates a base connection string with the options of this profile.
+     *
+     * @param connectionString The connection string without any tuning options.
+     * @return The connection string including the tuning options.
+     */
+    String decorate(final String connectionString);
+
+    /**
+     * Applies the options of this profile that the engine reads from system properties.
+     * <p>
+     * This method is called right before a connection is opened. By default, it does nothing.
+     * </p>
+     */
+    default void applySystemProperties() {
+    }
+
+}
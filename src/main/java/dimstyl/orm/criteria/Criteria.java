@@ -0,0 +1,251 @@
+package dimstyl.orm.criteria;
+
+import dimstyl.orm.exceptions.InvalidCriteriaException;
+import dimstyl.orm.model.Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+/**
+ * Represents a dynamic query over the records of an entity, with conditions, ordering and pagination.
+ * <p>
+ * Criteria are immutable: each method returns a new criteria. They are executed by repository methods taking
+ * a criteria as their only parameter and returning a {@link List}, which render them to parameterized SQL
+ * for their database engine. The SQL is cached by {@link CriteriaShape}, so criteria differing only
+ * in their values reuse one prepared statement.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     Criteria&lt;Customer&gt; criteria = Criteria.from(Customer.class)
+ *             .where(Criterion.property("active").eq(true).and(Criterion.property("lastName").in("doe", "marley")))
+ *             .orderBy(Order.asc("email"))
+ *             .limit(10);
+ *     List&lt;Customer&gt; customers = customerRepository.findMatching(criteria);
+ * </pre>
+ *
+ * @param <T> The type of the queried entity.
+ */
+public final class Criteria<T extends Entity> {
+
+    /**
+     * The queried entity class.
+     */
+    private final Class<T> entityClass;
+
+    /**
+     * The condition of the query, or {@code null} if every record matches.
+     */
+    private final Criterion where;
+
+    /**
+     * The orderings of the results.
+     */
+    private final List<Order> orders;
+
+    /**
+     * The maximum number of results, or {@code -1} if unlimited.
+     */
+    private final int limit;
+
+    /**
+     * The number of leading results to skip, or {@code -1} if none are skipped.
+     */
+    private final int offset;
+
+    /**
+     * The shape of the criteria, computed on first use.
+     */
+    private CriteriaShape shape;
+
+    /**
+     * The values bound to the placeholders of the condition, computed on first use.
+     */
+    private List<Object> parameters;
+
+    /**
+     * Private constructor, use {@link #from(Class)}.
+     *
+     * @param entityClass The queried entity class.
+     * @param where       The condition of the query.
+     * @param orders      The orderings of the results.
+     * @param limit       The maximum number of results.
+     * @param offset      The number of leading results to skip.
+     */
+    private Criteria(final Class<T> entityClass,
+                     final Criterion where,
+                     final List<Order> orders,
+                     final int limit,
+                     final int offset) {
+        this.entityClass = entityClass;
+        this.where = where;
+        this.orders = orders;
+        this.limit = limit;
+        this.offset = offset;
+    }
+
+    /**
+     * Creates a criteria matching every record of an entity.
+     *
+     * @param entityClass The queried entity class.
+     * @param <T>         The type of the queried entity.
+     * @return The new {@link Criteria}.
+     */
+    public static <T extends Entity> Criteria<T> from(final Class<T> entityClass) {
+        return new Criteria<>(Objects.requireNonNull(entityClass, "entityClass"), null, List.of(), -1, -1);
+    }
+
+    /**
+     * Sets the condition of the query, replacing any previous one.
+     *
+     * @param criterion The condition.
+     * @return The new {@link Criteria}.
+     */
+    public Criteria<T> where(final Criterion criterion) {
+        return new Criteria<>(entityClass, Objects.requireNonNull(criterion, "criterion"), orders, limit, offset);
+    }
+
+    /**
+     * Appends orderings of the results.
+     *
+     * @param orders The orderings, applied after any previous ones.
+     * @return The new {@link Criteria}.
+     */
+    public Criteria<T> orderBy(final Order... orders) {
+        final List<Order> allOrders = new ArrayList<>(this.orders);
+        allOrders.addAll(List.of(orders));
+        return new Criteria<>(entityClass, where, List.copyOf(allOrders), limit, offset);
+    }
+
+    /**
+     * Limits the number of results.
+     *
+     * @param limit The maximum number of results.
+     * @return The new {@link Criteria}.
+     * @throws InvalidCriteriaException If the limit is negative.
+     */
+    public Criteria<T> limit(final int limit) throws InvalidCriteriaException {
+        if (limit < 0) throw new InvalidCriteriaException("The limit cannot be negative");
+        return new Criteria<>(entityClass, where, orders, limit, offset);
+    }
+
+    /**
+     * Skips leading results.
+     *
+     * @param offset The number of leading results to skip.
+     * @return The new {@link Criteria}.
+     * @throws InvalidCriteriaException If the offset is negative.
+     */
+    public Criteria<T> offset(final int offset) throws InvalidCriteriaException {
+        if (offset < 0) throw new InvalidCriteriaException("The offset cannot be negative");
+        return new Criteria<>(entityClass, where, orders, limit, offset);
+    }
+
+    /**
+     * Returns the queried entity class.
+     *
+     * @return The entity class.
+     */
+    public Class<T> entityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Returns the maximum number of results.
+     *
+     * @return An {@link OptionalInt} containing the limit, otherwise empty if the results are not limited.
+     */
+    public OptionalInt maxResults() {
+        return limit < 0 ? OptionalInt.empty() : OptionalInt.of(limit);
+    }
+
+    /**
+     * Returns the number of leading results to skip.
+     *
+     * @return An {@link OptionalInt} containing the offset, otherwise empty if no results are skipped.
+     */
+    public OptionalInt firstResult() {
+        return offset < 0 ? OptionalInt.empty() : OptionalInt.of(offset);
+    }
+
+    /**
+     * Returns the shape of the criteria, which determines its SQL statement.
+     *
+     * @return The {@link CriteriaShape}.
+     */
+    public CriteriaShape shape() {
+        if (shape == null) {
+            shape = new CriteriaShape(where == null ? null : shapeOf(where), orders, limit >= 0, offset >= 0);
+        }
+        return shape;
+    }
+
+    /**
+     * Returns the values bound to the placeholders of the condition, in placeholder order.
+     * <p>
+     * The values of {@code IN} conditions are padded to the size of their shape by repeating the last value,
+     * which does not change the matched records.
+     * </p>
+     *
+     * @return The values of the condition.
+     */
+    public List<Object> parameters() {
+        if (parameters == null) {
+            final List<Object> values = new ArrayList<>();
+            if (where != null) collectParameters(where, values);
+            parameters = List.copyOf(values);
+        }
+        return parameters;
+    }
+
+    /**
+     * Computes the shape of a criterion.
+     *
+     * @param criterion The criterion.
+     * @return The {@link CriteriaShape.Node} of the criterion.
+     */
+    private static CriteriaShape.Node shapeOf(final Criterion criterion) {
+        return switch (criterion) {
+            case Criterion.Comparison comparison ->
+                    new CriteriaShape.Comparison(comparison.property(), comparison.operator());
+            case Criterion.In in -> new CriteriaShape.In(in.property(), paddedSize(in.values().size()));
+            case Criterion.Junction junction -> new CriteriaShape.Junction(
+                    junction.or(),
+                    junction.criteria().stream().map(Criteria::shapeOf).toList()
+            );
+        };
+    }
+
+    /**
+     * Collects the values of a criterion, in placeholder order.
+     *
+     * @param criterion The criterion.
+     * @param values    The collected values.
+     */
+    private static void collectParameters(final Criterion criterion, final List<Object> values) {
+        switch (criterion) {
+            case Criterion.Comparison comparison -> {
+                if (comparison.value() != null) values.add(comparison.value());
+            }
+            case Criterion.In in -> {
+                values.addAll(in.values());
+                final Object last = in.values().getLast();
+                for (int i = in.values().size(); i < paddedSize(in.values().size()); i++) values.add(last);
+            }
+            case Criterion.Junction junction -> junction.criteria().forEach(child -> collectParameters(child, values));
+        }
+    }
+
+    /**
+     * Pads the number of values of an {@code IN} condition to the next power of two.
+     *
+     * @param size The number of values.
+     * @return The padded number of values.
+     */
+    private static int paddedSize(final int size) {
+        return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+
+}
@@ -0,0 +1,55 @@
+package dimstyl.orm.criteria;
+
+import dimstyl.orm.enums.QueryOperator;
+
+import java.util.List;
+
+/**
+ * Represents the shape of a {@link Criteria}: its structure, without the compared values.
+ * <p>
+ * Criteria of equal shapes render to the same SQL statement, so the statement is generated once per shape
+ * and its prepared statement is reused whatever the values. To keep the number of shapes small,
+ * the number of values of {@code IN} conditions is padded to the next power of two.
+ * </p>
+ *
+ * @param where     The shape of the criteria's condition, or {@code null} if it has none.
+ * @param orders    The orderings of the results.
+ * @param limited   Whether the number of results is limited.
+ * @param offset    Whether leading results are skipped.
+ */
+public record CriteriaShape(Node where, List<Order> orders, boolean limited, boolean offset) {
+
+    /**
+     * Represents the shape of a {@link Criterion}.
+     */
+    public sealed interface Node permits Comparison, In, Junction {
+    }
+
+    /**
+     * Represents the shape of a {@link Criterion.Comparison}.
+     *
+     * @param property The name of the entity field.
+     * @param operator The {@link QueryOperator} of the comparison.
+     */
+    public record Comparison(String property, QueryOperator operator) implements Node {
+    }
+
+    /**
+     * Represents the shape of a {@link Criterion.In}.
+     *
+     * @param property The name of the entity field.
+     * @param size     The padded number of values.
+     */
+    public record In(String property, int size) implements Node {
+    }
+
+    /**
+     * Represents the shape of a {@link Criterion.Junction}.
+     *
+     * @param or    {@code true} if any criterion must match, {@code false} if all of them must.
+     * @param nodes The shapes of the combined criteria.
+     */
+    public record Junction(boolean or, List<Node> nodes) implements Node {
+    }
+
+}
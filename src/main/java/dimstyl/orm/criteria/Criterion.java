@@ -0,0 +1,164 @@
+package dimstyl.orm.criteria;
+
+import dimstyl.orm.enums.QueryOperator;
+import dimstyl.orm.exceptions.InvalidCriteriaException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a condition of a {@link Criteria} on the properties of an entity.
+ * <p>
+ * Criteria are created from a {@link Property}, e.g. {@code Criterion.property("lastName").eq("doe")},
+ * and combined with {@link #and(Criterion)} and {@link #or(Criterion)}. Values are never rendered into
+ * the SQL, they are bound to placeholders.
+ * </p>
+ */
+public sealed interface Criterion permits Criterion.Comparison, Criterion.In, Criterion.Junction {
+
+    /**
+     * Refers to a property of the queried entity.
+     *
+     * @param name The name of the entity field.
+     * @return The {@link Property}.
+     */
+    static Property property(final String name) {
+        return new Property(name);
+    }
+
+    /**
+     * Combines criteria so that all of them must match.
+     *
+     * @param criteria The criteria to combine.
+     * @return The combined {@link Criterion}.
+     */
+    static Criterion allOf(final Criterion... criteria) {
+        return new Junction(false, List.of(criteria));
+    }
+
+    /**
+     * Combines criteria so that any of them must match.
+     *
+     * @param criteria The criteria to combine.
+     * @return The combined {@link Criterion}.
+     */
+    static Criterion anyOf(final Criterion... criteria) {
+        return new Junction(true, List.of(criteria));
+    }
+
+    /**
+     * Combines this criterion with another one, so that both must match.
+     *
+     * @param other The other criterion.
+     * @return The combined {@link Criterion}.
+     */
+    default Criterion and(final Criterion other) {
+        return Junction.combine(false, this, other);
+    }
+
+    /**
+     * Combines this criterion with another one, so that either must match.
+     *
+     * @param other The other criterion.
+     * @return The combined {@link Criterion}.
+     */
+    default Criterion or(final Criterion other) {
+        return Junction.combine(true, this, other);
+    }
+
+    /**
+     * Compares a property with a value, or checks it for {@code NULL}.
+     *
+     * @param property The name of the entity field.
+     * @param operator The {@link QueryOperator} of the comparison.
+     * @param value    The compared value, or {@code null} if the operator takes no argument.
+     */
+    record Comparison(String property, QueryOperator operator, Object value) implements Criterion {
+
+        /**
+         * Validates the comparison.
+         *
+         * @throws InvalidCriteriaException If a value is missing, or given to an operator taking none.
+         */
+        public Comparison {
+            Objects.requireNonNull(property, "property");
+            Objects.requireNonNull(operator, "operator");
+            if (operator.argumentCount() > 0 && value == null) {
+                throw new InvalidCriteriaException(String.format(
+                        "Property '%s' cannot be compared with null, use isNull() instead", property));
+            }
+            if (operator.argumentCount() == 0 && value != null) {
+                throw new InvalidCriteriaException(String.format(
+                        "Operator %s of property '%s' takes no value", operator, property));
+            }
+        }
+
+    }
+
+    /**
+     * Checks whether a property equals any of several values.
+     *
+     * @param property The name of the entity field.
+     * @param values   The values, at least one and none of them {@code null}.
+     */
+    record In(String property, List<Object> values) implements Criterion {
+
+        /**
+         * Validates the values and copies them.
+         *
+         * @throws InvalidCriteriaException If there are no values, or any of them is {@code null}.
+         */
+        public In {
+            Objects.requireNonNull(property, "property");
+            if (values == null || values.isEmpty()) {
+                throw new InvalidCriteriaException(String.format("Property '%s' must be in at least one value", property));
+            }
+            if (values.contains(null)) {
+                throw new InvalidCriteriaException(String.format("Property '%s' cannot be in null", property));
+            }
+            values = List.copyOf(values);
+        }
+
+    }
+
+    /**
+     * Combines criteria with {@code AND} or {@code OR}.
+     *
+     * @param or       {@code true} if any criterion must match, {@code false} if all of them must.
+     * @param criteria The combined criteria, at least one.
+     */
+    record Junction(boolean or, List<Criterion> criteria) implements Criterion {
+
+        /**
+         * Validates the criteria and copies them.
+         *
+         * @throws InvalidCriteriaException If there are no criteria.
+         */
+        public Junction {
+            if (criteria == null || criteria.isEmpty()) {
+                throw new InvalidCriteriaException("A junction must combine at least one criterion");
+            }
+            criteria = List.copyOf(criteria);
+        }
+
+        /**
+         * Combines two criteria, flattening the first one if it is already a junction of the same kind,
+         * so that chained calls produce a single junction.
+         *
+         * @param or    {@code true} to combine with {@code OR}, {@code false} with {@code AND}.
+         * @param left  The first criterion.
+         * @param right The second criterion.
+         * @return The combined {@link Junction}.
+         */
+        private static Junction combine(final boolean or, final Criterion left, final Criterion right) {
+            final List<Criterion> criteria = new ArrayList<>();
+            if (left instanceof Junction junction && junction.or() == or) criteria.addAll(junction.criteria());
+            else criteria.add(left);
+            criteria.add(Objects.requireNonNull(right, "criterion"));
+            return new Junction(or, criteria);
+        }
+
+    }
+
+}
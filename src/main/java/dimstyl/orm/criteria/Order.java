@@ -0,0 +1,40 @@
+package dimstyl.orm.criteria;
+
+import java.util.Objects;
+
+/**
+ * Represents the ordering of a {@link Criteria}'s results by a property of the queried entity.
+ *
+ * @param property   The name of the entity field.
+ * @param descending {@code true} for descending order, {@code false} for ascending order.
+ */
+public record Order(String property, boolean descending) {
+
+    /**
+     * Validates the ordering.
+     */
+    public Order {
+        Objects.requireNonNull(property, "property");
+    }
+
+    /**
+     * Orders the results by a property, in ascending order.
+     *
+     * @param property The name of the entity field.
+     * @return The {@link Order}.
+     */
+    public static Order asc(final String property) {
+        return new Order(property, false);
+    }
+
+    /**
+     * Orders the results by a property, in descending order.
+     *
+     * @param property The name of the entity field.
+     * @return The {@link Order}.
+     */
+    public static Order desc(final String property) {
+        return new Order(property, true);
+    }
+
+}
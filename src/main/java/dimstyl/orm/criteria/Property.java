@@ -0,0 +1,125 @@
+package dimstyl.orm.criteria;
+
+import dimstyl.orm.enums.QueryOperator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Refers to a property of the queried entity, i.e. a field annotated with {@code @Column},
+ * and creates the {@link Criterion}s comparing it.
+ *
+ * @param name The name of the entity field.
+ */
+public record Property(String name) {
+
+    /**
+     * Matches the records whose property equals the value.
+     *
+     * @param value The value.
+     * @return The {@link Criterion}.
+     */
+    public Criterion eq(final Object value) {
+        return new Criterion.Comparison(name, QueryOperator.EQUALS, value);
+    }
+
+    /**
+     * Matches the records whose property differs from the value.
+     *
+     * @param value The value.
+     * @return The {@link Criterion}.
+     */
+    public Criterion ne(final Object value) {
+        return new Criterion.Comparison(name, QueryOperator.NOT, value);
+    }
+
+    /**
+     * Matches the records whose property is less than the value.
+     *
+     * @param value The value.
+     * @return The {@link Criterion}.
+     */
+    public Criterion lt(final Object value) {
+        return new Criterion.Comparison(name, QueryOperator.LESS_THAN, value);
+    }
+
+    /**
+     * Matches the records whose property is less than or equal to the value.
+     *
+     * @param value The value.
+     * @return The {@link Criterion}.
+     */
+    public Criterion le(final Object value) {
+        return new Criterion.Comparison(name, QueryOperator.LESS_THAN_EQUAL, value);
+    }
+
+    /**
+     * Matches the records whose property is greater than the value.
+     *
+     * @param value The value.
+     * @return The {@link Criterion}.
+     */
+    public Criterion gt(final Object value) {
+        return new Criterion.Comparison(name, QueryOperator.GREATER_THAN, value);
+    }
+
+    /**
+     * Matches the records whose property is greater than or equal to the value.
+     *
+     * @param value The value.
+     * @return The {@link Criterion}.
+     */
+    public Criterion ge(final Object value) {
+        return new Criterion.Comparison(name, QueryOperator.GREATER_THAN_EQUAL, value);
+    }
+
+    /**
+     * Matches the records whose property matches the pattern, e.g. {@code "%doe%"}.
+     *
+     * @param pattern The {@code LIKE} pattern.
+     * @return The {@link Criterion}.
+     */
+    public Criterion like(final String pattern) {
+        return new Criterion.Comparison(name, QueryOperator.LIKE, pattern);
+    }
+
+    /**
+     * Matches the records whose property is {@code NULL}.
+     *
+     * @return The {@link Criterion}.
+     */
+    public Criterion isNull() {
+        return new Criterion.Comparison(name, QueryOperator.IS_NULL, null);
+    }
+
+    /**
+     * Matches the records whose property is not {@code NULL}.
+     *
+     * @return The {@link Criterion}.
+     */
+    public Criterion isNotNull() {
+        return new Criterion.Comparison(name, QueryOperator.IS_NOT_NULL, null);
+    }
+
+    /**
+     * Matches the records whose property equals any of the values.
+     *
+     * @param values The values.
+     * @return The {@link Criterion}.
+     */
+    public Criterion in(final Object... values) {
+        return new Criterion.In(name, Arrays.asList(values));
+    }
+
+    /**
+     * Matches the records whose property equals any of the values.
+     *
+     * @param values The values.
+     * @return The {@link Criterion}.
+     */
+    public Criterion in(final Collection<?> values) {
+        return new Criterion.In(name, new ArrayList<>(values));
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides a criteria API for building dynamic queries over entities, rendered to parameterized SQL.
+ */
+package dimstyl.orm.criteria;
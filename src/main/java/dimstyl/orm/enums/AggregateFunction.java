@@ -0,0 +1,65 @@
+package dimstyl.orm.enums;
+
+/**
+ * Enum representing the aggregate functions supported by {@link dimstyl.orm.annotations.Aggregate} methods.
+ *
+ * <p><strong>Possible Values:</strong></p>
+ * <ul>
+ *     <li>{@link #COUNT} - Counts the non-null values of a column.</li>
+ *     <li>{@link #SUM} - Sums the values of a numeric column.</li>
+ *     <li>{@link #MIN} - Finds the smallest value of a column.</li>
+ *     <li>{@link #MAX} - Finds the largest value of a column.</li>
+ *     <li>{@link #AVG} - Averages the values of a numeric column.</li>
+ * </ul>
+ */
+public enum AggregateFunction {
+
+    /**
+     * Counts the non-null values of a column.
+     */
+    COUNT(false),
+
+    /**
+     * Sums the values of a numeric column.
+     */
+    SUM(true),
+
+    /**
+     * Finds the smallest value of a column.
+     */
+    MIN(false),
+
+    /**
+     * Finds the largest value of a column.
+     */
+    MAX(false),
+
+    /**
+     * Averages the values of a numeric column.
+     */
+    AVG(true);
+
+    /**
+     * Whether the function only applies to numeric columns.
+     */
+    private final boolean numeric;
+
+    /**
+     * Constructs a new {@code AggregateFunction}.
+     *
+     * @param numeric Whether the function only applies to numeric columns.
+     */
+    AggregateFunction(final boolean numeric) {
+        this.numeric = numeric;
+    }
+
+    /**
+     * Checks whether the function only applies to numeric columns.
+     *
+     * @return {@code true} if the function only applies to numeric columns, {@code false} otherwise.
+     */
+    public boolean isNumeric() {
+        return numeric;
+    }
+
+}
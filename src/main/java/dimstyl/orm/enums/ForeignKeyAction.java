@@ -0,0 +1,53 @@
+package dimstyl.orm.enums;
+
+/**
+ * Enum representing the referential actions of a foreign key when its referenced row is deleted.
+ *
+ * <p><strong>Possible Values:</strong></p>
+ * <ul>
+ *     <li>{@link #NO_ACTION} - The deletion fails while rows reference the deleted row.</li>
+ *     <li>{@link #CASCADE} - The referencing rows are deleted as well.</li>
+ *     <li>{@link #SET_NULL} - The foreign key of the referencing rows is set to {@code NULL}.</li>
+ * </ul>
+ */
+public enum ForeignKeyAction {
+
+    /**
+     * The deletion fails while rows reference the deleted row.
+     */
+    NO_ACTION("NO ACTION"),
+
+    /**
+     * The referencing rows are deleted as well.
+     */
+    CASCADE("CASCADE"),
+
+    /**
+     * The foreign key of the referencing rows is set to {@code NULL}.
+     */
+    SET_NULL("SET NULL");
+
+    /**
+     * The SQL keywords of the action.
+     */
+    private final String sql;
+
+    /**
+     * Constructs a new {@code ForeignKeyAction}.
+     *
+     * @param sql The SQL keywords of the action.
+     */
+    ForeignKeyAction(final String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * Returns the SQL keywords of the action, as written after {@code ON DELETE}.
+     *
+     * @return The SQL keywords of the action.
+     */
+    public String sql() {
+        return sql;
+    }
+
+}
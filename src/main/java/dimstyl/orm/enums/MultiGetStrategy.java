@@ -0,0 +1,37 @@
+package dimstyl.orm.enums;
+
+/**
+ * Enum representing the strategies for fetching the records matching a collection of primary keys.
+ * <p>
+ * The strategy is picked per call from the number of distinct identifiers, so that small collections take
+ * a single round trip, while large ones neither exceed the parameter limits of the database engines
+ * nor pay for one round trip per chunk of identifiers.
+ * </p>
+ *
+ * <p><strong>Possible Values:</strong></p>
+ * <ul>
+ *     <li>{@link #IN_LIST} - A single query with an {@code IN} list holding all the identifiers.</li>
+ *     <li>{@link #CHUNKED_IN_LIST} - One query per chunk of identifiers, each with an {@code IN} list.</li>
+ *     <li>{@link #TEMPORARY_TABLE} - The identifiers are inserted into a temporary table with a batched
+ *     prepared statement, and the table is joined with the queried table.</li>
+ * </ul>
+ */
+public enum MultiGetStrategy {
+
+    /**
+     * A single query with an {@code IN} list holding all the identifiers.
+     */
+    IN_LIST,
+
+    /**
+     * One query per chunk of identifiers, each with an {@code IN} list.
+     */
+    CHUNKED_IN_LIST,
+
+    /**
+     * The identifiers are inserted into a temporary table with a batched prepared statement,
+     * and the table is joined with the queried table.
+     */
+    TEMPORARY_TABLE
+
+}
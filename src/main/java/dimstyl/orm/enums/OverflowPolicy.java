@@ -0,0 +1,30 @@
+package dimstyl.orm.enums;
+
+/**
+ * Enum representing what a bulkhead does with an operation that arrives while all of its permits are in use.
+ *
+ * <p><strong>Possible Values:</strong></p>
+ * <ul>
+ *     <li>{@link #QUEUE} - The operation waits for a permit, up to the bulkhead's maximum wait.</li>
+ *     <li>{@link #FAIL_FAST} - The operation is rejected immediately.</li>
+ *     <li>{@link #SHED_LOAD} - The operation waits like {@link #QUEUE}, unless the queue is full, in which case it is rejected immediately.</li>
+ * </ul>
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The operation waits for a permit, up to the bulkhead's maximum wait.
+     */
+    QUEUE,
+
+    /**
+     * The operation is rejected immediately.
+     */
+    FAIL_FAST,
+
+    /**
+     * The operation waits like {@link #QUEUE}, unless the queue is full, in which case it is rejected immediately.
+     */
+    SHED_LOAD
+
+}
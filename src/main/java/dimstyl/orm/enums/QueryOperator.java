@@ -0,0 +1,127 @@
+package dimstyl.orm.enums;
+
+/**
+ * Enum representing the comparison operators of derived query methods.
+ * <p>
+ * Each operator is selected by a keyword suffixed to a property in the method name,
+ * e.g. {@code findByLastNameLike}. Properties without a keyword are compared for equality.
+ * </p>
+ *
+ * <p><strong>Possible Values:</strong></p>
+ * <ul>
+ *     <li>{@link #EQUALS} - The column equals the argument.</li>
+ *     <li>{@link #NOT} - The column differs from the argument ({@code Not}).</li>
+ *     <li>{@link #LESS_THAN} - The column is less than the argument ({@code LessThan}).</li>
+ *     <li>{@link #LESS_THAN_EQUAL} - The column is less than or equal to the argument ({@code LessThanEqual}).</li>
+ *     <li>{@link #GREATER_THAN} - The column is greater than the argument ({@code GreaterThan}).</li>
+ *     <li>{@link #GREATER_THAN_EQUAL} - The column is greater than or equal to the argument
+ *     ({@code GreaterThanEqual}).</li>
+ *     <li>{@link #LIKE} - The column matches the argument's pattern ({@code Like}).</li>
+ *     <li>{@link #IS_NULL} - The column is {@code NULL} ({@code IsNull}), takes no argument.</li>
+ *     <li>{@link #IS_NOT_NULL} - The column is not {@code NULL} ({@code IsNotNull}), takes no argument.</li>
+ * </ul>
+ */
+public enum QueryOperator {
+
+    /**
+     * The column equals the argument.
+     */
+    EQUALS("", "%s = ?", 1),
+
+    /**
+     * The column differs from the argument.
+     */
+    NOT("Not", "%s <> ?", 1),
+
+    /**
+     * The column is less than the argument.
+     */
+    LESS_THAN("LessThan", "%s < ?", 1),
+
+    /**
+     * The column is less than or equal to the argument.
+     */
+    LESS_THAN_EQUAL("LessThanEqual", "%s <= ?", 1),
+
+    /**
+     * The column is greater than the argument.
+     */
+    GREATER_THAN("GreaterThan", "%s > ?", 1),
+
+    /**
+     * The column is greater than or equal to the argument.
+     */
+    GREATER_THAN_EQUAL("GreaterThanEqual", "%s >= ?", 1),
+
+    /**
+     * The column matches the argument's pattern.
+     */
+    LIKE("Like", "%s LIKE ?", 1),
+
+    /**
+     * The column is {@code NULL}.
+     */
+    IS_NULL("IsNull", "%s IS NULL", 0),
+
+    /**
+     * The column is not {@code NULL}.
+     */
+    IS_NOT_NULL("IsNotNull", "%s IS NOT NULL", 0);
+
+    /**
+     * The keyword selecting the operator in a method name.
+     */
+    private final String keyword;
+
+    /**
+     * The SQL template of the condition, formatted with the column name.
+     */
+    private final String template;
+
+    /**
+     * The number of arguments the operator takes.
+     */
+    private final int argumentCount;
+
+    /**
+     * Constructs a new {@code QueryOperator}.
+     *
+     * @param keyword       The keyword selecting the operator in a method name.
+     * @param template      The SQL template of the condition.
+     * @param argumentCount The number of arguments the operator takes.
+     */
+    QueryOperator(final String keyword, final String template, final int argumentCount) {
+        this.keyword = keyword;
+        this.template = template;
+        this.argumentCount = argumentCount;
+    }
+
+    /**
+     * Returns the keyword selecting the operator in a method name.
+     *
+     * @return The keyword, empty for {@link #EQUALS}.
+     */
+    public String keyword() {
+        return keyword;
+    }
+
+    /**
+     * Builds the SQL condition of a column.
+     *
+     * @param columnName The name of the column.
+     * @return The SQL condition, with a {@code ?} placeholder per argument.
+     */
+    public String toSql(final String columnName) {
+        return String.format(template, columnName);
+    }
+
+    /**
+     * Returns the number of arguments the operator takes.
+     *
+     * @return The number of arguments.
+     */
+    public int argumentCount() {
+        return argumentCount;
+    }
+
+}
@@ -0,0 +1,54 @@
+package dimstyl.orm.enums;
+
+/**
+ * Enum representing the journal modes supported by SQLite.
+ * <p>
+ * The journal mode controls how SQLite keeps track of uncommitted changes. {@link #WAL} allows readers
+ * and a writer to proceed concurrently and is the recommended mode for multi-threaded access.
+ * </p>
+ *
+ * <p><strong>Possible Values:</strong></p>
+ * <ul>
+ *     <li>{@link #DELETE} - The rollback journal is deleted at the end of each transaction (SQLite default).</li>
+ *     <li>{@link #TRUNCATE} - The rollback journal is truncated instead of deleted.</li>
+ *     <li>{@link #PERSIST} - The rollback journal is kept and its header is overwritten with zeros.</li>
+ *     <li>{@link #MEMORY} - The rollback journal is stored in volatile RAM.</li>
+ *     <li>{@link #WAL} - A write-ahead log is used instead of a rollback journal.</li>
+ *     <li>{@link #OFF} - The rollback journal is disabled completely.</li>
+ * </ul>
+ *
+ * @see <a href="https://www.sqlite.org/pragma.html#pragma_journal_mode">SQLite journal_mode pragma</a>
+ */
+public enum SQLiteJournalMode {
+
+    /**
+     * The rollback journal is deleted at the end of each transaction (SQLite default).
+     */
+    DELETE,
+
+    /**
+     * The rollback journal is truncated instead of deleted.
+     */
+    TRUNCATE,
+
+    /**
+     * The rollback journal is kept and its header is overwritten with zeros.
+     */
+    PERSIST,
+
+    /**
+     * The rollback journal is stored in volatile RAM.
+     */
+    MEMORY,
+
+    /**
+     * A write-ahead log is used instead of a rollback journal.
+     */
+    WAL,
+
+    /**
+     * The rollback journal is disabled completely.
+     */
+    OFF
+
+}
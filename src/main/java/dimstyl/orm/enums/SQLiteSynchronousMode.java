@@ -0,0 +1,42 @@
+package dimstyl.orm.enums;
+
+/**
+ * Enum representing the synchronization levels supported by SQLite.
+ * <p>
+ * The synchronous setting controls how aggressively SQLite flushes data to disk. In {@link SQLiteJournalMode#WAL}
+ * mode, {@link #NORMAL} is durable against application crashes and avoids an fsync on every commit.
+ * </p>
+ *
+ * <p><strong>Possible Values:</strong></p>
+ * <ul>
+ *     <li>{@link #OFF} - SQLite hands data to the operating system without syncing.</li>
+ *     <li>{@link #NORMAL} - SQLite syncs at the most critical moments only.</li>
+ *     <li>{@link #FULL} - SQLite syncs on every transaction commit (SQLite default).</li>
+ *     <li>{@link #EXTRA} - Like {@link #FULL}, with an additional sync of the journal directory.</li>
+ * </ul>
+ *
+ * @see <a href="https://www.sqlite.org/pragma.html#pragma_synchronous">SQLite synchronous pragma</a>
+ */
+public enum SQLiteSynchronousMode {
+
+    /**
+     * SQLite hands data to the operating system without syncing.
+     */
+    OFF,
+
+    /**
+     * SQLite syncs at the most critical moments only.
+     */
+    NORMAL,
+
+    /**
+     * SQLite syncs on every transaction commit (SQLite default).
+     */
+    FULL,
+
+    /**
+     * Like {@link #FULL}, with an additional sync of the journal directory.
+     */
+    EXTRA
+
+}
@@ -0,0 +1,32 @@
+package dimstyl.orm.enums;
+
+/**
+ * Enum representing where SQLite stores temporary tables and indices.
+ *
+ * <p><strong>Possible Values:</strong></p>
+ * <ul>
+ *     <li>{@link #DEFAULT} - The compile-time default of the SQLite library is used.</li>
+ *     <li>{@link #FILE} - Temporary objects are stored in a file.</li>
+ *     <li>{@link #MEMORY} - Temporary objects are kept in memory.</li>
+ * </ul>
+ *
+ * @see <a href="https://www.sqlite.org/pragma.html#pragma_temp_store">SQLite temp_store pragma</a>
+ */
+public enum SQLiteTempStore {
+
+    /**
+     * The compile-time default of the SQLite library is used.
+     */
+    DEFAULT,
+
+    /**
+     * Temporary objects are stored in a file.
+     */
+    FILE,
+
+    /**
+     * Temporary objects are kept in memory.
+     */
+    MEMORY
+
+}
@@ -11,24 +11,146 @@ package dimstyl.orm.enums;
  * <ul>
  *     <li>{@link #CREATE_TABLE} - Represents an operation to create a new table in the database.</li>
  *     <li>{@link #SELECT_ALL} - Represents an operation to select all records from a database table.</li>
+ *     <li>{@link #FIND_BY_ID} - Represents an operation to select a record from a table based on its primary key.</li>
+ *     <li>{@link #FIND_ALL_BY_ID} - Represents an operation to select the records of a table matching a collection
+ *     of primary keys.</li>
+ *     <li>{@link #COUNT} - Represents an operation to count the records of a table.</li>
+ *     <li>{@link #EXISTS_BY_ID} - Represents an operation to check whether a record exists based on its primary key.</li>
+ *     <li>{@link #AGGREGATE} - Represents an operation to compute an aggregate over a column of a table.</li>
  *     <li>{@link #DELETE_BY_ID} - Represents an operation to delete a record from a table based on its primary key.</li>
+ *     <li>{@link #PERSIST} - Represents an operation to insert entities, cascading to their associated entities.</li>
+ *     <li>{@link #DERIVED_QUERY} - Represents an operation to select the records matching the conditions
+ *     derived from a method name.</li>
+ *     <li>{@link #CRITERIA_QUERY} - Represents an operation to select the records matching a criteria built at runtime.</li>
+ *     <li>{@link #NATIVE_QUERY} - Represents a native SQL query declared on a repository method.</li>
+ *     <li>{@link #NATIVE_UPDATE} - Represents a native SQL statement modifying the database,
+ *     declared on a repository method.</li>
  * </ul>
+ * <p>
+ * Idempotent operations have the same effect whether they are executed once or several times,
+ * so they are safe to retry after transient errors. Read-only operations do not modify the database,
+ * so they can be executed on read-only connections.
+ * </p>
  */
 public enum SqlOperation {
 
     /**
      * Represents an operation to create a new table in the database.
      */
-    CREATE_TABLE,
+    CREATE_TABLE(false, false),
+
+    /**
+     * Represents an operation to bring the schema of an existing database in line with its tables,
+     * creating the missing tables, columns and unique indexes.
+     */
+    SYNC_SCHEMA(false, false),
 
     /**
      * Represents an operation to select all records from a database table.
      */
-    SELECT_ALL,
+    SELECT_ALL(true, true),
+
+    /**
+     * Represents an operation to select a record from a table based on its primary key.
+     */
+    FIND_BY_ID(true, true),
+
+    /**
+     * Represents an operation to select the records of a table matching a collection of primary keys.
+     * <p>
+     * It may fill a temporary table, which is private to its connection, so it is still read-only.
+     * </p>
+     */
+    FIND_ALL_BY_ID(true, true),
+
+    /**
+     * Represents an operation to count the records of a table.
+     */
+    COUNT(true, true),
+
+    /**
+     * Represents an operation to check whether a record exists based on its primary key.
+     */
+    EXISTS_BY_ID(true, true),
+
+    /**
+     * Represents an operation to compute an aggregate over a column of a table, optionally grouped by another column.
+     */
+    AGGREGATE(true, true),
 
     /**
      * Represents an operation to delete a record from a table based on its primary key.
      */
-    DELETE_BY_ID
+    DELETE_BY_ID(true, false),
+
+    /**
+     * Represents an operation to insert entities, cascading to their associated entities.
+     * <p>
+     * Retrying an insert whose commit succeeded would fail on the inserted primary keys, so it is never retried.
+     * </p>
+     */
+    PERSIST(false, false),
+
+    /**
+     * Represents an operation to select the records matching the conditions derived from a method name.
+     */
+    DERIVED_QUERY(true, true),
+
+    /**
+     * Represents an operation to select the records matching a criteria built at runtime.
+     */
+    CRITERIA_QUERY(true, true),
+
+    /**
+     * Represents a native SQL query declared on a repository method.
+     */
+    NATIVE_QUERY(true, true),
+
+    /**
+     * Represents a native SQL statement modifying the database, declared on a repository method.
+     * <p>
+     * Since its effect is unknown, it is never retried.
+     * </p>
+     */
+    NATIVE_UPDATE(false, false);
+
+    /**
+     * Whether the operation is idempotent.
+     */
+    private final boolean idempotent;
+
+    /**
+     * Whether the operation is read-only.
+     */
+    private final boolean readOnly;
+
+    /**
+     * Constructs a new {@code SqlOperation}.
+     *
+     * @param idempotent Whether the operation is idempotent.
+     * @param readOnly   Whether the operation is read-only.
+     */
+    SqlOperation(final boolean idempotent, final boolean readOnly) {
+        this.idempotent = idempotent;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Checks whether the operation is idempotent, and therefore safe to retry.
+     *
+     * @return {@code true} if the operation is idempotent, {@code false} otherwise.
+     */
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    /**
+     * Checks whether the operation is read-only, and therefore safe to execute on a read-only connection.
+     *
+     * @return {@code true} if the operation is read-only, {@code false} otherwise.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
 
 }
@@ -0,0 +1,31 @@
+package dimstyl.orm.exceptions;
+
+/**
+ * Exception thrown when a bulkhead refuses to admit an operation.
+ * <p>
+ * This exception indicates that the maximum number of concurrent operations of a repository or database
+ * was reached, and the operation could not wait for a permit according to the bulkhead's overflow policy.
+ * </p>
+ */
+public class BulkheadRejectedException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code BulkheadRejectedException} with the specified detail message.
+     *
+     * @param message The detail message explaining the reason for the exception.
+     */
+    public BulkheadRejectedException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new {@code BulkheadRejectedException} with the specified detail message and cause.
+     *
+     * @param message The detail message explaining the reason for the exception.
+     * @param cause   The underlying cause of the exception.
+     */
+    public BulkheadRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,23 @@
+package dimstyl.orm.exceptions;
+
+/**
+ * Exception thrown when the classpath cannot be scanned for entity or repository classes.
+ * <p>
+ * This exception indicates that a directory, archive or class file of a scanned package could not be read,
+ * or that a discovered class could not be loaded.
+ * </p>
+ */
+public class ClasspathScanException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code ClasspathScanException} with the specified detail message
+     * and the underlying cause of the exception.
+     *
+     * @param message The detail message explaining the reason for the exception.
+     * @param cause   The underlying cause of the exception.
+     */
+    public ClasspathScanException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
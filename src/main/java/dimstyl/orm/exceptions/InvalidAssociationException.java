@@ -0,0 +1,21 @@
+package dimstyl.orm.exceptions;
+
+/**
+ * Exception thrown when an association between entities is not mapped correctly.
+ * <p>
+ * This exception indicates that a {@code @ManyToOne} or {@code @OneToMany} field refers to a class that is not
+ * an entity, to a column that is not mapped by the entity, or to a field that does not own the association.
+ * </p>
+ */
+public class InvalidAssociationException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code InvalidAssociationException} with the specified detail message.
+     *
+     * @param message The detail message explaining the reason for the exception.
+     */
+    public InvalidAssociationException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,21 @@
+package dimstyl.orm.exceptions;
+
+/**
+ * Exception thrown when an attribute converter cannot be used for a field.
+ * <p>
+ * This exception indicates that a {@code @Convert} converter cannot be instantiated through an accessible no-arg
+ * constructor, or converts another type than the one of the field it is registered for.
+ * </p>
+ */
+public class InvalidConverterException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code InvalidConverterException} with the specified detail message.
+     *
+     * @param message The detail message explaining the reason for the exception.
+     */
+    public InvalidConverterException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,21 @@
+package dimstyl.orm.exceptions;
+
+/**
+ * Exception thrown when a criteria query cannot be executed.
+ * <p>
+ * This exception indicates that the criteria refers to a property that is not a column of the queried entity,
+ * compares a property with a value of the wrong type, or targets a different entity than the repository.
+ * </p>
+ */
+public class InvalidCriteriaException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code InvalidCriteriaException} with the specified detail message.
+     *
+     * @param message The detail message explaining the reason for the exception.
+     */
+    public InvalidCriteriaException(String message) {
+        super(message);
+    }
+
+}
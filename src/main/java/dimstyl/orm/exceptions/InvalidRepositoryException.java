@@ -0,0 +1,21 @@
+package dimstyl.orm.exceptions;
+
+/**
+ * Exception thrown when a repository cannot be implemented by the ORM framework.
+ * <p>
+ * This exception indicates that the repository is not an interface, or that one of its methods
+ * is not annotated with an SQL operation or has a signature that does not match its operation.
+ * </p>
+ */
+public class InvalidRepositoryException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code InvalidRepositoryException} with the specified detail message.
+     *
+     * @param message The detail message explaining the reason for the exception.
+     */
+    public InvalidRepositoryException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,21 @@
+package dimstyl.orm.exceptions;
+
+/**
+ * Exception thrown when a query expected to return at most one row returns several.
+ * <p>
+ * This exception indicates that a repository method returning an {@link java.util.Optional}
+ * was called with arguments matching more than one record.
+ * </p>
+ */
+public class NonUniqueResultException extends SqlExecutionException {
+
+    /**
+     * Constructs a new {@code NonUniqueResultException} with the specified detail message.
+     *
+     * @param message The detail message explaining the reason for the exception.
+     */
+    public NonUniqueResultException(String message) {
+        super(message, null);
+    }
+
+}
@@ -0,0 +1,23 @@
+package dimstyl.orm.exceptions;
+
+/**
+ * Exception thrown when an SQL statement is cancelled before completing.
+ * <p>
+ * This exception indicates that the statement exceeded its timeout or deadline,
+ * or that the calling thread was interrupted while the statement was running.
+ * </p>
+ */
+public class QueryTimeoutException extends SqlExecutionException {
+
+    /**
+     * Constructs a new {@code QueryTimeoutException} with the specified detail message
+     * and the underlying cause of the exception.
+     *
+     * @param message The detail message explaining the reason for the exception.
+     * @param cause   The underlying cause of the exception.
+     */
+    public QueryTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
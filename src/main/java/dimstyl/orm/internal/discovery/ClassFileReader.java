@@ -0,0 +1,227 @@
+package dimstyl.orm.internal.discovery;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Minimal reader of class files, extracting the name, access flags and annotations of a class from its bytes.
+ * <p>
+ * Reading a class file this way neither loads nor initializes the class, and only decodes the few constant
+ * pool entries that are needed, so that the classes of a scanned package can be filtered cheaply before
+ * any of them is loaded. The layout follows chapter 4 of the Java Virtual Machine Specification.
+ * </p>
+ */
+final class ClassFileReader {
+
+    /**
+     * The magic number at the start of every class file.
+     */
+    private static final int MAGIC = 0xCAFEBABE;
+
+    /**
+     * The name of the attribute holding the runtime-visible annotations of a class.
+     */
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ClassFileReader() {
+    }
+
+    /**
+     * Reads the name, access flags and runtime-visible annotations of a class from its class file.
+     *
+     * @param bytes The bytes of the class file.
+     * @return An {@link Optional} containing the read {@link ClassFile}, or empty if the bytes are not a valid
+     * class file.
+     */
+    static Optional<ClassFile> read(final byte[] bytes) {
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.getInt() != MAGIC) return Optional.empty();
+            buffer.getInt(); // minor and major version
+
+            // Record the offsets of the UTF-8 entries and the name indexes of the class entries
+            final int constantPoolCount = buffer.getShort() & 0xFFFF;
+            final int[] utf8Offsets = new int[constantPoolCount];
+            final int[] classNameIndexes = new int[constantPoolCount];
+            for (int i = 1; i < constantPoolCount; i++) {
+                final int tag = buffer.get();
+                switch (tag) {
+                    case 1 -> { // Utf8
+                        utf8Offsets[i] = buffer.position();
+                        final int length = buffer.getShort() & 0xFFFF;
+                        buffer.position(buffer.position() + length);
+                    }
+                    case 7 -> classNameIndexes[i] = buffer.getShort() & 0xFFFF; // Class
+                    case 8, 16, 19, 20 -> buffer.position(buffer.position() + 2); // String, MethodType, Module, Package
+                    case 15 -> buffer.position(buffer.position() + 3); // MethodHandle
+                    case 3, 4, 9, 10, 11, 12, 17, 18 -> buffer.position(buffer.position() + 4);
+                    case 5, 6 -> { // Long and Double take up two entries
+                        buffer.position(buffer.position() + 8);
+                        i++;
+                    }
+                    default -> {
+                        return Optional.empty();
+                    }
+                }
+            }
+
+            final int accessFlags = buffer.getShort() & 0xFFFF;
+            final int thisClass = buffer.getShort() & 0xFFFF;
+            buffer.getShort(); // super class
+            final int interfaceCount = buffer.getShort() & 0xFFFF;
+            buffer.position(buffer.position() + 2 * interfaceCount); // interfaces
+            skipMembers(buffer); // fields
+            skipMembers(buffer); // methods
+
+            // Collect the type descriptors of the runtime-visible annotations
+            final Set<String> annotations = new HashSet<>();
+            final int attributeCount = buffer.getShort() & 0xFFFF;
+            for (int i = 0; i < attributeCount; i++) {
+                final String attributeName = utf8(bytes, utf8Offsets[buffer.getShort() & 0xFFFF]);
+                final int length = buffer.getInt();
+                final int end = buffer.position() + length;
+                if (attributeName.equals(RUNTIME_VISIBLE_ANNOTATIONS)) {
+                    final int annotationCount = buffer.getShort() & 0xFFFF;
+                    for (int j = 0; j < annotationCount; j++) {
+                        annotations.add(utf8(bytes, utf8Offsets[buffer.getShort() & 0xFFFF]));
+                        skipElementValuePairs(buffer);
+                    }
+                }
+                buffer.position(end);
+            }
+
+            final String className = utf8(bytes, utf8Offsets[classNameIndexes[thisClass]]).replace('/', '.');
+            return Optional.of(new ClassFile(className, accessFlags, annotations));
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Skips the fields or methods of a class file, including their attributes.
+     *
+     * @param buffer The buffer, positioned at the count of the members.
+     */
+    private static void skipMembers(final ByteBuffer buffer) {
+        final int memberCount = buffer.getShort() & 0xFFFF;
+        for (int i = 0; i < memberCount; i++) {
+            buffer.position(buffer.position() + 6); // access flags, name and descriptor
+            final int attributeCount = buffer.getShort() & 0xFFFF;
+            for (int j = 0; j < attributeCount; j++) {
+                buffer.getShort(); // attribute name
+                final int length = buffer.getInt();
+                buffer.position(buffer.position() + length);
+            }
+        }
+    }
+
+    /**
+     * Skips the element-value pairs of an annotation.
+     *
+     * @param buffer The buffer, positioned at the count of the pairs.
+     */
+    private static void skipElementValuePairs(final ByteBuffer buffer) {
+        final int pairCount = buffer.getShort() & 0xFFFF;
+        for (int i = 0; i < pairCount; i++) {
+            buffer.getShort(); // element name
+            skipElementValue(buffer);
+        }
+    }
+
+    /**
+     * Skips an element value of an annotation, which may itself be an annotation or an array of values.
+     *
+     * @param buffer The buffer, positioned at the tag of the value.
+     */
+    private static void skipElementValue(final ByteBuffer buffer) {
+        final char tag = (char) buffer.get();
+        switch (tag) {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> buffer.getShort();
+            case 'e' -> buffer.getInt(); // type name and constant name
+            case '@' -> {
+                buffer.getShort(); // annotation type
+                skipElementValuePairs(buffer);
+            }
+            case '[' -> {
+                final int valueCount = buffer.getShort() & 0xFFFF;
+                for (int i = 0; i < valueCount; i++) skipElementValue(buffer);
+            }
+            default -> throw new IllegalArgumentException("Unknown element value tag '" + tag + "'");
+        }
+    }
+
+    /**
+     * Decodes a UTF-8 entry of the constant pool.
+     * <p>
+     * Class files use a modified UTF-8 encoding, which only differs from UTF-8 for characters
+     * that do not occur in the names looked up by the scanner.
+     * </p>
+     *
+     * @param bytes  The bytes of the class file.
+     * @param offset The offset of the entry's length, following its tag.
+     * @return The decoded string.
+     * @throws IllegalArgumentException If the offset does not point to a UTF-8 entry.
+     */
+    private static String utf8(final byte[] bytes, final int offset) {
+        if (offset == 0) throw new IllegalArgumentException("Not a UTF-8 constant pool entry");
+        final int length = ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+        return new String(bytes, offset + 2, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The parts of a class file relevant to discovery.
+     *
+     * @param className   The binary name of the class.
+     * @param accessFlags The access flags of the class.
+     * @param annotations The type descriptors of the runtime-visible annotations of the class.
+     */
+    record ClassFile(String className, int accessFlags, Set<String> annotations) {
+
+        /**
+         * The access flag of interfaces.
+         */
+        private static final int ACC_INTERFACE = 0x0200;
+
+        /**
+         * The access flag of abstract classes and interfaces.
+         */
+        private static final int ACC_ABSTRACT = 0x0400;
+
+        /**
+         * Checks whether the class is an interface.
+         *
+         * @return {@code true} if the class is an interface, otherwise {@code false}.
+         */
+        boolean isInterface() {
+            return (accessFlags & ACC_INTERFACE) != 0;
+        }
+
+        /**
+         * Checks whether the class can be instantiated, i.e. is neither an interface nor abstract.
+         *
+         * @return {@code true} if the class is concrete, otherwise {@code false}.
+         */
+        boolean isConcrete() {
+            return (accessFlags & (ACC_INTERFACE | ACC_ABSTRACT)) == 0;
+        }
+
+        /**
+         * Checks whether the class is annotated with an annotation type.
+         *
+         * @param annotationType The annotation type.
+         * @return {@code true} if the class is annotated with the annotation type, otherwise {@code false}.
+         */
+        boolean isAnnotatedWith(final Class<?> annotationType) {
+            return annotations.contains(annotationType.descriptorString());
+        }
+
+    }
+
+}
@@ -0,0 +1,371 @@
+package dimstyl.orm.internal.discovery;
+
+import dimstyl.orm.annotations.Repository;
+import dimstyl.orm.annotations.Table;
+import dimstyl.orm.exceptions.ClasspathScanException;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.model.Entity;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Discovers the entity and repository classes of packages on the classpath, without loading unrelated classes.
+ * <p>
+ * The classes of a package are discovered from the component index found on the classpath under
+ * {@value #RESOURCE_NAME}, if it covers the package, and by scanning the package's directories and archives
+ * otherwise. The scan reads the bytes of each class file and only loads, without initializing them, the
+ * concrete classes annotated with {@link Table} and the interfaces annotated with {@link Repository}.
+ * </p>
+ * <p>
+ * The index is written by {@link #write(Path, Collection)}, typically as a build step running
+ * {@code dimstyl.orm.tools.ComponentIndexer}. An indexed package, including its subpackages, is never scanned,
+ * so every archive contributing classes to it should be indexed.
+ * </p>
+ */
+public final class ComponentScanner {
+
+    /**
+     * The name of the classpath resource holding the component index.
+     */
+    public static final String RESOURCE_NAME = "META-INF/dimstyl-orm/components.idx";
+
+    /**
+     * The first line of every component index, identifying its format.
+     */
+    private static final String HEADER = "# dimstyl-orm component index, version 1";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ComponentScanner() {
+    }
+
+    /**
+     * Discovers the entity classes of packages, i.e. the concrete classes annotated with {@link Table}.
+     * <p>
+     * Annotated classes that do not implement {@link Entity} are skipped with a warning.
+     * </p>
+     *
+     * @param packageNames The names of the packages, including their subpackages.
+     * @return The entity classes, ordered by name.
+     * @throws ClasspathScanException If the packages cannot be scanned or a discovered class cannot be loaded.
+     */
+    public static List<Class<? extends Entity>> findEntities(final Collection<String> packageNames)
+            throws ClasspathScanException {
+        final List<Class<? extends Entity>> entityClasses = new ArrayList<>();
+        for (final Class<?> cls : load(discover(packageNames).entities())) {
+            if (Entity.class.isAssignableFrom(cls)) {
+                entityClasses.add(cls.asSubclass(Entity.class));
+            } else {
+                ConsoleUtils.printFormatted("\n⚠️ Skipping class '%s', annotated with @Table but not an Entity\n",
+                        cls.getName());
+            }
+        }
+        return entityClasses;
+    }
+
+    /**
+     * Discovers the repository interfaces of packages, i.e. the interfaces annotated with {@link Repository}.
+     *
+     * @param packageNames The names of the packages, including their subpackages.
+     * @return The repository interfaces, ordered by name.
+     * @throws ClasspathScanException If the packages cannot be scanned or a discovered class cannot be loaded.
+     */
+    public static List<Class<?>> findRepositories(final Collection<String> packageNames)
+            throws ClasspathScanException {
+        return load(discover(packageNames).repositories());
+    }
+
+    /**
+     * Scans packages and writes the discovered components as an index, to be found on the classpath
+     * at later starts.
+     *
+     * @param outputDirectory The root of the output directory, under which {@value #RESOURCE_NAME} is written.
+     * @param packageNames    The names of the packages to index, including their subpackages.
+     * @return The path of the written index.
+     * @throws ClasspathScanException If the packages cannot be scanned.
+     * @throws IOException            If the index cannot be written.
+     */
+    public static Path write(final Path outputDirectory, final Collection<String> packageNames)
+            throws ClasspathScanException, IOException {
+        final List<String> lines = new ArrayList<>(List.of(HEADER));
+        for (final String packageName : new TreeSet<>(packageNames)) {
+            final Components components = scan(classLoader(), packageName);
+            lines.add("package " + packageName);
+            components.entities().forEach(className -> lines.add("entity " + className));
+            components.repositories().forEach(className -> lines.add("repository " + className));
+        }
+
+        final Path file = outputDirectory.resolve(RESOURCE_NAME);
+        Files.createDirectories(file.getParent());
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    /**
+     * Discovers the components of packages, from the index where it covers a package and by scanning otherwise.
+     *
+     * @param packageNames The names of the packages.
+     * @return The discovered {@link Components}.
+     * @throws ClasspathScanException If a package cannot be scanned.
+     */
+    private static Components discover(final Collection<String> packageNames) throws ClasspathScanException {
+        final ClassLoader classLoader = classLoader();
+        final Map<String, Components> index = readIndex(classLoader);
+        final Components components = new Components(new TreeSet<>(), new TreeSet<>());
+        for (final String packageName : packageNames) {
+            components.addAll(lookUp(index, packageName).orElseGet(() -> scan(classLoader, packageName)));
+        }
+        return components;
+    }
+
+    /**
+     * Looks the components of a package up in an index.
+     *
+     * @param index       The index, by indexed package.
+     * @param packageName The name of the package.
+     * @return An {@link Optional} containing the components of the package and its subpackages,
+     * or empty if no indexed package contains the package.
+     */
+    private static Optional<Components> lookUp(final Map<String, Components> index, final String packageName) {
+        final String prefix = packageName + '.';
+        final Components components = new Components(new TreeSet<>(), new TreeSet<>());
+        boolean covered = false;
+        for (final Map.Entry<String, Components> entry : index.entrySet()) {
+            if (!packageName.equals(entry.getKey()) && !packageName.startsWith(entry.getKey() + '.')) continue;
+            covered = true;
+            entry.getValue().entities().stream().filter(name -> name.startsWith(prefix))
+                    .forEach(components.entities()::add);
+            entry.getValue().repositories().stream().filter(name -> name.startsWith(prefix))
+                    .forEach(components.repositories()::add);
+        }
+        return covered ? Optional.of(components) : Optional.empty();
+    }
+
+    /**
+     * Scans the directories and archives of a package for components.
+     *
+     * @param classLoader The class loader whose classpath is scanned.
+     * @param packageName The name of the package.
+     * @return The {@link Components} of the package and its subpackages.
+     * @throws ClasspathScanException If the package cannot be scanned.
+     */
+    private static Components scan(final ClassLoader classLoader, final String packageName)
+            throws ClasspathScanException {
+        final String packagePath = packageName.replace('.', '/');
+        final Components components = new Components(new TreeSet<>(), new TreeSet<>());
+        try {
+            final Enumeration<URL> roots = classLoader.getResources(packagePath);
+            while (roots.hasMoreElements()) {
+                final URL root = roots.nextElement();
+                switch (root.getProtocol()) {
+                    case "file" -> scanDirectory(Path.of(root.toURI()), components);
+                    case "jar" -> scanArchive(root, packagePath + '/', components);
+                    default -> ConsoleUtils.printFormatted("\n⚠️ Skipping unsupported classpath location '%s'\n",
+                            root);
+                }
+            }
+            return components;
+        } catch (IOException | UncheckedIOException | URISyntaxException e) {
+            final String message = String.format("Failed to scan package '%s'", packageName);
+            throw new ClasspathScanException(message, e);
+        }
+    }
+
+    /**
+     * Scans the class files of a directory and its subdirectories.
+     *
+     * @param directory  The directory of the package.
+     * @param components The components to add the discovered ones to.
+     * @throws IOException If the directory or a class file cannot be read.
+     */
+    private static void scanDirectory(final Path directory, final Components components) throws IOException {
+        try (final Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : (Iterable<Path>) files.filter(ComponentScanner::isClassFile)::iterator) {
+                components.add(Files.readAllBytes(file));
+            }
+        }
+    }
+
+    /**
+     * Scans the class files of a package within an archive.
+     *
+     * @param root          The URL of the package within the archive.
+     * @param packagePrefix The path of the package, followed by a slash.
+     * @param components    The components to add the discovered ones to.
+     * @throws IOException If the archive or a class file cannot be read.
+     */
+    private static void scanArchive(final URL root, final String packagePrefix, final Components components)
+            throws IOException {
+        final JarURLConnection connection = (JarURLConnection) root.openConnection();
+        connection.setUseCaches(false);
+        try (final JarFile jarFile = connection.getJarFile()) {
+            final Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                if (!entry.getName().startsWith(packagePrefix) || !isClassFile(Path.of(entry.getName()))) continue;
+                try (final InputStream input = jarFile.getInputStream(entry)) {
+                    components.add(input.readAllBytes());
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether a file is the class file of a class, rather than of a package or module descriptor.
+     *
+     * @param file The file.
+     * @return {@code true} if the file is the class file of a class, otherwise {@code false}.
+     */
+    private static boolean isClassFile(final Path file) {
+        final String fileName = file.getFileName().toString();
+        return fileName.endsWith(".class") && !fileName.contains("-");
+    }
+
+    /**
+     * Reads the index files found on the classpath.
+     * <p>
+     * Index files that cannot be read or are not component indexes are skipped with a warning.
+     * </p>
+     *
+     * @param classLoader The class loader whose classpath is searched.
+     * @return The merged components of all index files, by indexed package.
+     */
+    private static Map<String, Components> readIndex(final ClassLoader classLoader) {
+        final Map<String, Components> index = new HashMap<>();
+        final Enumeration<URL> urls;
+        try {
+            urls = classLoader.getResources(RESOURCE_NAME);
+        } catch (IOException e) {
+            ConsoleUtils.printFormatted("\n⚠️ Failed to look up the component indexes\n\tERROR: %s\n", e.getMessage());
+            return index;
+        }
+
+        while (urls.hasMoreElements()) {
+            final URL url = urls.nextElement();
+            try (final BufferedReader reader =
+                         new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                if (!HEADER.equals(reader.readLine())) throw new IOException("Not a component index");
+                Components current = null;
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    final int separator = line.indexOf(' ');
+                    if (separator < 0) continue;
+                    final String name = line.substring(separator + 1);
+                    switch (line.substring(0, separator)) {
+                        case "package" -> current = index.computeIfAbsent(name,
+                                packageName -> new Components(new TreeSet<>(), new TreeSet<>()));
+                        case "entity" -> requireCurrent(current).entities().add(name);
+                        case "repository" -> requireCurrent(current).repositories().add(name);
+                        default -> throw new IOException("Unknown entry '" + line + "'");
+                    }
+                }
+            } catch (IOException e) {
+                ConsoleUtils.printFormatted("\n⚠️ Failed to load the component index '%s'\n\tERROR: %s\n",
+                        url, e.getMessage());
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Ensures that an index entry follows the package it belongs to.
+     *
+     * @param components The components of the current package, or {@code null} if no package has been read yet.
+     * @return The components of the current package.
+     * @throws IOException If no package has been read yet.
+     */
+    private static Components requireCurrent(final Components components) throws IOException {
+        if (components == null) throw new IOException("Entry outside of a package");
+        return components;
+    }
+
+    /**
+     * Loads classes, without initializing them.
+     *
+     * @param classNames The binary names of the classes.
+     * @return The loaded classes, in the same order.
+     * @throws ClasspathScanException If a class cannot be loaded.
+     */
+    private static List<Class<?>> load(final Collection<String> classNames) throws ClasspathScanException {
+        final ClassLoader classLoader = classLoader();
+        final List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (final String className : classNames) {
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                final String message = String.format("Failed to load discovered class '%s'", className);
+                throw new ClasspathScanException(message, e);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Retrieves the class loader whose classpath is searched, i.e. the context class loader of the current thread,
+     * or the one of the ORM if there is none.
+     *
+     * @return The class loader.
+     */
+    private static ClassLoader classLoader() {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ComponentScanner.class.getClassLoader();
+    }
+
+    /**
+     * The names of the discovered components, ordered by name.
+     *
+     * @param entities     The names of the entity classes.
+     * @param repositories The names of the repository interfaces.
+     */
+    private record Components(SortedSet<String> entities, SortedSet<String> repositories) {
+
+        /**
+         * Adds the class of a class file, if it is a component.
+         *
+         * @param bytes The bytes of the class file.
+         */
+        void add(final byte[] bytes) {
+            ClassFileReader.read(bytes).ifPresent(classFile -> {
+                if (classFile.isConcrete() && classFile.isAnnotatedWith(Table.class)) {
+                    entities.add(classFile.className());
+                } else if (classFile.isInterface() && classFile.isAnnotatedWith(Repository.class)) {
+                    repositories.add(classFile.className());
+                }
+            });
+        }
+
+        /**
+         * Adds the names of other components.
+         *
+         * @param other The other components.
+         */
+        void addAll(final Components other) {
+            entities.addAll(other.entities());
+            repositories.addAll(other.repositories());
+        }
+
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides the discovery of entity and repository classes on the classpath, without loading unrelated classes.
+ */
+package dimstyl.orm.internal.discovery;
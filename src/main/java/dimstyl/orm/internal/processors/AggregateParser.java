@@ -0,0 +1,213 @@
+package dimstyl.orm.internal.processors;
+
+import dimstyl.orm.annotations.Aggregate;
+import dimstyl.orm.annotations.Column;
+import dimstyl.orm.enums.AggregateFunction;
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.exceptions.InvalidRepositoryException;
+import dimstyl.orm.metadata.AggregateMetadata;
+import dimstyl.orm.model.Entity;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utility class responsible for parsing aggregate methods, annotated with {@link Aggregate}.
+ * <p>
+ * The aggregated and grouping fields are matched against the entity's fields annotated with {@link Column},
+ * and the method's return type is validated against the aggregate function. Parsing happens once,
+ * while the repository is processed.
+ * </p>
+ */
+final class AggregateParser {
+
+    /**
+     * The wrapper classes of numeric types.
+     */
+    private static final Set<Class<?>> NUMERIC_TYPES = Set.of(
+            Short.class, Integer.class, Long.class, Float.class, Double.class
+    );
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private AggregateParser() {
+    }
+
+    /**
+     * Parses an aggregate method.
+     *
+     * @param method         The repository method, annotated with {@link Aggregate}.
+     * @param entityClass    The entity class of the repository.
+     * @param tableName      The name of the entity's table.
+     * @param databaseEngine The {@link DatabaseEngine} of the repository.
+     * @param timeout        The timeout of the method, or {@code null} if it has none of its own.
+     * @return The {@link AggregateMetadata} of the method.
+     * @throws InvalidRepositoryException If the method declares parameters, refers to an unknown property,
+     *                                    or its return type does not match the aggregate.
+     */
+    static AggregateMetadata parse(final Method method,
+                                   final Class<? extends Entity> entityClass,
+                                   final String tableName,
+                                   final DatabaseEngine databaseEngine,
+                                   final Duration timeout) throws InvalidRepositoryException {
+        final Aggregate aggregate = method.getDeclaredAnnotation(Aggregate.class);
+        final AggregateFunction function = aggregate.function();
+        if (method.getParameterCount() != 0) throw invalid(method, "must not declare any parameters");
+
+        // Map<String, String>: key -> entity class field name, value -> table column name
+        final Map<String, String> fieldToColumnMap = TableProcessor.mapFieldsToColumns(entityClass);
+        final Field field = resolveField(method, entityClass, fieldToColumnMap, aggregate.column());
+        if (function.isNumeric() && !NUMERIC_TYPES.contains(wrap(field.getType()))) {
+            throw invalid(method, String.format("cannot apply %s to non-numeric property '%s'", function, field.getName()));
+        }
+
+        final AggregateMetadata.AggregateMetadataBuilder builder = AggregateMetadata.builder()
+                .methodName(method.getName())
+                .tableName(tableName)
+                .databaseEngine(databaseEngine)
+                .function(function)
+                .columnName(fieldToColumnMap.get(field.getName()))
+                .columnType(field.getType())
+                .timeout(timeout);
+
+        final Class<?> valueType;
+        if (aggregate.groupBy().isBlank()) {
+            valueType = method.getReturnType();
+            builder.defaultResult(valueType.isPrimitive() ? Array.get(Array.newInstance(valueType, 1), 0) : null);
+        } else {
+            final Field groupByField = resolveField(method, entityClass, fieldToColumnMap, aggregate.groupBy());
+            final Class<?>[] typeArguments = resolveMapTypeArguments(method);
+            if (typeArguments[0] != wrap(groupByField.getType())) {
+                throw invalid(method, String.format(
+                        "must return a Map keyed by '%s', the type of property '%s'",
+                        wrap(groupByField.getType()).getSimpleName(),
+                        groupByField.getName()
+                ));
+            }
+            valueType = typeArguments[1];
+            builder.groupByColumnName(fieldToColumnMap.get(groupByField.getName())).groupByType(typeArguments[0]);
+        }
+
+        validateValueType(method, function, field, valueType);
+        return builder.resultType(wrap(valueType)).build();
+    }
+
+    /**
+     * Resolves an entity field annotated with {@link Column}.
+     *
+     * @param method           The repository method.
+     * @param entityClass      The entity class of the repository.
+     * @param fieldToColumnMap The mapping of the entity's field names to their column names.
+     * @param fieldName        The name of the field.
+     * @return The field.
+     * @throws InvalidRepositoryException If the field is not a column of the entity.
+     */
+    private static Field resolveField(final Method method,
+                                      final Class<? extends Entity> entityClass,
+                                      final Map<String, String> fieldToColumnMap,
+                                      final String fieldName) throws InvalidRepositoryException {
+        if (!fieldToColumnMap.containsKey(fieldName)) {
+            throw invalid(method, String.format(
+                    "refers to property '%s', which is not a column of entity '%s'",
+                    fieldName,
+                    entityClass.getSimpleName()
+            ));
+        }
+        try {
+            return entityClass.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException e) {
+            throw invalid(method, e.getMessage());
+        }
+    }
+
+    /**
+     * Resolves the key and value types of a grouped aggregate method returning a {@link Map}.
+     *
+     * @param method The repository method.
+     * @return The key and value types.
+     * @throws InvalidRepositoryException If the method does not return a {@link Map} with concrete type arguments.
+     */
+    private static Class<?>[] resolveMapTypeArguments(final Method method) throws InvalidRepositoryException {
+        if (method.getReturnType() == Map.class
+                && method.getGenericReturnType() instanceof ParameterizedType parameterizedType) {
+            final Type[] typeArguments = parameterizedType.getActualTypeArguments();
+            if (typeArguments[0] instanceof Class<?> keyType && typeArguments[1] instanceof Class<?> valueType) {
+                return new Class<?>[]{keyType, valueType};
+            }
+        }
+        throw invalid(method, "is grouped, so it must return a Map of each group to its aggregate");
+    }
+
+    /**
+     * Validates the type of the aggregate values against the aggregate function.
+     * <p>
+     * {@code COUNT} returns {@code long} or {@code int}, {@code AVG} returns {@code double},
+     * {@code SUM} returns any numeric type, and {@code MIN} and {@code MAX} return the field's type,
+     * or any numeric type for numeric fields.
+     * </p>
+     *
+     * @param method    The repository method.
+     * @param function  The {@link AggregateFunction} of the method.
+     * @param field     The aggregated field.
+     * @param valueType The type of the aggregate values.
+     * @throws InvalidRepositoryException If the type does not match the aggregate function.
+     */
+    private static void validateValueType(final Method method,
+                                          final AggregateFunction function,
+                                          final Field field,
+                                          final Class<?> valueType) throws InvalidRepositoryException {
+        final Class<?> wrappedValueType = wrap(valueType);
+        final Class<?> wrappedFieldType = wrap(field.getType());
+        final boolean valid = switch (function) {
+            case COUNT -> wrappedValueType == Long.class || wrappedValueType == Integer.class;
+            case AVG -> wrappedValueType == Double.class;
+            case SUM -> NUMERIC_TYPES.contains(wrappedValueType);
+            case MIN, MAX -> wrappedValueType == wrappedFieldType
+                    || NUMERIC_TYPES.contains(wrappedValueType) && NUMERIC_TYPES.contains(wrappedFieldType);
+        };
+        if (!valid) {
+            throw invalid(method, String.format(
+                    "cannot return %s of property '%s' as '%s'",
+                    function,
+                    field.getName(),
+                    valueType.getSimpleName()
+            ));
+        }
+    }
+
+    /**
+     * Returns the wrapper class of a primitive type, or the type itself.
+     *
+     * @param type The type to wrap.
+     * @return The wrapper class or the type itself.
+     */
+    private static Class<?> wrap(final Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * Creates the exception thrown for an invalid aggregate method.
+     *
+     * @param method The repository method.
+     * @param reason Why the method is invalid.
+     * @return The {@link InvalidRepositoryException} to throw.
+     */
+    private static InvalidRepositoryException invalid(final Method method, final String reason) {
+        final String message = String.format(
+                "Aggregate method '%s' of repository '%s' %s",
+                method.getName(),
+                method.getDeclaringClass().getSimpleName(),
+                reason
+        );
+        return new InvalidRepositoryException(message);
+    }
+
+}
@@ -67,6 +67,34 @@ final class ColumnProcessor {
         return Optional.of(columnMetadata);
     }
 
+    /**
+     * Extracts metadata from a {@link Column} field of an embeddable, stored in a column of the embedding
+     * entity's table.
+     * <p>
+     * The column keeps the nullability and uniqueness of its {@link Column} annotation, but is never
+     * a primary key column.
+     * </p>
+     *
+     * @param field          The field of the embeddable, annotated with {@link Column}.
+     * @param columnName     The prefixed name of the column.
+     * @param databaseEngine The {@link DatabaseEngine} for which the column type should be resolved.
+     * @return The {@link ColumnMetadata} of the column.
+     * @throws UnsupportedFieldTypeException If the field type is not supported by the ORM framework.
+     */
+    static ColumnMetadata extractEmbeddedMetadata(final Field field,
+                                                  final String columnName,
+                                                  final DatabaseEngine databaseEngine)
+            throws UnsupportedFieldTypeException {
+        final Column column = field.getDeclaredAnnotation(Column.class);
+        return ColumnMetadata.builder()
+                .columnName(columnName)
+                .columnType(ColumnTypeResolverFactory.getResolver(databaseEngine).resolve(field))
+                .primaryKey(false)
+                .nullable(column.nullable())
+                .unique(column.unique())
+                .build();
+    }
+
     /**
      * Checks whether the given field is annotated as a primary key.
      *
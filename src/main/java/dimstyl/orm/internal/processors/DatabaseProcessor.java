@@ -1,19 +1,29 @@
 package dimstyl.orm.internal.processors;
 
+import dimstyl.orm.annotations.Bulkhead;
 import dimstyl.orm.annotations.Database;
 import dimstyl.orm.annotations.Table;
-import dimstyl.orm.configuration.DatabaseConfigurationFactory;
+import dimstyl.orm.configuration.*;
 import dimstyl.orm.enums.DatabaseEngine;
 import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.exceptions.ClasspathScanException;
 import dimstyl.orm.exceptions.DatabaseConnectionException;
 import dimstyl.orm.exceptions.MissingDatabaseAnnotationException;
 import dimstyl.orm.exceptions.MissingTableAnnotationException;
 import dimstyl.orm.exceptions.UnsupportedFieldTypeException;
+import dimstyl.orm.internal.discovery.ComponentScanner;
 import dimstyl.orm.internal.utils.ConsoleUtils;
 import dimstyl.orm.internal.utils.StringUtils;
 import dimstyl.orm.metadata.DatabaseMetadata;
+import dimstyl.orm.model.Entity;
+import dimstyl.orm.runtime.BulkheadSettings;
+import dimstyl.orm.runtime.Bulkheads;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -25,6 +35,15 @@ import java.util.stream.Stream;
  */
 public final class DatabaseProcessor {
 
+    /**
+     * The number of tables from which a database's tables are processed in parallel.
+     * <p>
+     * Below it, the cost of splitting the work outweighs the gain, and the tables are processed
+     * sequentially so that their logs do not interleave.
+     * </p>
+     */
+    private static final int PARALLEL_THRESHOLD = 32;
+
     /**
      * Private constructor to prevent instantiation.
      */
@@ -35,8 +54,10 @@ public final class DatabaseProcessor {
      * Extracts metadata from a given class annotated with {@link Database}.
      * <p>
      * This method validates the presence of the {@link Database} annotation, retrieves the database
-     * name, determines the database engine, and processes associated tables. It also connects
-     * to the database using the {@link DatabaseConfigurationFactory}.
+     * name, determines the database engine, and processes its declared and discovered tables, in parallel when
+     * the database has many of them, since each table's metadata is computed independently. It also registers the
+     * engine's tuning profile and the database's {@link Bulkhead}, if any, and connects to the database
+     * using the {@link DatabaseConfigurationFactory}.
      * </p>
      *
      * @param databaseClass The class representing the database configuration.
@@ -46,9 +67,10 @@ public final class DatabaseProcessor {
      * @throws DatabaseConnectionException        If a connection to the database cannot be established.
      * @throws MissingTableAnnotationException    If a table entity is not annotated with {@link Table}.
      * @throws UnsupportedFieldTypeException      If a table contains an unsupported field type.
+     * @throws ClasspathScanException             If the packages of the database cannot be scanned.
      */
     public static DatabaseMetadata extractMetadata(final Class<?> databaseClass)
-            throws MissingDatabaseAnnotationException, DatabaseConnectionException, MissingTableAnnotationException, UnsupportedFieldTypeException {
+            throws MissingDatabaseAnnotationException, DatabaseConnectionException, MissingTableAnnotationException, UnsupportedFieldTypeException, ClasspathScanException {
         final String databaseClassName = databaseClass.getName();
 
         // If the @Database annotation does not exist, throw MissingDatabaseAnnotationException
@@ -60,23 +82,58 @@ public final class DatabaseProcessor {
         final Database database = databaseClass.getDeclaredAnnotation(Database.class);
         final String databaseName = database.name().isBlank() ? StringUtils.getDefaultName(databaseClassName) : database.name();
         final DatabaseEngine databaseEngine = database.engine();
-        final SqlOperation sqlOperation = SqlOperation.CREATE_TABLE;
+        final SqlOperation sqlOperation = database.syncSchema() ? SqlOperation.SYNC_SCHEMA : SqlOperation.CREATE_TABLE;
         final var databaseMetadata =
                 new DatabaseMetadata(databaseName, databaseEngine, sqlOperation, new ArrayList<>());
 
+        // Register the engine's tuning profile before the first connection is opened
+        final TuningProfile tuningProfile = switch (databaseEngine) {
+            case H2 -> H2TuningProfile.from(database.h2Tuning());
+            case SQLITE -> SQLiteTuningProfile.from(database.sqliteTuning());
+            case DERBY -> DerbyTuningProfile.from(database.derbyTuning());
+        };
+        DatabaseConfigurationFactory.registerTuningProfile(databaseName, tuningProfile);
+
+        // Register the database's bulkhead, if any
+        Optional.ofNullable(databaseClass.getDeclaredAnnotation(Bulkhead.class))
+                .ifPresent(bulkhead -> Bulkheads.registerDatabase(databaseName, BulkheadSettings.from(bulkhead)));
+
         try (final var databaseConfiguration = DatabaseConfigurationFactory.getConfiguration(databaseEngine)) {
             // Connect to the database
             databaseConfiguration.connect(databaseName, sqlOperation);
 
-            // Process tables
-            Stream.of(database.tables()).forEach(entityClass -> {
-                ConsoleUtils.printFormatted("\n🔄️ Processing table '%s'...\n", entityClass.getSimpleName());
-                final var tableMetadata = TableProcessor.extractMetadata(entityClass, databaseEngine);
-                databaseMetadata.addTableMetadata(tableMetadata);
-            });
+            // Process tables, in parallel for large schemas, keeping their declaration order
+            final List<Class<? extends Entity>> entityClasses = resolveTables(database);
+            final Stream<Class<? extends Entity>> tables = entityClasses.stream();
+            (entityClasses.size() >= PARALLEL_THRESHOLD ? tables.parallel() : tables)
+                    .map(entityClass -> {
+                        ConsoleUtils.printFormatted("\n🔄️ Processing table '%s'...\n", entityClass.getSimpleName());
+                        return TableProcessor.extractMetadata(entityClass, databaseEngine);
+                    })
+                    .toList()
+                    .forEach(databaseMetadata::addTableMetadata);
 
             return databaseMetadata;
         }
     }
 
+    /**
+     * Resolves the entity classes of a database.
+     * <p>
+     * The classes declared in {@link Database#tables()} come first, in declaration order, followed by the ones
+     * discovered in {@link Database#scanPackages()} that are not declared, in name order.
+     * </p>
+     *
+     * @param database The {@link Database} annotation of the database.
+     * @return The entity classes of the database.
+     * @throws ClasspathScanException If the packages cannot be scanned.
+     */
+    public static List<Class<? extends Entity>> resolveTables(final Database database) throws ClasspathScanException {
+        if (database.scanPackages().length == 0) return List.of(database.tables());
+
+        final Set<Class<? extends Entity>> entityClasses = new LinkedHashSet<>(List.of(database.tables()));
+        entityClasses.addAll(ComponentScanner.findEntities(List.of(database.scanPackages())));
+        return List.copyOf(entityClasses);
+    }
+
 }
\ No newline at end of file
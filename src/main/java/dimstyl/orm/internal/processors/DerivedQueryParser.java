@@ -0,0 +1,225 @@
+package dimstyl.orm.internal.processors;
+
+import dimstyl.orm.annotations.Column;
+import dimstyl.orm.enums.QueryOperator;
+import dimstyl.orm.exceptions.InvalidRepositoryException;
+import dimstyl.orm.metadata.DerivedQueryMetadata;
+import dimstyl.orm.model.Entity;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class responsible for parsing the names of derived query methods.
+ * <p>
+ * The name is split into conditions on {@code Or} and {@code And}, each condition is matched against
+ * the entity's fields annotated with {@link Column}, and the method's parameters are validated against
+ * the types of the compared fields. Parsing happens once, while the repository is processed.
+ * </p>
+ */
+final class DerivedQueryParser {
+
+    /**
+     * The prefix of derived query methods.
+     */
+    static final String PREFIX = "findBy";
+
+    /**
+     * Splits conditions joined with {@code Or}, which must be followed by a property.
+     */
+    private static final Pattern OR = Pattern.compile("Or(?=\\p{Lu})");
+
+    /**
+     * Splits conditions joined with {@code And}, which must be followed by a property.
+     */
+    private static final Pattern AND = Pattern.compile("And(?=\\p{Lu})");
+
+    /**
+     * The operators with a keyword, longest keyword first, so that e.g. {@code LessThanEqual}
+     * is not mistaken for {@code LessThan}.
+     */
+    private static final List<QueryOperator> KEYWORD_OPERATORS = Arrays.stream(QueryOperator.values())
+            .filter(operator -> !operator.keyword().isEmpty())
+            .sorted(Comparator.comparingInt((QueryOperator operator) -> operator.keyword().length()).reversed())
+            .toList();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DerivedQueryParser() {
+    }
+
+    /**
+     * Checks whether a repository method is a derived query method.
+     *
+     * @param method The repository method.
+     * @return {@code true} if the method's name starts with {@value #PREFIX}, {@code false} otherwise.
+     */
+    static boolean isDerivedQuery(final Method method) {
+        return method.getName().startsWith(PREFIX) && method.getName().length() > PREFIX.length();
+    }
+
+    /**
+     * Parses a derived query method.
+     *
+     * @param method      The repository method.
+     * @param entityClass The entity class of the repository.
+     * @param tableName   The name of the entity's table.
+     * @param timeout     The timeout of the method, or {@code null} if it has none of its own.
+     * @return The {@link DerivedQueryMetadata} of the method.
+     * @throws InvalidRepositoryException If the name refers to an unknown property, or the parameters
+     *                                    or return type do not match the conditions.
+     */
+    static DerivedQueryMetadata parse(final Method method,
+                                      final Class<? extends Entity> entityClass,
+                                      final String tableName,
+                                      final Duration timeout) throws InvalidRepositoryException {
+        // Map<String, String>: key -> entity class field name, value -> table column name
+        final Map<String, String> fieldToColumnMap = TableProcessor.mapFieldsToColumns(entityClass);
+        final List<DerivedQueryMetadata.Condition> conditions = new ArrayList<>();
+
+        final String criteria = method.getName().substring(PREFIX.length());
+        for (final String orPart : OR.split(criteria, -1)) {
+            boolean or = !conditions.isEmpty();
+            for (final String part : AND.split(orPart, -1)) {
+                conditions.add(parseCondition(method, entityClass, fieldToColumnMap, part, or));
+                or = false;
+            }
+        }
+
+        final DerivedQueryMetadata derivedQueryMetadata = DerivedQueryMetadata.builder()
+                .methodName(method.getName())
+                .tableName(tableName)
+                .conditions(List.copyOf(conditions))
+                .singleResult(resolveSingleResult(method))
+                .timeout(timeout)
+                .build();
+        validateParameters(method, derivedQueryMetadata);
+        return derivedQueryMetadata;
+    }
+
+    /**
+     * Parses a single condition of a derived query method, e.g. {@code LastNameLike}.
+     *
+     * @param method           The repository method.
+     * @param entityClass      The entity class of the repository.
+     * @param fieldToColumnMap The mapping of the entity's field names to their column names.
+     * @param part             The part of the method name holding the condition.
+     * @param or               Whether the condition is joined to the previous one with {@code OR}.
+     * @return The parsed condition.
+     * @throws InvalidRepositoryException If the condition refers to an unknown property.
+     */
+    private static DerivedQueryMetadata.Condition parseCondition(final Method method,
+                                                                 final Class<? extends Entity> entityClass,
+                                                                 final Map<String, String> fieldToColumnMap,
+                                                                 final String part,
+                                                                 final boolean or) throws InvalidRepositoryException {
+        final QueryOperator operator = KEYWORD_OPERATORS.stream()
+                .filter(keywordOperator -> part.endsWith(keywordOperator.keyword()))
+                .filter(keywordOperator -> part.length() > keywordOperator.keyword().length())
+                .findFirst()
+                .orElse(QueryOperator.EQUALS);
+        final String property = part.substring(0, part.length() - operator.keyword().length());
+        final String fieldName = property.isEmpty() ? property :
+                Character.toLowerCase(property.charAt(0)) + property.substring(1);
+
+        final String columnName = fieldToColumnMap.get(fieldName);
+        if (columnName == null) {
+            throw invalid(method, String.format(
+                    "refers to property '%s', which is not a column of entity '%s'",
+                    fieldName,
+                    entityClass.getSimpleName()
+            ));
+        }
+        try {
+            final Field field = entityClass.getDeclaredField(fieldName);
+            return new DerivedQueryMetadata.Condition(columnName, field.getType(), operator, or);
+        } catch (NoSuchFieldException e) {
+            throw invalid(method, e.getMessage());
+        }
+    }
+
+    /**
+     * Resolves whether a derived query method returns a single result or a list.
+     *
+     * @param method The repository method.
+     * @return {@code true} for a single, optional result, {@code false} for a list.
+     * @throws InvalidRepositoryException If the method returns neither a {@link List} nor an {@link Optional}.
+     */
+    private static boolean resolveSingleResult(final Method method) throws InvalidRepositoryException {
+        final Class<?> returnType = method.getReturnType();
+        if (returnType.isAssignableFrom(List.class)) return false;
+        if (returnType == Optional.class) return true;
+        throw invalid(method, "must return a List or an Optional");
+    }
+
+    /**
+     * Validates the parameters of a derived query method against its conditions.
+     * <p>
+     * Each condition taking an argument consumes the next parameter, whose type must match the field's type.
+     * </p>
+     *
+     * @param method               The repository method.
+     * @param derivedQueryMetadata The parsed {@link DerivedQueryMetadata}.
+     * @throws InvalidRepositoryException If the parameters do not match the conditions.
+     */
+    private static void validateParameters(final Method method, final DerivedQueryMetadata derivedQueryMetadata)
+            throws InvalidRepositoryException {
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length != derivedQueryMetadata.argumentCount()) {
+            throw invalid(method, String.format(
+                    "declares %d parameter(s), but its conditions take %d argument(s)",
+                    parameterTypes.length,
+                    derivedQueryMetadata.argumentCount()
+            ));
+        }
+
+        int index = 0;
+        for (final DerivedQueryMetadata.Condition condition : derivedQueryMetadata.conditions()) {
+            if (condition.operator().argumentCount() == 0) continue;
+            final Class<?> parameterType = parameterTypes[index++];
+            final Class<?> expectedType = condition.operator() == QueryOperator.LIKE ? String.class : condition.fieldType();
+            if (wrap(parameterType) != wrap(expectedType)) {
+                throw invalid(method, String.format(
+                        "declares parameter %d as '%s', but column '%s' expects '%s'",
+                        index,
+                        parameterType.getSimpleName(),
+                        condition.columnName(),
+                        expectedType.getSimpleName()
+                ));
+            }
+        }
+    }
+
+    /**
+     * Returns the wrapper class of a primitive type, or the type itself.
+     *
+     * @param type The type to wrap.
+     * @return The wrapper class or the type itself.
+     */
+    private static Class<?> wrap(final Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * Creates the exception thrown for an invalid derived query method.
+     *
+     * @param method The repository method.
+     * @param reason Why the method is invalid.
+     * @return The {@link InvalidRepositoryException} to throw.
+     */
+    private static InvalidRepositoryException invalid(final Method method, final String reason) {
+        final String message = String.format(
+                "Derived query method '%s' of repository '%s' %s",
+                method.getName(),
+                method.getDeclaringClass().getSimpleName(),
+                reason
+        );
+        return new InvalidRepositoryException(message);
+    }
+
+}
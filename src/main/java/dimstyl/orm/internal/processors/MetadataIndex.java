@@ -0,0 +1,432 @@
+package dimstyl.orm.internal.processors;
+
+import dimstyl.orm.annotations.Database;
+import dimstyl.orm.annotations.UniqueConstraint;
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.enums.ForeignKeyAction;
+import dimstyl.orm.exceptions.MissingDatabaseAnnotationException;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.ColumnMetadata;
+import dimstyl.orm.metadata.ForeignKeyMetadata;
+import dimstyl.orm.metadata.IndexMetadata;
+import dimstyl.orm.metadata.TableMetadata;
+import dimstyl.orm.model.Entity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Compact binary index of the table metadata of entity classes, generated at build time.
+ * <p>
+ * The index is written by {@link #write(Path, Collection)}, typically as a build step running
+ * {@code dimstyl.orm.tools.MetadataIndexer}, under {@value #RESOURCE_NAME} of the build's output directory.
+ * At runtime, the {@link MetadataRegistry} looks tables up in the index found on the classpath before falling back
+ * to reflection, so creating a schema does not scan the annotations and fields of its entity classes.
+ * </p>
+ * <p>
+ * The index is loaded on first use: a file is memory-mapped, and an index inside an archive is read into memory.
+ * Only its directory, mapping each entity class and database engine to the position of its table, is decoded
+ * when it is loaded, and each table is decoded when it is first looked up. An index that cannot be read
+ * is ignored, and every table is then resolved through reflection.
+ * </p>
+ * <p>
+ * The index must be regenerated whenever an indexed entity class changes, since it is trusted as it is.
+ * </p>
+ */
+public final class MetadataIndex {
+
+    /**
+     * The name of the index resource, relative to the root of the classpath.
+     */
+    public static final String RESOURCE_NAME = "META-INF/dimstyl-orm/metadata.idx";
+
+    /**
+     * The first bytes of an index, spelling {@code ORMI}.
+     */
+    private static final int MAGIC = 0x4F524D49;
+
+    /**
+     * The version of the index format.
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * The flag of a column's primary key status.
+     */
+    private static final int PRIMARY_KEY = 1;
+
+    /**
+     * The flag of a column's nullability.
+     */
+    private static final int NULLABLE = 1 << 1;
+
+    /**
+     * The flag of a column's uniqueness.
+     */
+    private static final int UNIQUE = 1 << 2;
+
+    /**
+     * The content of the index, shared read-only by all lookups.
+     */
+    private final ByteBuffer content;
+
+    /**
+     * The position of each table in the content, by key.
+     */
+    private final Map<String, Integer> positions;
+
+    /**
+     * Private constructor, use {@link #open(Path)} or {@link #classpath()}.
+     *
+     * @param content   The content of the index.
+     * @param positions The position of each table in the content, by key.
+     */
+    private MetadataIndex(final ByteBuffer content, final Map<String, Integer> positions) {
+        this.content = content;
+        this.positions = positions;
+    }
+
+    /**
+     * Retrieves the index found on the classpath, loading it on first use.
+     *
+     * @return An {@link Optional} containing the index, or empty if there is none or it cannot be read.
+     */
+    static Optional<MetadataIndex> classpath() {
+        return ClasspathIndex.INSTANCE;
+    }
+
+    /**
+     * Opens an index file, memory-mapping it.
+     *
+     * @param file The index file.
+     * @return The {@link MetadataIndex}.
+     * @throws IOException If the file cannot be read or is not an index.
+     */
+    public static MetadataIndex open(final Path file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Looks up the table metadata of an entity class for a database engine.
+     *
+     * @param entityClass    The entity class.
+     * @param databaseEngine The {@link DatabaseEngine} the column types were resolved for.
+     * @return An {@link Optional} containing the {@link TableMetadata}, or empty if the table is not indexed.
+     */
+    public Optional<TableMetadata> table(final Class<? extends Entity> entityClass,
+                                         final DatabaseEngine databaseEngine) {
+        final Integer position = positions.get(key(entityClass, databaseEngine));
+        if (position == null) return Optional.empty();
+        return Optional.of(readTable(content.duplicate().position(position)));
+    }
+
+    /**
+     * Writes the index of the tables of the given databases, resolving their metadata through reflection.
+     *
+     * @param outputDirectory The root of the output directory, under which {@value #RESOURCE_NAME} is written.
+     * @param databaseClasses The classes annotated with {@link Database}.
+     * @return The path of the written index.
+     * @throws MissingDatabaseAnnotationException If a class is not annotated with {@link Database}.
+     * @throws IOException                        If the index cannot be written.
+     */
+    public static Path write(final Path outputDirectory, final Collection<Class<?>> databaseClasses)
+            throws MissingDatabaseAnnotationException, IOException {
+        final Map<String, TableMetadata> tables = new LinkedHashMap<>();
+        for (final Class<?> databaseClass : databaseClasses) {
+            final Database database = databaseClass.getDeclaredAnnotation(Database.class);
+            if (database == null) {
+                final String message = String.format("Missing @Database annotation in class '%s'",
+                        databaseClass.getName());
+                throw new MissingDatabaseAnnotationException(message);
+            }
+            final DatabaseEngine databaseEngine = database.engine();
+            for (final Class<? extends Entity> entityClass : DatabaseProcessor.resolveTables(database)) {
+                tables.put(key(entityClass, databaseEngine), TableProcessor.processTable(entityClass, databaseEngine));
+            }
+        }
+
+        final Path file = outputDirectory.resolve(RESOURCE_NAME);
+        Files.createDirectories(file.getParent());
+        Files.write(file, encode(tables));
+        return file;
+    }
+
+    /**
+     * Encodes tables into the binary index format.
+     * <p>
+     * The index consists of a header, a directory of table keys and positions, and the tables themselves.
+     * Strings are written as their length followed by their UTF-8 bytes.
+     * </p>
+     *
+     * @param tables The tables, by key.
+     * @return The content of the index.
+     * @throws IOException If the tables cannot be encoded.
+     */
+    private static byte[] encode(final Map<String, TableMetadata> tables) throws IOException {
+        final ByteArrayOutputStream tableBytes = new ByteArrayOutputStream();
+        final DataOutputStream tableOutput = new DataOutputStream(tableBytes);
+        final Map<String, Integer> relativePositions = new LinkedHashMap<>();
+        for (final Map.Entry<String, TableMetadata> entry : tables.entrySet()) {
+            relativePositions.put(entry.getKey(), tableOutput.size());
+            writeTable(tableOutput, entry.getValue());
+        }
+
+        final ByteArrayOutputStream directoryBytes = new ByteArrayOutputStream();
+        final DataOutputStream directoryOutput = new DataOutputStream(directoryBytes);
+        directoryOutput.writeInt(MAGIC);
+        directoryOutput.writeInt(VERSION);
+        directoryOutput.writeInt(relativePositions.size());
+        for (final Map.Entry<String, Integer> entry : relativePositions.entrySet()) {
+            writeString(directoryOutput, entry.getKey());
+            directoryOutput.writeInt(entry.getValue());
+        }
+
+        final ByteArrayOutputStream index = new ByteArrayOutputStream();
+        index.write(directoryBytes.toByteArray());
+        index.write(tableBytes.toByteArray());
+        return index.toByteArray();
+    }
+
+    /**
+     * Decodes the header and directory of an index.
+     *
+     * @param content The content of the index.
+     * @return The {@link MetadataIndex}.
+     * @throws IOException If the content is not an index of a supported version.
+     */
+    private static MetadataIndex decode(final ByteBuffer content) throws IOException {
+        if (content.remaining() < 12 || content.getInt() != MAGIC || content.getInt() != VERSION) {
+            throw new IOException("Not a metadata index of version " + VERSION);
+        }
+        final int count = content.getInt();
+        final Map<String, Integer> relativePositions = new HashMap<>();
+        for (int i = 0; i < count; i++) relativePositions.put(readString(content), content.getInt());
+
+        // Tables start right after the directory
+        final int tablesStart = content.position();
+        final Map<String, Integer> positions = new HashMap<>();
+        relativePositions.forEach((key, position) -> positions.put(key, tablesStart + position));
+        return new MetadataIndex(content.asReadOnlyBuffer(), Map.copyOf(positions));
+    }
+
+    /**
+     * Writes a table.
+     *
+     * @param output        The output.
+     * @param tableMetadata The table.
+     * @throws IOException If the table cannot be written.
+     */
+    private static void writeTable(final DataOutputStream output, final TableMetadata tableMetadata)
+            throws IOException {
+        writeString(output, tableMetadata.tableName());
+
+        output.writeInt(tableMetadata.uniqueConstraints().length);
+        for (final UniqueConstraint uniqueConstraint : tableMetadata.uniqueConstraints()) {
+            output.writeInt(uniqueConstraint.columnNames().length);
+            for (final String columnName : uniqueConstraint.columnNames()) writeString(output, columnName);
+        }
+
+        output.writeInt(tableMetadata.foreignKeys().size());
+        for (final ForeignKeyMetadata foreignKey : tableMetadata.foreignKeys()) {
+            writeString(output, foreignKey.columnName());
+            writeString(output, foreignKey.referencedTableName());
+            writeString(output, foreignKey.referencedColumnName());
+            writeString(output, foreignKey.onDelete().name());
+        }
+
+        output.writeInt(tableMetadata.columnMetadataList().size());
+        for (final ColumnMetadata column : tableMetadata.columnMetadataList()) {
+            writeString(output, column.columnName());
+            writeString(output, column.columnType());
+            output.writeByte((column.primaryKey() ? PRIMARY_KEY : 0)
+                             | (column.nullable() ? NULLABLE : 0)
+                             | (column.unique() ? UNIQUE : 0));
+        }
+
+        output.writeInt(tableMetadata.indexes().size());
+        for (final IndexMetadata index : tableMetadata.indexes()) {
+            writeString(output, index.indexName());
+            output.writeInt(index.columnNames().size());
+            for (final String columnName : index.columnNames()) {
+                writeString(output, columnName);
+                output.writeBoolean(index.descendingColumnNames().contains(columnName));
+            }
+            writeString(output, index.where());
+        }
+    }
+
+    /**
+     * Reads a table.
+     *
+     * @param input The input, positioned on the table.
+     * @return The {@link TableMetadata}.
+     */
+    private static TableMetadata readTable(final ByteBuffer input) {
+        final String tableName = readString(input);
+
+        final UniqueConstraint[] uniqueConstraints = new UniqueConstraint[input.getInt()];
+        for (int i = 0; i < uniqueConstraints.length; i++) {
+            final String[] columnNames = new String[input.getInt()];
+            for (int j = 0; j < columnNames.length; j++) columnNames[j] = readString(input);
+            uniqueConstraints[i] = new IndexedUniqueConstraint(columnNames);
+        }
+
+        final int foreignKeyCount = input.getInt();
+        final List<ForeignKeyMetadata> foreignKeys = new ArrayList<>(foreignKeyCount);
+        for (int i = 0; i < foreignKeyCount; i++) {
+            foreignKeys.add(ForeignKeyMetadata.builder()
+                    .columnName(readString(input))
+                    .referencedTableName(readString(input))
+                    .referencedColumnName(readString(input))
+                    .onDelete(ForeignKeyAction.valueOf(readString(input)))
+                    .build());
+        }
+
+        final int columnCount = input.getInt();
+        final List<ColumnMetadata> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            final String columnName = readString(input);
+            final String columnType = readString(input);
+            final int flags = input.get();
+            columns.add(ColumnMetadata.builder()
+                    .columnName(columnName)
+                    .columnType(columnType)
+                    .primaryKey((flags & PRIMARY_KEY) != 0)
+                    .nullable((flags & NULLABLE) != 0)
+                    .unique((flags & UNIQUE) != 0)
+                    .build());
+        }
+
+        final int indexCount = input.getInt();
+        final List<IndexMetadata> indexes = new ArrayList<>(indexCount);
+        for (int i = 0; i < indexCount; i++) {
+            final String indexName = readString(input);
+            final List<String> columnNames = new ArrayList<>();
+            final Set<String> descendingColumnNames = new HashSet<>();
+            for (int j = input.getInt(); j > 0; j--) {
+                final String columnName = readString(input);
+                columnNames.add(columnName);
+                if (input.get() != 0) descendingColumnNames.add(columnName);
+            }
+            indexes.add(IndexMetadata.builder()
+                    .indexName(indexName)
+                    .columnNames(List.copyOf(columnNames))
+                    .descendingColumnNames(Set.copyOf(descendingColumnNames))
+                    .where(readString(input))
+                    .build());
+        }
+
+        return new TableMetadata(tableName, uniqueConstraints, List.copyOf(foreignKeys), List.copyOf(columns),
+                List.copyOf(indexes));
+    }
+
+    /**
+     * Writes a string as its length followed by its UTF-8 bytes.
+     *
+     * @param output The output.
+     * @param value  The string.
+     * @throws IOException If the string cannot be written.
+     */
+    private static void writeString(final DataOutputStream output, final String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     *
+     * @param input The input, positioned on the string.
+     * @return The string.
+     */
+    private static String readString(final ByteBuffer input) {
+        final byte[] bytes = new byte[input.getInt()];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates the key of a table in the index.
+     *
+     * @param entityClass    The entity class.
+     * @param databaseEngine The {@link DatabaseEngine} the column types were resolved for.
+     * @return The key of the table.
+     */
+    private static String key(final Class<?> entityClass, final DatabaseEngine databaseEngine) {
+        return entityClass.getName() + '@' + databaseEngine.name();
+    }
+
+    /**
+     * Holder of the index found on the classpath, loaded when first accessed.
+     */
+    private static final class ClasspathIndex {
+
+        /**
+         * The index found on the classpath, if any.
+         */
+        private static final Optional<MetadataIndex> INSTANCE = load();
+
+        /**
+         * Loads the index found on the classpath of the ORM.
+         *
+         * @return An {@link Optional} containing the index, or empty if there is none or it cannot be read.
+         */
+        private static Optional<MetadataIndex> load() {
+            final URL url = MetadataIndex.class.getClassLoader().getResource(RESOURCE_NAME);
+            if (url == null) return Optional.empty();
+            try {
+                if (url.getProtocol().equals("file")) return Optional.of(open(Path.of(url.toURI())));
+                try (final InputStream input = url.openStream()) {
+                    return Optional.of(decode(ByteBuffer.wrap(input.readAllBytes())));
+                }
+            } catch (IOException | URISyntaxException e) {
+                ConsoleUtils.printFormatted("\n⚠️ Failed to load the metadata index '%s'\n\tERROR: %s\n",
+                        url, e.getMessage());
+                return Optional.empty();
+            }
+        }
+
+    }
+
+    /**
+     * A unique constraint read from the index, standing in for the {@link UniqueConstraint} annotation.
+     *
+     * @param columnNames The names of the columns of the constraint.
+     */
+    private record IndexedUniqueConstraint(String[] columnNames) implements UniqueConstraint {
+
+        /**
+         * Returns the annotation type this constraint stands in for.
+         *
+         * @return {@link UniqueConstraint}.
+         */
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return UniqueConstraint.class;
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+package dimstyl.orm.internal.processors;
+
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.exceptions.*;
+import dimstyl.orm.metadata.AssociationMetadata;
+import dimstyl.orm.metadata.EntityMetadata;
+import dimstyl.orm.metadata.RepositoryMetadata;
+import dimstyl.orm.metadata.TableMetadata;
+import dimstyl.orm.model.Entity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Central registry of the metadata derived from entity and repository classes.
+ * <p>
+ * Each kind of metadata is computed on first use of its class, through reflection, and then shared by all
+ * subsystems, so that steady-state operations never scan annotations or fields again. The metadata is held
+ * in {@link ClassValue}s, which are thread-safe and attached to the classes themselves. A computation that fails
+ * is not cached, and fails again on the next use.
+ * </p>
+ * <p>
+ * All cached metadata is immutable, with the exception of the arrays of unique constraints, which are the ones
+ * of the {@code @Table} annotation and must not be modified.
+ * </p>
+ */
+public final class MetadataRegistry {
+
+    /**
+     * The mapping of each entity class to its table.
+     */
+    private static final ClassValue<EntityMetadata> ENTITIES = new ClassValue<>() {
+        @Override
+        protected EntityMetadata computeValue(final Class<?> type) {
+            return TableProcessor.processEntity(type.asSubclass(Entity.class));
+        }
+    };
+
+    /**
+     * The associations of each entity class.
+     */
+    private static final ClassValue<List<AssociationMetadata>> ASSOCIATIONS = new ClassValue<>() {
+        @Override
+        protected List<AssociationMetadata> computeValue(final Class<?> type) {
+            return TableProcessor.processAssociations(type.asSubclass(Entity.class));
+        }
+    };
+
+    /**
+     * The table metadata of each entity class, per database engine.
+     */
+    private static final ClassValue<Map<DatabaseEngine, TableMetadata>> TABLES = new ClassValue<>() {
+        @Override
+        protected Map<DatabaseEngine, TableMetadata> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * The metadata of each repository class.
+     */
+    private static final ClassValue<RepositoryMetadata> REPOSITORIES = new ClassValue<>() {
+        @Override
+        protected RepositoryMetadata computeValue(final Class<?> type) {
+            return RepositoryProcessor.processRepository(type);
+        }
+    };
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MetadataRegistry() {
+    }
+
+    /**
+     * Retrieves the mapping of an entity class to its table.
+     *
+     * @param entityClass The entity class.
+     * @return The {@link EntityMetadata} of the entity class.
+     */
+    public static EntityMetadata entity(final Class<? extends Entity> entityClass) {
+        return ENTITIES.get(entityClass);
+    }
+
+    /**
+     * Retrieves the associations of an entity class.
+     *
+     * @param entityClass The entity class.
+     * @return The {@link AssociationMetadata} of each association field, in declaration order.
+     * @throws InvalidAssociationException If an association is not mapped correctly.
+     */
+    public static List<AssociationMetadata> associations(final Class<? extends Entity> entityClass)
+            throws InvalidAssociationException {
+        return ASSOCIATIONS.get(entityClass);
+    }
+
+    /**
+     * Retrieves the table metadata of an entity class for a database engine.
+     * <p>
+     * The table is read from the {@link MetadataIndex} found on the classpath, if it is indexed there,
+     * and resolved through reflection otherwise.
+     * </p>
+     *
+     * @param entityClass    The entity class annotated with {@code @Table}.
+     * @param databaseEngine The {@link DatabaseEngine} used for column type resolution.
+     * @return The {@link TableMetadata} of the entity class.
+     * @throws MissingTableAnnotationException If the entity class lacks the {@code @Table} annotation.
+     * @throws UnsupportedFieldTypeException   If a field has an unsupported type.
+     * @throws InvalidAssociationException     If an association of the entity is not mapped correctly.
+     */
+    public static TableMetadata table(final Class<? extends Entity> entityClass, final DatabaseEngine databaseEngine)
+            throws MissingTableAnnotationException, UnsupportedFieldTypeException, InvalidAssociationException {
+        return TABLES.get(entityClass).computeIfAbsent(databaseEngine, engine -> MetadataIndex.classpath()
+                .flatMap(index -> index.table(entityClass, engine))
+                .orElseGet(() -> TableProcessor.processTable(entityClass, engine)));
+    }
+
+    /**
+     * Retrieves the metadata of a repository class.
+     *
+     * @param repositoryClass The class representing the repository.
+     * @return The {@link RepositoryMetadata} of the repository class.
+     * @throws MissingRepositoryAnnotationException If the class is not annotated with {@code @Repository}.
+     * @throws InvalidRepositoryException           If a derived query, native query or aggregate method is invalid.
+     */
+    public static RepositoryMetadata repository(final Class<?> repositoryClass)
+            throws MissingRepositoryAnnotationException, InvalidRepositoryException {
+        return REPOSITORIES.get(repositoryClass);
+    }
+
+}
@@ -0,0 +1,264 @@
+package dimstyl.orm.internal.processors;
+
+import dimstyl.orm.annotations.Param;
+import dimstyl.orm.annotations.Query;
+import dimstyl.orm.exceptions.InvalidRepositoryException;
+import dimstyl.orm.metadata.NativeQueryMetadata;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Utility class responsible for parsing the statements of native query methods, annotated with {@link Query}.
+ * <p>
+ * Named parameters, e.g. {@code :email}, are rewritten to positional {@code ?} placeholders, and each placeholder
+ * is resolved to the index of the method parameter bound to it. String literals, quoted identifiers, comments
+ * and {@code ::} casts are left untouched. Parsing happens once, while the repository is processed, so invoking
+ * the method involves no parsing or string concatenation.
+ * </p>
+ */
+final class NativeQueryParser {
+
+    /**
+     * The leading keywords of statements that are queries.
+     */
+    private static final Set<String> QUERY_KEYWORDS = Set.of("SELECT", "WITH", "VALUES");
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private NativeQueryParser() {
+    }
+
+    /**
+     * Checks whether a native statement is a query, based on its leading keyword.
+     *
+     * @param sql The SQL statement.
+     * @return {@code true} if the statement starts with {@code SELECT}, {@code WITH} or {@code VALUES},
+     * {@code false} otherwise.
+     */
+    static boolean isQuery(final String sql) {
+        int start = 0;
+        while (start < sql.length()) {
+            final char c = sql.charAt(start);
+            if (Character.isWhitespace(c) || c == '(') start++;
+            else if (sql.startsWith("--", start)) start = endOfLineComment(sql, start);
+            else if (sql.startsWith("/*", start)) {
+                final int end = sql.indexOf("*/", start + 2);
+                start = end < 0 ? sql.length() : end + 2;
+            } else break;
+        }
+        int end = start;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) end++;
+        return QUERY_KEYWORDS.contains(sql.substring(start, end).toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Parses a native query method.
+     *
+     * @param method  The repository method, annotated with {@link Query}.
+     * @param timeout The timeout of the method, or {@code null} if it has none of its own.
+     * @return The {@link NativeQueryMetadata} of the method.
+     * @throws InvalidRepositoryException If the statement is malformed, refers to unknown parameters,
+     *                                    leaves parameters unused, or the return type does not match.
+     */
+    static NativeQueryMetadata parse(final Method method, final Duration timeout) throws InvalidRepositoryException {
+        final String source = method.getDeclaredAnnotation(Query.class).value();
+        if (source.isBlank()) throw invalid(method, "declares an empty statement");
+
+        final StringBuilder sql = new StringBuilder(source.length());
+        final List<String> names = new ArrayList<>();
+        int positionalCount = 0;
+
+        int i = 0;
+        while (i < source.length()) {
+            final char c = source.charAt(i);
+            final char next = i + 1 < source.length() ? source.charAt(i + 1) : '\0';
+            final int end;
+            if (c == '\'' || c == '"') {
+                // String literal or quoted identifier, a doubled quote inside is read as two adjacent ones
+                end = source.indexOf(c, i + 1) + 1;
+                if (end == 0) throw invalid(method, "declares an unterminated quoted string");
+            } else if (c == '-' && next == '-') {
+                end = endOfLineComment(source, i);
+            } else if (c == '/' && next == '*') {
+                end = source.indexOf("*/", i + 2) + 2;
+                if (end == 1) throw invalid(method, "declares an unterminated comment");
+            } else if (c == ':' && next == ':') {
+                end = i + 2;
+            } else if (c == ':' && Character.isJavaIdentifierStart(next)) {
+                int nameEnd = i + 2;
+                while (nameEnd < source.length() && Character.isJavaIdentifierPart(source.charAt(nameEnd))) nameEnd++;
+                names.add(source.substring(i + 1, nameEnd));
+                sql.append('?');
+                i = nameEnd;
+                continue;
+            } else {
+                if (c == '?') positionalCount++;
+                end = i + 1;
+            }
+            sql.append(source, i, end);
+            i = end;
+        }
+
+        if (!names.isEmpty() && positionalCount > 0) {
+            throw invalid(method, "mixes named and positional parameters");
+        }
+
+        final boolean query = isQuery(source);
+        final NativeQueryMetadata.NativeQueryMetadataBuilder builder = NativeQueryMetadata.builder()
+                .methodName(method.getName())
+                .sql(sql.toString())
+                .parameterIndexes(names.isEmpty()
+                        ? resolvePositionalIndexes(method, positionalCount)
+                        : resolveNamedIndexes(method, names))
+                .query(query)
+                .timeout(timeout);
+        if (query) {
+            builder.singleResult(resolveSingleResult(method)).resultType(resolveResultType(method));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Resolves the parameter indexes of a statement with positional placeholders,
+     * which are bound to the method's parameters in order.
+     *
+     * @param method          The repository method.
+     * @param positionalCount The number of positional placeholders.
+     * @return The index of the method parameter bound to each placeholder.
+     * @throws InvalidRepositoryException If the number of placeholders and parameters differ.
+     */
+    private static List<Integer> resolvePositionalIndexes(final Method method, final int positionalCount)
+            throws InvalidRepositoryException {
+        if (method.getParameterCount() != positionalCount) {
+            throw invalid(method, String.format(
+                    "declares %d parameter(s), but its statement takes %d argument(s)",
+                    method.getParameterCount(),
+                    positionalCount
+            ));
+        }
+        final List<Integer> parameterIndexes = new ArrayList<>(positionalCount);
+        for (int i = 0; i < positionalCount; i++) parameterIndexes.add(i);
+        return List.copyOf(parameterIndexes);
+    }
+
+    /**
+     * Resolves the parameter indexes of a statement with named placeholders.
+     *
+     * @param method The repository method.
+     * @param names  The name of each placeholder, in order.
+     * @return The index of the method parameter bound to each placeholder.
+     * @throws InvalidRepositoryException If a name does not match a parameter, a parameter is unnamed,
+     *                                    named twice, or not referenced by the statement.
+     */
+    private static List<Integer> resolveNamedIndexes(final Method method, final List<String> names)
+            throws InvalidRepositoryException {
+        // Map<String, Integer>: key -> parameter name, value -> parameter index
+        final Map<String, Integer> parameterIndexByName = new HashMap<>();
+        final Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            final String name = resolveParameterName(method, parameters[i], i);
+            if (parameterIndexByName.putIfAbsent(name, i) != null) {
+                throw invalid(method, String.format("declares parameter '%s' more than once", name));
+            }
+        }
+
+        final List<Integer> parameterIndexes = new ArrayList<>(names.size());
+        for (final String name : names) {
+            final Integer index = parameterIndexByName.get(name);
+            if (index == null) {
+                throw invalid(method, String.format("refers to ':%s', which is not a parameter of the method", name));
+            }
+            parameterIndexes.add(index);
+        }
+
+        for (final Map.Entry<String, Integer> entry : parameterIndexByName.entrySet()) {
+            if (!parameterIndexes.contains(entry.getValue())) {
+                throw invalid(method, String.format("declares parameter '%s', which its statement never uses",
+                        entry.getKey()));
+            }
+        }
+        return List.copyOf(parameterIndexes);
+    }
+
+    /**
+     * Resolves the name of a method parameter, from its {@link Param} annotation or from the compiled parameter name.
+     *
+     * @param method    The repository method.
+     * @param parameter The parameter.
+     * @param index     The index of the parameter.
+     * @return The name of the parameter.
+     * @throws InvalidRepositoryException If the parameter is not annotated and its name was not compiled.
+     */
+    private static String resolveParameterName(final Method method, final Parameter parameter, final int index)
+            throws InvalidRepositoryException {
+        final Param param = parameter.getDeclaredAnnotation(Param.class);
+        if (param != null) return param.value();
+        if (parameter.isNamePresent()) return parameter.getName();
+        throw invalid(method, String.format("must name parameter %d with @Param", index + 1));
+    }
+
+    /**
+     * Resolves whether a native query method returns a single result or a list.
+     *
+     * @param method The repository method.
+     * @return {@code true} for a single, optional result, {@code false} for a list.
+     * @throws InvalidRepositoryException If the method returns neither a {@link List} nor an {@link Optional}.
+     */
+    private static boolean resolveSingleResult(final Method method) throws InvalidRepositoryException {
+        final Class<?> returnType = method.getReturnType();
+        if (returnType.isAssignableFrom(List.class)) return false;
+        if (returnType == Optional.class) return true;
+        throw invalid(method, "must return a List or an Optional");
+    }
+
+    /**
+     * Resolves the type each row of a native query is mapped to, from the type argument of its return type.
+     *
+     * @param method The repository method.
+     * @return The type of the results.
+     * @throws InvalidRepositoryException If the return type does not declare a concrete type argument.
+     */
+    private static Class<?> resolveResultType(final Method method) throws InvalidRepositoryException {
+        if (method.getGenericReturnType() instanceof ParameterizedType parameterizedType) {
+            final Type typeArgument = parameterizedType.getActualTypeArguments()[0];
+            if (typeArgument instanceof Class<?> resultType) return resultType;
+        }
+        throw invalid(method, "must declare the type of its results, e.g. List<Customer>");
+    }
+
+    /**
+     * Finds the end of a line comment.
+     *
+     * @param sql   The SQL statement.
+     * @param start The index of the comment's {@code --}.
+     * @return The index of the line break ending the comment, or the length of the statement.
+     */
+    private static int endOfLineComment(final String sql, final int start) {
+        final int end = sql.indexOf('\n', start);
+        return end < 0 ? sql.length() : end;
+    }
+
+    /**
+     * Creates the exception thrown for an invalid native query method.
+     *
+     * @param method The repository method.
+     * @param reason Why the method is invalid.
+     * @return The {@link InvalidRepositoryException} to throw.
+     */
+    private static InvalidRepositoryException invalid(final Method method, final String reason) {
+        final String message = String.format(
+                "Native query method '%s' of repository '%s' %s",
+                method.getName(),
+                method.getDeclaringClass().getSimpleName(),
+                reason
+        );
+        return new InvalidRepositoryException(message);
+    }
+
+}
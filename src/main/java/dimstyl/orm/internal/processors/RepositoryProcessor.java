@@ -1,18 +1,39 @@
 package dimstyl.orm.internal.processors;
 
+import dimstyl.orm.annotations.Aggregate;
+import dimstyl.orm.annotations.Bulkhead;
+import dimstyl.orm.annotations.Count;
 import dimstyl.orm.annotations.DeleteById;
+import dimstyl.orm.annotations.ExistsById;
+import dimstyl.orm.annotations.FindAllById;
+import dimstyl.orm.annotations.FindById;
+import dimstyl.orm.annotations.Persist;
+import dimstyl.orm.annotations.Query;
 import dimstyl.orm.annotations.Repository;
+import dimstyl.orm.annotations.Retry;
 import dimstyl.orm.annotations.SelectAll;
+import dimstyl.orm.annotations.Timeout;
+import dimstyl.orm.criteria.Criteria;
 import dimstyl.orm.enums.DatabaseEngine;
 import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.exceptions.InvalidRepositoryException;
 import dimstyl.orm.exceptions.MissingRepositoryAnnotationException;
 import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.AggregateMetadata;
+import dimstyl.orm.metadata.DerivedQueryMetadata;
+import dimstyl.orm.metadata.NativeQueryMetadata;
 import dimstyl.orm.metadata.RepositoryMetadata;
 import dimstyl.orm.model.Entity;
+import dimstyl.orm.runtime.BulkheadSettings;
+import dimstyl.orm.runtime.Bulkheads;
+import dimstyl.orm.runtime.Retries;
+import dimstyl.orm.runtime.RetryPolicy;
 
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
-import java.util.EnumSet;
-import java.util.Set;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.*;
 
 /**
  * Utility class responsible for processing metadata related to repositories in ORM.
@@ -34,16 +55,41 @@ public final class RepositoryProcessor {
      * <p>
      * This method validates the presence of the {@link Repository} annotation,
      * retrieves the database name, database engine, and associated entity.
-     * It also scans for methods annotated with {@link SelectAll} and {@link DeleteById}
-     * to determine the repository's supported SQL operations.
+     * It also scans for methods annotated with {@link SelectAll}, {@link FindById}, {@link Count},
+     * {@link ExistsById} and {@link DeleteById} to determine the repository's supported SQL operations,
+     * parses the methods annotated with {@link Aggregate} into {@link AggregateMetadata}, parses the names of its derived query methods
+     * (e.g. {@code findByEmail}) into {@link DerivedQueryMetadata}, parses the statements of its methods annotated
+     * with {@link Query} into {@link NativeQueryMetadata}, and resolves the {@link Timeout}
+     * of the repository and of each operation. If the repository is annotated with {@link Bulkhead},
+     * its bulkhead is registered in {@link Bulkheads}, and if it is annotated with {@link Retry},
+     * its retrier is registered in {@link Retries}.
+     * </p>
+     * <p>
+     * The metadata is extracted once per repository class and cached in the {@link MetadataRegistry},
+     * so later calls return the same instance without processing the repository again.
      * </p>
      *
      * @param repositoryClass The class representing the repository.
      * @return The extracted {@link RepositoryMetadata}, containing database details, entity, table name, and supported operations.
      * @throws MissingRepositoryAnnotationException If the class is not annotated with {@link Repository}.
+     * @throws InvalidRepositoryException           If a derived query, native query or aggregate method is invalid.
      */
     public static RepositoryMetadata extractMetadata(final Class<?> repositoryClass)
-            throws MissingRepositoryAnnotationException {
+            throws MissingRepositoryAnnotationException, InvalidRepositoryException {
+        return MetadataRegistry.repository(repositoryClass);
+    }
+
+    /**
+     * Processes a repository class, on its first extraction.
+     *
+     * @param repositoryClass The class representing the repository.
+     * @return The extracted {@link RepositoryMetadata}, with immutable collections.
+     * @throws MissingRepositoryAnnotationException If the class is not annotated with {@link Repository}.
+     * @throws InvalidRepositoryException           If a derived query, native query or aggregate method is invalid.
+     * @see #extractMetadata(Class)
+     */
+    static RepositoryMetadata processRepository(final Class<?> repositoryClass)
+            throws MissingRepositoryAnnotationException, InvalidRepositoryException {
         final String repositoryClassName = repositoryClass.getSimpleName();
         ConsoleUtils.printFormatted("\n🔄️ Processing repository '%s'...\n", repositoryClassName);
 
@@ -58,22 +104,108 @@ public final class RepositoryProcessor {
         final DatabaseEngine databaseEngine = repositoryAnnotation.databaseEngine();
         final String tableName = TableProcessor.resolveTableName(repositoryAnnotation.entity());
         final Class<? extends Entity> entityClass = repositoryAnnotation.entity();
+        final Duration timeout = resolveTimeout(repositoryClass).orElse(null);
         Set<SqlOperation> supportedOperations = EnumSet.noneOf(SqlOperation.class);
+        final Map<Method, Duration> methodTimeouts = new HashMap<>();
+        final Map<Method, DerivedQueryMetadata> derivedQueries = new HashMap<>();
+        final Map<Method, NativeQueryMetadata> nativeQueries = new HashMap<>();
+        final Map<Method, AggregateMetadata> aggregates = new HashMap<>();
+
+        // Inherited methods are implemented by the repository's proxy as well, so they are processed alike
+        for (final Method method : repositoryClass.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers())) continue;
+            final Optional<SqlOperation> optionalSqlOperation = resolveSqlOperation(method);
+            if (optionalSqlOperation.isEmpty()) continue;
 
-        for (final Method method : repositoryClass.getDeclaredMethods()) {
-            if (method.isAnnotationPresent(SelectAll.class)) supportedOperations.add(SqlOperation.SELECT_ALL);
-            if (method.isAnnotationPresent(DeleteById.class)) supportedOperations.add(SqlOperation.DELETE_BY_ID);
+            final SqlOperation sqlOperation = optionalSqlOperation.get();
+            supportedOperations.add(sqlOperation);
+            resolveTimeout(method).ifPresent(methodTimeout -> methodTimeouts.put(method, methodTimeout));
+            if (sqlOperation == SqlOperation.DERIVED_QUERY) {
+                final Duration methodTimeout = resolveTimeout(method).orElse(null);
+                derivedQueries.put(method, DerivedQueryParser.parse(method, entityClass, tableName, methodTimeout));
+                continue;
+            }
+            if (sqlOperation == SqlOperation.AGGREGATE) {
+                final Duration methodTimeout = resolveTimeout(method).orElse(null);
+                aggregates.put(method,
+                        AggregateParser.parse(method, entityClass, tableName, databaseEngine, methodTimeout));
+                continue;
+            }
+            if (sqlOperation == SqlOperation.NATIVE_QUERY || sqlOperation == SqlOperation.NATIVE_UPDATE) {
+                nativeQueries.put(method, NativeQueryParser.parse(method, resolveTimeout(method).orElse(null)));
+                continue;
+            }
         }
 
         ConsoleUtils.printFormatted("✅ Repository processed successfully\n");
 
+        // Register the repository's bulkhead, if any
+        Optional.ofNullable(repositoryClass.getDeclaredAnnotation(Bulkhead.class))
+                .ifPresent(bulkhead -> Bulkheads.registerRepository(repositoryClass, BulkheadSettings.from(bulkhead)));
+
+        // Register the repository's retrier, if any
+        Optional.ofNullable(repositoryClass.getDeclaredAnnotation(Retry.class))
+                .ifPresent(retry ->
+                        Retries.registerRepository(repositoryClass, databaseEngine, RetryPolicy.from(retry)));
+
         return RepositoryMetadata.builder()
+                .repositoryClass(repositoryClass)
                 .databaseName(databaseName)
                 .databaseEngine(databaseEngine)
                 .tableName(tableName)
                 .entityClass(entityClass)
-                .supportedOperations(supportedOperations)
+                .supportedOperations(Collections.unmodifiableSet(supportedOperations))
+                .timeout(timeout)
+                .methodTimeouts(Map.copyOf(methodTimeouts))
+                .derivedQueries(Map.copyOf(derivedQueries))
+                .nativeQueries(Map.copyOf(nativeQueries))
+                .aggregates(Map.copyOf(aggregates))
                 .build();
     }
 
+    /**
+     * Resolves the SQL operation a repository method is annotated with.
+     * <p>
+     * Methods annotated with {@link Query} are native queries, or native updates if their statement
+     * is not a query. Methods without an annotation taking a {@link Criteria} as their only parameter are criteria
+     * query methods, and those whose name starts with {@code findBy} are derived query methods.
+     * </p>
+     *
+     * @param method The repository method.
+     * @return An {@link Optional} containing the {@link SqlOperation}, otherwise empty if the method is not annotated
+     * and is not a derived query method.
+     */
+    public static Optional<SqlOperation> resolveSqlOperation(final Method method) {
+        if (method.isAnnotationPresent(SelectAll.class)) return Optional.of(SqlOperation.SELECT_ALL);
+        if (method.isAnnotationPresent(FindById.class)) return Optional.of(SqlOperation.FIND_BY_ID);
+        if (method.isAnnotationPresent(FindAllById.class)) return Optional.of(SqlOperation.FIND_ALL_BY_ID);
+        if (method.isAnnotationPresent(Count.class)) return Optional.of(SqlOperation.COUNT);
+        if (method.isAnnotationPresent(ExistsById.class)) return Optional.of(SqlOperation.EXISTS_BY_ID);
+        if (method.isAnnotationPresent(Aggregate.class)) return Optional.of(SqlOperation.AGGREGATE);
+        if (method.isAnnotationPresent(DeleteById.class)) return Optional.of(SqlOperation.DELETE_BY_ID);
+        if (method.isAnnotationPresent(Persist.class)) return Optional.of(SqlOperation.PERSIST);
+        final Query query = method.getDeclaredAnnotation(Query.class);
+        if (query != null) {
+            return Optional.of(NativeQueryParser.isQuery(query.value())
+                    ? SqlOperation.NATIVE_QUERY
+                    : SqlOperation.NATIVE_UPDATE);
+        }
+        if (method.getParameterCount() == 1 && method.getParameterTypes()[0] == Criteria.class) {
+            return Optional.of(SqlOperation.CRITERIA_QUERY);
+        }
+        if (DerivedQueryParser.isDerivedQuery(method)) return Optional.of(SqlOperation.DERIVED_QUERY);
+        return Optional.empty();
+    }
+
+    /**
+     * Resolves the timeout declared through the {@link Timeout} annotation on a repository class or method.
+     *
+     * @param annotatedElement The repository class or method.
+     * @return An {@link Optional} containing the timeout, otherwise empty if none is declared.
+     */
+    private static Optional<Duration> resolveTimeout(final AnnotatedElement annotatedElement) {
+        return Optional.ofNullable(annotatedElement.getDeclaredAnnotation(Timeout.class))
+                .map(timeout -> Duration.ofMillis(timeout.millis()));
+    }
+
 }
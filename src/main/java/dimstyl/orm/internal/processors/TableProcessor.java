@@ -1,26 +1,43 @@
 package dimstyl.orm.internal.processors;
 
 import dimstyl.orm.annotations.Column;
+import dimstyl.orm.annotations.Embeddable;
+import dimstyl.orm.annotations.Embedded;
+import dimstyl.orm.annotations.Index;
+import dimstyl.orm.annotations.ManyToOne;
+import dimstyl.orm.annotations.OneToMany;
 import dimstyl.orm.annotations.Table;
 import dimstyl.orm.enums.DatabaseEngine;
 import dimstyl.orm.exceptions.*;
 import dimstyl.orm.internal.utils.ConsoleUtils;
 import dimstyl.orm.internal.utils.StringUtils;
+import dimstyl.orm.metadata.AssociationMetadata;
+import dimstyl.orm.metadata.ColumnMetadata;
+import dimstyl.orm.metadata.EmbeddedMetadata;
+import dimstyl.orm.metadata.EntityMetadata;
+import dimstyl.orm.metadata.ForeignKeyMetadata;
+import dimstyl.orm.metadata.IndexMetadata;
 import dimstyl.orm.metadata.TableMetadata;
 import dimstyl.orm.model.Entity;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
  * Utility class responsible for processing table metadata for ORM.
  * <p>
  * This class extracts and processes table metadata from entity classes annotated with {@link Table},
- * including table names, column mappings, and primary key resolution.
+ * including table names, column mappings, associations, and primary key resolution.
+ * The columns of {@link Embedded} fields are flattened into the entity's table, after its own columns.
+ * The metadata is computed once per entity class and cached in the {@link MetadataRegistry},
+ * so resolving it again involves no reflection.
  * </p>
  */
 public final class TableProcessor {
@@ -35,7 +52,8 @@ public final class TableProcessor {
      * Extracts table metadata from an entity class.
      * <p>
      * This method retrieves table-related metadata such as table name, unique constraints,
-     * and column metadata, using reflection to process annotated fields.
+     * foreign keys, and column metadata. It is computed once per database engine, using reflection to process
+     * annotated fields, and cached in the {@link MetadataRegistry}.
      * </p>
      *
      * @param entityClass    The entity class annotated with {@link Table}.
@@ -43,22 +61,44 @@ public final class TableProcessor {
      * @return {@link TableMetadata} containing table details.
      * @throws MissingTableAnnotationException If the entity class lacks the {@link Table} annotation.
      * @throws UnsupportedFieldTypeException   If a field has an unsupported type.
+     * @throws InvalidAssociationException     If an association of the entity is not mapped correctly.
      */
     static TableMetadata extractMetadata(final Class<? extends Entity> entityClass, final DatabaseEngine databaseEngine)
-            throws MissingTableAnnotationException, UnsupportedFieldTypeException {
-        final String entityClassName = entityClass.getSimpleName();
+            throws MissingTableAnnotationException, UnsupportedFieldTypeException, InvalidAssociationException {
+        return MetadataRegistry.table(entityClass, databaseEngine);
+    }
 
+    /**
+     * Computes the table metadata of an entity class, on its first extraction for a database engine.
+     *
+     * @param entityClass    The entity class annotated with {@link Table}.
+     * @param databaseEngine The {@link DatabaseEngine} used for column type resolution.
+     * @return {@link TableMetadata} containing table details, with an immutable list of columns.
+     * @throws MissingTableAnnotationException If the entity class lacks the {@link Table} annotation.
+     * @throws UnsupportedFieldTypeException   If a field has an unsupported type.
+     * @throws InvalidAssociationException     If an association of the entity is not mapped correctly.
+     */
+    static TableMetadata processTable(final Class<? extends Entity> entityClass, final DatabaseEngine databaseEngine)
+            throws MissingTableAnnotationException, UnsupportedFieldTypeException, InvalidAssociationException {
         final Table table = extractTableAnnotation(entityClass);
-        final String tableName = determineTableName(table, entityClassName);
-        final var tableMetadata = new TableMetadata(tableName, table.uniqueConstraints(), new ArrayList<>());
+        final String tableName = resolveTableName(entityClass);
+        final List<ForeignKeyMetadata> foreignKeys = resolveAssociations(entityClass).stream()
+                .filter(AssociationMetadata::manyToOne)
+                .map(association -> ForeignKeyMetadata.builder()
+                        .columnName(ColumnProcessor.resolveColumnName(association.foreignKey()))
+                        .referencedTableName(resolveTableName(association.targetClass()))
+                        .referencedColumnName(resolvePrimaryKeyColumnName(association.targetClass()))
+                        .onDelete(association.field().getDeclaredAnnotation(ManyToOne.class).onDelete())
+                        .build())
+                .toList();
+        final List<ColumnMetadata> columnMetadataList = new ArrayList<>();
 
         // Process columns
-        final Field[] fields = entityClass.getDeclaredFields();
-        Stream.of(fields).forEach(field -> {
+        MetadataRegistry.entity(entityClass).columnFields().forEach(field -> {
             try {
                 final var optionalColumnMetadata = ColumnProcessor.extractMetadata(field, databaseEngine);
                 optionalColumnMetadata.ifPresent(columnMetadata -> {
-                    tableMetadata.addColumnMetadata(columnMetadata);
+                    columnMetadataList.add(columnMetadata);
                     ConsoleUtils.printFormatted("\t✅ Column '%s'\n", field.getName());
                 });
             } catch (UnsupportedFieldTypeException e) {
@@ -67,7 +107,36 @@ public final class TableProcessor {
             }
         });
 
-        return tableMetadata;
+        // Process the flattened columns of embedded fields
+        for (final EmbeddedMetadata embedded : MetadataRegistry.entity(entityClass).embeddedFields()) {
+            for (int i = 0; i < embedded.columnFields().size(); i++) {
+                final Field field = embedded.columnFields().get(i);
+                final String columnName = embedded.columnNames().get(i);
+                try {
+                    columnMetadataList.add(ColumnProcessor.extractEmbeddedMetadata(field, columnName, databaseEngine));
+                    ConsoleUtils.printFormatted("\t✅ Column '%s.%s'\n", embedded.field().getName(), field.getName());
+                } catch (UnsupportedFieldTypeException e) {
+                    ConsoleUtils.printFormatted("\t❌ Column '%s.%s' ➡️ ERROR: %s\n",
+                            embedded.field().getName(), field.getName(), e.getMessage());
+                    throw e;
+                }
+            }
+        }
+
+        // Process indexes
+        final List<IndexMetadata> indexes = Stream.of(entityClass.getDeclaredAnnotationsByType(Index.class))
+                .map(index -> IndexMetadata.builder()
+                        .indexName(index.name().isBlank()
+                                ? String.format("idx_%s_%s", tableName, String.join("_", index.columnNames()))
+                                : index.name())
+                        .columnNames(List.of(index.columnNames()))
+                        .descendingColumnNames(Set.copyOf(List.of(index.descending())))
+                        .where(index.where().strip())
+                        .build())
+                .toList();
+
+        return new TableMetadata(tableName, table.uniqueConstraints(), foreignKeys, List.copyOf(columnMetadataList),
+                indexes);
     }
 
     /**
@@ -84,10 +153,29 @@ public final class TableProcessor {
      */
     public static String resolvePrimaryKeyColumnName(final Class<? extends Entity> entityClass)
             throws CompositePrimaryKeyException, MissingColumnAnnotationException, MissingPrimaryKeyException {
+        final Field primaryKeyField = resolvePrimaryKeyField(entityClass);
+        final String columnName = MetadataRegistry.entity(entityClass).fieldToColumnMap().get(primaryKeyField.getName());
+        return columnName != null ? columnName : ColumnProcessor.resolveColumnName(primaryKeyField);
+    }
+
+    /**
+     * Resolves the primary key field of a given entity class.
+     * <p>
+     * Ensures that a valid primary key is present and handles composite primary key cases.
+     * </p>
+     *
+     * @param entityClass The entity class containing the primary key.
+     * @return The field annotated as the primary key.
+     * @throws CompositePrimaryKeyException If multiple primary key annotations are detected.
+     * @throws MissingPrimaryKeyException   If no primary key is found.
+     */
+    public static Field resolvePrimaryKeyField(final Class<? extends Entity> entityClass)
+            throws CompositePrimaryKeyException, MissingPrimaryKeyException {
         final String entityClassName = entityClass.getSimpleName();
+        final List<Field> primaryKeyFields = MetadataRegistry.entity(entityClass).primaryKeyFields();
 
         // Check for composite primary keys
-        if (hasCompositePrimaryKey(entityClass)) {
+        if (primaryKeyFields.size() > 1) {
             final String message = String.format(
                     "Entity class '%s' has a composite primary key," +
                     "so a single primary key column name cannot be determined.",
@@ -96,43 +184,95 @@ public final class TableProcessor {
             throw new CompositePrimaryKeyException(message);
         }
 
-        // Find the primary key column name, else throw an exception if no primary key is found
-        return Arrays.stream(entityClass.getDeclaredFields())
-                .filter(ColumnProcessor::isPrimaryKey)
-                .map(ColumnProcessor::resolveColumnName)
-                .findFirst()
-                .orElseThrow(() -> {
-                    final String message = String.format("No primary key found in entity class '%s'.", entityClassName);
-                    return new MissingPrimaryKeyException(message);
-                });
+        // Throw an exception if no primary key is found
+        if (primaryKeyFields.isEmpty()) {
+            final String message = String.format("No primary key found in entity class '%s'.", entityClassName);
+            throw new MissingPrimaryKeyException(message);
+        }
+        return primaryKeyFields.getFirst();
     }
 
     /**
      * Maps entity class fields to their corresponding table column names.
      * <p>
-     * Uses reflection to scan fields annotated with {@link Column} and map their names
-     * to column names as defined in the annotation.
+     * Only fields annotated with {@link Column} are mapped, to the column names defined in the annotation.
      * </p>
      *
      * @param entityClass The entity class to be processed.
-     * @return A map where keys are field names and values are corresponding column names.
+     * @return An immutable map where keys are field names and values are corresponding column names.
      * @throws MissingColumnAnnotationException If a field lacks a {@link Column} annotation.
      */
     public static Map<String, String> mapFieldsToColumns(final Class<? extends Entity> entityClass)
             throws MissingColumnAnnotationException {
-        // Map<String, String>: key -> entity class field name, value -> table column name
-        final Map<String, String> fieldToColumnMap = new HashMap<>();
-        final Field[] fields = entityClass.getDeclaredFields();
-
-        Stream.of(fields)
-                .filter(field -> field.isAnnotationPresent(Column.class))
-                .forEach(field -> {
-                    final String fieldName = field.getName();
-                    final String columnName = ColumnProcessor.resolveColumnName(field);
-                    fieldToColumnMap.put(fieldName, columnName);
-                });
+        return MetadataRegistry.entity(entityClass).fieldToColumnMap();
+    }
 
-        return fieldToColumnMap;
+    /**
+     * Resolves the column names of an entity class, in the declaration order of their fields.
+     *
+     * @param entityClass The entity class to be processed.
+     * @return The names of the columns of the fields annotated with {@link Column}, followed by the columns
+     * of the fields annotated with {@link Embedded}.
+     */
+    public static List<String> resolveColumnNames(final Class<? extends Entity> entityClass) {
+        return MetadataRegistry.entity(entityClass).columnNames();
+    }
+
+    /**
+     * Resolves the fields annotated with {@link Column} of an entity class, in declaration order.
+     *
+     * @param entityClass The entity class to be processed.
+     * @return The fields annotated with {@link Column}.
+     */
+    public static List<Field> resolveColumnFields(final Class<? extends Entity> entityClass) {
+        return MetadataRegistry.entity(entityClass).columnFields();
+    }
+
+    /**
+     * Resolves the fields annotated with {@link Embedded} of an entity class, in declaration order.
+     *
+     * @param entityClass The entity class to be processed.
+     * @return The {@link EmbeddedMetadata} of each embedded field.
+     */
+    public static List<EmbeddedMetadata> resolveEmbeddedFields(final Class<? extends Entity> entityClass) {
+        return MetadataRegistry.entity(entityClass).embeddedFields();
+    }
+
+    /**
+     * Resolves the associations of an entity class, declared through {@link ManyToOne} and {@link OneToMany} fields.
+     * <p>
+     * A {@link ManyToOne} field must be of an entity type, and its column must be mapped by a {@link Column} field
+     * of the entity, which holds the foreign key. A {@link OneToMany} field must be a {@link List} of an entity
+     * type, whose {@code mappedBy} field is a {@link ManyToOne} field referencing this entity class.
+     * </p>
+     *
+     * @param entityClass The entity class to be processed.
+     * @return The {@link AssociationMetadata} of each association field, in declaration order.
+     * @throws InvalidAssociationException If an association is not mapped correctly.
+     */
+    public static List<AssociationMetadata> resolveAssociations(final Class<? extends Entity> entityClass)
+            throws InvalidAssociationException {
+        return MetadataRegistry.associations(entityClass);
+    }
+
+    /**
+     * Computes the associations of an entity class, on their first resolution.
+     *
+     * @param entityClass The entity class to be processed.
+     * @return The {@link AssociationMetadata} of each association field, in declaration order.
+     * @throws InvalidAssociationException If an association is not mapped correctly.
+     */
+    static List<AssociationMetadata> processAssociations(final Class<? extends Entity> entityClass)
+            throws InvalidAssociationException {
+        final List<AssociationMetadata> associations = new ArrayList<>();
+        for (final Field field : entityClass.getDeclaredFields()) {
+            if (field.isAnnotationPresent(ManyToOne.class)) {
+                associations.add(resolveManyToOne(entityClass, field));
+            } else if (field.isAnnotationPresent(OneToMany.class)) {
+                associations.add(resolveOneToMany(entityClass, field));
+            }
+        }
+        return List.copyOf(associations);
     }
 
     /**
@@ -144,11 +284,119 @@ public final class TableProcessor {
      *
      * @param entityClass The entity class.
      * @return The resolved table name.
+     * @throws MissingTableAnnotationException If the entity class lacks a {@link Table} annotation.
      */
-    static String resolveTableName(final Class<? extends Entity> entityClass) {
-        final Table table = extractTableAnnotation(entityClass);
-        final String entityClassName = entityClass.getSimpleName();
-        return determineTableName(table, entityClassName);
+    public static String resolveTableName(final Class<? extends Entity> entityClass)
+            throws MissingTableAnnotationException {
+        final String tableName = MetadataRegistry.entity(entityClass).tableName();
+        if (tableName == null) throw missingTableAnnotation(entityClass);
+        return tableName;
+    }
+
+    /**
+     * Computes the mapping of an entity class to its table, scanning its annotations and fields once.
+     *
+     * @param entityClass The entity class to be processed.
+     * @return The {@link EntityMetadata} of the entity class.
+     * @throws UnsupportedFieldTypeException If an embedded field is not mapped correctly.
+     */
+    static EntityMetadata processEntity(final Class<? extends Entity> entityClass)
+            throws UnsupportedFieldTypeException {
+        final Table table = entityClass.getDeclaredAnnotation(Table.class);
+        final List<Field> columnFields = new ArrayList<>();
+        final List<Field> primaryKeyFields = new ArrayList<>();
+        final List<String> columnNames = new ArrayList<>();
+        // Map<String, String>: key -> entity class field name, value -> table column name
+        final Map<String, String> fieldToColumnMap = new HashMap<>();
+        final List<EmbeddedMetadata> embeddedFields = new ArrayList<>();
+        for (final Field field : entityClass.getDeclaredFields()) {
+            if (ColumnProcessor.isPrimaryKey(field)) primaryKeyFields.add(field);
+            if (field.isAnnotationPresent(Embedded.class)) embeddedFields.add(resolveEmbedded(field));
+            if (!field.isAnnotationPresent(Column.class)) continue;
+            final String columnName = ColumnProcessor.resolveColumnName(field);
+            columnFields.add(field);
+            columnNames.add(columnName);
+            fieldToColumnMap.put(field.getName(), columnName);
+        }
+
+        // The columns of embedded fields follow the entity's own columns
+        for (final EmbeddedMetadata embedded : embeddedFields) {
+            columnNames.addAll(embedded.columnNames());
+            for (int i = 0; i < embedded.columnFields().size(); i++) {
+                fieldToColumnMap.put(embedded.field().getName() + "." + embedded.columnFields().get(i).getName(),
+                        embedded.columnNames().get(i));
+            }
+        }
+
+        return EntityMetadata.builder()
+                .entityClass(entityClass)
+                .tableName(table == null ? null : determineTableName(table, entityClass.getSimpleName()))
+                .columnFields(List.copyOf(columnFields))
+                .columnNames(List.copyOf(columnNames))
+                .fieldToColumnMap(Map.copyOf(fieldToColumnMap))
+                .primaryKeyFields(List.copyOf(primaryKeyFields))
+                .embeddedFields(List.copyOf(embeddedFields))
+                .build();
+    }
+
+    /**
+     * Resolves an {@link Embedded} field, flattening the {@link Column} fields of its embeddable into
+     * prefixed columns.
+     *
+     * @param field The embedded field.
+     * @return The {@link EmbeddedMetadata} of the field.
+     * @throws UnsupportedFieldTypeException If the field is also a column, its type is not {@link Embeddable},
+     *                                       or the embeddable is not mapped correctly.
+     */
+    private static EmbeddedMetadata resolveEmbedded(final Field field) throws UnsupportedFieldTypeException {
+        final Class<?> embeddableClass = field.getType();
+        if (field.isAnnotationPresent(Column.class)) {
+            throw unsupportedEmbedded(field, "cannot also be a @Column field");
+        }
+        if (!embeddableClass.isAnnotationPresent(Embeddable.class)) {
+            throw unsupportedEmbedded(field, String.format(
+                    "refers to '%s', which is not @Embeddable", embeddableClass.getSimpleName()));
+        }
+
+        final String prefix = field.getDeclaredAnnotation(Embedded.class).prefix();
+        final String columnPrefix = prefix.isBlank() ? StringUtils.getDefaultName(field.getName()) + "_" : prefix;
+        final List<Field> columnFields = new ArrayList<>();
+        final List<String> columnNames = new ArrayList<>();
+        for (final Field embeddableField : embeddableClass.getDeclaredFields()) {
+            if (Modifier.isStatic(embeddableField.getModifiers())) continue;
+            if (embeddableField.isAnnotationPresent(Embedded.class)) {
+                throw unsupportedEmbedded(field, "refers to an embeddable which embeds another embeddable");
+            }
+            if (!embeddableField.isAnnotationPresent(Column.class)) {
+                if (embeddableClass.isRecord()) {
+                    throw unsupportedEmbedded(field, String.format(
+                            "refers to record '%s', whose component '%s' is not a @Column field",
+                            embeddableClass.getSimpleName(), embeddableField.getName()));
+                }
+                continue;
+            }
+            columnFields.add(embeddableField);
+            columnNames.add(columnPrefix + ColumnProcessor.resolveColumnName(embeddableField));
+        }
+
+        return EmbeddedMetadata.builder()
+                .field(field)
+                .columnFields(List.copyOf(columnFields))
+                .columnNames(List.copyOf(columnNames))
+                .build();
+    }
+
+    /**
+     * Creates the exception thrown for an embedded field that is not mapped correctly.
+     *
+     * @param field  The embedded field.
+     * @param reason The reason the field is not mapped correctly.
+     * @return The {@link UnsupportedFieldTypeException} to throw.
+     */
+    private static UnsupportedFieldTypeException unsupportedEmbedded(final Field field, final String reason) {
+        final String message = String.format("Embedded field '%s' in entity class '%s' %s",
+                field.getName(), field.getDeclaringClass().getSimpleName(), reason);
+        return new UnsupportedFieldTypeException(message);
     }
 
     /**
@@ -172,25 +420,122 @@ public final class TableProcessor {
     private static Table extractTableAnnotation(final Class<? extends Entity> entityClass)
             throws MissingTableAnnotationException {
         // If the @Table annotation does not exist, throw MissingTableAnnotationException
-        if (!entityClass.isAnnotationPresent(Table.class)) {
-            final String message = String.format("Missing @Table annotation in entity class '%s'", entityClass);
-            throw new MissingTableAnnotationException(message);
+        final Table table = entityClass.getDeclaredAnnotation(Table.class);
+        if (table == null) throw missingTableAnnotation(entityClass);
+        return table;
+    }
+
+    /**
+     * Creates the exception thrown for an entity class lacking a {@link Table} annotation.
+     *
+     * @param entityClass The entity class.
+     * @return The {@link MissingTableAnnotationException} to throw.
+     */
+    private static MissingTableAnnotationException missingTableAnnotation(final Class<? extends Entity> entityClass) {
+        final String message = String.format("Missing @Table annotation in entity class '%s'", entityClass);
+        return new MissingTableAnnotationException(message);
+    }
+
+    /**
+     * Resolves a {@link ManyToOne} association field.
+     *
+     * @param entityClass The entity class declaring the field.
+     * @param field       The association field.
+     * @return The {@link AssociationMetadata} of the field.
+     * @throws InvalidAssociationException If the field is not of an entity type,
+     *                                     or its column is not mapped by a {@link Column} field of the entity.
+     */
+    private static AssociationMetadata resolveManyToOne(final Class<? extends Entity> entityClass, final Field field)
+            throws InvalidAssociationException {
+        final Class<? extends Entity> targetClass = asEntityClass(field, field.getType());
+        final String columnName = field.getDeclaredAnnotation(ManyToOne.class).column();
+        final Map<String, String> fieldToColumnMap = mapFieldsToColumns(entityClass);
+        final Field foreignKey = resolveColumnFields(entityClass).stream()
+                .filter(candidate -> fieldToColumnMap.get(candidate.getName()).equals(columnName))
+                .findFirst()
+                .orElseThrow(() -> invalidAssociation(field, String.format(
+                        "refers to column '%s', which is not mapped by a @Column field of the entity", columnName)));
+
+        return AssociationMetadata.builder()
+                .field(field)
+                .targetClass(targetClass)
+                .manyToOne(true)
+                .foreignKey(foreignKey)
+                .cascadePersist(field.getDeclaredAnnotation(ManyToOne.class).cascadePersist())
+                .build();
+    }
+
+    /**
+     * Resolves a {@link OneToMany} association field.
+     *
+     * @param entityClass The entity class declaring the field.
+     * @param field       The association field.
+     * @return The {@link AssociationMetadata} of the field.
+     * @throws InvalidAssociationException If the field is not a {@link List} of an entity type,
+     *                                     or its {@code mappedBy} field does not reference the entity class.
+     */
+    private static AssociationMetadata resolveOneToMany(final Class<? extends Entity> entityClass, final Field field)
+            throws InvalidAssociationException {
+        if (field.getType() != List.class || !(field.getGenericType() instanceof ParameterizedType listType)
+            || !(listType.getActualTypeArguments()[0] instanceof Class<?> elementType)) {
+            throw invalidAssociation(field, "must be a List of entities");
+        }
+        final Class<? extends Entity> targetClass = asEntityClass(field, elementType);
+        final String mappedBy = field.getDeclaredAnnotation(OneToMany.class).mappedBy();
+        final AssociationMetadata owner = Stream.of(targetClass.getDeclaredFields())
+                .filter(candidate -> candidate.getName().equals(mappedBy))
+                .filter(candidate -> candidate.isAnnotationPresent(ManyToOne.class))
+                .filter(candidate -> candidate.getType() == entityClass)
+                .findFirst()
+                .map(candidate -> resolveManyToOne(targetClass, candidate))
+                .orElseThrow(() -> invalidAssociation(field, String.format(
+                        "is mapped by '%s', which is not a @ManyToOne field of entity '%s' referencing '%s'",
+                        mappedBy,
+                        targetClass.getSimpleName(),
+                        entityClass.getSimpleName()
+                )));
+
+        return AssociationMetadata.builder()
+                .field(field)
+                .targetClass(targetClass)
+                .manyToOne(false)
+                .foreignKey(owner.foreignKey())
+                .backReference(owner.field())
+                .cascadePersist(field.getDeclaredAnnotation(OneToMany.class).cascadePersist())
+                .build();
+    }
+
+    /**
+     * Checks that the type on the other side of an association is an entity class.
+     *
+     * @param field The association field.
+     * @param type  The type on the other side of the association.
+     * @return The type as an entity class.
+     * @throws InvalidAssociationException If the type is not an entity class annotated with {@link Table}.
+     */
+    private static Class<? extends Entity> asEntityClass(final Field field, final Class<?> type)
+            throws InvalidAssociationException {
+        if (!Entity.class.isAssignableFrom(type) || !type.isAnnotationPresent(Table.class)) {
+            throw invalidAssociation(field, String.format("refers to '%s', which is not an entity", type.getSimpleName()));
         }
-        return entityClass.getDeclaredAnnotation(Table.class);
+        return type.asSubclass(Entity.class);
     }
 
     /**
-     * Determines if an entity class has a composite primary key (multiple {@link Column} fields marked as primary keys).
+     * Creates the exception thrown for an invalid association field.
      *
-     * @param entityClass The entity class to check.
-     * @return {@code true} if the class has multiple primary key fields, {@code false} otherwise.
+     * @param field  The association field.
+     * @param reason Why the association is invalid.
+     * @return The {@link InvalidAssociationException} to throw.
      */
-    private static boolean hasCompositePrimaryKey(final Class<? extends Entity> entityClass) {
-        final Field[] fields = entityClass.getDeclaredFields();
-        final var count = Arrays.stream(fields)
-                .filter(ColumnProcessor::isPrimaryKey)
-                .count();
-        return count > 1;
+    private static InvalidAssociationException invalidAssociation(final Field field, final String reason) {
+        final String message = String.format(
+                "Association '%s' of entity class '%s' %s",
+                field.getName(),
+                field.getDeclaringClass().getSimpleName(),
+                reason
+        );
+        return new InvalidAssociationException(message);
     }
 
 }
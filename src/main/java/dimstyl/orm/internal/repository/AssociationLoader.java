@@ -0,0 +1,198 @@
+package dimstyl.orm.internal.repository;
+
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.exceptions.SqlExecutionException;
+import dimstyl.orm.internal.processors.TableProcessor;
+import dimstyl.orm.metadata.AssociationMetadata;
+import dimstyl.orm.model.Entity;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Loads the {@code @ManyToOne} and {@code @OneToMany} associations of the entities returned by a repository method.
+ * <p>
+ * Associations are loaded per result rather than per entity, so a page of entities costs one extra fetch
+ * per association, whatever its size, instead of one query per entity. Each fetch matches the distinct keys
+ * of the page through a {@link MultiGetLoader}, which picks an {@code IN} list or a temporary table join
+ * from the number of keys, and runs on the connection of the method's statement.
+ * </p>
+ * <p>
+ * Associations are loaded one level deep: the entities of an association do not get their own associations
+ * loaded, except for the back reference of a one-to-many association, which is set to its owning entity.
+ * </p>
+ */
+final class AssociationLoader {
+
+    /**
+     * The associations of the entity class.
+     */
+    private final List<LoadedAssociation> associations;
+
+    /**
+     * Private constructor, use {@link #of(Class, DatabaseEngine)}.
+     *
+     * @param associations The associations of the entity class.
+     */
+    private AssociationLoader(final List<LoadedAssociation> associations) {
+        this.associations = associations;
+    }
+
+    /**
+     * Creates the association loader of an entity class, resolving the handles and statements of its associations.
+     *
+     * @param entityClass    The entity class.
+     * @param databaseEngine The {@link DatabaseEngine} of the entity's database.
+     * @return The {@link AssociationLoader} of the entity class, or an empty {@link Optional}
+     * if the entity class declares no associations.
+     * @throws SqlExecutionException If an association field cannot be accessed.
+     */
+    static Optional<AssociationLoader> of(final Class<? extends Entity> entityClass,
+                                          final DatabaseEngine databaseEngine) throws SqlExecutionException {
+        final List<AssociationMetadata> associationMetadataList = TableProcessor.resolveAssociations(entityClass);
+        if (associationMetadataList.isEmpty()) return Optional.empty();
+
+        final List<LoadedAssociation> associations = new ArrayList<>();
+        for (final AssociationMetadata associationMetadata : associationMetadataList) {
+            final Class<? extends Entity> targetClass = associationMetadata.targetClass();
+            if (associationMetadata.manyToOne()) {
+                associations.add(new LoadedAssociation(
+                        true,
+                        FieldHandles.getter(associationMetadata.foreignKey()),
+                        FieldHandles.setter(associationMetadata.field()),
+                        null,
+                        MultiGetLoader.byPrimaryKey(targetClass, databaseEngine)
+                ));
+            } else {
+                associations.add(new LoadedAssociation(
+                        false,
+                        FieldHandles.getter(TableProcessor.resolvePrimaryKeyField(entityClass)),
+                        FieldHandles.setter(associationMetadata.field()),
+                        FieldHandles.setter(associationMetadata.backReference()),
+                        new MultiGetLoader(targetClass, databaseEngine, associationMetadata.foreignKey())
+                ));
+            }
+        }
+        return Optional.of(new AssociationLoader(List.copyOf(associations)));
+    }
+
+    /**
+     * Loads the associations of the entities of a method's result.
+     *
+     * @param connection The connection the result was fetched on.
+     * @param result     The result of the method: a {@link List} or an {@link Optional} of entities.
+     * @return The result, whose entities have their associations set.
+     */
+    Object load(final Connection connection, final Object result) {
+        switch (result) {
+            case List<?> entities -> loadAll(connection, entities);
+            case Optional<?> entity when entity.isPresent() -> loadAll(connection, List.of(entity.get()));
+            case null, default -> {
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads the associations of a list of entities, one fetch per association.
+     *
+     * @param connection The connection to fetch the associations on.
+     * @param entities   The entities.
+     * @throws SqlExecutionException If an association field cannot be read or written.
+     */
+    private void loadAll(final Connection connection, final List<?> entities) throws SqlExecutionException {
+        if (entities.isEmpty()) return;
+        try {
+            for (final LoadedAssociation association : associations) {
+                if (association.manyToOne()) loadManyToOne(connection, association, entities);
+                else loadOneToMany(connection, association, entities);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new SqlExecutionException(t.getMessage(), t);
+        }
+    }
+
+    /**
+     * Sets the target of a many-to-one association on each entity, or {@code null} if its foreign key matches
+     * no record.
+     *
+     * @param connection  The connection to fetch the targets on.
+     * @param association The many-to-one association.
+     * @param entities    The entities.
+     * @throws Throwable If an association field cannot be read or written.
+     */
+    private static void loadManyToOne(final Connection connection,
+                                      final LoadedAssociation association,
+                                      final List<?> entities) throws Throwable {
+        final List<Object> foreignKeys = new ArrayList<>(entities.size());
+        for (final Object entity : entities) foreignKeys.add(association.key().invokeExact(entity));
+
+        final Map<Object, Entity> targets = new HashMap<>();
+        for (final Map.Entry<Object, Entity> row : association.loader().fetch(connection, foreignKeys)) {
+            targets.put(row.getKey(), row.getValue());
+        }
+        for (int i = 0; i < entities.size(); i++) {
+            final Object foreignKey = foreignKeys.get(i);
+            final Object target = foreignKey == null ? null : targets.get(MultiGetLoader.normalize(foreignKey));
+            final Object entity = entities.get(i);
+            association.setter().invokeExact(entity, target);
+        }
+    }
+
+    /**
+     * Sets the targets of a one-to-many association on each entity, as an unmodifiable list that is empty
+     * if no record refers to the entity, and sets the back reference of each target to its entity.
+     *
+     * @param connection  The connection to fetch the targets on.
+     * @param association The one-to-many association.
+     * @param entities    The entities.
+     * @throws Throwable If an association field cannot be read or written.
+     */
+    private static void loadOneToMany(final Connection connection,
+                                      final LoadedAssociation association,
+                                      final List<?> entities) throws Throwable {
+        final List<Object> primaryKeys = new ArrayList<>(entities.size());
+        for (final Object entity : entities) primaryKeys.add(association.key().invokeExact(entity));
+
+        final Map<Object, List<Entity>> targets = new HashMap<>();
+        for (final Map.Entry<Object, Entity> row : association.loader().fetch(connection, primaryKeys)) {
+            targets.computeIfAbsent(row.getKey(), key -> new ArrayList<>()).add(row.getValue());
+        }
+        for (int i = 0; i < entities.size(); i++) {
+            final Object entity = entities.get(i);
+            final Object primaryKey = primaryKeys.get(i);
+            final List<Entity> children = primaryKey == null
+                    ? List.of()
+                    : targets.getOrDefault(MultiGetLoader.normalize(primaryKey), List.of());
+            for (final Entity child : children) association.backReference().invokeExact((Object) child, entity);
+            association.setter().invokeExact(entity, (Object) Collections.unmodifiableList(children));
+        }
+    }
+
+    /**
+     * Represents an association, resolved once when the repository is created.
+     *
+     * @param manyToOne     {@code true} for a many-to-one association, {@code false} for a one-to-many association.
+     * @param key           The getter of the entity's key matched against the targets: the foreign key
+     *                      of a many-to-one association, or the primary key of a one-to-many association.
+     * @param setter        The setter of the association field.
+     * @param backReference The setter of the targets' back reference, or {@code null} for a many-to-one association.
+     * @param loader        The {@link MultiGetLoader} fetching the targets by key.
+     */
+    private record LoadedAssociation(boolean manyToOne,
+                                     MethodHandle key,
+                                     MethodHandle setter,
+                                     MethodHandle backReference,
+                                     MultiGetLoader loader) {
+    }
+
+}
@@ -0,0 +1,260 @@
+package dimstyl.orm.internal.repository;
+
+import dimstyl.orm.criteria.Criteria;
+import dimstyl.orm.criteria.CriteriaShape;
+import dimstyl.orm.criteria.Order;
+import dimstyl.orm.enums.QueryOperator;
+import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.exceptions.InvalidCriteriaException;
+import dimstyl.orm.internal.processors.TableProcessor;
+import dimstyl.orm.internal.sql.generator.SqlDialect;
+import dimstyl.orm.internal.sql.generator.SqlQueryGenerator;
+import dimstyl.orm.internal.sql.generator.SqlQueryGeneratorFactory;
+import dimstyl.orm.internal.sql.resolver.ColumnCodec;
+import dimstyl.orm.internal.sql.resolver.ColumnTypeResolver;
+import dimstyl.orm.internal.sql.resolver.ColumnTypeResolverFactory;
+import dimstyl.orm.metadata.CriteriaQueryMetadata;
+import dimstyl.orm.metadata.EmbeddedMetadata;
+import dimstyl.orm.metadata.RepositoryMetadata;
+import dimstyl.orm.model.Entity;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the SQL templates of a repository's criteria queries by {@link CriteriaShape}.
+ * <p>
+ * The first criteria of each shape is validated against the entity's columns and rendered once; later criteria
+ * of the same shape only have their values checked against the column types and bound. The cache is bounded,
+ * so criteria of unusual shapes beyond its capacity are rendered on every execution instead of evicting
+ * the common ones.
+ * </p>
+ */
+final class CriteriaTemplates {
+
+    /**
+     * The maximum number of cached templates per repository.
+     */
+    private static final int MAX_TEMPLATES = 256;
+
+    /**
+     * The {@link RepositoryMetadata} of the repository.
+     */
+    private final RepositoryMetadata repositoryMetadata;
+
+    /**
+     * The mapping of the entity's field names to their column names.
+     */
+    private final Map<String, String> fieldToColumnMap;
+
+    /**
+     * The wrapper type of each of the entity's column fields, embedded ones by path, e.g. {@code address.city}.
+     */
+    private final Map<String, Class<?>> fieldTypes;
+
+    /**
+     * The codec encoding the values compared with each of the entity's column fields, embedded ones by path.
+     */
+    private final Map<String, ColumnCodec> fieldCodecs;
+
+    /**
+     * The cached templates, keyed by shape.
+     */
+    private final Map<CriteriaShape, Template> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the template cache of a repository.
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     */
+    CriteriaTemplates(final RepositoryMetadata repositoryMetadata) {
+        final Class<? extends Entity> entityClass = repositoryMetadata.entityClass();
+        this.repositoryMetadata = repositoryMetadata;
+        this.fieldToColumnMap = TableProcessor.mapFieldsToColumns(entityClass);
+
+        final ColumnTypeResolver resolver = ColumnTypeResolverFactory.getResolver(repositoryMetadata.databaseEngine());
+        final Map<String, Class<?>> types = new HashMap<>();
+        final Map<String, ColumnCodec> codecs = new HashMap<>();
+        for (final Field field : TableProcessor.resolveColumnFields(entityClass)) {
+            types.put(field.getName(), MethodType.methodType(field.getType()).wrap().returnType());
+            codecs.put(field.getName(), resolver.resolveCodec(field));
+        }
+        for (final EmbeddedMetadata embedded : TableProcessor.resolveEmbeddedFields(entityClass)) {
+            for (final Field field : embedded.columnFields()) {
+                final String path = embedded.field().getName() + "." + field.getName();
+                types.put(path, MethodType.methodType(field.getType()).wrap().returnType());
+                codecs.put(path, resolver.resolveCodec(field));
+            }
+        }
+        this.fieldTypes = Map.copyOf(types);
+        this.fieldCodecs = Map.copyOf(codecs);
+    }
+
+    /**
+     * Resolves the template of a criteria, rendering and caching it on first use of its shape.
+     *
+     * @param criteria The criteria.
+     * @return The {@link Template} of the criteria's shape.
+     * @throws InvalidCriteriaException If the criteria targets another entity or refers to an unknown property.
+     */
+    Template resolve(final Criteria<?> criteria) throws InvalidCriteriaException {
+        if (criteria == null || criteria.entityClass() != repositoryMetadata.entityClass()) {
+            throw new InvalidCriteriaException(String.format(
+                    "Repository '%s' can only execute criteria of entity '%s'",
+                    repositoryMetadata.repositoryClass().getSimpleName(),
+                    repositoryMetadata.entityClass().getSimpleName()
+            ));
+        }
+        final CriteriaShape shape = criteria.shape();
+        final Template cached = templates.get(shape);
+        if (cached != null) return cached;
+
+        final Template template = compile(shape);
+        if (templates.size() < MAX_TEMPLATES) templates.putIfAbsent(shape, template);
+        return template;
+    }
+
+    /**
+     * Binds the values of a criteria to the placeholders of its template.
+     *
+     * @param statement The prepared statement of the template.
+     * @param criteria  The criteria.
+     * @param template  The {@link Template} of the criteria's shape.
+     * @throws SQLException             If a value cannot be bound.
+     * @throws InvalidCriteriaException If a value does not match the type of its property.
+     */
+    void bind(final PreparedStatement statement, final Criteria<?> criteria, final Template template)
+            throws SQLException, InvalidCriteriaException {
+        final List<Object> parameters = criteria.parameters();
+        int index = 0;
+        for (; index < parameters.size(); index++) {
+            final Object value = parameters.get(index);
+            final Class<?> type = template.placeholderTypes().get(index);
+            final boolean valid = Number.class.isAssignableFrom(type)
+                    ? value instanceof Number
+                    : type.isInstance(value);
+            if (!valid) {
+                throw new InvalidCriteriaException(String.format(
+                        "Value '%s' of type '%s' does not match property type '%s'",
+                        value,
+                        value.getClass().getSimpleName(),
+                        type.getSimpleName()
+                ));
+            }
+            template.placeholderCodecs().get(index).bind(statement, index + 1, value);
+        }
+
+        final int limit = criteria.maxResults().orElse(-1);
+        final int offset = criteria.firstResult().orElse(-1);
+        if (template.offsetBeforeLimit() && offset >= 0) statement.setInt(++index, offset);
+        if (limit >= 0) statement.setInt(++index, limit);
+        if (!template.offsetBeforeLimit() && offset >= 0) statement.setInt(++index, offset);
+    }
+
+    /**
+     * Validates a criteria shape against the entity's columns and renders its template.
+     *
+     * @param shape The {@link CriteriaShape}.
+     * @return The {@link Template} of the shape.
+     * @throws InvalidCriteriaException If the shape refers to an unknown property, or applies {@code LIKE}
+     *                                  to a property that is not a string.
+     */
+    private Template compile(final CriteriaShape shape) throws InvalidCriteriaException {
+        final List<Class<?>> placeholderTypes = new ArrayList<>();
+        final List<ColumnCodec> placeholderCodecs = new ArrayList<>();
+        if (shape.where() != null) collectPlaceholders(shape.where(), placeholderTypes, placeholderCodecs);
+        for (final Order order : shape.orders()) resolveFieldType(order.property());
+
+        final CriteriaQueryMetadata criteriaQueryMetadata = CriteriaQueryMetadata.builder()
+                .tableName(repositoryMetadata.tableName())
+                .databaseEngine(repositoryMetadata.databaseEngine())
+                .fieldToColumnMap(fieldToColumnMap)
+                .shape(shape)
+                .build();
+        final SqlQueryGenerator<String, CriteriaQueryMetadata> generator =
+                SqlQueryGeneratorFactory.getGenerator(SqlOperation.CRITERIA_QUERY);
+        return new Template(
+                generator.generate(criteriaQueryMetadata),
+                List.copyOf(placeholderTypes),
+                List.copyOf(placeholderCodecs),
+                SqlDialect.offsetBeforeLimit(repositoryMetadata.databaseEngine())
+        );
+    }
+
+    /**
+     * Collects the expected type and the codec of each placeholder of a criteria node, validating its properties.
+     *
+     * @param node              The {@link CriteriaShape.Node}.
+     * @param placeholderTypes  The collected types, in placeholder order.
+     * @param placeholderCodecs The collected codecs, in placeholder order.
+     * @throws InvalidCriteriaException If the node refers to an unknown property, or applies {@code LIKE}
+     *                                  to a property that is not a string.
+     */
+    private void collectPlaceholders(final CriteriaShape.Node node,
+                                     final List<Class<?>> placeholderTypes,
+                                     final List<ColumnCodec> placeholderCodecs) throws InvalidCriteriaException {
+        switch (node) {
+            case CriteriaShape.Comparison comparison -> {
+                final Class<?> type = resolveFieldType(comparison.property());
+                if (comparison.operator() == QueryOperator.LIKE && type != String.class) {
+                    throw new InvalidCriteriaException(String.format(
+                            "Property '%s' is not a string, so it cannot be compared with LIKE", comparison.property()));
+                }
+                if (comparison.operator().argumentCount() > 0) {
+                    placeholderTypes.add(type);
+                    placeholderCodecs.add(fieldCodecs.get(comparison.property()));
+                }
+            }
+            case CriteriaShape.In in -> {
+                final Class<?> type = resolveFieldType(in.property());
+                for (int i = 0; i < in.size(); i++) {
+                    placeholderTypes.add(type);
+                    placeholderCodecs.add(fieldCodecs.get(in.property()));
+                }
+            }
+            case CriteriaShape.Junction junction -> junction.nodes()
+                    .forEach(child -> collectPlaceholders(child, placeholderTypes, placeholderCodecs));
+        }
+    }
+
+    /**
+     * Resolves the wrapper type of a property.
+     *
+     * @param property The name of the entity field.
+     * @return The wrapper type of the field.
+     * @throws InvalidCriteriaException If the property is not a column of the entity.
+     */
+    private Class<?> resolveFieldType(final String property) throws InvalidCriteriaException {
+        final Class<?> type = fieldTypes.get(property);
+        if (type == null) {
+            throw new InvalidCriteriaException(String.format(
+                    "Property '%s' is not a column of entity '%s'",
+                    property,
+                    repositoryMetadata.entityClass().getSimpleName()
+            ));
+        }
+        return type;
+    }
+
+    /**
+     * Represents the rendered template of a criteria shape.
+     *
+     * @param sql               The SQL query, with {@code ?} placeholders.
+     * @param placeholderTypes  The expected type of each value placeholder, in placeholder order.
+     * @param placeholderCodecs The codec binding each value placeholder, in placeholder order.
+     * @param offsetBeforeLimit Whether the offset placeholder precedes the limit placeholder.
+     */
+    record Template(String sql,
+                    List<Class<?>> placeholderTypes,
+                    List<ColumnCodec> placeholderCodecs,
+                    boolean offsetBeforeLimit) {
+    }
+
+}
@@ -0,0 +1,86 @@
+package dimstyl.orm.internal.repository;
+
+import dimstyl.orm.exceptions.SqlExecutionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * Utility class resolving the getter and setter handles of entity fields, typed generically so they can be
+ * invoked exactly whatever the entity class.
+ */
+final class FieldHandles {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private FieldHandles() {
+    }
+
+    /**
+     * Resolves the getter handle of a field.
+     *
+     * @param field The field.
+     * @return The getter handle, typed as {@code (Object) -> Object}.
+     * @throws SqlExecutionException If the field cannot be accessed.
+     */
+    static MethodHandle getter(final Field field) throws SqlExecutionException {
+        try {
+            return lookup(field).unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new SqlExecutionException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Resolves the getter handle of a field of an embedded value, reading it from the entity embedding the value.
+     *
+     * @param embeddedField The embedded field of the entity.
+     * @param field         The field of the embedded value.
+     * @return The getter handle, typed as {@code (Object) -> Object}, returning {@code null} if the embedded value is.
+     * @throws SqlExecutionException If either field cannot be accessed.
+     */
+    static MethodHandle embeddedGetter(final Field embeddedField, final Field field) throws SqlExecutionException {
+        try {
+            final MethodHandle isNull = MethodHandles.lookup().findStatic(Objects.class, "isNull",
+                    MethodType.methodType(boolean.class, Object.class));
+            final MethodHandle nullValue =
+                    MethodHandles.dropArguments(MethodHandles.constant(Object.class, null), 0, Object.class);
+            return MethodHandles.filterReturnValue(getter(embeddedField),
+                    MethodHandles.guardWithTest(isNull, nullValue, getter(field)));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new SqlExecutionException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Resolves the setter handle of a field.
+     *
+     * @param field The field.
+     * @return The setter handle, typed as {@code (Object, Object) -> void}.
+     * @throws SqlExecutionException If the field cannot be accessed.
+     */
+    static MethodHandle setter(final Field field) throws SqlExecutionException {
+        try {
+            return lookup(field).unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new SqlExecutionException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Resolves a lookup with private access to the class declaring a field.
+     *
+     * @param field The field.
+     * @return The {@link MethodHandles.Lookup} of the field's declaring class.
+     * @throws IllegalAccessException If the declaring class's module does not open it to the framework.
+     */
+    private static MethodHandles.Lookup lookup(final Field field) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+    }
+
+}
@@ -0,0 +1,316 @@
+package dimstyl.orm.internal.repository;
+
+import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.exceptions.InvalidAssociationException;
+import dimstyl.orm.exceptions.SqlExecutionException;
+import dimstyl.orm.internal.processors.TableProcessor;
+import dimstyl.orm.internal.sql.execution.SqlQueryExecutor;
+import dimstyl.orm.internal.sql.generator.SqlQueryGenerator;
+import dimstyl.orm.internal.sql.generator.SqlQueryGeneratorFactory;
+import dimstyl.orm.internal.sql.resolver.ColumnCodec;
+import dimstyl.orm.internal.sql.resolver.ColumnTypeResolver;
+import dimstyl.orm.internal.sql.resolver.ColumnTypeResolverFactory;
+import dimstyl.orm.metadata.AssociationMetadata;
+import dimstyl.orm.metadata.EmbeddedMetadata;
+import dimstyl.orm.metadata.InsertMetadata;
+import dimstyl.orm.metadata.RepositoryMetadata;
+import dimstyl.orm.model.Entity;
+import dimstyl.orm.runtime.Retries;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inserts graphs of new entities, following the associations that cascade persistence.
+ * <p>
+ * The entity classes reachable from the repository's entity class are resolved once, when the repository
+ * is created, and ordered by their foreign keys, referenced classes first. Each call then walks the given graph,
+ * groups its entities per class, and inserts each group with a single cached statement executed in JDBC batches,
+ * so a graph costs one batch per table rather than one round trip per entity. All batches run in one transaction,
+ * rolled back and replayed as a whole after transient errors.
+ * </p>
+ * <p>
+ * Classes referencing each other in a cycle are inserted in the order they were reached, so such foreign keys
+ * are only satisfied if the engine defers their checks or the column is left {@code null}.
+ * </p>
+ */
+final class GraphPersister {
+
+    /**
+     * The metadata of the repository, whose retrier replays failed transactions.
+     */
+    private final RepositoryMetadata repositoryMetadata;
+
+    /**
+     * The writers of the reachable entity classes, in insertion order.
+     */
+    private final Map<Class<?>, EntityWriter> writers;
+
+    /**
+     * Constructs the persister of a repository's entity class, resolving the writers of all reachable entity classes.
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @throws InvalidAssociationException If an association is not mapped correctly.
+     * @throws SqlExecutionException       If an entity field cannot be accessed.
+     */
+    GraphPersister(final RepositoryMetadata repositoryMetadata)
+            throws InvalidAssociationException, SqlExecutionException {
+        this.repositoryMetadata = repositoryMetadata;
+        final Class<? extends Entity> entityClass = repositoryMetadata.entityClass();
+        // Resolve the classes reachable through cascading associations, breadth first
+        final Map<Class<? extends Entity>, List<AssociationMetadata>> reachable = new LinkedHashMap<>();
+        final Deque<Class<? extends Entity>> pending = new ArrayDeque<>(List.of(entityClass));
+        while (!pending.isEmpty()) {
+            final Class<? extends Entity> current = pending.poll();
+            if (reachable.containsKey(current)) continue;
+            final List<AssociationMetadata> associations = TableProcessor.resolveAssociations(current);
+            reachable.put(current, associations);
+            associations.stream()
+                    .filter(AssociationMetadata::cascadePersist)
+                    .forEach(association -> pending.add(association.targetClass()));
+        }
+
+        final Map<Class<?>, EntityWriter> sorted = new LinkedHashMap<>();
+        final Set<Class<?>> visiting = new HashSet<>();
+        final ColumnTypeResolver resolver = ColumnTypeResolverFactory.getResolver(repositoryMetadata.databaseEngine());
+        reachable.keySet().forEach(current -> visit(current, reachable, resolver, visiting, sorted));
+        this.writers = Collections.unmodifiableMap(sorted);
+    }
+
+    /**
+     * Inserts the given entities and all entities reachable from them through cascading associations.
+     *
+     * @param connection The database connection, in auto-commit mode, used by one thread at a time.
+     * @param roots      The entities to insert, {@code null} elements being ignored.
+     * @return The number of inserted rows.
+     * @throws SqlExecutionException If an insert fails, in which case nothing is inserted.
+     */
+    int persist(final Connection connection, final Collection<?> roots) throws SqlExecutionException {
+        final Map<Class<?>, List<Object>> graph = collect(roots);
+        if (graph.isEmpty()) return 0;
+
+        return Retries.transaction(repositoryMetadata, connection, transaction -> {
+            int inserted = 0;
+            for (final Map.Entry<Class<?>, EntityWriter> entry : writers.entrySet()) {
+                final List<Object> entities = graph.get(entry.getKey());
+                if (entities == null) continue;
+                final EntityWriter writer = entry.getValue();
+                final List<Object[]> rows = new ArrayList<>(entities.size());
+                for (final Object entity : entities) rows.add(writer.row(entity));
+                SqlQueryExecutor.executeCachedRowBatch(writer.insertQuery(), transaction, rows);
+                inserted += rows.size();
+            }
+            return inserted;
+        });
+    }
+
+    /**
+     * Walks the graph of the given entities, setting the back references of cascaded one-to-many associations.
+     *
+     * @param roots The entities to insert.
+     * @return The distinct entities of the graph, grouped per class.
+     * @throws InvalidAssociationException If an entity of the graph is not of a reachable entity class.
+     */
+    private Map<Class<?>, List<Object>> collect(final Collection<?> roots) throws InvalidAssociationException {
+        final Map<Class<?>, List<Object>> graph = new LinkedHashMap<>();
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Object> pending = new ArrayDeque<>();
+        for (final Object root : roots) {
+            if (root != null) pending.add(root);
+        }
+
+        try {
+            while (!pending.isEmpty()) {
+                final Object entity = pending.poll();
+                if (!visited.add(entity)) continue;
+                final EntityWriter writer = writers.get(entity.getClass());
+                if (writer == null) {
+                    throw new InvalidAssociationException(String.format(
+                            "Entity '%s' cannot be persisted through this repository",
+                            entity.getClass().getSimpleName()
+                    ));
+                }
+                graph.computeIfAbsent(entity.getClass(), ignored -> new ArrayList<>()).add(entity);
+
+                for (final Cascade cascade : writer.cascades()) {
+                    final Object target = cascade.getter().invokeExact(entity);
+                    if (target == null) continue;
+                    if (cascade.backReference() == null) {
+                        pending.add(target);
+                        continue;
+                    }
+                    for (final Object child : (Collection<?>) target) {
+                        if (child == null) continue;
+                        cascade.backReference().invokeExact(child, entity);
+                        pending.add(child);
+                    }
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new SqlExecutionException(t.getMessage(), t);
+        }
+        return graph;
+    }
+
+    /**
+     * Appends the writer of an entity class to the insertion order after the classes it references, depth first.
+     *
+     * @param entityClass The entity class to append.
+     * @param reachable   The reachable entity classes and their associations.
+     * @param resolver    The {@link ColumnTypeResolver} of the database engine, resolving the column codecs.
+     * @param visiting    The classes whose references are being appended, to break cycles.
+     * @param sorted      The writers in insertion order so far.
+     */
+    private static void visit(final Class<? extends Entity> entityClass,
+                              final Map<Class<? extends Entity>, List<AssociationMetadata>> reachable,
+                              final ColumnTypeResolver resolver,
+                              final Set<Class<?>> visiting,
+                              final Map<Class<?>, EntityWriter> sorted) {
+        if (sorted.containsKey(entityClass) || !visiting.add(entityClass)) return;
+
+        final List<AssociationMetadata> associations = reachable.get(entityClass);
+        for (final AssociationMetadata association : associations) {
+            if (association.manyToOne() && reachable.containsKey(association.targetClass())) {
+                visit(association.targetClass(), reachable, resolver, visiting, sorted);
+            }
+        }
+        visiting.remove(entityClass);
+        sorted.put(entityClass, EntityWriter.of(entityClass, associations, resolver));
+    }
+
+    /**
+     * Represents how the entities of a class are inserted, resolved once when the repository is created.
+     *
+     * @param insertQuery The SQL statement inserting an entity.
+     * @param columns     The getters of the column fields, embedded ones included, typed as
+     *                    {@code (Object) -> Object}, in column order.
+     * @param codecs      The {@link ColumnCodec}s encoding the values of the column fields, in column order.
+     * @param foreignKeys The foreign keys synchronized with their referenced entity before insertion.
+     * @param cascades    The associations persistence cascades to.
+     */
+    private record EntityWriter(String insertQuery,
+                                List<MethodHandle> columns,
+                                List<ColumnCodec> codecs,
+                                List<ForeignKey> foreignKeys,
+                                List<Cascade> cascades) {
+
+        /**
+         * Resolves the writer of an entity class.
+         *
+         * @param entityClass  The entity class.
+         * @param associations The associations of the entity class.
+         * @param resolver     The {@link ColumnTypeResolver} of the database engine.
+         * @return The {@link EntityWriter} of the entity class.
+         * @throws SqlExecutionException If an entity field cannot be accessed.
+         */
+        static EntityWriter of(final Class<? extends Entity> entityClass,
+                               final List<AssociationMetadata> associations,
+                               final ColumnTypeResolver resolver) throws SqlExecutionException {
+            final SqlQueryGenerator<String, InsertMetadata> generator =
+                    SqlQueryGeneratorFactory.getGenerator(SqlOperation.PERSIST);
+            final String insertQuery = generator.generate(InsertMetadata.builder()
+                    .tableName(TableProcessor.resolveTableName(entityClass))
+                    .columnNames(TableProcessor.resolveColumnNames(entityClass))
+                    .build());
+
+            final List<MethodHandle> columns = new ArrayList<>();
+            final List<ColumnCodec> codecs = new ArrayList<>();
+            for (final Field field : TableProcessor.resolveColumnFields(entityClass)) {
+                columns.add(FieldHandles.getter(field));
+                codecs.add(resolver.resolveCodec(field));
+            }
+            for (final EmbeddedMetadata embedded : TableProcessor.resolveEmbeddedFields(entityClass)) {
+                for (final Field field : embedded.columnFields()) {
+                    columns.add(FieldHandles.embeddedGetter(embedded.field(), field));
+                    codecs.add(resolver.resolveCodec(field));
+                }
+            }
+
+            final List<ForeignKey> foreignKeys = new ArrayList<>();
+            final List<Cascade> cascades = new ArrayList<>();
+            for (final AssociationMetadata association : associations) {
+                if (association.manyToOne()) {
+                    foreignKeys.add(new ForeignKey(
+                            FieldHandles.getter(association.field()),
+                            FieldHandles.getter(TableProcessor.resolvePrimaryKeyField(association.targetClass())),
+                            FieldHandles.setter(association.foreignKey())
+                    ));
+                }
+                if (association.cascadePersist()) {
+                    cascades.add(new Cascade(
+                            FieldHandles.getter(association.field()),
+                            association.manyToOne() ? null : FieldHandles.setter(association.backReference())
+                    ));
+                }
+            }
+            return new EntityWriter(insertQuery, List.copyOf(columns), List.copyOf(codecs), List.copyOf(foreignKeys),
+                    List.copyOf(cascades));
+        }
+
+        /**
+         * Synchronizes the foreign keys of an entity with their referenced entities, and reads its column values.
+         * <p>
+         * A foreign key whose association is {@code null} is left as it is, so raw keys can still be set directly.
+         * </p>
+         *
+         * @param entity The entity.
+         * @return The values of the entity's columns, encoded as they are stored, in column order.
+         * @throws SqlExecutionException If a field cannot be read or written.
+         */
+        Object[] row(final Object entity) throws SqlExecutionException {
+            try {
+                for (final ForeignKey foreignKey : foreignKeys) {
+                    final Object target = foreignKey.association().invokeExact(entity);
+                    if (target == null) continue;
+                    final Object primaryKey = foreignKey.primaryKey().invokeExact(target);
+                    foreignKey.setter().invokeExact(entity, primaryKey);
+                }
+                final Object[] row = new Object[columns.size()];
+                for (int i = 0; i < row.length; i++) {
+                    final Object value = columns.get(i).invokeExact(entity);
+                    row[i] = codecs.get(i).encode(value);
+                }
+                return row;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new SqlExecutionException(t.getMessage(), t);
+            }
+        }
+
+    }
+
+    /**
+     * Represents a foreign key column mapped by a many-to-one association.
+     *
+     * @param association The getter of the association field.
+     * @param primaryKey  The getter of the referenced entity's primary key.
+     * @param setter      The setter of the foreign key field.
+     */
+    private record ForeignKey(MethodHandle association, MethodHandle primaryKey, MethodHandle setter) {
+    }
+
+    /**
+     * Represents an association persistence cascades to.
+     *
+     * @param getter        The getter of the association field.
+     * @param backReference The setter of the targets' back reference, or {@code null} for a many-to-one association.
+     */
+    private record Cascade(MethodHandle getter, MethodHandle backReference) {
+    }
+
+}
@@ -0,0 +1,247 @@
+package dimstyl.orm.internal.repository;
+
+import dimstyl.orm.exceptions.QueryTimeoutException;
+import dimstyl.orm.exceptions.SqlExecutionException;
+import dimstyl.orm.model.Entity;
+import dimstyl.orm.runtime.Deadline;
+import dimstyl.orm.runtime.LookupBatching;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Micro-batches the primary key lookups of a {@code @FindById} method.
+ * <p>
+ * Lookups arriving while a batch is open join it, and the batch is sent once its window closes or it reaches
+ * its maximum size, with a single multi-key query whose rows are handed to the waiting callers by key.
+ * The batch is executed through the method's batch plan, so it gets the repository's bulkheads, retries and
+ * connection handling, under the latest {@link Deadline} of its callers, or none if any of them has none, so that
+ * a caller with a short deadline never cancels the lookups of the others. Each caller only waits for its own
+ * result, bounded by its own deadline.
+ * Lookups outside of a window, when the method is not annotated and no {@link LookupBatching} scope is active,
+ * take the method's regular single-row path.
+ * </p>
+ */
+final class LookupBatcher implements MethodInvoker {
+
+    /**
+     * Starts each batch on its own virtual thread, once its window closes or it is full, so slow batches never delay
+     * others and no caller's deadline bounds the batch.
+     */
+    private static final Executor FLUSHER = runnable -> Thread.ofVirtual().name("orm-lookup-batch").start(runnable);
+
+    /**
+     * The regular plan of the method, used outside of a batching window.
+     */
+    private final MethodPlan plan;
+
+    /**
+     * The plan fetching the rows matching a batch of keys, returned as entries of normalized key and entity.
+     */
+    private final MethodPlan batchPlan;
+
+    /**
+     * The window of the method's own batching, or {@code null} if the method is not annotated.
+     */
+    private final Duration window;
+
+    /**
+     * The number of distinct keys at which a batch is sent early.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * The batch currently collecting lookups, or {@code null} if none is open, guarded by {@code this}.
+     */
+    private Batch openBatch;
+
+    /**
+     * Constructs the batcher of a {@code @FindById} method.
+     *
+     * @param plan         The regular plan of the method.
+     * @param batchPlan    The plan fetching the rows matching a batch of keys.
+     * @param window       The window of the method's own batching, or {@code null} if the method is not annotated.
+     * @param maxBatchSize The number of distinct keys at which a batch is sent early.
+     */
+    LookupBatcher(final MethodPlan plan, final MethodPlan batchPlan, final Duration window, final int maxBatchSize) {
+        this.plan = plan;
+        this.batchPlan = batchPlan;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Looks up the entity matching the key given as the method's only argument.
+     *
+     * @param args The arguments of the method.
+     * @return An {@link Optional} containing the matching entity, or empty if none matches.
+     * @throws QueryTimeoutException If the caller's deadline passes or the caller is interrupted while waiting.
+     * @throws SqlExecutionException If the batch fails.
+     */
+    @Override
+    public Object invoke(final Object[] args) throws QueryTimeoutException, SqlExecutionException {
+        final Duration currentWindow = LookupBatching.currentWindow().orElse(window);
+        final Object id = args[0];
+        if (currentWindow == null || id == null) return plan.invoke(args);
+
+        final Object key = MultiGetLoader.normalize(id);
+        final CompletableFuture<Entity> result;
+        Batch fullBatch = null;
+        synchronized (this) {
+            if (openBatch == null) {
+                final Batch batch = new Batch();
+                openBatch = batch;
+                CompletableFuture.delayedExecutor(currentWindow.toNanos(), TimeUnit.NANOSECONDS, FLUSHER)
+                        .execute(() -> close(batch));
+            }
+            result = openBatch.join(key, id, Deadline.current().orElse(null));
+            if (openBatch.size() >= maxBatchSize) {
+                fullBatch = openBatch;
+                openBatch = null;
+            }
+        }
+        // A full batch is sent without waiting for its window, off the calling thread and its deadline
+        if (fullBatch != null) {
+            final Batch batch = fullBatch;
+            FLUSHER.execute(() -> send(batch));
+        }
+        return Optional.ofNullable(await(result));
+    }
+
+    /**
+     * Closes a batch at the end of its window and sends it, unless it was already sent full.
+     *
+     * @param batch The batch whose window closed.
+     */
+    private void close(final Batch batch) {
+        synchronized (this) {
+            if (openBatch != batch) return;
+            openBatch = null;
+        }
+        send(batch);
+    }
+
+    /**
+     * Sends a batch under the latest deadline of its callers, if all of them have one, and completes their lookups.
+     *
+     * @param batch The closed batch.
+     */
+    private void send(final Batch batch) {
+        try {
+            final List<Map.Entry<Object, Entity>> rows = batch.unbounded || batch.deadline == null
+                    ? fetch(batch)
+                    : Deadline.call(batch.deadline, () -> fetch(batch));
+            for (final Map.Entry<Object, Entity> row : rows) {
+                final CompletableFuture<Entity> lookup = batch.lookups.get(row.getKey());
+                if (lookup != null) lookup.complete(row.getValue());
+            }
+            batch.lookups.values().forEach(lookup -> lookup.complete(null));
+        } catch (RuntimeException | Error e) {
+            batch.lookups.values().forEach(lookup -> lookup.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Fetches the rows matching the keys of a batch through the batch plan.
+     *
+     * @param batch The closed batch.
+     * @return The matching rows, as entries of normalized key and entity.
+     */
+    private List<Map.Entry<Object, Entity>> fetch(final Batch batch) {
+        // The batch plan fetches the rows of the batched IDs, each entry an ID and its entity
+        @SuppressWarnings("unchecked")
+        final List<Map.Entry<Object, Entity>> rows =
+                (List<Map.Entry<Object, Entity>>) batchPlan.invoke(new Object[]{batch.ids});
+        return rows;
+    }
+
+    /**
+     * Waits for the result of a lookup, bounded by the caller's deadline.
+     *
+     * @param lookup The lookup.
+     * @return The matching entity, or {@code null} if none matches.
+     * @throws QueryTimeoutException If the caller's deadline passes or the caller is interrupted while waiting.
+     * @throws SqlExecutionException If the batch fails.
+     */
+    private static Entity await(final CompletableFuture<Entity> lookup)
+            throws QueryTimeoutException, SqlExecutionException {
+        try {
+            final Optional<Deadline> deadline = Deadline.current();
+            return deadline.isEmpty()
+                    ? lookup.get()
+                    : lookup.get(Math.max(0, deadline.get().remainingNanos()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new SqlExecutionException(e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("The deadline passed while waiting for a batched lookup.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryTimeoutException("The calling thread was interrupted while waiting for a batched lookup.", e);
+        }
+    }
+
+    /**
+     * Represents the lookups of a batch, by normalized key.
+     */
+    private static final class Batch {
+
+        /**
+         * The distinct keys of the batch, as given by their first caller.
+         */
+        private final List<Object> ids = new ArrayList<>();
+
+        /**
+         * The pending lookup of each normalized key.
+         */
+        private final Map<Object, CompletableFuture<Entity>> lookups = new HashMap<>();
+
+        /**
+         * The latest deadline of the batch's callers, or {@code null} if none has joined yet.
+         */
+        private Deadline deadline;
+
+        /**
+         * Whether a caller without a deadline joined the batch, leaving it unbounded.
+         */
+        private boolean unbounded;
+
+        /**
+         * Adds a lookup to the batch, sharing the pending lookup of its key if it was already requested.
+         *
+         * @param key      The normalized key.
+         * @param id       The key, as given by the caller.
+         * @param deadline The caller's deadline, or {@code null} if it has none.
+         * @return The pending lookup of the key.
+         */
+        CompletableFuture<Entity> join(final Object key, final Object id, final Deadline deadline) {
+            if (deadline == null) unbounded = true;
+            else this.deadline = this.deadline == null ? deadline : this.deadline.latest(deadline);
+            return lookups.computeIfAbsent(key, ignored -> {
+                ids.add(id);
+                return new CompletableFuture<>();
+            });
+        }
+
+        /**
+         * Retrieves the number of distinct keys of the batch.
+         *
+         * @return The number of distinct keys.
+         */
+        int size() {
+            return lookups.size();
+        }
+
+    }
+
+}
@@ -0,0 +1,17 @@
+package dimstyl.orm.internal.repository;
+
+/**
+ * Invokes a repository method on behalf of its proxy.
+ */
+@FunctionalInterface
+interface MethodInvoker {
+
+    /**
+     * Invokes the method.
+     *
+     * @param args The arguments of the method, or {@code null} if it has no parameters.
+     * @return The result of the method.
+     */
+    Object invoke(final Object[] args);
+
+}
@@ -0,0 +1,76 @@
+package dimstyl.orm.internal.repository;
+
+import dimstyl.orm.configuration.DatabaseConfigurationFactory;
+import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.metadata.RepositoryMetadata;
+import dimstyl.orm.runtime.Bulkheads;
+import dimstyl.orm.runtime.Deadline;
+import dimstyl.orm.runtime.Retries;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Represents the immutable execution plan of a repository method, resolved once when the repository is created.
+ * <p>
+ * An invocation runs the planned statement within the method's {@link Deadline}, behind the repository's
+ * bulkheads, with retries after transient errors, on a shared connection of the database:
+ * </p>
+ * <pre>
+ *     Deadline -&gt; Bulkheads -&gt; Retries -&gt; connection -&gt; statement
+ * </pre>
+ * <p>
+ * Retries happen outside of the connection, so backoffs never hold a pooled connection or the SQLite writer.
+ * Transactions, which must be rolled back before they are replayed, are the exception and retry on their connection.
+ * </p>
+ *
+ * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+ * @param sqlOperation       The {@link SqlOperation} of the method.
+ * @param sql                The SQL statement of the method, or {@code null} if it is rendered per invocation.
+ * @param timeout            The timeout of the method, or {@code null} if there is none.
+ * @param statement          The planned execution of the statement on a connection.
+ */
+record MethodPlan(RepositoryMetadata repositoryMetadata,
+                  SqlOperation sqlOperation,
+                  String sql,
+                  Duration timeout,
+                  PlannedStatement statement) implements MethodInvoker {
+
+    /**
+     * Invokes the method.
+     *
+     * @param args The arguments of the method, or {@code null} if it has no parameters.
+     * @return The result of the method.
+     */
+    @Override
+    public Object invoke(final Object[] args) {
+        final Supplier<Object> execution = () -> Bulkheads.execute(repositoryMetadata, () ->
+                Retries.execute(repositoryMetadata, sqlOperation, () ->
+                        DatabaseConfigurationFactory.execute(
+                                repositoryMetadata.databaseName(),
+                                repositoryMetadata.databaseEngine(),
+                                sqlOperation,
+                                connection -> statement.execute(connection, args)
+                        )));
+        return timeout == null ? execution.get() : Deadline.call(timeout, execution);
+    }
+
+    /**
+     * Executes the planned statement of a method on a connection.
+     */
+    @FunctionalInterface
+    interface PlannedStatement {
+
+        /**
+         * Executes the statement and adapts its result to the method's return type.
+         *
+         * @param connection The connection to execute the statement on.
+         * @param args       The arguments of the method, or {@code null} if it has no parameters.
+         * @return The result of the method.
+         */
+        Object execute(final Connection connection, final Object[] args);
+
+    }
+
+}
@@ -0,0 +1,680 @@
+package dimstyl.orm.internal.repository;
+
+import dimstyl.orm.annotations.BatchLookups;
+import dimstyl.orm.criteria.Criteria;
+import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.exceptions.InvalidRepositoryException;
+import dimstyl.orm.internal.processors.RepositoryProcessor;
+import dimstyl.orm.internal.processors.TableProcessor;
+import dimstyl.orm.internal.sql.execution.EntityRowMapper;
+import dimstyl.orm.internal.sql.execution.ParameterBinder;
+import dimstyl.orm.internal.sql.execution.RecordRowMapper;
+import dimstyl.orm.internal.sql.execution.RowMapper;
+import dimstyl.orm.internal.sql.execution.SqlQueryExecutor;
+import dimstyl.orm.internal.sql.generator.SqlQueryGenerator;
+import dimstyl.orm.internal.sql.generator.SqlQueryGeneratorFactory;
+import dimstyl.orm.internal.sql.resolver.ColumnCodec;
+import dimstyl.orm.internal.sql.resolver.ColumnTypeResolver;
+import dimstyl.orm.internal.sql.resolver.ColumnTypeResolverFactory;
+import dimstyl.orm.metadata.AggregateMetadata;
+import dimstyl.orm.metadata.DerivedQueryMetadata;
+import dimstyl.orm.metadata.NativeQueryMetadata;
+import dimstyl.orm.metadata.RepositoryMetadata;
+import dimstyl.orm.model.Entity;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Utility class responsible for compiling the methods of a repository into {@link MethodPlan}s.
+ * <p>
+ * Each annotated method gets its SQL statement, parameter binder and row mapper resolved once,
+ * and its signature validated against its SQL operation. The SQL statement of each operation
+ * is generated once per repository, however many methods share it. Methods returning the repository's entities
+ * also load their associations, see {@link AssociationLoader}.
+ * </p>
+ */
+final class MethodPlanCompiler {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MethodPlanCompiler() {
+    }
+
+    /**
+     * Compiles the plans of all abstract methods of a repository.
+     * <p>
+     * Methods are invoked through their {@link MethodPlan}, except for {@code @FindById} methods, whose plan
+     * is wrapped by a {@link LookupBatcher} so that their lookups can be micro-batched.
+     * </p>
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @return An immutable map of each method to its {@link MethodInvoker}.
+     * @throws InvalidRepositoryException If a method is not annotated with an SQL operation,
+     *                                    or its signature does not match its operation.
+     */
+    static Map<Method, MethodInvoker> compile(final RepositoryMetadata repositoryMetadata)
+            throws InvalidRepositoryException {
+        final Map<SqlOperation, String> statements = new EnumMap<>(SqlOperation.class);
+        final Map<Method, MethodInvoker> invokers = new HashMap<>();
+        CriteriaTemplates criteriaTemplates = null;
+        MultiGetLoader multiGetLoader = null;
+        GraphPersister graphPersister = null;
+
+        final AssociationLoader associationLoader = AssociationLoader
+                .of(repositoryMetadata.entityClass(), repositoryMetadata.databaseEngine())
+                .orElse(null);
+
+        for (final Method method : repositoryMetadata.repositoryClass().getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers())) continue;
+
+            final SqlOperation sqlOperation = RepositoryProcessor.resolveSqlOperation(method)
+                    .orElseThrow(() -> invalid(method, "is not annotated with an SQL operation"));
+            final MethodPlan plan;
+            if (sqlOperation == SqlOperation.DERIVED_QUERY) {
+                plan = planDerivedQuery(repositoryMetadata, method);
+            } else if (sqlOperation == SqlOperation.CRITERIA_QUERY) {
+                if (criteriaTemplates == null) criteriaTemplates = new CriteriaTemplates(repositoryMetadata);
+                plan = planCriteriaQuery(repositoryMetadata, method, criteriaTemplates);
+            } else if (sqlOperation == SqlOperation.FIND_ALL_BY_ID) {
+                if (multiGetLoader == null) multiGetLoader = MultiGetLoader.byPrimaryKey(repositoryMetadata);
+                plan = planFindAllById(repositoryMetadata, method, multiGetLoader);
+            } else if (sqlOperation == SqlOperation.PERSIST) {
+                if (graphPersister == null) graphPersister = new GraphPersister(repositoryMetadata);
+                plan = planPersist(repositoryMetadata, method, graphPersister);
+            } else if (sqlOperation == SqlOperation.AGGREGATE) {
+                plan = planAggregate(repositoryMetadata, method);
+            } else if (sqlOperation == SqlOperation.NATIVE_QUERY || sqlOperation == SqlOperation.NATIVE_UPDATE) {
+                plan = planNativeQuery(repositoryMetadata, method, sqlOperation);
+            } else {
+                final String sql = statements.computeIfAbsent(sqlOperation, operation ->
+                        generate(repositoryMetadata, operation));
+                final MethodPlan.PlannedStatement statement = switch (sqlOperation) {
+                    case SELECT_ALL -> planSelectAll(repositoryMetadata, method, sql);
+                    case FIND_BY_ID -> planFindById(repositoryMetadata, method, sql);
+                    case COUNT -> planCount(method, sql);
+                    case EXISTS_BY_ID -> planExistsById(repositoryMetadata, method, sql);
+                    case DELETE_BY_ID -> planDeleteById(repositoryMetadata, method, sql);
+                    case CREATE_TABLE, SYNC_SCHEMA, FIND_ALL_BY_ID, AGGREGATE, PERSIST, DERIVED_QUERY, CRITERIA_QUERY,
+                         NATIVE_QUERY, NATIVE_UPDATE -> throw invalid(method, "cannot be a repository operation");
+                };
+                plan = new MethodPlan(
+                        repositoryMetadata,
+                        sqlOperation,
+                        sql,
+                        repositoryMetadata.resolveTimeout(method).orElse(null),
+                        statement
+                );
+            }
+            final MethodPlan loadingPlan =
+                    associationLoader != null && returnsEntities(repositoryMetadata, method, sqlOperation)
+                            ? withAssociations(plan, associationLoader)
+                            : plan;
+            if (sqlOperation != SqlOperation.FIND_BY_ID) {
+                invokers.put(method, loadingPlan);
+                continue;
+            }
+            if (multiGetLoader == null) multiGetLoader = MultiGetLoader.byPrimaryKey(repositoryMetadata);
+            invokers.put(method, batchLookups(repositoryMetadata, method, loadingPlan, multiGetLoader,
+                    associationLoader));
+        }
+        return Map.copyOf(invokers);
+    }
+
+    /**
+     * Plans a method annotated with {@code @SelectAll}, which takes no parameters and returns a {@link List}.
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param method             The repository method.
+     * @param sql                The SQL statement of the method.
+     * @return The {@link MethodPlan.PlannedStatement} of the method.
+     * @throws InvalidRepositoryException If the method's signature does not match.
+     */
+    private static MethodPlan.PlannedStatement planSelectAll(final RepositoryMetadata repositoryMetadata,
+                                                             final Method method,
+                                                             final String sql) throws InvalidRepositoryException {
+        if (method.getParameterCount() != 0) throw invalid(method, "must not declare any parameters");
+        if (!method.getReturnType().isAssignableFrom(List.class)) throw invalid(method, "must return a List");
+
+        final var rowMapper = EntityRowMapper.of(repositoryMetadata.entityClass(), repositoryMetadata.databaseEngine());
+        return (connection, args) ->
+                SqlQueryExecutor.executeQuery(sql, connection, ParameterBinder.NONE, args, rowMapper);
+    }
+
+    /**
+     * Plans a method annotated with {@code @FindById}, which takes the ID as its only parameter
+     * and returns an {@link Optional}.
+     * <p>
+     * The query selects the entity's columns explicitly, so the row is hydrated by column position.
+     * </p>
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param method             The repository method.
+     * @param sql                The SQL statement of the method.
+     * @return The {@link MethodPlan.PlannedStatement} of the method.
+     * @throws InvalidRepositoryException If the method's signature does not match.
+     */
+    private static MethodPlan.PlannedStatement planFindById(final RepositoryMetadata repositoryMetadata,
+                                                            final Method method,
+                                                            final String sql) throws InvalidRepositoryException {
+        if (method.getParameterCount() != 1) throw invalid(method, "must declare the ID as its only parameter");
+        if (method.getReturnType() != Optional.class) throw invalid(method, "must return an Optional");
+
+        final ParameterBinder binder = bindId(repositoryMetadata);
+        final var rowMapper = EntityRowMapper.indexed(repositoryMetadata.entityClass(),
+                repositoryMetadata.databaseEngine());
+        return (connection, args) -> SqlQueryExecutor.executeSingleRowQuery(sql, connection, binder, args, rowMapper);
+    }
+
+    /**
+     * Wraps the plan of a {@code @FindById} method in a {@link LookupBatcher}, whose batches are fetched
+     * by the repository's {@link MultiGetLoader}, with their associations loaded once per batch.
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param method             The repository method.
+     * @param plan               The {@link MethodPlan} of the method.
+     * @param multiGetLoader     The {@link MultiGetLoader} of the repository.
+     * @param associationLoader  The {@link AssociationLoader} of the repository's entity class, or {@code null}.
+     * @return The {@link LookupBatcher} of the method.
+     * @throws InvalidRepositoryException If the method's batch size is not positive.
+     */
+    private static LookupBatcher batchLookups(final RepositoryMetadata repositoryMetadata,
+                                              final Method method,
+                                              final MethodPlan plan,
+                                              final MultiGetLoader multiGetLoader,
+                                              final AssociationLoader associationLoader)
+            throws InvalidRepositoryException {
+        final BatchLookups batchLookups = method.getDeclaredAnnotation(BatchLookups.class);
+        final Duration window = batchLookups == null
+                ? null
+                : Duration.of(batchLookups.windowMicros(), ChronoUnit.MICROS);
+        final int maxBatchSize = batchLookups == null ? MultiGetLoader.MAX_IN_LIST_SIZE : batchLookups.maxBatchSize();
+        if (maxBatchSize <= 0) throw invalid(method, "must batch at least one lookup");
+
+        final MethodPlan.PlannedStatement statement = (connection, args) -> {
+            final List<Map.Entry<Object, Entity>> rows = multiGetLoader.fetch(connection, (Collection<?>) args[0]);
+            if (associationLoader != null) {
+                associationLoader.load(connection, rows.stream().map(Map.Entry::getValue).toList());
+            }
+            return rows;
+        };
+        final MethodPlan batchPlan =
+                new MethodPlan(repositoryMetadata, SqlOperation.FIND_BY_ID, null, plan.timeout(), statement);
+        return new LookupBatcher(plan, batchPlan, window, maxBatchSize);
+    }
+
+    /**
+     * Plans a method annotated with {@code @FindAllById}, which takes the IDs as a {@link Collection}
+     * and returns a {@link List}.
+     * <p>
+     * The strategy fetching the records is picked on every call from the number of IDs,
+     * see {@link MultiGetLoader}, whose statements are rendered once and shared by the repository's methods.
+     * </p>
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param method             The repository method.
+     * @param multiGetLoader     The {@link MultiGetLoader} of the repository.
+     * @return The {@link MethodPlan} of the method.
+     * @throws InvalidRepositoryException If the method's signature does not match.
+     */
+    private static MethodPlan planFindAllById(final RepositoryMetadata repositoryMetadata,
+                                              final Method method,
+                                              final MultiGetLoader multiGetLoader) throws InvalidRepositoryException {
+        if (method.getParameterCount() != 1 || !Collection.class.isAssignableFrom(method.getParameterTypes()[0])) {
+            throw invalid(method, "must declare a Collection of IDs as its only parameter");
+        }
+        if (!method.getReturnType().isAssignableFrom(List.class)) throw invalid(method, "must return a List");
+
+        final MethodPlan.PlannedStatement statement = (connection, args) -> {
+            final Collection<?> ids = (Collection<?>) args[0];
+            return ids == null ? List.of() : multiGetLoader.load(connection, ids);
+        };
+        final Duration timeout = repositoryMetadata.resolveTimeout(method).orElse(null);
+        return new MethodPlan(repositoryMetadata, SqlOperation.FIND_ALL_BY_ID, null, timeout, statement);
+    }
+
+    /**
+     * Plans a method annotated with {@code @Count}, which takes no parameters and returns the number of records
+     * as a {@code long} or an {@code int}.
+     *
+     * @param method The repository method.
+     * @param sql    The SQL statement of the method.
+     * @return The {@link MethodPlan.PlannedStatement} of the method.
+     * @throws InvalidRepositoryException If the method's signature does not match.
+     */
+    private static MethodPlan.PlannedStatement planCount(final Method method, final String sql)
+            throws InvalidRepositoryException {
+        if (method.getParameterCount() != 0) throw invalid(method, "must not declare any parameters");
+
+        final Class<?> returnType = method.getReturnType();
+        final RowMapper<?> rowMapper;
+        if (returnType == long.class || returnType == Long.class) rowMapper = RowMapper.scalar(Long.class);
+        else if (returnType == int.class || returnType == Integer.class) rowMapper = RowMapper.scalar(Integer.class);
+        else throw invalid(method, "must return long or int");
+
+        return (connection, args) -> SqlQueryExecutor
+                .executeSingleRowQuery(sql, connection, ParameterBinder.NONE, args, rowMapper)
+                .orElseThrow();
+    }
+
+    /**
+     * Plans a method annotated with {@code @ExistsById}, which takes the ID as its only parameter
+     * and returns whether the record exists as a {@code boolean}.
+     * <p>
+     * The query selects a constant, so no column of the record is read.
+     * </p>
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param method             The repository method.
+     * @param sql                The SQL statement of the method.
+     * @return The {@link MethodPlan.PlannedStatement} of the method.
+     * @throws InvalidRepositoryException If the method's signature does not match.
+     */
+    private static MethodPlan.PlannedStatement planExistsById(final RepositoryMetadata repositoryMetadata,
+                                                              final Method method,
+                                                              final String sql) throws InvalidRepositoryException {
+        if (method.getParameterCount() != 1) throw invalid(method, "must declare the ID as its only parameter");
+        final Class<?> returnType = method.getReturnType();
+        if (returnType != boolean.class && returnType != Boolean.class) throw invalid(method, "must return boolean");
+
+        final ParameterBinder binder = bindId(repositoryMetadata);
+        final RowMapper<Boolean> rowMapper = resultSet -> Boolean.TRUE;
+        return (connection, args) ->
+                SqlQueryExecutor.executeSingleRowQuery(sql, connection, binder, args, rowMapper).isPresent();
+    }
+
+    /**
+     * Plans a method annotated with {@code @DeleteById}, which takes the ID as its only parameter and returns
+     * nothing, the number of deleted rows as an {@code int}, or whether a row was deleted as a {@code boolean}.
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param method             The repository method.
+     * @param sql                The SQL statement of the method.
+     * @return The {@link MethodPlan.PlannedStatement} of the method.
+     * @throws InvalidRepositoryException If the method's signature does not match.
+     */
+    private static MethodPlan.PlannedStatement planDeleteById(final RepositoryMetadata repositoryMetadata,
+                                                              final Method method,
+                                                              final String sql) throws InvalidRepositoryException {
+        if (method.getParameterCount() != 1) throw invalid(method, "must declare the ID as its only parameter");
+
+        return planUpdate(method, sql, bindId(repositoryMetadata));
+    }
+
+    /**
+     * Plans a method annotated with {@code @Persist}, which takes an entity or a {@link Collection} of entities
+     * and returns nothing, or the number of inserted rows as an {@code int}.
+     * <p>
+     * The entity classes reached through cascading associations and their insert statements are resolved once,
+     * see {@link GraphPersister}, and shared by the repository's methods.
+     * </p>
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param method             The repository method.
+     * @param graphPersister     The {@link GraphPersister} of the repository.
+     * @return The {@link MethodPlan} of the method.
+     * @throws InvalidRepositoryException If the method's signature does not match.
+     */
+    private static MethodPlan planPersist(final RepositoryMetadata repositoryMetadata,
+                                          final Method method,
+                                          final GraphPersister graphPersister) throws InvalidRepositoryException {
+        if (method.getParameterCount() != 1) throw invalid(method, "must declare the entities as its only parameter");
+        final Class<?> parameterType = method.getParameterTypes()[0];
+        final boolean collection = Collection.class.isAssignableFrom(parameterType);
+        if (!collection && !parameterType.isAssignableFrom(repositoryMetadata.entityClass())) {
+            throw invalid(method, "must take an entity or a Collection of entities");
+        }
+        final Class<?> returnType = method.getReturnType();
+        final boolean returnsCount = returnType == int.class || returnType == Integer.class;
+        if (!returnsCount && returnType != void.class) throw invalid(method, "must return void or int");
+
+        final MethodPlan.PlannedStatement statement = (connection, args) -> {
+            final Object argument = args[0];
+            final Collection<?> roots = argument == null ? List.of()
+                    : collection ? (Collection<?>) argument : List.of(argument);
+            final int inserted = graphPersister.persist(connection, roots);
+            return returnsCount ? inserted : null;
+        };
+        final Duration timeout = repositoryMetadata.resolveTimeout(method).orElse(null);
+        return new MethodPlan(repositoryMetadata, SqlOperation.PERSIST, null, timeout, statement);
+    }
+
+    /**
+     * Plans a derived query method, whose query was parsed from its name when the repository was processed.
+     * <p>
+     * The arguments are bound in order, one per placeholder. Methods returning an {@link Optional}
+     * fail if more than one row matches.
+     * </p>
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param method             The derived query method.
+     * @return The {@link MethodPlan} of the method.
+     */
+    private static MethodPlan planDerivedQuery(final RepositoryMetadata repositoryMetadata, final Method method) {
+        final DerivedQueryMetadata derivedQueryMetadata = repositoryMetadata.derivedQueries().get(method);
+        final SqlQueryGenerator<String, DerivedQueryMetadata> generator =
+                SqlQueryGeneratorFactory.getGenerator(SqlOperation.DERIVED_QUERY);
+        final String sql = generator.generate(derivedQueryMetadata);
+        final ParameterBinder binder =
+                ParameterBinder.positional(resolveConditionCodecs(repositoryMetadata, derivedQueryMetadata));
+        final var rowMapper = EntityRowMapper.of(repositoryMetadata.entityClass(), repositoryMetadata.databaseEngine());
+
+        final MethodPlan.PlannedStatement statement = derivedQueryMetadata.singleResult()
+                ? (connection, args) -> SqlQueryExecutor.executeUniqueRowQuery(sql, connection, binder, args, rowMapper)
+                : (connection, args) -> SqlQueryExecutor.executeQuery(sql, connection, binder, args, rowMapper);
+        final Duration timeout = Optional.ofNullable(derivedQueryMetadata.timeout())
+                .or(() -> repositoryMetadata.resolveTimeout(method))
+                .orElse(null);
+        return new MethodPlan(repositoryMetadata, SqlOperation.DERIVED_QUERY, sql, timeout, statement);
+    }
+
+    /**
+     * Plans a criteria query method, which takes a {@link Criteria} as its only parameter and returns a {@link List}.
+     * <p>
+     * The SQL of each criteria shape is rendered once and shared by the repository's criteria query methods,
+     * and its prepared statement is taken from the connection's statement cache.
+     * </p>
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param method             The criteria query method.
+     * @param criteriaTemplates  The {@link CriteriaTemplates} of the repository.
+     * @return The {@link MethodPlan} of the method.
+     * @throws InvalidRepositoryException If the method's signature does not match.
+     */
+    private static MethodPlan planCriteriaQuery(final RepositoryMetadata repositoryMetadata,
+                                                final Method method,
+                                                final CriteriaTemplates criteriaTemplates)
+            throws InvalidRepositoryException {
+        if (!method.getReturnType().isAssignableFrom(List.class)) throw invalid(method, "must return a List");
+
+        final var rowMapper = EntityRowMapper.of(repositoryMetadata.entityClass(), repositoryMetadata.databaseEngine());
+        final MethodPlan.PlannedStatement statement = (connection, args) -> {
+            final Criteria<?> criteria = (Criteria<?>) args[0];
+            final CriteriaTemplates.Template template = criteriaTemplates.resolve(criteria);
+            // Engines such as Derby reject fetching zero rows, and no statement is needed to return nothing
+            if (criteria.maxResults().orElse(-1) == 0) return List.of();
+            final ParameterBinder binder = (preparedStatement, ignored) ->
+                    criteriaTemplates.bind(preparedStatement, criteria, template);
+            return SqlQueryExecutor.executeCachedQuery(template.sql(), connection, binder, args, rowMapper);
+        };
+        final Duration timeout = repositoryMetadata.resolveTimeout(method).orElse(null);
+        return new MethodPlan(repositoryMetadata, SqlOperation.CRITERIA_QUERY, null, timeout, statement);
+    }
+
+    /**
+     * Plans an aggregate method, whose aggregate was parsed from its {@code @Aggregate} annotation
+     * when the repository was processed.
+     * <p>
+     * Ungrouped aggregates take the single-row path and return the aggregate directly, or the method's default
+     * result when the aggregate is {@code NULL}. Grouped aggregates return an unmodifiable map of each group
+     * to its aggregate, in group order.
+     * </p>
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param method             The aggregate method.
+     * @return The {@link MethodPlan} of the method.
+     */
+    private static MethodPlan planAggregate(final RepositoryMetadata repositoryMetadata, final Method method) {
+        final AggregateMetadata aggregateMetadata = repositoryMetadata.aggregates().get(method);
+        final SqlQueryGenerator<String, AggregateMetadata> generator =
+                SqlQueryGeneratorFactory.getGenerator(SqlOperation.AGGREGATE);
+        final String sql = generator.generate(aggregateMetadata);
+        final Class<?> resultType = aggregateMetadata.resultType();
+
+        final MethodPlan.PlannedStatement statement;
+        if (aggregateMetadata.grouped()) {
+            final Class<?> groupByType = aggregateMetadata.groupByType();
+            final RowMapper<Map.Entry<?, ?>> rowMapper = resultSet -> new AbstractMap.SimpleImmutableEntry<>(
+                    resultSet.getObject(1, groupByType),
+                    resultSet.getObject(2, resultType)
+            );
+            statement = (connection, args) -> {
+                final Map<Object, Object> groups = new LinkedHashMap<>();
+                for (final Map.Entry<?, ?> group : SqlQueryExecutor.executeQuery(sql, connection, ParameterBinder.NONE,
+                        args, rowMapper)) {
+                    groups.put(group.getKey(), group.getValue());
+                }
+                return Collections.unmodifiableMap(groups);
+            };
+        } else {
+            final RowMapper<?> rowMapper = RowMapper.scalar(resultType);
+            final Object defaultResult = aggregateMetadata.defaultResult();
+            statement = (connection, args) -> {
+                final Optional<?> result =
+                        SqlQueryExecutor.executeSingleRowQuery(sql, connection, ParameterBinder.NONE, args, rowMapper);
+                return result.isPresent() ? result.get() : defaultResult;
+            };
+        }
+        final Duration timeout = Optional.ofNullable(aggregateMetadata.timeout())
+                .or(() -> repositoryMetadata.resolveTimeout(method))
+                .orElse(null);
+        return new MethodPlan(repositoryMetadata, SqlOperation.AGGREGATE, sql, timeout, statement);
+    }
+
+    /**
+     * Plans a native query method, whose statement was parsed from its {@code @Query} annotation
+     * when the repository was processed.
+     * <p>
+     * Each placeholder is bound to the argument at its precomputed index. Rows are mapped to entities by label,
+     * to records through their canonical constructor, or to the value of their first column for any other type.
+     * Methods returning an {@link Optional} fail if the query returns more than one row.
+     * </p>
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param method             The native query method.
+     * @param sqlOperation       The {@link SqlOperation} of the method, a native query or update.
+     * @return The {@link MethodPlan} of the method.
+     * @throws InvalidRepositoryException If a native update's return type does not match.
+     */
+    private static MethodPlan planNativeQuery(final RepositoryMetadata repositoryMetadata,
+                                              final Method method,
+                                              final SqlOperation sqlOperation) throws InvalidRepositoryException {
+        final NativeQueryMetadata nativeQueryMetadata = repositoryMetadata.nativeQueries().get(method);
+        final SqlQueryGenerator<String, NativeQueryMetadata> generator =
+                SqlQueryGeneratorFactory.getGenerator(sqlOperation);
+        final String sql = generator.generate(nativeQueryMetadata);
+        final ParameterBinder binder = ParameterBinder.indexed(nativeQueryMetadata.parameterIndexes().stream()
+                .mapToInt(Integer::intValue)
+                .toArray(), resolveCodecs(repositoryMetadata, method));
+
+        final MethodPlan.PlannedStatement statement;
+        if (!nativeQueryMetadata.query()) {
+            statement = planUpdate(method, sql, binder);
+        } else {
+            final RowMapper<?> rowMapper = resolveRowMapper(nativeQueryMetadata.resultType(),
+                    repositoryMetadata);
+            statement = nativeQueryMetadata.singleResult()
+                    ? (connection, args) ->
+                            SqlQueryExecutor.executeUniqueRowQuery(sql, connection, binder, args, rowMapper)
+                    : (connection, args) -> SqlQueryExecutor.executeQuery(sql, connection, binder, args, rowMapper);
+        }
+        final Duration timeout = Optional.ofNullable(nativeQueryMetadata.timeout())
+                .or(() -> repositoryMetadata.resolveTimeout(method))
+                .orElse(null);
+        return new MethodPlan(repositoryMetadata, sqlOperation, sql, timeout, statement);
+    }
+
+    /**
+     * Plans a statement modifying the database, whose method returns nothing, the number of affected rows
+     * as an {@code int}, or whether any row was affected as a {@code boolean}.
+     *
+     * @param method The repository method.
+     * @param sql    The SQL statement of the method.
+     * @param binder The {@link ParameterBinder} of the statement.
+     * @return The {@link MethodPlan.PlannedStatement} of the method.
+     * @throws InvalidRepositoryException If the method's return type does not match.
+     */
+    private static MethodPlan.PlannedStatement planUpdate(final Method method,
+                                                          final String sql,
+                                                          final ParameterBinder binder)
+            throws InvalidRepositoryException {
+        final Class<?> returnType = method.getReturnType();
+        if (returnType == void.class) {
+            return (connection, args) -> {
+                SqlQueryExecutor.executeUpdate(sql, connection, binder, args);
+                return null;
+            };
+        }
+        if (returnType == int.class || returnType == Integer.class) {
+            return (connection, args) -> SqlQueryExecutor.executeUpdate(sql, connection, binder, args);
+        }
+        if (returnType == boolean.class || returnType == Boolean.class) {
+            return (connection, args) -> SqlQueryExecutor.executeUpdate(sql, connection, binder, args) > 0;
+        }
+        throw invalid(method, "must return void, int or boolean");
+    }
+
+    /**
+     * Resolves the row mapper of a native query's results.
+     *
+     * @param resultType         The type each row is mapped to.
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @return The {@link RowMapper} of the results.
+     */
+    private static RowMapper<?> resolveRowMapper(final Class<?> resultType,
+                                                 final RepositoryMetadata repositoryMetadata) {
+        if (Entity.class.isAssignableFrom(resultType)) {
+            return EntityRowMapper.of(resultType.asSubclass(Entity.class), repositoryMetadata.databaseEngine());
+        }
+        if (resultType.isRecord()) return RecordRowMapper.of(resultType.asSubclass(Record.class));
+        return RowMapper.scalar(resultType);
+    }
+
+    /**
+     * Creates the binder of a statement whose only parameter is the primary key of the repository's entity,
+     * encoded as its column stores it.
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @return The {@link ParameterBinder} of the primary key.
+     */
+    private static ParameterBinder bindId(final RepositoryMetadata repositoryMetadata) {
+        final Field idField = TableProcessor.resolvePrimaryKeyField(repositoryMetadata.entityClass());
+        return ParameterBinder.positional(new ColumnCodec[]{
+                ColumnTypeResolverFactory.getResolver(repositoryMetadata.databaseEngine()).resolveCodec(idField)
+        });
+    }
+
+    /**
+     * Resolves the codec of each argument of a derived query, encoding it as the column of its condition
+     * stores it, including through the converter declared on the column's field.
+     *
+     * @param repositoryMetadata   The {@link RepositoryMetadata} of the repository.
+     * @param derivedQueryMetadata The {@link DerivedQueryMetadata} of the derived query.
+     * @return The {@link ColumnCodec} of each argument, in parameter order.
+     */
+    private static ColumnCodec[] resolveConditionCodecs(final RepositoryMetadata repositoryMetadata,
+                                                        final DerivedQueryMetadata derivedQueryMetadata) {
+        final ColumnTypeResolver resolver = ColumnTypeResolverFactory.getResolver(repositoryMetadata.databaseEngine());
+        final Class<? extends Entity> entityClass = repositoryMetadata.entityClass();
+        final Map<String, String> fieldToColumnMap = TableProcessor.mapFieldsToColumns(entityClass);
+        final Map<String, ColumnCodec> columnCodecs = new HashMap<>();
+        for (final Field field : TableProcessor.resolveColumnFields(entityClass)) {
+            columnCodecs.put(fieldToColumnMap.get(field.getName()), resolver.resolveCodec(field));
+        }
+
+        final List<ColumnCodec> codecs = new ArrayList<>();
+        for (final DerivedQueryMetadata.Condition condition : derivedQueryMetadata.conditions()) {
+            final ColumnCodec codec = columnCodecs.get(condition.columnName());
+            for (int i = 0; i < condition.operator().argumentCount(); i++) codecs.add(codec);
+        }
+        return codecs.toArray(ColumnCodec[]::new);
+    }
+
+    /**
+     * Resolves the codec of each parameter of a method, encoding its arguments as the columns they are
+     * compared with store them.
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param method             The repository method.
+     * @return The {@link ColumnCodec} of each parameter, in parameter order.
+     */
+    private static ColumnCodec[] resolveCodecs(final RepositoryMetadata repositoryMetadata, final Method method) {
+        final ColumnTypeResolver resolver = ColumnTypeResolverFactory.getResolver(repositoryMetadata.databaseEngine());
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        final ColumnCodec[] codecs = new ColumnCodec[parameterTypes.length];
+        for (int i = 0; i < codecs.length; i++) codecs[i] = resolver.resolveCodec(parameterTypes[i]);
+        return codecs;
+    }
+
+    /**
+     * Checks whether a method returns entities of its repository, whose associations are loaded.
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param method             The repository method.
+     * @param sqlOperation       The {@link SqlOperation} of the method.
+     * @return {@code true} if the method returns a {@link List} or an {@link Optional} of the repository's entities.
+     */
+    private static boolean returnsEntities(final RepositoryMetadata repositoryMetadata,
+                                           final Method method,
+                                           final SqlOperation sqlOperation) {
+        return switch (sqlOperation) {
+            case SELECT_ALL, FIND_BY_ID, FIND_ALL_BY_ID, DERIVED_QUERY, CRITERIA_QUERY -> true;
+            case NATIVE_QUERY ->
+                    repositoryMetadata.nativeQueries().get(method).resultType() == repositoryMetadata.entityClass();
+            case CREATE_TABLE, SYNC_SCHEMA, COUNT, EXISTS_BY_ID, AGGREGATE, DELETE_BY_ID, PERSIST, NATIVE_UPDATE -> false;
+        };
+    }
+
+    /**
+     * Extends a plan to load the associations of the entities it returns, on the connection of its statement.
+     *
+     * @param plan              The {@link MethodPlan} of a method returning entities.
+     * @param associationLoader The {@link AssociationLoader} of the repository's entity class.
+     * @return The extended {@link MethodPlan}.
+     */
+    private static MethodPlan withAssociations(final MethodPlan plan, final AssociationLoader associationLoader) {
+        final MethodPlan.PlannedStatement statement = plan.statement();
+        return new MethodPlan(
+                plan.repositoryMetadata(),
+                plan.sqlOperation(),
+                plan.sql(),
+                plan.timeout(),
+                (connection, args) -> associationLoader.load(connection, statement.execute(connection, args))
+        );
+    }
+
+    /**
+     * Generates the SQL statement of an operation.
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param sqlOperation       The {@link SqlOperation} to generate the statement of.
+     * @return The SQL statement.
+     */
+    private static String generate(final RepositoryMetadata repositoryMetadata, final SqlOperation sqlOperation) {
+        final SqlQueryGenerator<Optional<String>, RepositoryMetadata> generator =
+                SqlQueryGeneratorFactory.getGenerator(sqlOperation);
+        return generator.generate(repositoryMetadata).orElseThrow();
+    }
+
+    /**
+     * Creates the exception thrown for an invalid repository method.
+     *
+     * @param method The repository method.
+     * @param reason Why the method is invalid.
+     * @return The {@link InvalidRepositoryException} to throw.
+     */
+    private static InvalidRepositoryException invalid(final Method method, final String reason) {
+        final String message = String.format(
+                "Method '%s' of repository '%s' %s",
+                method.getName(),
+                method.getDeclaringClass().getSimpleName(),
+                reason
+        );
+        return new InvalidRepositoryException(message);
+    }
+
+}
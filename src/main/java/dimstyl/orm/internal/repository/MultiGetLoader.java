@@ -0,0 +1,322 @@
+package dimstyl.orm.internal.repository;
+
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.enums.MultiGetStrategy;
+import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.internal.processors.TableProcessor;
+import dimstyl.orm.internal.sql.execution.EntityRowMapper;
+import dimstyl.orm.internal.sql.execution.ParameterBinder;
+import dimstyl.orm.internal.sql.execution.RowMapper;
+import dimstyl.orm.internal.sql.execution.SqlQueryExecutor;
+import dimstyl.orm.internal.sql.generator.SqlDialect;
+import dimstyl.orm.internal.sql.generator.SqlQueryGenerator;
+import dimstyl.orm.internal.sql.generator.SqlQueryGeneratorFactory;
+import dimstyl.orm.internal.sql.resolver.ColumnCodec;
+import dimstyl.orm.internal.sql.resolver.ColumnTypeResolver;
+import dimstyl.orm.internal.sql.resolver.ColumnTypeResolverFactory;
+import dimstyl.orm.metadata.FindAllByIdMetadata;
+import dimstyl.orm.metadata.RepositoryMetadata;
+import dimstyl.orm.model.Entity;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Fetches the entities matching a collection of keys, either primary keys, in the order of the keys,
+ * or foreign keys, when loading the associations of a page of entities.
+ * <p>
+ * The {@link MultiGetStrategy} is picked per call from the number of distinct keys, using a simple cost model
+ * where each round trip costs as much as {@value #ROUND_TRIP_COST} bound keys:
+ * </p>
+ * <ul>
+ *     <li>Up to {@value #MAX_IN_LIST_SIZE} keys are fetched with a single {@code IN} list.</li>
+ *     <li>More keys are fetched in chunks of {@value #MAX_IN_LIST_SIZE}, as long as the extra round trips
+ *     cost less than loading the keys into a temporary table and joining it, which takes
+ *     {@value #TEMPORARY_TABLE_ROUND_TRIPS} round trips plus one per JDBC batch, and binds every key twice as
+ *     cheaply as an {@code IN} list, since the join avoids evaluating a long list per row.</li>
+ * </ul>
+ * <p>
+ * {@code IN} lists are padded to the next power of two by repeating their last key, so that at most
+ * {@code log2(MAX_IN_LIST_SIZE) + 1} distinct statements are prepared and cached per connection. The limit
+ * stays well below the host parameter limit of older SQLite builds (999) and the size at which Derby's
+ * generated code for long {@code IN} lists becomes expensive.
+ * </p>
+ */
+final class MultiGetLoader {
+
+    /**
+     * The maximum number of keys of an {@code IN} list, a power of two.
+     */
+    static final int MAX_IN_LIST_SIZE = 256;
+
+    /**
+     * The cost of a round trip to the database, in bound keys.
+     */
+    private static final int ROUND_TRIP_COST = 512;
+
+    /**
+     * The round trips of the temporary table strategy, besides loading the keys: clearing the table before and
+     * after the query, and the query itself.
+     */
+    private static final int TEMPORARY_TABLE_ROUND_TRIPS = 3;
+
+    /**
+     * The number of keys loaded into the temporary table per JDBC batch.
+     */
+    private static final int TEMPORARY_TABLE_BATCH_SIZE = 1_000;
+
+    /**
+     * The SQL of the {@code IN} list queries, indexed by the base-2 logarithm of their batch size.
+     */
+    private final String[] inListQueries;
+
+    /**
+     * The statement creating the temporary table of keys.
+     */
+    private final String createIdTable;
+
+    /**
+     * The statement loading a key into the temporary table.
+     */
+    private final String insertId;
+
+    /**
+     * The statement emptying the temporary table.
+     */
+    private final String clearIdTable;
+
+    /**
+     * The query joining the temporary table with the entity's table.
+     */
+    private final String joinQuery;
+
+    /**
+     * The connections whose temporary table has been created.
+     */
+    private final Set<Connection> connectionsWithIdTable =
+            Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+
+    /**
+     * Encodes the keys as the key column stores them, and reads them back.
+     */
+    private final ColumnCodec keyCodec;
+
+    /**
+     * Maps a row to its normalized key and its entity.
+     */
+    private final RowMapper<Map.Entry<Object, Entity>> rowMapper;
+
+    /**
+     * Constructs a loader matching the keys against a column, rendering all of its statements.
+     *
+     * @param entityClass    The class of the fetched entities.
+     * @param databaseEngine The {@link DatabaseEngine} of the entity's database.
+     * @param keyField       The {@code @Column} field of the entity whose column is matched against the keys.
+     */
+    MultiGetLoader(final Class<? extends Entity> entityClass, final DatabaseEngine databaseEngine, final Field keyField) {
+        final String tableName = TableProcessor.resolveTableName(entityClass);
+        final List<String> columnNames = TableProcessor.resolveColumnNames(entityClass);
+        final String keyColumnName = TableProcessor.mapFieldsToColumns(entityClass).get(keyField.getName());
+        final String idTableName = SqlDialect.temporaryTableName(databaseEngine,
+                String.format("orm_keys_%s_%s", tableName, keyColumnName));
+
+        final SqlQueryGenerator<String, FindAllByIdMetadata> generator =
+                SqlQueryGeneratorFactory.getGenerator(SqlOperation.FIND_ALL_BY_ID);
+        final FindAllByIdMetadata.FindAllByIdMetadataBuilder builder = FindAllByIdMetadata.builder()
+                .tableName(tableName)
+                .databaseEngine(databaseEngine)
+                .columnNames(columnNames)
+                .keyColumnName(keyColumnName)
+                .idTableName(idTableName);
+
+        this.inListQueries = new String[Integer.numberOfTrailingZeros(MAX_IN_LIST_SIZE) + 1];
+        for (int i = 0; i < inListQueries.length; i++) {
+            inListQueries[i] = generator.generate(builder.strategy(MultiGetStrategy.IN_LIST).batchSize(1 << i).build());
+        }
+        this.joinQuery = generator.generate(builder.strategy(MultiGetStrategy.TEMPORARY_TABLE).batchSize(0).build());
+        final ColumnTypeResolver resolver = ColumnTypeResolverFactory.getResolver(databaseEngine);
+        final String idColumnType = resolver.resolve(keyField);
+        this.createIdTable = SqlDialect.createTemporaryIdTable(databaseEngine, idTableName, idColumnType);
+        this.insertId = String.format("INSERT INTO %s (id) VALUES (?)", idTableName);
+        this.clearIdTable = String.format("DELETE FROM %s", idTableName);
+
+        // The columns are selected in the declaration order of the fields, so the key's position is known
+        final int keyIndex = columnNames.indexOf(keyColumnName) + 1;
+        final RowMapper<? extends Entity> entityMapper = EntityRowMapper.indexed(entityClass, databaseEngine);
+        final ColumnCodec keyCodec = resolver.resolveCodec(keyField);
+        this.keyCodec = keyCodec;
+        this.rowMapper = resultSet -> new AbstractMap.SimpleImmutableEntry<>(
+                normalize(keyCodec.read(resultSet, keyIndex)),
+                entityMapper.map(resultSet)
+        );
+    }
+
+    /**
+     * Constructs a loader matching the keys against the primary key of an entity class.
+     *
+     * @param entityClass    The class of the fetched entities.
+     * @param databaseEngine The {@link DatabaseEngine} of the entity's database.
+     * @return The {@link MultiGetLoader} of the entity class.
+     */
+    static MultiGetLoader byPrimaryKey(final Class<? extends Entity> entityClass, final DatabaseEngine databaseEngine) {
+        return new MultiGetLoader(entityClass, databaseEngine, TableProcessor.resolvePrimaryKeyField(entityClass));
+    }
+
+    /**
+     * Constructs a loader matching the keys against the primary key of a repository's entity class.
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @return The {@link MultiGetLoader} of the repository.
+     */
+    static MultiGetLoader byPrimaryKey(final RepositoryMetadata repositoryMetadata) {
+        return byPrimaryKey(repositoryMetadata.entityClass(), repositoryMetadata.databaseEngine());
+    }
+
+    /**
+     * Picks the strategy fetching a number of distinct keys.
+     *
+     * @param size The number of distinct keys.
+     * @return The cheapest {@link MultiGetStrategy}.
+     */
+    static MultiGetStrategy choose(final int size) {
+        if (size <= MAX_IN_LIST_SIZE) return MultiGetStrategy.IN_LIST;
+
+        final long chunks = Math.ceilDiv(size, MAX_IN_LIST_SIZE);
+        final long batches = Math.ceilDiv(size, TEMPORARY_TABLE_BATCH_SIZE);
+        final long inListCost = chunks * ROUND_TRIP_COST + (long) size * 2;
+        final long temporaryTableCost = (TEMPORARY_TABLE_ROUND_TRIPS + batches) * ROUND_TRIP_COST + size;
+        return inListCost <= temporaryTableCost ? MultiGetStrategy.CHUNKED_IN_LIST : MultiGetStrategy.TEMPORARY_TABLE;
+    }
+
+    /**
+     * Fetches the entities matching a collection of primary keys.
+     * <p>
+     * The result holds one entity per given key matching a record, in the order of the keys, so repeated keys
+     * repeat their entity. {@code null} keys match no record.
+     * </p>
+     *
+     * @param connection The database connection, used by one thread at a time.
+     * @param ids        The primary keys.
+     * @return The matching entities, in the order of the keys.
+     */
+    List<Entity> load(final Connection connection, final Collection<?> ids) {
+        final Map<Object, Entity> entities = new HashMap<>();
+        for (final Map.Entry<Object, Entity> row : fetch(connection, ids)) entities.put(row.getKey(), row.getValue());
+
+        final List<Entity> result = new ArrayList<>(ids.size());
+        for (final Object id : ids) {
+            final Entity entity = id == null ? null : entities.get(normalize(id));
+            if (entity != null) result.add(entity);
+        }
+        return result;
+    }
+
+    /**
+     * Fetches the rows matching a collection of keys, in no particular order.
+     * <p>
+     * {@code null} and repeated keys are ignored, so each matching row is fetched once.
+     * </p>
+     *
+     * @param connection The database connection, used by one thread at a time.
+     * @param keys       The keys.
+     * @return The normalized key and the entity of each matching row.
+     */
+    List<Map.Entry<Object, Entity>> fetch(final Connection connection, final Collection<?> keys) {
+        final Set<Object> distinctKeys = new LinkedHashSet<>();
+        for (final Object key : keys) {
+            if (key != null) distinctKeys.add(key);
+        }
+        if (distinctKeys.isEmpty()) return List.of();
+
+        final List<Object> keyList = new ArrayList<>(distinctKeys);
+        return switch (choose(keyList.size())) {
+            case IN_LIST, CHUNKED_IN_LIST -> {
+                final List<Map.Entry<Object, Entity>> rows = new ArrayList<>();
+                for (int from = 0; from < keyList.size(); from += MAX_IN_LIST_SIZE) {
+                    rows.addAll(fetchInList(connection, keyList.subList(from,
+                            Math.min(keyList.size(), from + MAX_IN_LIST_SIZE))));
+                }
+                yield rows;
+            }
+            case TEMPORARY_TABLE -> fetchJoined(connection, keyList);
+        };
+    }
+
+    /**
+     * Fetches the rows matching a chunk of keys with an {@code IN} list, padded to the next power of two.
+     *
+     * @param connection The database connection.
+     * @param keys       The distinct keys, at most {@value #MAX_IN_LIST_SIZE}.
+     * @return The normalized key and the entity of each matching row.
+     */
+    private List<Map.Entry<Object, Entity>> fetchInList(final Connection connection, final List<Object> keys) {
+        final int exponent = 32 - Integer.numberOfLeadingZeros(keys.size() - 1);
+        final int batchSize = 1 << exponent;
+        final Object last = keys.getLast();
+        final ParameterBinder binder = (statement, args) -> {
+            for (int i = 0; i < batchSize; i++) {
+                keyCodec.bind(statement, i + 1, i < keys.size() ? keys.get(i) : last);
+            }
+        };
+        return SqlQueryExecutor.executeCachedQuery(inListQueries[exponent], connection, binder, null, rowMapper);
+    }
+
+    /**
+     * Fetches the rows matching the keys by loading them into the connection's temporary table
+     * and joining it with the entity's table.
+     * <p>
+     * The table is cleared before loading, in case a previous call failed halfway, and after the query,
+     * so it holds no rows between calls.
+     * </p>
+     *
+     * @param connection The database connection.
+     * @param keys       The distinct keys.
+     * @return The normalized key and the entity of each matching row.
+     */
+    private List<Map.Entry<Object, Entity>> fetchJoined(final Connection connection, final List<Object> keys) {
+        if (!connectionsWithIdTable.contains(connection)) {
+            SqlQueryExecutor.executeUpdate(createIdTable, connection, ParameterBinder.NONE, null);
+            connectionsWithIdTable.add(connection);
+        }
+        SqlQueryExecutor.executeUpdate(clearIdTable, connection, ParameterBinder.NONE, null);
+        SqlQueryExecutor.executeCachedBatch(insertId, connection, keys.stream().map(keyCodec::encode).toList());
+        try {
+            return SqlQueryExecutor.executeCachedQuery(joinQuery, connection, ParameterBinder.NONE, null, rowMapper);
+        } finally {
+            SqlQueryExecutor.executeUpdate(clearIdTable, connection, ParameterBinder.NONE, null);
+        }
+    }
+
+    /**
+     * Normalizes a key, so that keys given as any integral type match the keys read from the database,
+     * whose type depends on the driver.
+     *
+     * @param id The key.
+     * @return The key as a {@link Long} if it is integral, otherwise the key itself.
+     */
+    static Object normalize(final Object id) {
+        return switch (id) {
+            case Long l -> l;
+            case Integer i -> i.longValue();
+            case Short s -> s.longValue();
+            case Byte b -> b.longValue();
+            case BigInteger bigInteger when bigInteger.bitLength() < Long.SIZE -> bigInteger.longValue();
+            case BigDecimal bigDecimal when bigDecimal.stripTrailingZeros().scale() <= 0
+                    && bigDecimal.toBigInteger().bitLength() < Long.SIZE -> bigDecimal.longValue();
+            default -> id;
+        };
+    }
+
+}
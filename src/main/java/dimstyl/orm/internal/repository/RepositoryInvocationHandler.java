@@ -0,0 +1,59 @@
+package dimstyl.orm.internal.repository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * Dispatches the invocations of a repository proxy to the precompiled {@link MethodInvoker} of each method.
+ * <p>
+ * Default methods of the repository interface are invoked as declared, and the methods of {@link Object}
+ * follow identity semantics.
+ * </p>
+ */
+final class RepositoryInvocationHandler implements InvocationHandler {
+
+    /**
+     * The repository interface.
+     */
+    private final Class<?> repositoryClass;
+
+    /**
+     * The invokers of the repository's abstract methods.
+     */
+    private final Map<Method, MethodInvoker> invokers;
+
+    /**
+     * Constructs a new invocation handler.
+     *
+     * @param repositoryClass The repository interface.
+     * @param invokers        The invokers of the repository's abstract methods.
+     */
+    RepositoryInvocationHandler(final Class<?> repositoryClass, final Map<Method, MethodInvoker> invokers) {
+        this.repositoryClass = repositoryClass;
+        this.invokers = invokers;
+    }
+
+    /**
+     * Invokes a method of the repository proxy.
+     *
+     * @param proxy  The repository proxy.
+     * @param method The invoked method.
+     * @param args   The arguments of the invocation, or {@code null} if there are none.
+     * @return The result of the invocation.
+     * @throws Throwable If the invocation fails.
+     */
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        final MethodInvoker invoker = invokers.get(method);
+        if (invoker != null) return invoker.invoke(args);
+        if (method.isDefault()) return InvocationHandler.invokeDefault(proxy, method, args);
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> repositoryClass.getSimpleName() + "Proxy";
+            default -> throw new UnsupportedOperationException(method.toString());
+        };
+    }
+
+}
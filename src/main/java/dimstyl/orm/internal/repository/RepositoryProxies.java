@@ -0,0 +1,51 @@
+package dimstyl.orm.internal.repository;
+
+import dimstyl.orm.exceptions.InvalidRepositoryException;
+import dimstyl.orm.internal.processors.RepositoryProcessor;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.RepositoryMetadata;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Utility class responsible for creating the proxies that implement repository interfaces.
+ */
+public final class RepositoryProxies {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private RepositoryProxies() {
+    }
+
+    /**
+     * Creates a proxy implementing a repository interface.
+     *
+     * @param repositoryClass The repository interface, annotated with {@code @Repository}.
+     * @param <T>             The type of the repository.
+     * @return The repository proxy.
+     * @throws InvalidRepositoryException If the repository is not an interface or one of its methods is invalid.
+     */
+    public static <T> T create(final Class<T> repositoryClass) throws InvalidRepositoryException {
+        final String repositoryClassName = repositoryClass.getSimpleName();
+        if (!repositoryClass.isInterface()) {
+            final String message = String.format("Repository '%s' is not an interface", repositoryClassName);
+            throw new InvalidRepositoryException(message);
+        }
+
+        final RepositoryMetadata repositoryMetadata = RepositoryProcessor.extractMetadata(repositoryClass);
+        ConsoleUtils.printFormatted("\n🔄️ Compiling method plans of repository '%s'...\n", repositoryClassName);
+        final Map<Method, MethodInvoker> invokers = MethodPlanCompiler.compile(repositoryMetadata);
+        ConsoleUtils.printFormatted("✅ %d method plan(s) compiled\n", invokers.size());
+
+        final Object proxy = Proxy.newProxyInstance(
+                repositoryClass.getClassLoader(),
+                new Class<?>[]{repositoryClass},
+                new RepositoryInvocationHandler(repositoryClass, invokers)
+        );
+        return repositoryClass.cast(proxy);
+    }
+
+}
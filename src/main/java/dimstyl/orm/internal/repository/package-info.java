@@ -0,0 +1,4 @@
+/**
+ * Implements repository interfaces through dynamic proxies backed by precompiled method plans.
+ */
+package dimstyl.orm.internal.repository;
@@ -0,0 +1,405 @@
+package dimstyl.orm.internal.sql.execution;
+
+import dimstyl.orm.annotations.Column;
+import dimstyl.orm.annotations.Embedded;
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.exceptions.MissingColumnAnnotationException;
+import dimstyl.orm.exceptions.SqlExecutionException;
+import dimstyl.orm.internal.processors.TableProcessor;
+import dimstyl.orm.internal.sql.resolver.ColumnCodec;
+import dimstyl.orm.internal.sql.resolver.ColumnTypeResolver;
+import dimstyl.orm.internal.sql.resolver.ColumnTypeResolverFactory;
+import dimstyl.orm.metadata.EmbeddedMetadata;
+import dimstyl.orm.model.Entity;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.RecordComponent;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps rows to instances of an entity class through method handles resolved once, when the mapper is created.
+ * <p>
+ * Each column annotated with {@link Column} is read through the {@link ColumnCodec} of its field's type
+ * on the database engine, and assigned through a field setter handle, so mapping a row involves no reflective
+ * lookups. Columns holding {@code NULL} leave primitive fields at their default value.
+ * </p>
+ * <p>
+ * The values of {@link Embedded} fields are rebuilt from their columns in the same pass over the row, through
+ * the canonical constructor of a record embeddable, or the no-arg constructor and field setters of a class one.
+ * An embedded field whose columns all hold {@code NULL} is left {@code null}.
+ * </p>
+ * <p>
+ * Mappers created with {@link #indexed(Class)} read the columns by position instead of by label,
+ * for queries selecting exactly the entity's columns, in the declaration order of their fields.
+ * </p>
+ * <p>
+ * Mappers are immutable and created once per entity class and database engine, so {@link #of(Class, DatabaseEngine)}
+ * and {@link #indexed(Class, DatabaseEngine)} return the same instance on every call.
+ * </p>
+ *
+ * @param <T> The type of the entity.
+ */
+public final class EntityRowMapper<T extends Entity> implements RowMapper<T> {
+
+    /**
+     * The mappers reading the columns by label, per entity class, indexed by {@link DatabaseEngine#ordinal()}.
+     */
+    private static final ClassValue<EntityRowMapper<?>[]> BY_LABEL = new ClassValue<>() {
+        @Override
+        protected EntityRowMapper<?>[] computeValue(final Class<?> type) {
+            return createAll(type.asSubclass(Entity.class), false);
+        }
+    };
+
+    /**
+     * The mappers reading the columns by position, per entity class, indexed by {@link DatabaseEngine#ordinal()}.
+     */
+    private static final ClassValue<EntityRowMapper<?>[]> BY_POSITION = new ClassValue<>() {
+        @Override
+        protected EntityRowMapper<?>[] computeValue(final Class<?> type) {
+            return createAll(type.asSubclass(Entity.class), true);
+        }
+    };
+
+    /**
+     * The handle of the entity's no-arg constructor, typed as {@code () -> Object}.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * The mapped columns, in declaration order of their fields.
+     */
+    private final List<ColumnMapping> columnMappings;
+
+    /**
+     * The mapped embedded fields, in declaration order, whose columns follow the entity's own columns.
+     */
+    private final List<EmbeddedMapping> embeddedMappings;
+
+    /**
+     * Whether the columns are read by position rather than by label.
+     */
+    private final boolean byPosition;
+
+    /**
+     * Private constructor, use {@link #of(Class, DatabaseEngine)} or {@link #indexed(Class, DatabaseEngine)}.
+     *
+     * @param constructor      The handle of the entity's no-arg constructor.
+     * @param columnMappings   The mapped columns.
+     * @param embeddedMappings The mapped embedded fields.
+     * @param byPosition       Whether the columns are read by position rather than by label.
+     */
+    private EntityRowMapper(final MethodHandle constructor,
+                            final List<ColumnMapping> columnMappings,
+                            final List<EmbeddedMapping> embeddedMappings,
+                            final boolean byPosition) {
+        this.constructor = constructor;
+        this.columnMappings = columnMappings;
+        this.embeddedMappings = embeddedMappings;
+        this.byPosition = byPosition;
+    }
+
+    /**
+     * Creates a row mapper for an entity class, reading the columns by label.
+     *
+     * @param entityClass    The entity class.
+     * @param databaseEngine The {@link DatabaseEngine} the rows are read from.
+     * @param <T>            The type of the entity.
+     * @return The {@link EntityRowMapper} of the entity class.
+     * @throws MissingColumnAnnotationException If a required {@link Column} annotation is missing.
+     * @throws SqlExecutionException            If the entity has no accessible no-arg constructor.
+     */
+    public static <T extends Entity> EntityRowMapper<T> of(final Class<T> entityClass,
+                                                           final DatabaseEngine databaseEngine)
+            throws MissingColumnAnnotationException, SqlExecutionException {
+        // The mappers were created for this entity class, so they map its instances
+        @SuppressWarnings("unchecked")
+        final EntityRowMapper<T> rowMapper = (EntityRowMapper<T>) BY_LABEL.get(entityClass)[databaseEngine.ordinal()];
+        return rowMapper;
+    }
+
+    /**
+     * Creates a row mapper for an entity class, reading the columns by position.
+     * <p>
+     * The mapped query must select the columns returned by {@link TableProcessor#resolveColumnNames(Class)},
+     * in the same order.
+     * </p>
+     *
+     * @param entityClass    The entity class.
+     * @param databaseEngine The {@link DatabaseEngine} the rows are read from.
+     * @param <T>            The type of the entity.
+     * @return The {@link EntityRowMapper} of the entity class.
+     * @throws MissingColumnAnnotationException If a required {@link Column} annotation is missing.
+     * @throws SqlExecutionException            If the entity has no accessible no-arg constructor.
+     */
+    public static <T extends Entity> EntityRowMapper<T> indexed(final Class<T> entityClass,
+                                                                final DatabaseEngine databaseEngine)
+            throws MissingColumnAnnotationException, SqlExecutionException {
+        // The mappers were created for this entity class, so they map its instances
+        @SuppressWarnings("unchecked")
+        final EntityRowMapper<T> rowMapper = (EntityRowMapper<T>) BY_POSITION.get(entityClass)[databaseEngine.ordinal()];
+        return rowMapper;
+    }
+
+    /**
+     * Creates the row mappers of an entity class for every database engine.
+     *
+     * @param entityClass The entity class.
+     * @param byPosition  Whether the columns are read by position rather than by label.
+     * @return The {@link EntityRowMapper}s of the entity class, indexed by {@link DatabaseEngine#ordinal()}.
+     * @throws MissingColumnAnnotationException If a required {@link Column} annotation is missing.
+     * @throws SqlExecutionException            If the entity has no accessible no-arg constructor.
+     */
+    private static EntityRowMapper<?>[] createAll(final Class<? extends Entity> entityClass,
+                                                  final boolean byPosition)
+            throws MissingColumnAnnotationException, SqlExecutionException {
+        final DatabaseEngine[] databaseEngines = DatabaseEngine.values();
+        final EntityRowMapper<?>[] mappers = new EntityRowMapper<?>[databaseEngines.length];
+        for (final DatabaseEngine databaseEngine : databaseEngines) {
+            mappers[databaseEngine.ordinal()] = create(entityClass, databaseEngine, byPosition);
+        }
+        return mappers;
+    }
+
+    /**
+     * Creates a row mapper for an entity class.
+     *
+     * @param entityClass    The entity class.
+     * @param databaseEngine The {@link DatabaseEngine} the rows are read from.
+     * @param byPosition     Whether the columns are read by position rather than by label.
+     * @param <T>            The type of the entity.
+     * @return The {@link EntityRowMapper} of the entity class.
+     * @throws MissingColumnAnnotationException If a required {@link Column} annotation is missing.
+     * @throws SqlExecutionException            If the entity has no accessible no-arg constructor.
+     */
+    private static <T extends Entity> EntityRowMapper<T> create(final Class<T> entityClass,
+                                                                final DatabaseEngine databaseEngine,
+                                                                final boolean byPosition)
+            throws MissingColumnAnnotationException, SqlExecutionException {
+        // Map<String, String>: key -> entity class field name, value -> table column name
+        final Map<String, String> fieldToColumnMap = TableProcessor.mapFieldsToColumns(entityClass);
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(entityClass, MethodHandles.lookup());
+            final MethodHandle constructor = lookup.findConstructor(entityClass, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+
+            final ColumnTypeResolver resolver = ColumnTypeResolverFactory.getResolver(databaseEngine);
+            final List<ColumnMapping> columnMappings = new ArrayList<>();
+            for (final Field field : TableProcessor.resolveColumnFields(entityClass)) {
+                final String column = fieldToColumnMap.get(field.getName());
+
+                final Class<?> fieldType = field.getType();
+                final MethodHandle setter = lookup.unreflectSetter(field)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                columnMappings.add(new ColumnMapping(
+                        column,
+                        resolver.resolveCodec(field),
+                        fieldType.isPrimitive(),
+                        setter
+                ));
+            }
+
+            final List<EmbeddedMapping> embeddedMappings = new ArrayList<>();
+            for (final EmbeddedMetadata embedded : TableProcessor.resolveEmbeddedFields(entityClass)) {
+                final MethodHandle setter = lookup.unreflectSetter(embedded.field())
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                embeddedMappings.add(EmbeddedMapping.of(embedded, resolver, setter));
+            }
+            return new EntityRowMapper<>(constructor, List.copyOf(columnMappings), List.copyOf(embeddedMappings),
+                    byPosition);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new SqlExecutionException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Maps the current row of the result set to a new entity instance.
+     *
+     * @param resultSet The result set, positioned on the row to map.
+     * @return The mapped entity.
+     * @throws SQLException If a column cannot be read.
+     */
+    @Override
+    public T map(final ResultSet resultSet) throws SQLException {
+        try {
+            final Object instance = constructor.invokeExact();
+            // The constructor is the no-arg constructor of the mapped entity class
+            @SuppressWarnings("unchecked")
+            final T entity = (T) instance;
+            for (int i = 0; i < columnMappings.size(); i++) {
+                final ColumnMapping columnMapping = columnMappings.get(i);
+                final int columnIndex = byPosition ? i + 1 : resultSet.findColumn(columnMapping.column());
+                final Object value = columnMapping.codec().read(resultSet, columnIndex);
+                if (value == null && columnMapping.primitive()) continue;
+                columnMapping.setter().invokeExact(instance, value);
+            }
+
+            int columnPosition = columnMappings.size();
+            for (final EmbeddedMapping embeddedMapping : embeddedMappings) {
+                final List<String> columns = embeddedMapping.columns();
+                final Object[] values = new Object[columns.size()];
+                boolean present = false;
+                for (int i = 0; i < values.length; i++) {
+                    final int columnIndex = byPosition ? ++columnPosition : resultSet.findColumn(columns.get(i));
+                    final Object value = embeddedMapping.codecs().get(i).read(resultSet, columnIndex);
+                    present |= value != null;
+                    values[i] = value != null ? value : embeddedMapping.defaults()[i];
+                }
+                if (present) embeddedMapping.setter().invokeExact(instance, embeddedMapping.factory().create(values));
+            }
+            return entity;
+        } catch (SQLException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new SqlExecutionException(t.getMessage(), t);
+        }
+    }
+
+    /**
+     * Represents a mapped column.
+     *
+     * @param column    The name of the column.
+     * @param codec     The {@link ColumnCodec} the column is read through.
+     * @param primitive Whether the field is of a primitive type.
+     * @param setter    The setter handle of the field, typed as {@code (Object, Object) -> void}.
+     */
+    private record ColumnMapping(String column, ColumnCodec codec, boolean primitive, MethodHandle setter) {
+    }
+
+    /**
+     * Represents a mapped embedded field.
+     *
+     * @param columns  The names of the embeddable's columns.
+     * @param codecs   The {@link ColumnCodec}s the columns are read through, in column order.
+     * @param defaults The values of the columns holding {@code NULL}, which are the defaults of primitive fields.
+     * @param factory  The {@link EmbeddableFactory} creating the embeddable from its column values.
+     * @param setter   The setter handle of the embedded field, typed as {@code (Object, Object) -> void}.
+     */
+    private record EmbeddedMapping(List<String> columns,
+                                   List<ColumnCodec> codecs,
+                                   Object[] defaults,
+                                   EmbeddableFactory factory,
+                                   MethodHandle setter) {
+
+        /**
+         * Resolves the mapping of an embedded field.
+         *
+         * @param embedded The {@link EmbeddedMetadata} of the field.
+         * @param resolver The {@link ColumnTypeResolver} of the database engine.
+         * @param setter   The setter handle of the embedded field.
+         * @return The {@link EmbeddedMapping} of the field.
+         * @throws NoSuchMethodException  If the embeddable lacks a canonical or no-arg constructor.
+         * @throws IllegalAccessException If the embeddable's constructor or fields cannot be accessed.
+         */
+        static EmbeddedMapping of(final EmbeddedMetadata embedded,
+                                  final ColumnTypeResolver resolver,
+                                  final MethodHandle setter) throws NoSuchMethodException, IllegalAccessException {
+            final Class<?> embeddableClass = embedded.field().getType();
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(embeddableClass, MethodHandles.lookup());
+            final List<Field> fields = embedded.columnFields();
+            final List<ColumnCodec> codecs = new ArrayList<>();
+            final Object[] defaults = new Object[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                final Class<?> fieldType = fields.get(i).getType();
+                codecs.add(resolver.resolveCodec(fields.get(i)));
+                if (fieldType.isPrimitive()) defaults[i] = Array.get(Array.newInstance(fieldType, 1), 0);
+            }
+            return new EmbeddedMapping(embedded.columnNames(), List.copyOf(codecs), defaults,
+                    embeddableClass.isRecord()
+                            ? recordFactory(embeddableClass, fields, lookup)
+                            : classFactory(embeddableClass, fields, lookup),
+                    setter);
+        }
+
+        /**
+         * Creates the factory of a record embeddable, passing the column values to its canonical constructor.
+         *
+         * @param embeddableClass The record class.
+         * @param fields          The column fields of the record, one per component.
+         * @param lookup          The lookup with private access to the record class.
+         * @return The {@link EmbeddableFactory} of the record.
+         * @throws NoSuchMethodException  If the record lacks a canonical constructor.
+         * @throws IllegalAccessException If the canonical constructor cannot be accessed.
+         */
+        private static EmbeddableFactory recordFactory(final Class<?> embeddableClass,
+                                                       final List<Field> fields,
+                                                       final MethodHandles.Lookup lookup)
+                throws NoSuchMethodException, IllegalAccessException {
+            final RecordComponent[] components = embeddableClass.getRecordComponents();
+            final Class<?>[] parameterTypes = new Class<?>[components.length];
+            final int[] columnIndexes = new int[components.length];
+            for (int i = 0; i < components.length; i++) {
+                parameterTypes[i] = components[i].getType();
+                final String componentName = components[i].getName();
+                columnIndexes[i] = fields.stream().map(Field::getName).toList().indexOf(componentName);
+            }
+            final MethodHandle canonicalConstructor = lookup
+                    .findConstructor(embeddableClass, MethodType.methodType(void.class, parameterTypes))
+                    .asType(MethodType.genericMethodType(components.length))
+                    .asSpreader(Object[].class, components.length);
+            return values -> {
+                final Object[] arguments = new Object[columnIndexes.length];
+                for (int i = 0; i < arguments.length; i++) arguments[i] = values[columnIndexes[i]];
+                return canonicalConstructor.invokeExact(arguments);
+            };
+        }
+
+        /**
+         * Creates the factory of a class embeddable, assigning the column values to the fields of a new instance.
+         *
+         * @param embeddableClass The embeddable class.
+         * @param fields          The column fields of the class.
+         * @param lookup          The lookup with private access to the class.
+         * @return The {@link EmbeddableFactory} of the class.
+         * @throws NoSuchMethodException  If the class lacks a no-arg constructor.
+         * @throws IllegalAccessException If the no-arg constructor or the fields cannot be accessed.
+         */
+        private static EmbeddableFactory classFactory(final Class<?> embeddableClass,
+                                                      final List<Field> fields,
+                                                      final MethodHandles.Lookup lookup)
+                throws NoSuchMethodException, IllegalAccessException {
+            final MethodHandle noArgConstructor = lookup
+                    .findConstructor(embeddableClass, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+            final MethodHandle[] setters = new MethodHandle[fields.size()];
+            for (int i = 0; i < setters.length; i++) {
+                setters[i] = lookup.unreflectSetter(fields.get(i))
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            }
+            return values -> {
+                final Object embeddable = noArgConstructor.invokeExact();
+                for (int i = 0; i < setters.length; i++) {
+                    if (values[i] != null) setters[i].invokeExact(embeddable, values[i]);
+                }
+                return embeddable;
+            };
+        }
+
+    }
+
+    /**
+     * Creates an embeddable from the values of its columns.
+     */
+    @FunctionalInterface
+    private interface EmbeddableFactory {
+
+        /**
+         * Creates an embeddable.
+         *
+         * @param values The values of the embeddable's columns, in column order.
+         * @return The embeddable.
+         * @throws Throwable If the embeddable's constructor or a setter fails.
+         */
+        Object create(final Object[] values) throws Throwable;
+
+    }
+
+}
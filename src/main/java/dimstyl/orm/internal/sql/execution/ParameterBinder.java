@@ -0,0 +1,95 @@
+package dimstyl.orm.internal.sql.execution;
+
+import dimstyl.orm.internal.sql.resolver.ColumnCodec;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Binds the arguments of a repository method to the parameters of a prepared statement.
+ */
+@FunctionalInterface
+public interface ParameterBinder {
+
+    /**
+     * A binder for statements without parameters.
+     */
+    ParameterBinder NONE = (statement, args) -> {
+    };
+
+    /**
+     * Binds the arguments to the statement's parameters.
+     *
+     * @param statement The prepared statement.
+     * @param args      The arguments of the repository method, or {@code null} if it has no parameters.
+     * @throws SQLException If a parameter cannot be bound.
+     */
+    void bind(final PreparedStatement statement, final Object[] args) throws SQLException;
+
+    /**
+     * Creates a binder that binds each argument, in order, to the parameter at the same position.
+     *
+     * @param parameterCount The number of parameters of the statement.
+     * @return The positional {@link ParameterBinder}.
+     */
+    static ParameterBinder positional(final int parameterCount) {
+        if (parameterCount == 0) return NONE;
+        return (statement, args) -> {
+            for (int i = 0; i < parameterCount; i++) statement.setObject(i + 1, args[i]);
+        };
+    }
+
+    /**
+     * Creates a binder that encodes each argument, in order, through its codec, and binds it to the parameter
+     * at the same position.
+     *
+     * @param codecs The {@link ColumnCodec} of each argument, in parameter order.
+     * @return The positional {@link ParameterBinder}.
+     */
+    static ParameterBinder positional(final ColumnCodec[] codecs) {
+        if (codecs.length == 0) return NONE;
+        final ColumnCodec[] parameterCodecs = codecs.clone();
+        return (statement, args) -> {
+            for (int i = 0; i < parameterCodecs.length; i++) {
+                parameterCodecs[i].bind(statement, i + 1, args[i]);
+            }
+        };
+    }
+
+    /**
+     * Creates a binder that binds the argument at the given index to each parameter.
+     * <p>
+     * An argument may be bound to several parameters, e.g. when a named parameter is referenced twice.
+     * </p>
+     *
+     * @param parameterIndexes The index of the argument bound to each parameter, in parameter order.
+     * @return The indexed {@link ParameterBinder}.
+     */
+    static ParameterBinder indexed(final int[] parameterIndexes) {
+        if (parameterIndexes.length == 0) return NONE;
+        final int[] indexes = parameterIndexes.clone();
+        return (statement, args) -> {
+            for (int i = 0; i < indexes.length; i++) statement.setObject(i + 1, args[indexes[i]]);
+        };
+    }
+
+    /**
+     * Creates a binder that encodes the argument at the given index through its codec, and binds it
+     * to each parameter.
+     *
+     * @param parameterIndexes The index of the argument bound to each parameter, in parameter order.
+     * @param argumentCodecs   The {@link ColumnCodec} of each argument, in argument order.
+     * @return The indexed {@link ParameterBinder}.
+     */
+    static ParameterBinder indexed(final int[] parameterIndexes, final ColumnCodec[] argumentCodecs) {
+        if (parameterIndexes.length == 0) return NONE;
+        final int[] indexes = parameterIndexes.clone();
+        final ColumnCodec[] codecs = argumentCodecs.clone();
+        return (statement, args) -> {
+            for (int i = 0; i < indexes.length; i++) {
+                codecs[indexes[i]].bind(statement, i + 1, args[indexes[i]]);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,134 @@
+package dimstyl.orm.internal.sql.execution;
+
+import dimstyl.orm.annotations.Column;
+import dimstyl.orm.exceptions.SqlExecutionException;
+import dimstyl.orm.internal.utils.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.RecordComponent;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps rows to instances of a record class, used as projections of native queries.
+ * <p>
+ * Each record component is read from the column labeled after the component, either the name of its
+ * {@link Column} annotation or its name in snake_case, and the record is created through a handle of its
+ * canonical constructor resolved once, when the mapper is created. Columns holding {@code NULL}
+ * leave primitive components at their default value.
+ * </p>
+ *
+ * @param <T> The type of the record.
+ */
+public final class RecordRowMapper<T extends Record> implements RowMapper<T> {
+
+    /**
+     * The handle of the record's canonical constructor, typed as {@code (Object[]) -> Object}.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * The column label of each component, in declaration order.
+     */
+    private final String[] labels;
+
+    /**
+     * The type each column is read as.
+     */
+    private final Class<?>[] types;
+
+    /**
+     * The default value of each component, used when its column holds {@code NULL}.
+     */
+    private final Object[] defaults;
+
+    /**
+     * Private constructor, use {@link #of(Class)}.
+     *
+     * @param constructor The handle of the record's canonical constructor.
+     * @param labels      The column label of each component.
+     * @param types       The type each column is read as.
+     * @param defaults    The default value of each component.
+     */
+    private RecordRowMapper(final MethodHandle constructor,
+                            final String[] labels,
+                            final Class<?>[] types,
+                            final Object[] defaults) {
+        this.constructor = constructor;
+        this.labels = labels;
+        this.types = types;
+        this.defaults = defaults;
+    }
+
+    /**
+     * Creates a row mapper for a record class.
+     *
+     * @param recordClass The record class.
+     * @param <T>         The type of the record.
+     * @return The {@link RecordRowMapper} of the record class.
+     * @throws SqlExecutionException If the record's canonical constructor is not accessible.
+     */
+    public static <T extends Record> RecordRowMapper<T> of(final Class<T> recordClass) throws SqlExecutionException {
+        final RecordComponent[] components = recordClass.getRecordComponents();
+        final String[] labels = new String[components.length];
+        final Class<?>[] componentTypes = new Class<?>[components.length];
+        final Class<?>[] types = new Class<?>[components.length];
+        final Object[] defaults = new Object[components.length];
+
+        try {
+            for (int i = 0; i < components.length; i++) {
+                final RecordComponent component = components[i];
+                // @Column targets fields, so on a record component it is propagated to the component's field
+                final Column column = recordClass.getDeclaredField(component.getName()).getAnnotation(Column.class);
+                labels[i] = column != null && !column.name().isBlank()
+                        ? column.name()
+                        : StringUtils.getDefaultName(component.getName());
+                componentTypes[i] = component.getType();
+                types[i] = MethodType.methodType(component.getType()).wrap().returnType();
+                defaults[i] = component.getType().isPrimitive()
+                        ? Array.get(Array.newInstance(component.getType(), 1), 0)
+                        : null;
+            }
+
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(recordClass, MethodHandles.lookup());
+            final MethodHandle constructor = lookup
+                    .findConstructor(recordClass, MethodType.methodType(void.class, componentTypes))
+                    .asSpreader(Object[].class, components.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return new RecordRowMapper<>(constructor, labels, types, defaults);
+        } catch (NoSuchFieldException | NoSuchMethodException | IllegalAccessException e) {
+            throw new SqlExecutionException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Maps the current row of the result set to a new record instance.
+     *
+     * @param resultSet The result set, positioned on the row to map.
+     * @return The mapped record.
+     * @throws SQLException If a column cannot be read.
+     */
+    @Override
+    public T map(final ResultSet resultSet) throws SQLException {
+        final Object[] values = new Object[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            final Object value = resultSet.getObject(labels[i], types[i]);
+            values[i] = value != null ? value : defaults[i];
+        }
+        try {
+            final Object instance = constructor.invokeExact(values);
+            // The constructor is the canonical constructor of the mapped record class
+            @SuppressWarnings("unchecked")
+            final T mapped = (T) instance;
+            return mapped;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new SqlExecutionException(t.getMessage(), t);
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package dimstyl.orm.internal.sql.execution;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a {@link ResultSet} to an object.
+ *
+ * @param <T> The type of the mapped object.
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Maps the current row of the result set.
+     *
+     * @param resultSet The result set, positioned on the row to map.
+     * @return The mapped object.
+     * @throws SQLException If a column cannot be read.
+     */
+    T map(final ResultSet resultSet) throws SQLException;
+
+    /**
+     * Creates a row mapper that reads the first column of each row.
+     *
+     * @param type The type the column is read as.
+     * @param <T>  The type of the mapped value.
+     * @return The single-column {@link RowMapper}.
+     */
+    static <T> RowMapper<T> scalar(final Class<T> type) {
+        return resultSet -> resultSet.getObject(1, type);
+    }
+
+}
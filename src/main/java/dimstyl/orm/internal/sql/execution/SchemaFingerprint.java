@@ -0,0 +1,202 @@
+package dimstyl.orm.internal.sql.execution;
+
+import dimstyl.orm.annotations.UniqueConstraint;
+import dimstyl.orm.exceptions.SqlExecutionException;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.ColumnMetadata;
+import dimstyl.orm.metadata.DatabaseMetadata;
+import dimstyl.orm.metadata.ForeignKeyMetadata;
+import dimstyl.orm.metadata.IndexMetadata;
+import dimstyl.orm.metadata.TableMetadata;
+import dimstyl.orm.runtime.Retries;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.stream.Collectors;
+
+/**
+ * Utility class fingerprinting the schema of a database, so that unchanged schemas are not processed again.
+ * <p>
+ * The fingerprint is a SHA-256 hash of the tables of a {@link DatabaseMetadata}, independent of their declaration
+ * order, and is stored in the database itself, in the framework-owned table {@value #TABLE_NAME}, once its schema
+ * has been created or synchronized. On later starts, a database whose stored fingerprint matches the one of its
+ * tables needs no DDL generation, script writing or execution at all. Since the fingerprint lives in the database,
+ * a database that is deleted or replaced loses it, and has its schema created again.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     if (!SchemaFingerprint.isCurrent(databaseMetadata, connection)) {
+ *         SqlQueryExecutor.executeCreateTableQueries(generator.generate(databaseMetadata), connection);
+ *         SchemaFingerprint.record(databaseMetadata, connection);
+ *     }
+ * </pre>
+ */
+public final class SchemaFingerprint {
+
+    /**
+     * The name of the table holding the fingerprint of each database.
+     */
+    public static final String TABLE_NAME = "orm_schema_fingerprint";
+
+    /**
+     * The version of the fingerprinted content, to be increased whenever the generated DDL changes
+     * for the same tables, so that existing schemas are processed again.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SchemaFingerprint() {
+    }
+
+    /**
+     * Computes the fingerprint of the tables of a database.
+     *
+     * @param databaseMetadata The {@link DatabaseMetadata} of the database.
+     * @return The fingerprint, as a hexadecimal SHA-256 hash.
+     */
+    public static String compute(final DatabaseMetadata databaseMetadata) {
+        final StringBuilder content = new StringBuilder()
+                .append(VERSION).append('|')
+                .append(databaseMetadata.databaseEngine()).append('\n');
+
+        databaseMetadata.tableMetadataList().stream()
+                .sorted(Comparator.comparing(TableMetadata::tableName))
+                .forEach(tableMetadata -> {
+                    content.append("table ").append(tableMetadata.tableName()).append('\n');
+                    for (final ColumnMetadata column : tableMetadata.columnMetadataList()) {
+                        content.append("column ").append(column.columnName()).append(' ').append(column.columnType())
+                                .append(column.primaryKey() ? " pk" : "")
+                                .append(column.nullable() ? " null" : "")
+                                .append(column.unique() ? " unique" : "")
+                                .append('\n');
+                    }
+                    for (final UniqueConstraint uniqueConstraint : tableMetadata.uniqueConstraints()) {
+                        content.append("unique ").append(String.join(",", uniqueConstraint.columnNames())).append('\n');
+                    }
+                    for (final ForeignKeyMetadata foreignKey : tableMetadata.foreignKeys()) {
+                        content.append("foreign ").append(foreignKey.columnName()).append(' ')
+                                .append(foreignKey.referencedTableName()).append(' ')
+                                .append(foreignKey.referencedColumnName()).append(' ')
+                                .append(foreignKey.onDelete()).append('\n');
+                    }
+                    for (final IndexMetadata index : tableMetadata.indexes()) {
+                        content.append("index ").append(index.indexName()).append(' ')
+                                .append(index.columnNames().stream()
+                                        .map(column -> index.descendingColumnNames().contains(column)
+                                                ? column + " desc" : column)
+                                        .collect(Collectors.joining(",")))
+                                .append(index.where().isEmpty() ? "" : " where " + index.where())
+                                .append('\n');
+                    }
+                });
+
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Checks whether the fingerprint stored in a database matches the one of its tables.
+     *
+     * @param databaseMetadata The {@link DatabaseMetadata} of the database.
+     * @param connection       The database connection.
+     * @return {@code true} if the schema of the database is unchanged, {@code false} if it has never been
+     * fingerprinted or its tables have changed since.
+     */
+    public static boolean isCurrent(final DatabaseMetadata databaseMetadata, final Connection connection) {
+        final String query = String.format("SELECT fingerprint FROM %s WHERE database_name = ?", TABLE_NAME);
+        try (final PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, databaseMetadata.databaseName());
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                final boolean current = resultSet.next() && resultSet.getString(1).equals(compute(databaseMetadata));
+                if (current) {
+                    ConsoleUtils.printFormatted("\n⏩ Schema of database '%s' is unchanged, skipping DDL\n",
+                            databaseMetadata.databaseName());
+                }
+                return current;
+            }
+        } catch (SQLException e) {
+            // The fingerprint table does not exist yet
+            return false;
+        }
+    }
+
+    /**
+     * Stores the fingerprint of the tables of a database in the database, creating the fingerprint table
+     * if needed.
+     * <p>
+     * It must only be called once the schema of the database has been created or synchronized. The fingerprint
+     * is replaced in one transaction, retried as a whole after transient errors.
+     * </p>
+     *
+     * @param databaseMetadata The {@link DatabaseMetadata} of the database.
+     * @param connection       The database connection, in auto-commit mode.
+     * @throws SqlExecutionException If the fingerprint cannot be stored.
+     */
+    public static void record(final DatabaseMetadata databaseMetadata, final Connection connection)
+            throws SqlExecutionException {
+        final String fingerprint = compute(databaseMetadata);
+        if (!tableExists(connection)) {
+            try (final Statement statement = connection.createStatement()) {
+                statement.execute(String.format(
+                        "CREATE TABLE %s (database_name VARCHAR(255) NOT NULL, fingerprint VARCHAR(64) NOT NULL, "
+                                + "PRIMARY KEY (database_name))",
+                        TABLE_NAME
+                ));
+            } catch (SQLException e) {
+                throw StatementWatchdog.translate(e);
+            }
+        }
+
+        Retries.transaction(databaseMetadata, connection, transaction -> {
+            try (final PreparedStatement delete = transaction.prepareStatement(
+                    String.format("DELETE FROM %s WHERE database_name = ?", TABLE_NAME));
+                 final PreparedStatement insert = transaction.prepareStatement(
+                         String.format("INSERT INTO %s (database_name, fingerprint) VALUES (?, ?)", TABLE_NAME))) {
+                delete.setString(1, databaseMetadata.databaseName());
+                delete.executeUpdate();
+                insert.setString(1, databaseMetadata.databaseName());
+                insert.setString(2, fingerprint);
+                return insert.executeUpdate();
+            } catch (SQLException e) {
+                throw StatementWatchdog.translate(e);
+            }
+        });
+        ConsoleUtils.printFormatted("💾 Schema fingerprint of database '%s' recorded\n",
+                databaseMetadata.databaseName());
+    }
+
+    /**
+     * Checks whether the fingerprint table exists.
+     *
+     * @param connection The database connection.
+     * @return {@code true} if the fingerprint table exists, otherwise {@code false}.
+     * @throws SqlExecutionException If the metadata of the database cannot be read.
+     */
+    private static boolean tableExists(final Connection connection) throws SqlExecutionException {
+        try (final ResultSet tables = connection.getMetaData()
+                .getTables(null, connection.getSchema(), "%", new String[]{"TABLE"})) {
+            while (tables.next()) {
+                if (TABLE_NAME.equalsIgnoreCase(tables.getString("TABLE_NAME"))) return true;
+            }
+            return false;
+        } catch (SQLException e) {
+            throw StatementWatchdog.translate(e);
+        }
+    }
+
+}
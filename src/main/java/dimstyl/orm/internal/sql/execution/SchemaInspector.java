@@ -0,0 +1,133 @@
+package dimstyl.orm.internal.sql.execution;
+
+import dimstyl.orm.metadata.DatabaseMetadata;
+import dimstyl.orm.metadata.LiveTableMetadata;
+import dimstyl.orm.metadata.TableMetadata;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Utility class reading the live schema of a database through JDBC {@link DatabaseMetaData}.
+ * <p>
+ * The tables and columns of the current schema are read with one metadata query each, whatever the number
+ * of tables, so that inspecting a large, up-to-date schema costs a few round trips. Indexes can only be read
+ * per table, so they are only read for the existing tables declaring unique columns, constraints or indexes.
+ * </p>
+ */
+final class SchemaInspector {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SchemaInspector() {
+    }
+
+    /**
+     * Reads the tables of the current schema that a database should have.
+     *
+     * @param databaseMetadata The {@link DatabaseMetadata} of the database.
+     * @param connection       The database connection.
+     * @return The {@link LiveTableMetadata} of every existing table, by upper-cased name.
+     * @throws SQLException If the metadata of the database cannot be read.
+     */
+    static Map<String, LiveTableMetadata> inspect(final DatabaseMetadata databaseMetadata,
+                                                  final Connection connection) throws SQLException {
+        final DatabaseMetaData metaData = connection.getMetaData();
+        final String schema = connection.getSchema();
+
+        // Read the names of all tables, then the columns of all tables
+        final Map<String, String> tableNames = new HashMap<>();
+        final Map<String, Set<String>> columnNames = new HashMap<>();
+        try (final ResultSet tables = metaData.getTables(null, schema, "%", new String[]{"TABLE"})) {
+            while (tables.next()) {
+                final String tableName = tables.getString("TABLE_NAME");
+                tableNames.put(normalize(tableName), tableName);
+                columnNames.put(normalize(tableName), new HashSet<>());
+            }
+        }
+        try (final ResultSet columns = metaData.getColumns(null, schema, "%", "%")) {
+            while (columns.next()) {
+                final Set<String> tableColumnNames = columnNames.get(normalize(columns.getString("TABLE_NAME")));
+                if (tableColumnNames != null) tableColumnNames.add(normalize(columns.getString("COLUMN_NAME")));
+            }
+        }
+
+        final Map<String, LiveTableMetadata> liveTables = new HashMap<>();
+        for (final TableMetadata tableMetadata : databaseMetadata.tableMetadataList()) {
+            final String key = normalize(tableMetadata.tableName());
+            final String tableName = tableNames.get(key);
+            if (tableName == null) continue;
+
+            final LiveTableMetadata.LiveTableMetadataBuilder liveTable = LiveTableMetadata.builder()
+                    .tableName(tableName)
+                    .columnNames(Set.copyOf(columnNames.get(key)))
+                    .uniqueColumnSets(Set.of())
+                    .indexNames(Set.of());
+            if (hasIndexes(tableMetadata)) readIndexes(metaData, schema, tableName, liveTable);
+            liveTables.put(key, liveTable.build());
+        }
+        return liveTables;
+    }
+
+    /**
+     * Checks whether a table declares unique columns, constraints or indexes, other than its primary key.
+     *
+     * @param tableMetadata The metadata for the table.
+     * @return {@code true} if the table declares unique columns, constraints or indexes, {@code false} otherwise.
+     */
+    private static boolean hasIndexes(final TableMetadata tableMetadata) {
+        return tableMetadata.uniqueConstraints().length > 0 || !tableMetadata.indexes().isEmpty()
+               || tableMetadata.columnMetadataList().stream().anyMatch(column -> column.unique() && !column.primaryKey());
+    }
+
+    /**
+     * Reads the names of the indexes of a table, and the column names of each of its unique indexes.
+     *
+     * @param metaData  The {@link DatabaseMetaData} of the database.
+     * @param schema    The schema of the table.
+     * @param tableName The name of the table, as stored by the database.
+     * @param liveTable The builder of the table, to set the read indexes on.
+     * @throws SQLException If the indexes cannot be read.
+     */
+    private static void readIndexes(final DatabaseMetaData metaData,
+                                    final String schema,
+                                    final String tableName,
+                                    final LiveTableMetadata.LiveTableMetadataBuilder liveTable) throws SQLException {
+        final Set<String> indexNames = new HashSet<>();
+        final Map<String, Set<String>> uniqueIndexColumns = new HashMap<>();
+        try (final ResultSet indexes = metaData.getIndexInfo(null, schema, tableName, false, true)) {
+            while (indexes.next()) {
+                final String indexName = indexes.getString("INDEX_NAME");
+                final String columnName = indexes.getString("COLUMN_NAME");
+                if (indexName == null || columnName == null) continue;
+                indexNames.add(normalize(indexName));
+                if (indexes.getBoolean("NON_UNIQUE")) continue;
+                uniqueIndexColumns.computeIfAbsent(indexName, name -> new HashSet<>()).add(normalize(columnName));
+            }
+        }
+        liveTable.indexNames(Set.copyOf(indexNames))
+                .uniqueColumnSets(uniqueIndexColumns.values().stream()
+                        .map(Set::copyOf)
+                        .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    /**
+     * Normalizes an identifier read from the database for comparison with the identifiers of the tables.
+     *
+     * @param identifier The identifier.
+     * @return The upper-cased identifier.
+     */
+    private static String normalize(final String identifier) {
+        return identifier.toUpperCase(Locale.ROOT);
+    }
+
+}
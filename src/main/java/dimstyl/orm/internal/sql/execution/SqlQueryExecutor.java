@@ -1,47 +1,46 @@
 package dimstyl.orm.internal.sql.execution;
 
 import dimstyl.orm.annotations.Column;
+import dimstyl.orm.enums.DatabaseEngine;
 import dimstyl.orm.exceptions.MissingColumnAnnotationException;
+import dimstyl.orm.exceptions.NonUniqueResultException;
+import dimstyl.orm.exceptions.QueryTimeoutException;
 import dimstyl.orm.exceptions.SqlExecutionException;
 import dimstyl.orm.internal.processors.TableProcessor;
+import dimstyl.orm.internal.sql.resolver.ColumnCodec;
+import dimstyl.orm.internal.sql.resolver.ColumnTypeResolverFactory;
 import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.DatabaseMetadata;
+import dimstyl.orm.metadata.SchemaSyncMetadata;
 import dimstyl.orm.model.Entity;
+import dimstyl.orm.runtime.Deadline;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Utility class responsible for executing SQL queries related to ORM operations.
  * <p>
  * This class provides methods for executing SQL queries such as `CREATE TABLE`, `SELECT ALL`,
- * and `DELETE BY ID` while mapping results to entity classes dynamically.
+ * `FIND BY ID` and `DELETE BY ID` while mapping results to entity classes dynamically.
+ * </p>
+ * <p>
+ * Every statement honours the {@link Deadline} active on the calling thread, and is cancelled when
+ * the deadline passes or the calling thread is interrupted before it, see {@link StatementWatchdog}.
  * </p>
  */
 public final class SqlQueryExecutor {
 
     /**
-     * A mapping of primitive types to their corresponding wrapper classes.
-     * <p>
-     * This is useful when retrieving values from a {@code ResultSet}, as JDBC
-     * returns wrapper types instead of primitives.
-     * </p>
+     * The number of executions sent to the database at once by batched statements.
      */
-    private static final Map<Class<?>, Class<?>> primitiveToWrapperMap = Map.ofEntries(
-            Map.entry(boolean.class, Boolean.class),
-            Map.entry(short.class, Short.class),
-            Map.entry(int.class, Integer.class),
-            Map.entry(long.class, Long.class),
-            Map.entry(float.class, Float.class),
-            Map.entry(double.class, Double.class)
-    );
+    private static final int BATCH_SIZE = 1_000;
 
     /**
      * Private constructor to prevent instantiation of this utility class.
@@ -51,70 +50,115 @@ public final class SqlQueryExecutor {
 
     /**
      * Executes a list of `CREATE TABLE` SQL queries.
+     * <p>
+     * The queries are sent as a single JDBC batch within one transaction, in the given order, which must create
+     * referenced tables first, as the queries generated for a database do. On engines with transactional DDL,
+     * such as SQLite and Derby, a failing query leaves none of the tables created. H2 commits each DDL statement
+     * on its own, so the tables created before the failing query remain.
+     * </p>
      *
      * @param createTableQueries List of SQL `CREATE TABLE` queries.
-     * @param connection         The database connection.
-     * @throws SqlExecutionException If an error occurs while executing the queries.
+     * @param connection         The database connection, in auto-commit mode.
+     * @throws QueryTimeoutException If a query is cancelled before completing.
+     * @throws SqlExecutionException  If an error occurs while executing the queries.
      */
     public static void executeCreateTableQueries(final List<String> createTableQueries, final Connection connection)
-            throws SqlExecutionException {
+            throws QueryTimeoutException, SqlExecutionException {
         ConsoleUtils.printFormatted("\n🔄️ Executing 'CREATE TABLE' queries\n");
         try {
-            for (final String query : createTableQueries) executeCreateTable(query, connection);
-        } catch (SQLException e) {
+            executeInTransaction(connection, transaction -> {
+                executeDdlBatch(createTableQueries, transaction);
+                return createTableQueries.size();
+            });
+        } catch (SqlExecutionException e) {
             ConsoleUtils.printFormatted("❌ Table(s) creation failed\n\tERROR: %s\n", e.getMessage());
-            throw new SqlExecutionException(e.getMessage(), e);
+            throw e;
         }
         ConsoleUtils.printFormatted("✅ Table(s) created successfully\n");
     }
 
+    /**
+     * Reads the live schema of a database, as the input of a schema synchronization.
+     *
+     * @param databaseMetadata The {@link DatabaseMetadata} of the database, holding the tables it should have.
+     * @param connection       The database connection.
+     * @return The {@link SchemaSyncMetadata} of the database, holding the tables it actually has.
+     * @throws SqlExecutionException If the metadata of the database cannot be read.
+     */
+    public static SchemaSyncMetadata inspectSchema(final DatabaseMetadata databaseMetadata,
+                                                   final Connection connection) throws SqlExecutionException {
+        ConsoleUtils.printFormatted("\n🔄️ Reading the live schema of database '%s'\n", databaseMetadata.databaseName());
+        try {
+            final var liveTables = SchemaInspector.inspect(databaseMetadata, connection);
+            ConsoleUtils.printFormatted("✅ Found %d of %d table(s)\n",
+                    liveTables.size(), databaseMetadata.tableMetadataList().size());
+            return new SchemaSyncMetadata(databaseMetadata, liveTables);
+        } catch (SQLException e) {
+            ConsoleUtils.printFormatted("❌ Reading the live schema failed\n\tERROR: %s\n", e.getMessage());
+            throw StatementWatchdog.translate(e);
+        }
+    }
+
+    /**
+     * Executes the queries synchronizing the schema of a database.
+     * <p>
+     * Like the `CREATE TABLE` queries, the queries are sent as a single JDBC batch within one transaction,
+     * which only rolls back completely on engines with transactional DDL. No statement is sent if the schema
+     * is up to date.
+     * </p>
+     *
+     * @param schemaSyncQueries List of SQL `CREATE TABLE`, `ALTER TABLE` and `CREATE UNIQUE INDEX` queries.
+     * @param connection        The database connection, in auto-commit mode.
+     * @throws QueryTimeoutException If a query is cancelled before completing.
+     * @throws SqlExecutionException  If an error occurs while executing the queries.
+     */
+    public static void executeSchemaSyncQueries(final List<String> schemaSyncQueries, final Connection connection)
+            throws QueryTimeoutException, SqlExecutionException {
+        if (schemaSyncQueries.isEmpty()) return;
+
+        ConsoleUtils.printFormatted("\n🔄️ Executing schema synchronization queries\n");
+        try {
+            executeInTransaction(connection, transaction -> {
+                executeDdlBatch(schemaSyncQueries, transaction);
+                return schemaSyncQueries.size();
+            });
+        } catch (SqlExecutionException e) {
+            ConsoleUtils.printFormatted("❌ Schema synchronization failed\n\tERROR: %s\n", e.getMessage());
+            throw e;
+        }
+        ConsoleUtils.printFormatted("✅ Schema synchronized successfully\n");
+    }
+
     /**
      * Executes a `SELECT ALL` query and maps the results to a list of entity objects.
      *
-     * @param query       The SQL `SELECT ALL` query to be executed.
-     * @param connection  The database connection.
-     * @param entityClass The entity class type to map the result set.
-     * @param <T>         The type of the entity extending {@link Entity}.
+     * @param query          The SQL `SELECT ALL` query to be executed.
+     * @param connection     The database connection.
+     * @param entityClass    The entity class type to map the result set.
+     * @param databaseEngine The {@link DatabaseEngine} of the database.
+     * @param <T>            The type of the entity extending {@link Entity}.
      * @return A list of mapped entity objects.
      * @throws MissingColumnAnnotationException If a required {@link Column} annotation is missing.
+     * @throws QueryTimeoutException            If the query is cancelled before completing.
      * @throws SqlExecutionException            If an error occurs during query execution.
      */
+    @SuppressWarnings("try")
     public static <T extends Entity> List<T> executeSelectAllQuery(final String query,
                                                                    final Connection connection,
-                                                                   final Class<T> entityClass)
-            throws MissingColumnAnnotationException, SqlExecutionException {
+                                                                   final Class<T> entityClass,
+                                                                   final DatabaseEngine databaseEngine)
+            throws MissingColumnAnnotationException, QueryTimeoutException, SqlExecutionException {
         ConsoleUtils.printFormatted("\n🔄️ Executing 'SELECT ALL' query\n");
         final List<T> resultList = new ArrayList<>();
 
-        try (final Statement statement = connection.createStatement()) {
-            // Map<String, String>: key -> entity class field name, value -> table column name
-            final Map<String, String> fieldToColumnMap = TableProcessor.mapFieldsToColumns(entityClass);
-
-            // Get the no-arg constructor
-            final Constructor<?> constructor = entityClass.getDeclaredConstructor();
-            constructor.setAccessible(true); // Allow access to private constructors if needed
-
+        try (final Statement statement = connection.createStatement();
+             final var statementWatchdog = StatementWatchdog.watch(statement)) {
+            final EntityRowMapper<T> rowMapper = EntityRowMapper.of(entityClass, databaseEngine);
             final var resultSet = statement.executeQuery(query);
-            while (resultSet.next()) {
-                // Create a new instance of the entity
-                final T entity = (T) constructor.newInstance();
-
-                // Set field values dynamically
-                for (final Map.Entry<String, String> entry : fieldToColumnMap.entrySet()) {
-                    final String column = entry.getValue();
-                    final Field field = entityClass.getDeclaredField(entry.getKey());
-                    final Class<?> fieldType = field.getType().isPrimitive() ?
-                            primitiveToWrapperMap.get(field.getType()) : field.getType();
-                    final var value = resultSet.getObject(column, fieldType);
-                    field.setAccessible(true);
-                    field.set(entity, value);
-                }
-                resultList.add(entity);
-            }
-        } catch (SQLException | NoSuchMethodException | NoSuchFieldException | InvocationTargetException |
-                 InstantiationException | IllegalAccessException e) {
+            while (resultSet.next()) resultList.add(rowMapper.map(resultSet));
+        } catch (SQLException e) {
             ConsoleUtils.printFormatted("❌ 'SELECT ALL' query failed\n\tERROR: %s\n", e.getMessage());
-            throw new SqlExecutionException(e.getMessage(), e);
+            throw StatementWatchdog.translate(e);
         }
         ConsoleUtils.printFormatted("✅ 'SELECT ALL' query executed successfully\n");
         return resultList;
@@ -123,36 +167,406 @@ public final class SqlQueryExecutor {
     /**
      * Executes a `DELETE BY ID` query to remove a record from the database.
      *
-     * @param query      The SQL `DELETE` query with a placeholder for the ID.
-     * @param connection The database connection.
-     * @param id         The ID value to use in the query.
-     * @param <T>        The type of the ID (e.g., Integer, Long, String).
-     * @throws SqlExecutionException If an error occurs while executing the query.
+     * @param query          The SQL `DELETE` query with a placeholder for the ID.
+     * @param connection     The database connection.
+     * @param id             The ID value to use in the query.
+     * @param databaseEngine The {@link DatabaseEngine} of the database, encoding the ID.
+     * @param <T>            The type of the ID (e.g., Integer, Long, String).
+     * @throws QueryTimeoutException If the query is cancelled before completing.
+     * @throws SqlExecutionException  If an error occurs while executing the query.
      */
-    public static <T> void executeDeleteByIdQuery(final String query, final Connection connection, final T id)
-            throws SqlExecutionException {
+    @SuppressWarnings("try")
+    public static <T> void executeDeleteByIdQuery(final String query,
+                                                  final Connection connection,
+                                                  final T id,
+                                                  final DatabaseEngine databaseEngine)
+            throws QueryTimeoutException, SqlExecutionException {
         ConsoleUtils.printFormatted("\n🔄️ Executing 'DELETE BY ID' query\n");
-        try (final PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setObject(1, id);
+        try (final PreparedStatement statement = connection.prepareStatement(query);
+             final var statementWatchdog = StatementWatchdog.watch(statement)) {
+            statement.setObject(1, encodeId(id, databaseEngine));
             statement.executeUpdate();
         } catch (SQLException e) {
             ConsoleUtils.printFormatted("❌ 'DELETE BY ID' query failed\n\tERROR: %s\n", e.getMessage());
-            throw new SqlExecutionException(e.getMessage(), e);
+            throw StatementWatchdog.translate(e);
         }
         ConsoleUtils.printFormatted("✅ 'DELETE BY ID' query executed successfully\n");
     }
 
     /**
-     * Executes a single `CREATE TABLE` query.
+     * Executes a `FIND BY ID` query and maps the matching record, if any, to an entity object.
+     *
+     * @param query       The SQL `FIND BY ID` query, selecting the columns returned by
+     *                    {@link TableProcessor#resolveColumnNames(Class)} with a placeholder for the ID.
+     * @param connection     The database connection.
+     * @param entityClass    The entity class type to map the result set.
+     * @param id             The ID value to use in the query.
+     * @param databaseEngine The {@link DatabaseEngine} of the database.
+     * @param <T>            The type of the entity extending {@link Entity}.
+     * @param <K>            The type of the ID (e.g., Integer, Long, String).
+     * @return An {@link Optional} containing the mapped entity, otherwise empty if no record matches.
+     * @throws MissingColumnAnnotationException If a required {@link Column} annotation is missing.
+     * @throws QueryTimeoutException            If the query is cancelled before completing.
+     * @throws SqlExecutionException            If an error occurs during query execution.
+     */
+    public static <T extends Entity, K> Optional<T> executeFindByIdQuery(final String query,
+                                                                         final Connection connection,
+                                                                         final Class<T> entityClass,
+                                                                         final K id,
+                                                                         final DatabaseEngine databaseEngine)
+            throws MissingColumnAnnotationException, QueryTimeoutException, SqlExecutionException {
+        ConsoleUtils.printFormatted("\n🔄️ Executing 'FIND BY ID' query\n");
+        final Optional<T> result;
+        try {
+            final EntityRowMapper<T> rowMapper = EntityRowMapper.indexed(entityClass, databaseEngine);
+            final Object[] args = {encodeId(id, databaseEngine)};
+            result = executeSingleRowQuery(query, connection, ParameterBinder.positional(1), args, rowMapper);
+        } catch (SqlExecutionException e) {
+            ConsoleUtils.printFormatted("❌ 'FIND BY ID' query failed\n\tERROR: %s\n", e.getMessage());
+            throw e;
+        }
+        ConsoleUtils.printFormatted("✅ 'FIND BY ID' query executed successfully\n");
+        return result;
+    }
+
+    /**
+     * Executes a prepared query that matches at most one row, and maps that row.
+     * <p>
+     * This is the fast path of point lookups: the statement is taken from a per-connection cache
+     * instead of being prepared on every call, the driver is asked for a single row, and the row
+     * is mapped directly, without collecting a list.
+     * </p>
+     *
+     * @param query      The SQL query, with {@code ?} placeholders.
+     * @param connection The database connection, used by one thread at a time.
+     * @param binder     The {@link ParameterBinder} of the query's parameters.
+     * @param args       The arguments to bind, or {@code null} if there are none.
+     * @param rowMapper  The {@link RowMapper} of the matching row.
+     * @param <T>        The type of the mapped row.
+     * @return An {@link Optional} containing the mapped row, otherwise empty if no row matches
+     * or the row maps to {@code null}, e.g. a single {@code NULL} column.
+     * @throws QueryTimeoutException If the query is cancelled before completing.
+     * @throws SqlExecutionException  If an error occurs during query execution.
+     */
+    @SuppressWarnings("try")
+    public static <T> Optional<T> executeSingleRowQuery(final String query,
+                                                        final Connection connection,
+                                                        final ParameterBinder binder,
+                                                        final Object[] args,
+                                                        final RowMapper<T> rowMapper)
+            throws QueryTimeoutException, SqlExecutionException {
+        try {
+            final PreparedStatement statement = StatementCache.prepare(connection, query);
+            try (final var statementWatchdog = StatementWatchdog.watch(statement)) {
+                statement.setMaxRows(1);
+                binder.bind(statement, args);
+                try (final var resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? Optional.ofNullable(rowMapper.map(resultSet)) : Optional.empty();
+                }
+            }
+        } catch (SQLException e) {
+            StatementCache.evict(connection, query);
+            throw StatementWatchdog.translate(e);
+        }
+    }
+
+    /**
+     * Executes a prepared query expected to match at most one row, and maps that row.
+     * <p>
+     * Unlike {@link #executeSingleRowQuery(String, Connection, ParameterBinder, Object[], RowMapper)}, which relies
+     * on the query matching a single row, e.g. by primary key, the driver is asked for up to two rows, so that
+     * a query matching several rows fails instead of returning an arbitrary one of them.
+     * </p>
      *
-     * @param query      The `CREATE TABLE` SQL query.
+     * @param query      The SQL query, with {@code ?} placeholders.
+     * @param connection The database connection, used by one thread at a time.
+     * @param binder     The {@link ParameterBinder} of the query's parameters.
+     * @param args       The arguments to bind, or {@code null} if there are none.
+     * @param rowMapper  The {@link RowMapper} of the matching row.
+     * @param <T>        The type of the mapped row.
+     * @return An {@link Optional} containing the mapped row, otherwise empty if no row matches
+     * or the row maps to {@code null}.
+     * @throws NonUniqueResultException If the query matches more than one row.
+     * @throws QueryTimeoutException    If the query is cancelled before completing.
+     * @throws SqlExecutionException    If an error occurs during query execution.
+     */
+    @SuppressWarnings("try")
+    public static <T> Optional<T> executeUniqueRowQuery(final String query,
+                                                        final Connection connection,
+                                                        final ParameterBinder binder,
+                                                        final Object[] args,
+                                                        final RowMapper<T> rowMapper)
+            throws NonUniqueResultException, QueryTimeoutException, SqlExecutionException {
+        try {
+            final PreparedStatement statement = StatementCache.prepare(connection, query);
+            try (final var statementWatchdog = StatementWatchdog.watch(statement)) {
+                statement.setMaxRows(2);
+                binder.bind(statement, args);
+                try (final var resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) return Optional.empty();
+                    final T row = rowMapper.map(resultSet);
+                    if (resultSet.next()) {
+                        throw new NonUniqueResultException("Query expected to match at most one row matched several: "
+                                + query);
+                    }
+                    return Optional.ofNullable(row);
+                }
+            }
+        } catch (SQLException e) {
+            StatementCache.evict(connection, query);
+            throw StatementWatchdog.translate(e);
+        }
+    }
+
+    /**
+     * Executes a prepared query and maps every row of its result.
+     * <p>
+     * This is the execution path of precompiled repository methods: the query, the binder and the row mapper are
+     * all resolved ahead of time, so nothing is generated, looked up or logged while the query runs.
+     * </p>
+     *
+     * @param query      The SQL query, with {@code ?} placeholders.
      * @param connection The database connection.
-     * @throws SQLException If an error occurs during query execution.
+     * @param binder     The {@link ParameterBinder} of the query's parameters.
+     * @param args       The arguments to bind, or {@code null} if there are none.
+     * @param rowMapper  The {@link RowMapper} of the result's rows.
+     * @param <T>        The type of the mapped rows.
+     * @return The mapped rows.
+     * @throws QueryTimeoutException If the query is cancelled before completing.
+     * @throws SqlExecutionException  If an error occurs during query execution.
      */
-    private static void executeCreateTable(final String query, final Connection connection) throws SQLException {
-        try (final Statement statement = connection.createStatement()) {
-            statement.executeUpdate(query);
+    @SuppressWarnings("try")
+    public static <T> List<T> executeQuery(final String query,
+                                           final Connection connection,
+                                           final ParameterBinder binder,
+                                           final Object[] args,
+                                           final RowMapper<T> rowMapper)
+            throws QueryTimeoutException, SqlExecutionException {
+        try (final PreparedStatement statement = connection.prepareStatement(query);
+             final var statementWatchdog = StatementWatchdog.watch(statement)) {
+            binder.bind(statement, args);
+            try (final var resultSet = statement.executeQuery()) {
+                final List<T> resultList = new ArrayList<>();
+                while (resultSet.next()) resultList.add(rowMapper.map(resultSet));
+                return resultList;
+            }
+        } catch (SQLException e) {
+            throw StatementWatchdog.translate(e);
         }
     }
 
+    /**
+     * Executes a query through the statement cache and maps every row of its result.
+     * <p>
+     * This is the execution path of queries rendered at runtime from a small set of templates, e.g. criteria
+     * queries: the statement is taken from a per-connection cache, so each template is prepared once
+     * per connection, whatever the bound values.
+     * </p>
+     *
+     * @param query      The SQL query, with {@code ?} placeholders.
+     * @param connection The database connection, used by one thread at a time.
+     * @param binder     The {@link ParameterBinder} of the query's parameters.
+     * @param args       The arguments to bind, or {@code null} if there are none.
+     * @param rowMapper  The {@link RowMapper} of the result's rows.
+     * @param <T>        The type of the mapped rows.
+     * @return The mapped rows.
+     * @throws QueryTimeoutException If the query is cancelled before completing.
+     * @throws SqlExecutionException  If an error occurs during query execution.
+     */
+    @SuppressWarnings("try")
+    public static <T> List<T> executeCachedQuery(final String query,
+                                                 final Connection connection,
+                                                 final ParameterBinder binder,
+                                                 final Object[] args,
+                                                 final RowMapper<T> rowMapper)
+            throws QueryTimeoutException, SqlExecutionException {
+        try {
+            final PreparedStatement statement = StatementCache.prepare(connection, query);
+            try (final var statementWatchdog = StatementWatchdog.watch(statement)) {
+                // The statement may have been limited to a single row by a previous point lookup
+                statement.setMaxRows(0);
+                binder.bind(statement, args);
+                try (final var resultSet = statement.executeQuery()) {
+                    final List<T> resultList = new ArrayList<>();
+                    while (resultSet.next()) resultList.add(rowMapper.map(resultSet));
+                    return resultList;
+                }
+            }
+        } catch (SQLException e) {
+            StatementCache.evict(connection, query);
+            throw StatementWatchdog.translate(e);
+        }
+    }
+
+    /**
+     * Executes a single-parameter statement through the statement cache once per value, in JDBC batches.
+     * <p>
+     * This is the bulk loading path, e.g. of temporary tables: the values are sent to the database
+     * {@value #BATCH_SIZE} at a time instead of one round trip per value.
+     * </p>
+     *
+     * @param query      The SQL statement, with a single {@code ?} placeholder.
+     * @param connection The database connection, used by one thread at a time.
+     * @param values     The values to bind, one execution each.
+     * @throws QueryTimeoutException If the statement is cancelled before completing.
+     * @throws SqlExecutionException  If an error occurs during statement execution.
+     */
+    @SuppressWarnings("try")
+    public static void executeCachedBatch(final String query, final Connection connection, final List<?> values)
+            throws QueryTimeoutException, SqlExecutionException {
+        try {
+            final PreparedStatement statement = StatementCache.prepare(connection, query);
+            try (final var statementWatchdog = StatementWatchdog.watch(statement)) {
+                for (int i = 0; i < values.size(); i++) {
+                    statement.setObject(1, values.get(i));
+                    statement.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0 || i == values.size() - 1) statement.executeBatch();
+                }
+            }
+        } catch (SQLException e) {
+            StatementCache.evict(connection, query);
+            throw StatementWatchdog.translate(e);
+        }
+    }
+
+    /**
+     * Executes a multi-parameter statement through the statement cache once per row, in JDBC batches.
+     * <p>
+     * This is the bulk insert path: the rows are sent to the database {@value #BATCH_SIZE} at a time
+     * instead of one round trip per row.
+     * </p>
+     *
+     * @param query      The SQL statement, with a {@code ?} placeholder per value of a row.
+     * @param connection The database connection, used by one thread at a time.
+     * @param rows       The values to bind, one execution per row.
+     * @throws QueryTimeoutException If the statement is cancelled before completing.
+     * @throws SqlExecutionException  If an error occurs during statement execution.
+     */
+    @SuppressWarnings("try")
+    public static void executeCachedRowBatch(final String query, final Connection connection, final List<Object[]> rows)
+            throws QueryTimeoutException, SqlExecutionException {
+        try {
+            final PreparedStatement statement = StatementCache.prepare(connection, query);
+            try (final var statementWatchdog = StatementWatchdog.watch(statement)) {
+                for (int i = 0; i < rows.size(); i++) {
+                    final Object[] row = rows.get(i);
+                    for (int j = 0; j < row.length; j++) statement.setObject(j + 1, row[j]);
+                    statement.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0 || i == rows.size() - 1) statement.executeBatch();
+                }
+            }
+        } catch (SQLException e) {
+            StatementCache.evict(connection, query);
+            throw StatementWatchdog.translate(e);
+        }
+    }
+
+    /**
+     * Closes the prepared statements cached on a connection and releases its statement cache.
+     * <p>
+     * Owners of long-lived connections must call it before closing a connection, since its cached statements
+     * keep it referenced.
+     * </p>
+     *
+     * @param connection The database connection about to be closed.
+     */
+    public static void releaseCachedStatements(final Connection connection) {
+        StatementCache.release(connection);
+    }
+
+    /**
+     * Executes an operation within a transaction of the connection.
+     * <p>
+     * The transaction is committed if the operation completes, and rolled back if it throws, after which
+     * the connection is returned to auto-commit mode.
+     * </p>
+     *
+     * @param connection The database connection, in auto-commit mode.
+     * @param work       The operation to execute.
+     * @param <R>        The type of the operation's result.
+     * @return The result of the operation.
+     * @throws SqlExecutionException If the transaction cannot be started, committed or rolled back.
+     */
+    public static <R> R executeInTransaction(final Connection connection, final Function<Connection, R> work)
+            throws SqlExecutionException {
+        try {
+            connection.setAutoCommit(false);
+            try {
+                final R result = work.apply(connection);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException | Error e) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackException) {
+                    e.addSuppressed(rollbackException);
+                }
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw StatementWatchdog.translate(e);
+        }
+    }
+
+    /**
+     * Executes a prepared update statement.
+     *
+     * @param query      The SQL statement, with {@code ?} placeholders.
+     * @param connection The database connection.
+     * @param binder     The {@link ParameterBinder} of the statement's parameters.
+     * @param args       The arguments to bind, or {@code null} if there are none.
+     * @return The number of affected rows.
+     * @throws QueryTimeoutException If the statement is cancelled before completing.
+     * @throws SqlExecutionException  If an error occurs during statement execution.
+     * @see #executeQuery(String, Connection, ParameterBinder, Object[], RowMapper)
+     */
+    @SuppressWarnings("try")
+    public static int executeUpdate(final String query,
+                                    final Connection connection,
+                                    final ParameterBinder binder,
+                                    final Object[] args) throws QueryTimeoutException, SqlExecutionException {
+        try (final PreparedStatement statement = connection.prepareStatement(query);
+             final var statementWatchdog = StatementWatchdog.watch(statement)) {
+            binder.bind(statement, args);
+            return statement.executeUpdate();
+        } catch (SQLException e) {
+            throw StatementWatchdog.translate(e);
+        }
+    }
+
+    /**
+     * Executes DDL queries, such as `CREATE TABLE` queries, as a single batch.
+     *
+     * @param queries    The DDL queries, in execution order.
+     * @param connection The database connection.
+     * @throws QueryTimeoutException If the batch is cancelled before completing.
+     * @throws SqlExecutionException  If an error occurs during batch execution.
+     */
+    @SuppressWarnings("try")
+    private static void executeDdlBatch(final List<String> queries, final Connection connection)
+            throws QueryTimeoutException, SqlExecutionException {
+        try (final Statement statement = connection.createStatement();
+             final var statementWatchdog = StatementWatchdog.watch(statement)) {
+            for (final String query : queries) statement.addBatch(query);
+            statement.executeBatch();
+        } catch (SQLException e) {
+            throw StatementWatchdog.translate(e);
+        }
+    }
+
+    /**
+     * Encodes an ID into the representation the database engine stores it as, e.g. a {@code UUID} into its bytes.
+     *
+     * @param id             The ID, possibly {@code null}.
+     * @param databaseEngine The {@link DatabaseEngine} of the database.
+     * @return The encoded ID.
+     */
+    private static Object encodeId(final Object id, final DatabaseEngine databaseEngine) {
+        if (id == null) return null;
+        final ColumnCodec codec = ColumnTypeResolverFactory.getResolver(databaseEngine).resolveCodec(id.getClass());
+        return codec.encode(id);
+    }
+
 }
@@ -0,0 +1,109 @@
+package dimstyl.orm.internal.sql.execution;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches prepared statements per connection, so hot statements are parsed and planned once per connection.
+ * <p>
+ * Cached statements are only valid on connections used by one thread at a time, such as pooled connections.
+ * Each connection keeps its {@value #MAX_STATEMENTS_PER_CONNECTION} most recently used statements.
+ * Since each statement references its connection, the cache of a connection is never dropped on its own,
+ * and must be released through {@link #release(Connection)} by the owner of the connection before closing it.
+ * </p>
+ */
+final class StatementCache {
+
+    /**
+     * The maximum number of cached statements per connection.
+     */
+    private static final int MAX_STATEMENTS_PER_CONNECTION = 64;
+
+    /**
+     * The cached statements per connection, keyed by their SQL.
+     */
+    private static final Map<Connection, Map<String, PreparedStatement>> STATEMENTS = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private StatementCache() {
+    }
+
+    /**
+     * Retrieves the cached statement of an SQL query on a connection, preparing it on first use.
+     * <p>
+     * The returned statement must not be closed by the caller.
+     * </p>
+     *
+     * @param connection The connection.
+     * @param sql        The SQL query.
+     * @return The prepared statement.
+     * @throws SQLException If the statement cannot be prepared.
+     */
+    static PreparedStatement prepare(final Connection connection, final String sql) throws SQLException {
+        final Map<String, PreparedStatement> statements = STATEMENTS.computeIfAbsent(connection, c -> newLruCache());
+        final PreparedStatement cached = statements.get(sql);
+        if (cached != null && !cached.isClosed()) return cached;
+
+        final PreparedStatement statement = connection.prepareStatement(sql);
+        statements.put(sql, statement);
+        return statement;
+    }
+
+    /**
+     * Evicts and closes the cached statement of an SQL query on a connection, e.g. after it failed.
+     *
+     * @param connection The connection.
+     * @param sql        The SQL query.
+     */
+    static void evict(final Connection connection, final String sql) {
+        final Map<String, PreparedStatement> statements = STATEMENTS.get(connection);
+        if (statements != null) closeQuietly(statements.remove(sql));
+    }
+
+    /**
+     * Releases the cache of a connection, closing all of its cached statements.
+     *
+     * @param connection The connection.
+     */
+    static void release(final Connection connection) {
+        final Map<String, PreparedStatement> statements = STATEMENTS.remove(connection);
+        if (statements != null) statements.values().forEach(StatementCache::closeQuietly);
+    }
+
+    /**
+     * Creates the statement cache of a connection, closing the least recently used statement once it is full.
+     *
+     * @return The statement cache.
+     */
+    private static Map<String, PreparedStatement> newLruCache() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, PreparedStatement> eldest) {
+                if (size() <= MAX_STATEMENTS_PER_CONNECTION) return false;
+                closeQuietly(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Closes a statement, ignoring any errors.
+     *
+     * @param statement The statement to close, or {@code null}.
+     */
+    private static void closeQuietly(final PreparedStatement statement) {
+        if (statement == null) return;
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+            // Nothing left to release
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+package dimstyl.orm.internal.sql.execution;
+
+import dimstyl.orm.exceptions.QueryTimeoutException;
+import dimstyl.orm.exceptions.SqlExecutionException;
+import dimstyl.orm.runtime.Deadline;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * Watches a running statement and cancels it when its deadline passes or its calling thread is interrupted first.
+ * <p>
+ * Statements are only watched when a {@link Deadline} is active on the calling thread. The statement then gets
+ * a JDBC query timeout matching the remaining time, so engines that enforce timeouts natively stop the statement
+ * on their own. Since JDBC query timeouts only have a granularity of seconds, and blocking JDBC calls do not react
+ * to thread interruption, a shared watchdog thread polls the deadline and the interrupt status of the calling
+ * thread and invokes {@link Statement#cancel()} as soon as either fires.
+ * </p>
+ * <p>
+ * A closed watchdog never cancels its statement, so a cached statement is never cancelled in a later execution.
+ * Errors are only reported as timeouts when the statement was cancelled by its watchdog, which the watchdog records
+ * on the calling thread when it is closed, or timed out once its time was up, see {@link #translate(Exception)}.
+ * </p>
+ */
+final class StatementWatchdog implements AutoCloseable {
+
+    /**
+     * The interval, in milliseconds, at which running statements are checked.
+     */
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    /**
+     * The shared scheduler checking all watched statements.
+     */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("orm-statement-watchdog").daemon().factory()
+    );
+
+    /**
+     * A watchdog that watches nothing, used when there is no deadline.
+     */
+    private static final StatementWatchdog NONE = new StatementWatchdog(null);
+
+    /**
+     * Whether the last statement watched on the calling thread was cancelled by its watchdog, recorded when the
+     * watchdog is closed and consumed by {@link #translate(Exception)}.
+     */
+    private static final ThreadLocal<Boolean> CANCELLED = new ThreadLocal<>();
+
+    /**
+     * The watched statement, or {@code null} if nothing is watched.
+     */
+    private final Statement statement;
+
+    /**
+     * The periodic check of the watched statement, or {@code null} if nothing is watched.
+     */
+    private ScheduledFuture<?> check;
+
+    /**
+     * Whether the watchdog has been closed, guarded by {@code this}.
+     */
+    private boolean closed;
+
+    /**
+     * Whether the watchdog cancelled the statement, guarded by {@code this}.
+     */
+    private boolean cancelled;
+
+    /**
+     * Private constructor, use {@link #watch(Statement)}.
+     *
+     * @param statement The watched statement, or {@code null} if nothing is watched.
+     */
+    private StatementWatchdog(final Statement statement) {
+        this.statement = statement;
+    }
+
+    /**
+     * Starts watching a statement before it is executed, if a {@link Deadline} is active on the calling thread.
+     *
+     * @param statement The statement about to be executed.
+     * @return The {@link StatementWatchdog}, to be closed once the statement has completed.
+     * @throws SQLException If the deadline has already passed or the calling thread is already interrupted.
+     */
+    static StatementWatchdog watch(final Statement statement) throws SQLException {
+        CANCELLED.remove();
+        final Optional<Deadline> deadline = Deadline.current();
+        if (deadline.isEmpty()) return NONE;
+
+        final Thread caller = Thread.currentThread();
+        if (caller.isInterrupted()) {
+            throw new SQLTimeoutException("The calling thread was interrupted before execution.");
+        }
+        final long remainingNanos = deadline.get().remainingNanos();
+        if (remainingNanos <= 0) throw new SQLTimeoutException("The deadline passed before execution.");
+        final long remainingSeconds = TimeUnit.NANOSECONDS.toSeconds(remainingNanos + 999_999_999L);
+        statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, remainingSeconds));
+
+        final StatementWatchdog watchdog = new StatementWatchdog(statement);
+        watchdog.check = SCHEDULER.scheduleAtFixedRate(() -> {
+            if (!caller.isInterrupted() && !deadline.get().isExpired()) return;
+            watchdog.cancel();
+            // Throwing suppresses any subsequent execution of this periodic check
+            throw new CancellationException();
+        }, POLL_INTERVAL_MILLIS, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        return watchdog;
+    }
+
+    /**
+     * Translates an exception thrown while executing a statement.
+     * <p>
+     * If the statement was cancelled by the watchdog last closed on the calling thread, or timed out once the
+     * deadline passed or the calling thread was interrupted, a {@link QueryTimeoutException} is returned, otherwise
+     * a plain {@link SqlExecutionException}, so that genuine errors are never reported as timeouts just because the
+     * deadline passed in the meantime. Lock timeouts, which some engines such as H2 also report as
+     * {@link SQLTimeoutException}s, are thus left to be classified and retried as transient errors.
+     * </p>
+     *
+     * @param e The exception thrown while executing the statement.
+     * @return The {@link SqlExecutionException} to throw to the caller.
+     */
+    static SqlExecutionException translate(final Exception e) {
+        final boolean cancelled = CANCELLED.get() != null || e instanceof SQLTimeoutException && isTimedOut();
+        CANCELLED.remove();
+        return cancelled ? new QueryTimeoutException(e.getMessage(), e) : new SqlExecutionException(e.getMessage(), e);
+    }
+
+    /**
+     * Checks whether the deadline active on the calling thread has passed or the calling thread was interrupted.
+     *
+     * @return {@code true} if the statement's time is up, {@code false} otherwise.
+     */
+    private static boolean isTimedOut() {
+        return Thread.currentThread().isInterrupted() || Deadline.current().map(Deadline::isExpired).orElse(false);
+    }
+
+    /**
+     * Cancels the statement, unless the watchdog has already been closed.
+     */
+    private synchronized void cancel() {
+        if (closed) return;
+        cancelled = true;
+        try {
+            statement.cancel();
+        } catch (SQLException ignored) {
+            // The statement has already completed or been closed
+        }
+    }
+
+    /**
+     * Stops watching the statement.
+     * <p>
+     * Once closed, the watchdog no longer cancels the statement, and records on the calling thread whether it did.
+     * The query timeout set from the deadline is cleared, so that a cached statement does not carry it over
+     * to its next execution.
+     * </p>
+     */
+    @Override
+    public void close() {
+        if (statement == null) return;
+        final boolean wasCancelled;
+        synchronized (this) {
+            closed = true;
+            wasCancelled = cancelled;
+        }
+        check.cancel(false);
+        if (wasCancelled) CANCELLED.set(Boolean.TRUE);
+        try {
+            statement.setQueryTimeout(0);
+        } catch (SQLException ignored) {
+            // The statement has already been closed
+        }
+    }
+
+}
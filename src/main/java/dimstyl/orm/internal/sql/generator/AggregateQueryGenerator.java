@@ -0,0 +1,44 @@
+package dimstyl.orm.internal.sql.generator;
+
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.AggregateMetadata;
+
+/**
+ * Generates an SQL `SELECT` query computing an aggregate over a column, optionally grouped by another column.
+ * <p>
+ * Grouped queries select the group value first and the aggregate second, ordered by group value.
+ * The aggregate expression follows the semantics of the repository's database engine, see {@link SqlDialect}.
+ * </p>
+ */
+enum AggregateQueryGenerator implements SqlQueryGenerator<String, AggregateMetadata> {
+
+    /**
+     * The singleton instance of the AggregateQueryGenerator.
+     */
+    INSTANCE;
+
+    /**
+     * Generates the SQL query of an aggregate method.
+     *
+     * @param aggregateMetadata Metadata about the aggregate method, as defined by {@link AggregateMetadata}.
+     * @return The SQL query.
+     */
+    @Override
+    public String generate(final AggregateMetadata aggregateMetadata) {
+        ConsoleUtils.printFormatted("\n🔄️ Generating SQL query of '%s'...\n", aggregateMetadata.methodName());
+        final String aggregate = SqlDialect.aggregate(
+                aggregateMetadata.databaseEngine(),
+                aggregateMetadata.function(),
+                aggregateMetadata.columnName(),
+                aggregateMetadata.columnType()
+        );
+        final String tableName = aggregateMetadata.tableName();
+        final String groupBy = aggregateMetadata.groupByColumnName();
+        final String query = aggregateMetadata.grouped()
+                ? String.format("SELECT %s, %s FROM %s GROUP BY %s ORDER BY %s", groupBy, aggregate, tableName, groupBy, groupBy)
+                : String.format("SELECT %s FROM %s", aggregate, tableName);
+        ConsoleUtils.printFormatted("✅ SQL query generated successfully\n");
+        return query;
+    }
+
+}
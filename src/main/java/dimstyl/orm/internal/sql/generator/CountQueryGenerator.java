@@ -0,0 +1,46 @@
+package dimstyl.orm.internal.sql.generator;
+
+import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.RepositoryMetadata;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Generates an SQL `SELECT COUNT(*) FROM` query for counting the records of a table.
+ * <p>
+ * This generator ensures that the repository supports the `COUNT` operation before creating the query.
+ * If the operation is not supported, query generation is skipped.
+ * </p>
+ */
+enum CountQueryGenerator implements SqlQueryGenerator<Optional<String>, RepositoryMetadata> {
+
+    /**
+     * The singleton instance of the CountQueryGenerator.
+     */
+    INSTANCE;
+
+    /**
+     * Generates an SQL `COUNT` query if the repository supports the `COUNT` operation.
+     *
+     * @param repositoryMetadata Metadata about the repository, including the table name and supported operations,
+     *                           as defined by {@link RepositoryMetadata}.
+     * @return An {@link Optional} containing the SQL query if the `COUNT`
+     * operation is supported, otherwise an empty {@link Optional}.
+     */
+    @Override
+    public Optional<String> generate(final RepositoryMetadata repositoryMetadata) {
+        ConsoleUtils.printFormatted("\n🔄️ Generating SQL 'COUNT' query...\n");
+        final Set<SqlOperation> supportedOperations = repositoryMetadata.supportedOperations();
+
+        if (!supportedOperations.contains(SqlOperation.COUNT)) {
+            ConsoleUtils.printFormatted("\t➡️ SQL 'COUNT' operation is not supported for this repository. Skipping query generation.\n");
+            return Optional.empty();
+        }
+
+        ConsoleUtils.printFormatted("✅ SQL query generated successfully\n");
+        return Optional.of("SELECT COUNT(*) FROM " + repositoryMetadata.tableName());
+    }
+
+}
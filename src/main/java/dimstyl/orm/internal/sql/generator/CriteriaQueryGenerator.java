@@ -0,0 +1,85 @@
+package dimstyl.orm.internal.sql.generator;
+
+import dimstyl.orm.criteria.CriteriaShape;
+import dimstyl.orm.criteria.Order;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.CriteriaQueryMetadata;
+
+import java.util.Map;
+
+/**
+ * Generates a parameterized SQL `SELECT * FROM ... WHERE ... ORDER BY` query for a criteria shape.
+ * <p>
+ * Each value of the criteria gets a {@code ?} placeholder, in the order of its conditions, so all criteria
+ * of the same shape share the statement. Nested junctions are parenthesized, and pagination follows
+ * the syntax of the database engine, see {@link SqlDialect}.
+ * </p>
+ */
+enum CriteriaQueryGenerator implements SqlQueryGenerator<String, CriteriaQueryMetadata> {
+
+    /**
+     * The singleton instance of the CriteriaQueryGenerator.
+     */
+    INSTANCE;
+
+    /**
+     * Generates the SQL query of a criteria shape.
+     *
+     * @param criteriaQueryMetadata Metadata about the criteria query, as defined by {@link CriteriaQueryMetadata}.
+     * @return The SQL query, with a {@code ?} placeholder per value, limit and offset.
+     */
+    @Override
+    public String generate(final CriteriaQueryMetadata criteriaQueryMetadata) {
+        ConsoleUtils.printFormatted("\n🔄️ Generating SQL criteria query...\n");
+        final CriteriaShape shape = criteriaQueryMetadata.shape();
+        final Map<String, String> fieldToColumnMap = criteriaQueryMetadata.fieldToColumnMap();
+        final StringBuilder query = new StringBuilder("SELECT * FROM ").append(criteriaQueryMetadata.tableName());
+
+        if (shape.where() != null) {
+            query.append(" WHERE ");
+            appendNode(query, shape.where(), fieldToColumnMap, false);
+        }
+        for (int i = 0; i < shape.orders().size(); i++) {
+            final Order order = shape.orders().get(i);
+            query.append(i == 0 ? " ORDER BY " : ", ")
+                    .append(fieldToColumnMap.get(order.property()))
+                    .append(order.descending() ? " DESC" : " ASC");
+        }
+        query.append(SqlDialect.paginate(criteriaQueryMetadata.databaseEngine(), shape.limited(), shape.offset()));
+
+        ConsoleUtils.printFormatted("✅ SQL query generated successfully\n");
+        return query.toString();
+    }
+
+    /**
+     * Appends the condition of a criteria node.
+     *
+     * @param query            The query being generated.
+     * @param node             The {@link CriteriaShape.Node} to append.
+     * @param fieldToColumnMap The mapping of the entity's field names to their column names.
+     * @param nested           Whether the node is nested in a junction, in which case junctions are parenthesized.
+     */
+    private static void appendNode(final StringBuilder query,
+                                   final CriteriaShape.Node node,
+                                   final Map<String, String> fieldToColumnMap,
+                                   final boolean nested) {
+        switch (node) {
+            case CriteriaShape.Comparison comparison ->
+                    query.append(comparison.operator().toSql(fieldToColumnMap.get(comparison.property())));
+            case CriteriaShape.In in -> {
+                query.append(fieldToColumnMap.get(in.property())).append(" IN (");
+                for (int i = 0; i < in.size(); i++) query.append(i == 0 ? "?" : ", ?");
+                query.append(')');
+            }
+            case CriteriaShape.Junction junction -> {
+                if (nested) query.append('(');
+                for (int i = 0; i < junction.nodes().size(); i++) {
+                    if (i > 0) query.append(junction.or() ? " OR " : " AND ");
+                    appendNode(query, junction.nodes().get(i), fieldToColumnMap, true);
+                }
+                if (nested) query.append(')');
+            }
+        }
+    }
+
+}
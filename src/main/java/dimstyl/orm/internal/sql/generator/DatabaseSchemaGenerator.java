@@ -2,11 +2,14 @@ package dimstyl.orm.internal.sql.generator;
 
 import dimstyl.orm.annotations.UniqueConstraint;
 import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.enums.ForeignKeyAction;
 import dimstyl.orm.exceptions.InvalidColumnNameException;
 import dimstyl.orm.internal.utils.ConsoleUtils;
 import dimstyl.orm.internal.utils.FileUtils;
 import dimstyl.orm.metadata.ColumnMetadata;
 import dimstyl.orm.metadata.DatabaseMetadata;
+import dimstyl.orm.metadata.ForeignKeyMetadata;
+import dimstyl.orm.metadata.IndexMetadata;
 import dimstyl.orm.metadata.TableMetadata;
 
 import java.io.IOException;
@@ -16,7 +19,11 @@ import java.util.*;
  * Singleton-based SQL query generator responsible for creating database schema scripts.
  * <p>
  * This generator produces `CREATE TABLE` SQL queries based on metadata and supports different
- * database engines such as H2, SQLite, and Derby.
+ * database engines such as H2, SQLite, and Derby, followed by the `CREATE INDEX` queries of the tables' indexes.
+ * </p>
+ * <p>
+ * Tables are created in dependency order, so that every table referenced by a `FOREIGN KEY` constraint
+ * of the same database is created before the tables referencing it, whatever their declaration order.
  * </p>
  */
 public enum DatabaseSchemaGenerator implements SqlQueryGenerator<List<String>, DatabaseMetadata> {
@@ -42,12 +49,17 @@ public enum DatabaseSchemaGenerator implements SqlQueryGenerator<List<String>, D
         final DatabaseEngine databaseEngine = databaseMetadata.databaseEngine();
 
         ConsoleUtils.printFormatted("\n🔄️ Generating SQL 'CREATE TABLE' queries...\n");
-        databaseMetadata.tableMetadataList().forEach(tableMetadata -> {
+        sortByDependencies(databaseMetadata.tableMetadataList()).forEach(tableMetadata -> {
             final String createTableQuery = generateCreateTableQuery(tableMetadata, databaseEngine);
             ConsoleUtils.printFormatted("\t✅ Created query for table '%s'\n", tableMetadata.tableName());
             createTableQueriesBuilder.append(createTableQuery).append("\n\n");
         });
 
+        // Create indexes once all tables exist
+        databaseMetadata.tableMetadataList().forEach(tableMetadata ->
+                generateCreateIndexQueries(tableMetadata, databaseEngine).forEach(createIndexQuery ->
+                        createTableQueriesBuilder.append(createIndexQuery).append(";\n\n")));
+
         final String createTableQueries = createTableQueriesBuilder.toString();
 
         // Save the generated SQL "CREATE TABLE" queries to a file specific to the database engine
@@ -79,7 +91,7 @@ public enum DatabaseSchemaGenerator implements SqlQueryGenerator<List<String>, D
      * @return The SQL `CREATE TABLE` query as a string.
      * @throws InvalidColumnNameException If an invalid column name is referenced.
      */
-    private String generateCreateTableQuery(final TableMetadata tableMetadata, final DatabaseEngine databaseEngine)
+    String generateCreateTableQuery(final TableMetadata tableMetadata, final DatabaseEngine databaseEngine)
             throws InvalidColumnNameException {
         final String tableName = tableMetadata.tableName();
         final StringBuilder sqlBuilder = new StringBuilder();
@@ -96,10 +108,56 @@ public enum DatabaseSchemaGenerator implements SqlQueryGenerator<List<String>, D
         final UniqueConstraint[] uniqueConstraints = tableMetadata.uniqueConstraints();
         addUniqueConstraints(sqlBuilder, uniqueConstraints, tableColumnNames, tableName);
 
+        // Add table-level FOREIGN KEY constraints
+        addForeignKeyConstraints(sqlBuilder, tableMetadata.foreignKeys());
+
         sqlBuilder.append("\n);");
         return sqlBuilder.toString();
     }
 
+    /**
+     * Generates the SQL `CREATE INDEX` queries of the indexes of a table, based on {@link IndexMetadata}
+     * and {@link DatabaseEngine}.
+     * <p>
+     * The condition of a partial index is dropped, with a warning, on engines not supporting partial indexes.
+     * </p>
+     *
+     * @param tableMetadata  The metadata for the table.
+     * @param databaseEngine The database engine for which the queries are generated.
+     * @return The SQL `CREATE INDEX` queries as strings, without a terminating semicolon.
+     * @throws InvalidColumnNameException If an index references a column that does not exist in the table,
+     *                                    or sorts a column it does not index in descending order.
+     */
+    List<String> generateCreateIndexQueries(final TableMetadata tableMetadata, final DatabaseEngine databaseEngine)
+            throws InvalidColumnNameException {
+        final String tableName = tableMetadata.tableName();
+        final Set<String> tableColumnNames = new HashSet<>();
+        tableMetadata.columnMetadataList().forEach(column -> tableColumnNames.add(column.columnName()));
+
+        final List<String> createIndexQueries = new ArrayList<>();
+        for (IndexMetadata index : tableMetadata.indexes()) {
+            validateColumns(tableColumnNames, tableName, index.columnNames());
+            for (String columnName : index.descendingColumnNames()) {
+                if (!index.columnNames().contains(columnName)) {
+                    final String message = String.format(
+                            "Column '%s' is not indexed by index '%s'",
+                            columnName,
+                            index.indexName()
+                    );
+                    throw new InvalidColumnNameException(message);
+                }
+            }
+            if (!index.where().isEmpty() && !SqlDialect.supportsPartialIndexes(databaseEngine)) {
+                ConsoleUtils.printFormatted("\t⚠️ Index '%s' covers all rows, since %s has no partial indexes\n",
+                        index.indexName(), databaseEngine);
+            }
+
+            createIndexQueries.add(SqlDialect.createIndex(databaseEngine, tableName, index));
+            ConsoleUtils.printFormatted("\t✅ Created query for index '%s'\n", index.indexName());
+        }
+        return createIndexQueries;
+    }
+
     /**
      * Appends column definitions to the SQL query based on the provided list of {@link ColumnMetadata}.
      *
@@ -172,6 +230,72 @@ public enum DatabaseSchemaGenerator implements SqlQueryGenerator<List<String>, D
         }
     }
 
+    /**
+     * Adds `FOREIGN KEY` constraints to the table definition based on {@link ForeignKeyMetadata}.
+     * <p>
+     * The {@code ON DELETE} clause is omitted for {@link ForeignKeyAction#NO_ACTION}, the default of all engines.
+     * </p>
+     *
+     * @param sqlBuilder  The {@link StringBuilder} for the SQL query.
+     * @param foreignKeys The foreign keys of the table.
+     */
+    private void addForeignKeyConstraints(final StringBuilder sqlBuilder, final List<ForeignKeyMetadata> foreignKeys) {
+        for (ForeignKeyMetadata foreignKey : foreignKeys) {
+            sqlBuilder.append(String.format(
+                    ",\n\tFOREIGN KEY (%s) REFERENCES %s (%s)",
+                    foreignKey.columnName(),
+                    foreignKey.referencedTableName(),
+                    foreignKey.referencedColumnName()
+            ));
+            if (foreignKey.onDelete() != ForeignKeyAction.NO_ACTION) {
+                sqlBuilder.append(" ON DELETE ").append(foreignKey.onDelete().sql());
+            }
+        }
+    }
+
+    /**
+     * Sorts tables so that every table comes after the tables of the same database it references.
+     * <p>
+     * Tables keep their declaration order otherwise. References to tables outside the database,
+     * and references forming a cycle, are left to the database to resolve.
+     * </p>
+     *
+     * @param tableMetadataList The tables in declaration order.
+     * @return The tables in creation order.
+     */
+    List<TableMetadata> sortByDependencies(final List<TableMetadata> tableMetadataList) {
+        final Map<String, TableMetadata> tablesByName = new LinkedHashMap<>();
+        tableMetadataList.forEach(tableMetadata -> tablesByName.put(tableMetadata.tableName(), tableMetadata));
+
+        final Map<String, TableMetadata> sorted = new LinkedHashMap<>();
+        final Set<String> visiting = new HashSet<>();
+        tableMetadataList.forEach(tableMetadata -> visit(tableMetadata, tablesByName, visiting, sorted));
+        return List.copyOf(sorted.values());
+    }
+
+    /**
+     * Appends a table to the creation order after the tables it references, depth first.
+     *
+     * @param tableMetadata The table to append.
+     * @param tablesByName  The tables of the database, by name.
+     * @param visiting      The tables whose references are being appended, to break cycles.
+     * @param sorted        The tables in creation order so far, by name.
+     */
+    private void visit(final TableMetadata tableMetadata,
+                       final Map<String, TableMetadata> tablesByName,
+                       final Set<String> visiting,
+                       final Map<String, TableMetadata> sorted) {
+        final String tableName = tableMetadata.tableName();
+        if (sorted.containsKey(tableName) || !visiting.add(tableName)) return;
+
+        for (ForeignKeyMetadata foreignKey : tableMetadata.foreignKeys()) {
+            final TableMetadata referencedTable = tablesByName.get(foreignKey.referencedTableName());
+            if (referencedTable != null) visit(referencedTable, tablesByName, visiting, sorted);
+        }
+        visiting.remove(tableName);
+        sorted.put(tableName, tableMetadata);
+    }
+
     /**
      * Validates that all columns referenced in a {@link UniqueConstraint} exist in the table.
      *
@@ -181,12 +305,25 @@ public enum DatabaseSchemaGenerator implements SqlQueryGenerator<List<String>, D
      * @return A list of valid column names for the unique constraint.
      * @throws InvalidColumnNameException If a referenced column does not exist in the table.
      */
-    private List<String> validateConstraint(final Set<String> tableColumnNames,
+    List<String> validateConstraint(final Set<String> tableColumnNames,
                                             final String tableName,
                                             final UniqueConstraint uniqueConstraint) throws InvalidColumnNameException {
-        List<String> constraintColumns = Arrays.asList(uniqueConstraint.columnNames());
+        return validateColumns(tableColumnNames, tableName, Arrays.asList(uniqueConstraint.columnNames()));
+    }
 
-        for (String columnName : constraintColumns) {
+    /**
+     * Validates that all columns referenced by a constraint or an index exist in the table.
+     *
+     * @param tableColumnNames The set of column names in the table.
+     * @param tableName        The name of the table.
+     * @param columnNames      The referenced column names.
+     * @return The referenced column names.
+     * @throws InvalidColumnNameException If a referenced column does not exist in the table.
+     */
+    List<String> validateColumns(final Set<String> tableColumnNames,
+                                 final String tableName,
+                                 final List<String> columnNames) throws InvalidColumnNameException {
+        for (String columnName : columnNames) {
             if (!tableColumnNames.contains(columnName)) {
                 final String message = String.format(
                         "Column '%s' does not exist in table '%s'",
@@ -196,7 +333,7 @@ public enum DatabaseSchemaGenerator implements SqlQueryGenerator<List<String>, D
                 throw new InvalidColumnNameException(message);
             }
         }
-        return constraintColumns;
+        return columnNames;
     }
 
 }
@@ -0,0 +1,42 @@
+package dimstyl.orm.internal.sql.generator;
+
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.DerivedQueryMetadata;
+
+/**
+ * Generates a parameterized SQL `SELECT * FROM ... WHERE` query for a derived query method.
+ * <p>
+ * Conditions are rendered in the order of the method name and joined with {@code AND} or {@code OR}.
+ * Since SQL gives {@code AND} precedence over {@code OR}, no parentheses are needed.
+ * </p>
+ */
+enum DerivedQueryGenerator implements SqlQueryGenerator<String, DerivedQueryMetadata> {
+
+    /**
+     * The singleton instance of the DerivedQueryGenerator.
+     */
+    INSTANCE;
+
+    /**
+     * Generates the SQL query of a derived query method.
+     *
+     * @param derivedQueryMetadata Metadata about the derived query method, as defined by {@link DerivedQueryMetadata}.
+     * @return The SQL query, with a {@code ?} placeholder per argument of the method.
+     */
+    @Override
+    public String generate(final DerivedQueryMetadata derivedQueryMetadata) {
+        ConsoleUtils.printFormatted("\n🔄️ Generating SQL query of '%s'...\n", derivedQueryMetadata.methodName());
+        final StringBuilder query = new StringBuilder("SELECT * FROM ")
+                .append(derivedQueryMetadata.tableName())
+                .append(" WHERE ");
+        boolean first = true;
+        for (final DerivedQueryMetadata.Condition condition : derivedQueryMetadata.conditions()) {
+            if (!first) query.append(condition.or() ? " OR " : " AND ");
+            query.append(condition.operator().toSql(condition.columnName()));
+            first = false;
+        }
+        ConsoleUtils.printFormatted("✅ SQL query generated successfully\n");
+        return query.toString();
+    }
+
+}
@@ -0,0 +1,59 @@
+package dimstyl.orm.internal.sql.generator;
+
+import dimstyl.orm.annotations.Column;
+import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.exceptions.CompositePrimaryKeyException;
+import dimstyl.orm.exceptions.MissingColumnAnnotationException;
+import dimstyl.orm.exceptions.MissingPrimaryKeyException;
+import dimstyl.orm.internal.processors.TableProcessor;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.RepositoryMetadata;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Generates an SQL `SELECT 1 ... WHERE` query for checking whether an entity exists by its primary key.
+ * <p>
+ * This generator ensures that the repository supports the `EXISTS_BY_ID` operation before creating the query.
+ * If the operation is not supported, query generation is skipped. The query selects a constant instead of
+ * the entity's columns and is limited to one row, in the syntax of the repository's database engine.
+ * </p>
+ */
+enum ExistsByIdQueryGenerator implements SqlQueryGenerator<Optional<String>, RepositoryMetadata> {
+
+    /**
+     * The singleton instance of the ExistsByIdQueryGenerator.
+     */
+    INSTANCE;
+
+    /**
+     * Generates an SQL `EXISTS BY ID` query for a given entity repository.
+     *
+     * @param repositoryMetadata Metadata about the repository, including table and entity information, as defined by {@link RepositoryMetadata}.
+     * @return An {@link Optional} containing the SQL query if the `EXISTS_BY_ID`
+     * operation is supported, otherwise an empty {@link Optional}.
+     * @throws CompositePrimaryKeyException     If the entity has a composite primary key.
+     * @throws MissingColumnAnnotationException If the primary key field is missing the required {@link Column} annotation.
+     * @throws MissingPrimaryKeyException       If the entity does not have a defined primary key.
+     */
+    @Override
+    public Optional<String> generate(final RepositoryMetadata repositoryMetadata)
+            throws CompositePrimaryKeyException, MissingColumnAnnotationException, MissingPrimaryKeyException {
+        ConsoleUtils.printFormatted("\n🔄️ Generating SQL 'EXISTS BY ID' query...\n");
+        final Set<SqlOperation> supportedOperations = repositoryMetadata.supportedOperations();
+
+        if (!supportedOperations.contains(SqlOperation.EXISTS_BY_ID)) {
+            ConsoleUtils.printFormatted("\t➡️ SQL 'EXISTS BY ID' operation is not supported for this repository. Skipping query generation.\n");
+            return Optional.empty();
+        }
+
+        final String columnName = TableProcessor.resolvePrimaryKeyColumnName(repositoryMetadata.entityClass());
+        final String query = String.format("SELECT 1 FROM %s WHERE %s = ?", repositoryMetadata.tableName(), columnName)
+                + SqlDialect.fetchFirst(repositoryMetadata.databaseEngine(), 1);
+
+        ConsoleUtils.printFormatted("✅ SQL query generated successfully\n");
+        return Optional.of(query);
+    }
+
+}
@@ -0,0 +1,55 @@
+package dimstyl.orm.internal.sql.generator;
+
+import dimstyl.orm.enums.MultiGetStrategy;
+import dimstyl.orm.metadata.FindAllByIdMetadata;
+
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+/**
+ * Generates an SQL `SELECT` query for finding the entities matching a collection of keys, usually primary keys.
+ * <p>
+ * The {@code IN} list strategies render a query with a fixed number of placeholders, so the few batch sizes
+ * in use each get a single prepared statement. The temporary table strategy renders a join with the table
+ * holding the keys. In both cases the columns are selected explicitly, in the declaration order
+ * of the entity's fields, so the rows can be hydrated by column position.
+ * </p>
+ */
+enum FindAllByIdQueryGenerator implements SqlQueryGenerator<String, FindAllByIdMetadata> {
+
+    /**
+     * The singleton instance of the FindAllByIdQueryGenerator.
+     */
+    INSTANCE;
+
+    /**
+     * Generates an SQL `FIND ALL BY ID` query for the given strategy.
+     *
+     * @param findAllByIdMetadata The {@link FindAllByIdMetadata} of the query.
+     * @return The SQL query, with a {@code ?} placeholder per key for the {@code IN} list strategies.
+     */
+    @Override
+    public String generate(final FindAllByIdMetadata findAllByIdMetadata) {
+        final String tableName = findAllByIdMetadata.tableName();
+        final String keyColumnName = findAllByIdMetadata.keyColumnName();
+
+        if (findAllByIdMetadata.strategy() == MultiGetStrategy.TEMPORARY_TABLE) {
+            final String columnNames = findAllByIdMetadata.columnNames().stream()
+                    .map(columnName -> "t." + columnName)
+                    .collect(Collectors.joining(", "));
+            return String.format(
+                    "SELECT %s FROM %s t JOIN %s k ON t.%s = k.id",
+                    columnNames,
+                    tableName,
+                    findAllByIdMetadata.idTableName(),
+                    keyColumnName
+            );
+        }
+
+        final String columnNames = String.join(", ", findAllByIdMetadata.columnNames());
+        final String placeholders = String.join(", ", Collections.nCopies(findAllByIdMetadata.batchSize(), "?"));
+        return String.format("SELECT %s FROM %s WHERE %s IN (%s)", columnNames, tableName, keyColumnName,
+                placeholders);
+    }
+
+}
@@ -0,0 +1,68 @@
+package dimstyl.orm.internal.sql.generator;
+
+import dimstyl.orm.annotations.Column;
+import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.exceptions.CompositePrimaryKeyException;
+import dimstyl.orm.exceptions.MissingColumnAnnotationException;
+import dimstyl.orm.exceptions.MissingPrimaryKeyException;
+import dimstyl.orm.internal.processors.TableProcessor;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.RepositoryMetadata;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Generates an SQL `SELECT ... WHERE` query for finding an entity by its primary key.
+ * <p>
+ * This generator ensures that the repository supports the `FIND_BY_ID` operation before
+ * creating the query.
+ * If the operation is not supported, query generation is skipped.
+ * The columns are selected explicitly, in the declaration order of the entity's fields,
+ * so the row can be hydrated by column position.
+ * </p>
+ */
+enum FindByIdQueryGenerator implements SqlQueryGenerator<Optional<String>, RepositoryMetadata> {
+
+    /**
+     * The singleton instance of the FindByIdQueryGenerator.
+     */
+    INSTANCE;
+
+    /**
+     * Generates an SQL `FIND BY ID` query for a given entity repository.
+     * <p>
+     * The method checks if the repository supports the `FIND_BY_ID` operation before proceeding.
+     * If the entity has a composite primary key, an exception is thrown since this method only
+     * supports single-column primary keys.
+     * </p>
+     *
+     * @param repositoryMetadata Metadata about the repository, including table and entity information, as defined by {@link RepositoryMetadata}.
+     * @return An {@link Optional} containing the SQL query if the `FIND_BY_ID`
+     * operation is supported, otherwise an empty {@link Optional}.
+     * @throws CompositePrimaryKeyException     If the entity has a composite primary key.
+     * @throws MissingColumnAnnotationException If the primary key field is missing the required {@link Column} annotation.
+     * @throws MissingPrimaryKeyException       If the entity does not have a defined primary key.
+     */
+    @Override
+    public Optional<String> generate(final RepositoryMetadata repositoryMetadata)
+            throws CompositePrimaryKeyException, MissingColumnAnnotationException, MissingPrimaryKeyException {
+        ConsoleUtils.printFormatted("\n🔄️ Generating SQL 'FIND BY ID' query...\n");
+        final Set<SqlOperation> supportedOperations = repositoryMetadata.supportedOperations();
+        final String tableName = repositoryMetadata.tableName();
+        final boolean findByIdOperationExists = supportedOperations.contains(SqlOperation.FIND_BY_ID);
+
+        if (!findByIdOperationExists) {
+            ConsoleUtils.printFormatted("\t➡️ SQL 'FIND BY ID' operation is not supported for this repository. Skipping query generation.\n");
+            return Optional.empty();
+        }
+
+        final var entityClass = repositoryMetadata.entityClass();
+        final String columnName = TableProcessor.resolvePrimaryKeyColumnName(entityClass);
+        final String columnNames = String.join(", ", TableProcessor.resolveColumnNames(entityClass));
+
+        ConsoleUtils.printFormatted("✅ SQL query generated successfully\n");
+        return Optional.of(String.format("SELECT %s FROM %s WHERE %s = ?", columnNames, tableName, columnName));
+    }
+
+}
@@ -0,0 +1,38 @@
+package dimstyl.orm.internal.sql.generator;
+
+import dimstyl.orm.metadata.InsertMetadata;
+
+import java.util.Collections;
+
+/**
+ * Generates an SQL `INSERT INTO` statement for inserting a record into a table.
+ * <p>
+ * All columns are listed explicitly, in the declaration order of the entity's fields, with one placeholder each,
+ * so the same prepared statement can be executed in JDBC batches for any number of records.
+ * </p>
+ */
+enum InsertQueryGenerator implements SqlQueryGenerator<String, InsertMetadata> {
+
+    /**
+     * The singleton instance of the InsertQueryGenerator.
+     */
+    INSTANCE;
+
+    /**
+     * Generates an SQL `INSERT` statement for the given table.
+     *
+     * @param insertMetadata The {@link InsertMetadata} of the statement.
+     * @return The SQL statement, with a {@code ?} placeholder per column.
+     */
+    @Override
+    public String generate(final InsertMetadata insertMetadata) {
+        final String placeholders = String.join(", ", Collections.nCopies(insertMetadata.columnNames().size(), "?"));
+        return String.format(
+                "INSERT INTO %s (%s) VALUES (%s)",
+                insertMetadata.tableName(),
+                String.join(", ", insertMetadata.columnNames()),
+                placeholders
+        );
+    }
+
+}
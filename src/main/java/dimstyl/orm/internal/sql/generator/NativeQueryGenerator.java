@@ -0,0 +1,33 @@
+package dimstyl.orm.internal.sql.generator;
+
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.NativeQueryMetadata;
+
+/**
+ * Provides the SQL statement of a native query method.
+ * <p>
+ * Native statements are written by hand, so nothing is generated: their named parameters were already
+ * rewritten to positional placeholders when the repository was processed.
+ * </p>
+ */
+enum NativeQueryGenerator implements SqlQueryGenerator<String, NativeQueryMetadata> {
+
+    /**
+     * The singleton instance of the NativeQueryGenerator.
+     */
+    INSTANCE;
+
+    /**
+     * Provides the SQL statement of a native query method.
+     *
+     * @param nativeQueryMetadata Metadata about the native query method, as defined by {@link NativeQueryMetadata}.
+     * @return The SQL statement, with a {@code ?} placeholder per bound argument.
+     */
+    @Override
+    public String generate(final NativeQueryMetadata nativeQueryMetadata) {
+        ConsoleUtils.printFormatted("\n🔄️ Preparing native SQL statement of '%s'...\n", nativeQueryMetadata.methodName());
+        ConsoleUtils.printFormatted("✅ SQL statement prepared successfully\n");
+        return nativeQueryMetadata.sql();
+    }
+
+}
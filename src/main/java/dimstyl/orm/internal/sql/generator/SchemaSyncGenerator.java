@@ -0,0 +1,217 @@
+package dimstyl.orm.internal.sql.generator;
+
+import dimstyl.orm.annotations.UniqueConstraint;
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.enums.ForeignKeyAction;
+import dimstyl.orm.exceptions.InvalidColumnNameException;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.internal.utils.FileUtils;
+import dimstyl.orm.metadata.*;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Singleton-based SQL query generator responsible for synchronizing the schema of an existing database.
+ * <p>
+ * This generator diffs the tables of a database against the ones it actually has, and produces only the queries
+ * needed to bring the schema in line: a `CREATE TABLE` query for each missing table, an `ALTER TABLE ... ADD COLUMN`
+ * query for each missing column, a `CREATE UNIQUE INDEX` query for each missing unique column or constraint,
+ * and a `CREATE INDEX` query for each missing index.
+ * An up-to-date schema yields no queries at all.
+ * </p>
+ * <p>
+ * The synchronization never drops or alters existing columns. Since none of the engines can add a `NOT NULL`
+ * column without a default to a table that may hold rows, or add a primary key column, missing columns are
+ * added as nullable, and missing primary key columns are skipped, both with a warning.
+ * </p>
+ */
+public enum SchemaSyncGenerator implements SqlQueryGenerator<List<String>, SchemaSyncMetadata> {
+
+    /**
+     * The singleton instance of the schema synchronization generator.
+     */
+    INSTANCE;
+
+    /**
+     * Generates the SQL queries synchronizing the schema of a database based on {@link SchemaSyncMetadata}.
+     * <p>
+     * Missing tables are created first, in dependency order, followed by the missing columns and indexes.
+     * The generated queries, if any, are also saved as an SQL script file based on the selected database engine.
+     * </p>
+     *
+     * @param schemaSyncMetadata The tables the database should have and the ones it actually has.
+     * @return A list of SQL statements as strings, empty if the schema is up to date.
+     * @throws InvalidColumnNameException If any column in constraints does not exist in the table definition.
+     */
+    @Override
+    public List<String> generate(final SchemaSyncMetadata schemaSyncMetadata) throws InvalidColumnNameException {
+        final DatabaseMetadata databaseMetadata = schemaSyncMetadata.databaseMetadata();
+        final DatabaseEngine databaseEngine = databaseMetadata.databaseEngine();
+        final List<String> createTableQueries = new ArrayList<>();
+        final List<String> addColumnQueries = new ArrayList<>();
+        final List<String> createIndexQueries = new ArrayList<>();
+
+        ConsoleUtils.printFormatted("\n🔄️ Generating SQL schema synchronization queries...\n");
+        final DatabaseSchemaGenerator schemaGenerator = DatabaseSchemaGenerator.INSTANCE;
+        for (TableMetadata tableMetadata : schemaGenerator.sortByDependencies(databaseMetadata.tableMetadataList())) {
+            final String tableName = tableMetadata.tableName();
+            final LiveTableMetadata liveTable = schemaSyncMetadata.liveTables().get(normalize(tableName));
+            if (liveTable == null) {
+                final String createTableQuery = schemaGenerator.generateCreateTableQuery(tableMetadata, databaseEngine);
+                createTableQueries.add(createTableQuery.substring(0, createTableQuery.length() - 1));
+                ConsoleUtils.printFormatted("\t✅ Created query for missing table '%s'\n", tableName);
+                createIndexQueries.addAll(schemaGenerator.generateCreateIndexQueries(tableMetadata, databaseEngine));
+                continue;
+            }
+
+            addMissingColumns(tableMetadata, liveTable, addColumnQueries);
+            addMissingUniqueIndexes(tableMetadata, liveTable, createIndexQueries);
+            addMissingIndexes(tableMetadata, liveTable, databaseEngine, createIndexQueries);
+        }
+
+        final List<String> queries = new ArrayList<>(createTableQueries);
+        queries.addAll(addColumnQueries);
+        queries.addAll(createIndexQueries);
+        if (queries.isEmpty()) {
+            ConsoleUtils.printFormatted("\t✅ Schema is up to date\n");
+            return List.of();
+        }
+
+        // Save the generated SQL queries to a file specific to the database engine
+        try {
+            final String fileNamePlaceholder = switch (databaseEngine) {
+                case H2 -> "db/h2/%s";
+                case SQLITE -> "db/sqlite/%s";
+                case DERBY -> "db/derby/%s";
+            };
+
+            final String fileName = String.format(fileNamePlaceholder, "sync_schema.sql");
+            final String script = String.join(";\n\n", queries) + ";\n";
+            final String absolutePath = FileUtils.writeToFileAndGetAbsolutePath(fileName, script);
+            ConsoleUtils.printFormatted("\n💾 SQL script saved to '%s'\n", absolutePath);
+        } catch (IOException e) {
+            ConsoleUtils.printFormatted("\n⚠️ Failed to write SQL schema synchronization queries to a file\n\tERROR: %s\n", e.getMessage());
+        }
+
+        return List.copyOf(queries);
+    }
+
+    /**
+     * Appends an `ALTER TABLE ... ADD COLUMN` query for each column of a table missing from the live table.
+     * <p>
+     * A missing foreign key column is added with its `REFERENCES` clause, while its unique index, if any,
+     * is left to {@link #addMissingUniqueIndexes(TableMetadata, LiveTableMetadata, List)}.
+     * </p>
+     *
+     * @param tableMetadata The metadata for the table.
+     * @param liveTable     The table as it exists in the database.
+     * @param queries       The list to append the queries to.
+     */
+    private void addMissingColumns(final TableMetadata tableMetadata,
+                                   final LiveTableMetadata liveTable,
+                                   final List<String> queries) {
+        final String tableName = tableMetadata.tableName();
+        for (ColumnMetadata column : tableMetadata.columnMetadataList()) {
+            final String columnName = column.columnName();
+            if (liveTable.columnNames().contains(normalize(columnName))) continue;
+
+            if (column.primaryKey()) {
+                ConsoleUtils.printFormatted("\t⚠️ Skipping missing primary key column '%s' of table '%s'\n",
+                        columnName, tableName);
+                continue;
+            }
+            if (!column.nullable()) {
+                ConsoleUtils.printFormatted("\t⚠️ Adding NOT NULL column '%s' of table '%s' as nullable\n",
+                        columnName, tableName);
+            }
+
+            final StringBuilder sqlBuilder = new StringBuilder(String.format(
+                    "ALTER TABLE %s ADD COLUMN %s %s", tableName, columnName, column.columnType()));
+            tableMetadata.foreignKeys().stream()
+                    .filter(foreignKey -> foreignKey.columnName().equals(columnName))
+                    .findFirst()
+                    .ifPresent(foreignKey -> {
+                        sqlBuilder.append(String.format(" REFERENCES %s (%s)",
+                                foreignKey.referencedTableName(), foreignKey.referencedColumnName()));
+                        if (foreignKey.onDelete() != ForeignKeyAction.NO_ACTION) {
+                            sqlBuilder.append(" ON DELETE ").append(foreignKey.onDelete().sql());
+                        }
+                    });
+            queries.add(sqlBuilder.toString());
+            ConsoleUtils.printFormatted("\t✅ Created query for missing column '%s' of table '%s'\n",
+                    columnName, tableName);
+        }
+    }
+
+    /**
+     * Appends a `CREATE UNIQUE INDEX` query for each unique column and {@link UniqueConstraint} of a table
+     * not backed by a unique index of the live table.
+     *
+     * @param tableMetadata The metadata for the table.
+     * @param liveTable     The table as it exists in the database.
+     * @param queries       The list to append the queries to.
+     * @throws InvalidColumnNameException If a column of a unique constraint does not exist in the table.
+     */
+    private void addMissingUniqueIndexes(final TableMetadata tableMetadata,
+                                         final LiveTableMetadata liveTable,
+                                         final List<String> queries) throws InvalidColumnNameException {
+        final String tableName = tableMetadata.tableName();
+        final Set<String> tableColumnNames = new HashSet<>();
+        final List<List<String>> uniqueColumnLists = new ArrayList<>();
+        for (ColumnMetadata column : tableMetadata.columnMetadataList()) {
+            tableColumnNames.add(column.columnName());
+            if (column.unique() && !column.primaryKey()) uniqueColumnLists.add(List.of(column.columnName()));
+        }
+        for (UniqueConstraint uniqueConstraint : tableMetadata.uniqueConstraints()) {
+            uniqueColumnLists.add(DatabaseSchemaGenerator.INSTANCE
+                    .validateConstraint(tableColumnNames, tableName, uniqueConstraint));
+        }
+
+        for (List<String> uniqueColumns : uniqueColumnLists) {
+            final Set<String> normalizedColumns = new HashSet<>();
+            uniqueColumns.forEach(columnName -> normalizedColumns.add(normalize(columnName)));
+            if (liveTable.uniqueColumnSets().contains(normalizedColumns)) continue;
+
+            final String indexName = String.format("uk_%s_%s", tableName, String.join("_", uniqueColumns));
+            queries.add(String.format("CREATE UNIQUE INDEX %s ON %s (%s)",
+                    indexName, tableName, String.join(", ", uniqueColumns)));
+            ConsoleUtils.printFormatted("\t✅ Created query for missing unique index '%s'\n", indexName);
+        }
+    }
+
+    /**
+     * Appends a `CREATE INDEX` query for each index of a table missing from the live table, by name.
+     *
+     * @param tableMetadata  The metadata for the table.
+     * @param liveTable      The table as it exists in the database.
+     * @param databaseEngine The database engine for which the queries are generated.
+     * @param queries        The list to append the queries to.
+     * @throws InvalidColumnNameException If an index references a column that does not exist in the table.
+     */
+    private void addMissingIndexes(final TableMetadata tableMetadata,
+                                   final LiveTableMetadata liveTable,
+                                   final DatabaseEngine databaseEngine,
+                                   final List<String> queries) throws InvalidColumnNameException {
+        final List<IndexMetadata> missingIndexes = tableMetadata.indexes().stream()
+                .filter(index -> !liveTable.indexNames().contains(normalize(index.indexName())))
+                .toList();
+        if (missingIndexes.isEmpty()) return;
+
+        final TableMetadata missingIndexesTable = new TableMetadata(tableMetadata.tableName(),
+                tableMetadata.uniqueConstraints(), tableMetadata.foreignKeys(), tableMetadata.columnMetadataList(),
+                missingIndexes);
+        queries.addAll(DatabaseSchemaGenerator.INSTANCE.generateCreateIndexQueries(missingIndexesTable, databaseEngine));
+    }
+
+    /**
+     * Normalizes an identifier for comparison with the identifiers read from the database.
+     *
+     * @param identifier The identifier.
+     * @return The upper-cased identifier.
+     */
+    private static String normalize(final String identifier) {
+        return identifier.toUpperCase(Locale.ROOT);
+    }
+
+}
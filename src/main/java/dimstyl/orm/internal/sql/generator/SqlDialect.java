@@ -0,0 +1,189 @@
+package dimstyl.orm.internal.sql.generator;
+
+import dimstyl.orm.enums.AggregateFunction;
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.metadata.IndexMetadata;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Utility class rendering the SQL fragments whose syntax or semantics differ between database engines.
+ *
+ * <p><strong>Engine Differences:</strong></p>
+ * <ul>
+ *     <li>SQLite limits rows with {@code LIMIT n}, while H2 and Derby use the standard {@code FETCH FIRST n ROWS ONLY}.</li>
+ *     <li>SQLite skips rows with {@code LIMIT n OFFSET m}, which requires a limit, while H2 and Derby use the standard
+ *     {@code OFFSET m ROWS}, which precedes the limit.</li>
+ *     <li>Derby sums integers in the type of the column, so {@code SUM} over {@code INTEGER} columns overflows
+ *     unless the column is widened to {@code BIGINT} first.</li>
+ *     <li>Derby averages integers in integer arithmetic, so {@code AVG} over integral columns is truncated
+ *     unless the column is converted to {@code DOUBLE} first.</li>
+ *     <li>SQLite and H2 create temporary tables on demand with {@code IF NOT EXISTS}, while Derby declares them
+ *     in the {@code SESSION} schema, and discards their rows on commit unless told otherwise.</li>
+ *     <li>SQLite and H2 create indexes on demand with {@code IF NOT EXISTS}, which Derby lacks, and only SQLite
+ *     supports partial indexes, restricted by a {@code WHERE} clause.</li>
+ * </ul>
+ */
+public final class SqlDialect {
+
+    /**
+     * The integral types whose sum may overflow their own SQL type.
+     */
+    private static final Set<Class<?>> NARROW_INTEGRAL_TYPES = Set.of(
+            short.class, Short.class, int.class, Integer.class
+    );
+
+    /**
+     * The integral types, whose average is truncated by integer arithmetic.
+     */
+    private static final Set<Class<?>> INTEGRAL_TYPES = Set.of(
+            short.class, Short.class, int.class, Integer.class, long.class, Long.class
+    );
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SqlDialect() {
+    }
+
+    /**
+     * Renders the clause limiting a query to its first rows.
+     *
+     * @param databaseEngine The {@link DatabaseEngine} the query is generated for.
+     * @param rows           The maximum number of rows.
+     * @return The clause, starting with a space.
+     */
+    static String fetchFirst(final DatabaseEngine databaseEngine, final int rows) {
+        return switch (databaseEngine) {
+            case SQLITE -> " LIMIT " + rows;
+            case H2, DERBY -> String.format(" FETCH FIRST %d ROWS ONLY", rows);
+        };
+    }
+
+    /**
+     * Renders the clause paginating a query, with a {@code ?} placeholder for the limit and for the offset.
+     *
+     * @param databaseEngine The {@link DatabaseEngine} the query is generated for.
+     * @param limited        Whether the number of rows is limited.
+     * @param offset         Whether leading rows are skipped.
+     * @return The clause, starting with a space, or an empty string if the query is not paginated.
+     * @see #offsetBeforeLimit(DatabaseEngine)
+     */
+    static String paginate(final DatabaseEngine databaseEngine, final boolean limited, final boolean offset) {
+        return switch (databaseEngine) {
+            case SQLITE -> (limited || offset ? " LIMIT " + (limited ? "?" : "-1") : "") + (offset ? " OFFSET ?" : "");
+            case H2, DERBY -> (offset ? " OFFSET ? ROWS" : "") + (limited ? " FETCH FIRST ? ROWS ONLY" : "");
+        };
+    }
+
+    /**
+     * Checks whether the offset of a paginated query is bound before its limit.
+     *
+     * @param databaseEngine The {@link DatabaseEngine} the query is generated for.
+     * @return {@code true} if the offset placeholder precedes the limit placeholder, {@code false} otherwise.
+     */
+    public static boolean offsetBeforeLimit(final DatabaseEngine databaseEngine) {
+        return databaseEngine != DatabaseEngine.SQLITE;
+    }
+
+    /**
+     * Renders the qualified name of a temporary table.
+     *
+     * @param databaseEngine The {@link DatabaseEngine} the table is created in.
+     * @param tableName      The unqualified name of the temporary table.
+     * @return The name the temporary table is referred to by.
+     */
+    public static String temporaryTableName(final DatabaseEngine databaseEngine, final String tableName) {
+        return databaseEngine == DatabaseEngine.DERBY ? "SESSION." + tableName : tableName;
+    }
+
+    /**
+     * Renders the statement creating a temporary table with a single {@code id} column, private to its connection
+     * and keeping its rows across commits.
+     * <p>
+     * Derby has no {@code IF NOT EXISTS} clause, so the statement must only be executed once per connection.
+     * </p>
+     *
+     * @param databaseEngine The {@link DatabaseEngine} the table is created in.
+     * @param tableName      The name of the temporary table, as returned by
+     *                       {@link #temporaryTableName(DatabaseEngine, String)}.
+     * @param idColumnType   The SQL type of the {@code id} column.
+     * @return The {@code CREATE TEMPORARY TABLE} statement.
+     */
+    public static String createTemporaryIdTable(final DatabaseEngine databaseEngine,
+                                                final String tableName,
+                                                final String idColumnType) {
+        return switch (databaseEngine) {
+            case SQLITE -> String.format("CREATE TEMP TABLE IF NOT EXISTS %s (id %s)", tableName, idColumnType);
+            case H2 -> String.format("CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS %s (id %s)", tableName, idColumnType);
+            case DERBY -> String.format(
+                    "DECLARE GLOBAL TEMPORARY TABLE %s (id %s) ON COMMIT PRESERVE ROWS NOT LOGGED",
+                    tableName,
+                    idColumnType
+            );
+        };
+    }
+
+    /**
+     * Checks whether an engine supports partial indexes.
+     *
+     * @param databaseEngine The {@link DatabaseEngine} the index is created in.
+     * @return {@code true} if the engine supports partial indexes, {@code false} otherwise.
+     */
+    static boolean supportsPartialIndexes(final DatabaseEngine databaseEngine) {
+        return databaseEngine == DatabaseEngine.SQLITE;
+    }
+
+    /**
+     * Renders the statement creating a non-unique index.
+     * <p>
+     * The condition of a partial index is only rendered on engines supporting partial indexes.
+     * </p>
+     *
+     * @param databaseEngine The {@link DatabaseEngine} the index is created in.
+     * @param tableName      The name of the indexed table.
+     * @param index          The {@link IndexMetadata} of the index.
+     * @return The {@code CREATE INDEX} statement.
+     */
+    static String createIndex(final DatabaseEngine databaseEngine, final String tableName, final IndexMetadata index) {
+        final String columns = index.columnNames().stream()
+                .map(columnName -> index.descendingColumnNames().contains(columnName) ? columnName + " DESC" : columnName)
+                .collect(Collectors.joining(", "));
+        final String where = !index.where().isEmpty() && supportsPartialIndexes(databaseEngine)
+                ? " WHERE " + index.where()
+                : "";
+        return switch (databaseEngine) {
+            case SQLITE, H2 -> String.format("CREATE INDEX IF NOT EXISTS %s ON %s (%s)%s",
+                    index.indexName(), tableName, columns, where);
+            case DERBY -> String.format("CREATE INDEX %s ON %s (%s)", index.indexName(), tableName, columns);
+        };
+    }
+
+    /**
+     * Renders an aggregate function over a column.
+     *
+     * @param databaseEngine The {@link DatabaseEngine} the query is generated for.
+     * @param function       The {@link AggregateFunction}.
+     * @param columnName     The name of the aggregated column.
+     * @param columnType     The type of the entity field mapped to the column.
+     * @return The aggregate expression.
+     */
+    static String aggregate(final DatabaseEngine databaseEngine,
+                            final AggregateFunction function,
+                            final String columnName,
+                            final Class<?> columnType) {
+        final boolean derby = databaseEngine == DatabaseEngine.DERBY;
+        final String argument = switch (function) {
+            case SUM -> derby && NARROW_INTEGRAL_TYPES.contains(columnType)
+                    ? String.format("CAST(%s AS BIGINT)", columnName)
+                    : columnName;
+            case AVG -> derby && INTEGRAL_TYPES.contains(columnType)
+                    ? String.format("CAST(%s AS DOUBLE)", columnName)
+                    : columnName;
+            case COUNT, MIN, MAX -> columnName;
+        };
+        return String.format("%s(%s)", function, argument);
+    }
+
+}
@@ -10,8 +10,18 @@ import dimstyl.orm.metadata.Metadata;
  * instance based on the given {@link SqlOperation}. It supports operations such as:
  * <ul>
  *     <li>{@code CREATE_TABLE} - Uses {@link DatabaseSchemaGenerator#INSTANCE}</li>
+ *     <li>{@code SYNC_SCHEMA} - Uses {@link SchemaSyncGenerator#INSTANCE}</li>
  *     <li>{@code SELECT_ALL} - Uses {@link SelectAllQueryGenerator#INSTANCE}</li>
+ *     <li>{@code FIND_BY_ID} - Uses {@link FindByIdQueryGenerator#INSTANCE}</li>
+ *     <li>{@code FIND_ALL_BY_ID} - Uses {@link FindAllByIdQueryGenerator#INSTANCE}</li>
+ *     <li>{@code COUNT} - Uses {@link CountQueryGenerator#INSTANCE}</li>
+ *     <li>{@code EXISTS_BY_ID} - Uses {@link ExistsByIdQueryGenerator#INSTANCE}</li>
+ *     <li>{@code AGGREGATE} - Uses {@link AggregateQueryGenerator#INSTANCE}</li>
  *     <li>{@code DELETE_BY_ID} - Uses {@link DeleteByIdQueryGenerator#INSTANCE}</li>
+ *     <li>{@code PERSIST} - Uses {@link InsertQueryGenerator#INSTANCE}</li>
+ *     <li>{@code DERIVED_QUERY} - Uses {@link DerivedQueryGenerator#INSTANCE}</li>
+ *     <li>{@code CRITERIA_QUERY} - Uses {@link CriteriaQueryGenerator#INSTANCE}</li>
+ *     <li>{@code NATIVE_QUERY}, {@code NATIVE_UPDATE} - Use {@link NativeQueryGenerator#INSTANCE}</li>
  * </ul>
  * </p>
  */
@@ -34,8 +44,18 @@ public final class SqlQueryGeneratorFactory {
     public static <K, T extends Metadata> SqlQueryGenerator<K, T> getGenerator(final SqlOperation sqlOperation) {
         return (SqlQueryGenerator<K, T>) switch (sqlOperation) {
             case CREATE_TABLE -> DatabaseSchemaGenerator.INSTANCE;
+            case SYNC_SCHEMA -> SchemaSyncGenerator.INSTANCE;
             case SELECT_ALL -> SelectAllQueryGenerator.INSTANCE;
+            case FIND_BY_ID -> FindByIdQueryGenerator.INSTANCE;
+            case FIND_ALL_BY_ID -> FindAllByIdQueryGenerator.INSTANCE;
+            case COUNT -> CountQueryGenerator.INSTANCE;
+            case EXISTS_BY_ID -> ExistsByIdQueryGenerator.INSTANCE;
+            case AGGREGATE -> AggregateQueryGenerator.INSTANCE;
             case DELETE_BY_ID -> DeleteByIdQueryGenerator.INSTANCE;
+            case PERSIST -> InsertQueryGenerator.INSTANCE;
+            case DERIVED_QUERY -> DerivedQueryGenerator.INSTANCE;
+            case CRITERIA_QUERY -> CriteriaQueryGenerator.INSTANCE;
+            case NATIVE_QUERY, NATIVE_UPDATE -> NativeQueryGenerator.INSTANCE;
         };
     }
 
@@ -0,0 +1,131 @@
+package dimstyl.orm.internal.sql.resolver;
+
+import dimstyl.orm.annotations.Convert;
+import dimstyl.orm.exceptions.InvalidConverterException;
+import dimstyl.orm.model.AttributeConverter;
+import dimstyl.orm.model.DoubleConverter;
+import dimstyl.orm.model.IntConverter;
+import dimstyl.orm.model.LongConverter;
+import dimstyl.orm.model.StringConverter;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+/**
+ * Utility class resolving the {@link AttributeConverter}s registered with {@link Convert}.
+ * <p>
+ * Each converter class is instantiated once and shared by all the columns it converts.
+ * </p>
+ */
+final class AttributeConverters {
+
+    /**
+     * The converter instance of each converter class.
+     */
+    private static final ClassValue<AttributeConverter<?>> INSTANCES = new ClassValue<>() {
+        @Override
+        protected AttributeConverter<?> computeValue(final Class<?> converterClass) {
+            try {
+                final var constructor = converterClass.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return (AttributeConverter<?>) constructor.newInstance();
+            } catch (NoSuchMethodException | InstantiationException | IllegalAccessException
+                     | InvocationTargetException e) {
+                throw new InvalidConverterException(String.format(
+                        "Converter '%s' cannot be instantiated through a no-arg constructor: %s",
+                        converterClass.getSimpleName(), e));
+            }
+        }
+    };
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private AttributeConverters() {
+    }
+
+    /**
+     * Finds the converter of a field, declared on the field itself or else on its type.
+     *
+     * @param field The Java field.
+     * @return The {@link AttributeConverter} of the field, or an empty {@link Optional} if it has none.
+     * @throws InvalidConverterException If the converter cannot be instantiated, or converts another type.
+     */
+    static Optional<AttributeConverter<?>> find(final Field field) throws InvalidConverterException {
+        final Convert convert = field.getDeclaredAnnotation(Convert.class);
+        if (convert == null) return find(field.getType());
+        return Optional.of(instantiate(convert.value(), field.getType()));
+    }
+
+    /**
+     * Finds the converter declared on a value type.
+     *
+     * @param type The Java type.
+     * @return The {@link AttributeConverter} of the type, or an empty {@link Optional} if it has none.
+     * @throws InvalidConverterException If the converter cannot be instantiated, or converts another type.
+     */
+    static Optional<AttributeConverter<?>> find(final Class<?> type) throws InvalidConverterException {
+        final Convert convert = type.getDeclaredAnnotation(Convert.class);
+        if (convert == null) return Optional.empty();
+        return Optional.of(instantiate(convert.value(), type));
+    }
+
+    /**
+     * Resolves the type a converter stores the values as.
+     *
+     * @param converter The converter.
+     * @return {@code int}, {@code long}, {@code double} or {@code String}.
+     */
+    static Class<?> storedType(final AttributeConverter<?> converter) {
+        return switch (converter) {
+            case IntConverter<?> ignored -> int.class;
+            case LongConverter<?> ignored -> long.class;
+            case DoubleConverter<?> ignored -> double.class;
+            case StringConverter<?> ignored -> String.class;
+        };
+    }
+
+    /**
+     * Returns the instance of a converter class, checking that it converts the given type.
+     *
+     * @param converterClass The converter class.
+     * @param type           The type of the converted values.
+     * @return The shared {@link AttributeConverter} instance.
+     * @throws InvalidConverterException If the converter cannot be instantiated, or converts another type.
+     */
+    private static AttributeConverter<?> instantiate(final Class<?> converterClass, final Class<?> type)
+            throws InvalidConverterException {
+        final Class<?> convertedType = resolveConvertedType(converterClass);
+        if (convertedType != null && !convertedType.isAssignableFrom(MethodType.methodType(type).wrap().returnType())) {
+            throw new InvalidConverterException(String.format(
+                    "Converter '%s' converts '%s', not '%s'",
+                    converterClass.getSimpleName(), convertedType.getSimpleName(), type.getSimpleName()));
+        }
+        return INSTANCES.get(converterClass);
+    }
+
+    /**
+     * Resolves the type a converter class converts, from the type argument of the converter interface it implements.
+     *
+     * @param converterClass The converter class.
+     * @return The converted type, or {@code null} if it is not a class, e.g. a type variable.
+     */
+    private static Class<?> resolveConvertedType(final Class<?> converterClass) {
+        for (Class<?> current = converterClass; current != null; current = current.getSuperclass()) {
+            for (final Type genericInterface : current.getGenericInterfaces()) {
+                if (genericInterface instanceof ParameterizedType parameterizedType
+                    && parameterizedType.getRawType() instanceof Class<?> rawType
+                    && AttributeConverter.class.isAssignableFrom(rawType)) {
+                    return parameterizedType.getActualTypeArguments()[0] instanceof Class<?> convertedType
+                            ? convertedType : null;
+                }
+            }
+        }
+        return null;
+    }
+
+}
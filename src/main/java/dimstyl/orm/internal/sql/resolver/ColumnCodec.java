@@ -0,0 +1,289 @@
+package dimstyl.orm.internal.sql.resolver;
+
+import dimstyl.orm.model.AttributeConverter;
+import dimstyl.orm.model.CodedEnum;
+import dimstyl.orm.model.DoubleConverter;
+import dimstyl.orm.model.IntConverter;
+import dimstyl.orm.model.LongConverter;
+import dimstyl.orm.model.StringConverter;
+
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Converts the values of a Java type to and from the representation a database engine stores them as.
+ * <p>
+ * Codecs are resolved once per column and engine by {@link ColumnTypeResolver#resolveCodec(Class)}, so binding
+ * and reading a value involves no type dispatch. Types stored natively by the engine use a direct codec, which
+ * binds the value as it is and reads it with the driver's own conversion, while the others are encoded into
+ * a compact stored type, e.g. a {@code UUID} into 16 bytes or an {@code Instant} into epoch milliseconds.
+ * </p>
+ * <p>
+ * Both conversions map {@code null} to {@code null}.
+ * </p>
+ */
+public interface ColumnCodec {
+
+    /**
+     * Encodes a value into the representation bound to a statement parameter.
+     *
+     * @param value The value, possibly {@code null}.
+     * @return The encoded value, to be bound with {@link java.sql.PreparedStatement#setObject(int, Object)}.
+     */
+    Object encode(final Object value);
+
+    /**
+     * Encodes a value and binds it to a statement parameter.
+     * <p>
+     * Codecs storing primitives override it to bind them without boxing.
+     * </p>
+     *
+     * @param statement      The prepared statement.
+     * @param parameterIndex The index of the parameter, starting at 1.
+     * @param value          The value, possibly {@code null}.
+     * @throws SQLException If the value cannot be bound.
+     */
+    default void bind(final PreparedStatement statement, final int parameterIndex, final Object value)
+            throws SQLException {
+        statement.setObject(parameterIndex, encode(value));
+    }
+
+    /**
+     * Reads and decodes the value of a column of the current row.
+     *
+     * @param resultSet   The result set, positioned on a row.
+     * @param columnIndex The index of the column, starting at 1.
+     * @return The decoded value, or {@code null} if the column holds {@code NULL}.
+     * @throws SQLException If the column cannot be read.
+     */
+    Object read(final ResultSet resultSet, final int columnIndex) throws SQLException;
+
+    /**
+     * Creates a codec binding values as they are and reading them with the driver's conversion to their type.
+     *
+     * @param type The Java type, whose primitive types are read as their wrapper types.
+     * @return The direct {@link ColumnCodec}.
+     */
+    static ColumnCodec direct(final Class<?> type) {
+        final Class<?> readType = MethodType.methodType(type).wrap().returnType();
+        return new ColumnCodec() {
+            @Override
+            public Object encode(final Object value) {
+                return value;
+            }
+
+            @Override
+            public Object read(final ResultSet resultSet, final int columnIndex) throws SQLException {
+                return resultSet.getObject(columnIndex, readType);
+            }
+        };
+    }
+
+    /**
+     * Creates a codec encoding values into another stored type.
+     *
+     * @param storedType The type the values are stored and read as.
+     * @param encoder    Converts a non-null value into its stored representation.
+     * @param decoder    Converts a non-null stored representation back into a value.
+     * @param <S>        The stored type.
+     * @return The mapped {@link ColumnCodec}.
+     */
+    static <S> ColumnCodec mapped(final Class<S> storedType,
+                                  final Function<Object, ? extends S> encoder,
+                                  final Function<? super S, ?> decoder) {
+        return new ColumnCodec() {
+            @Override
+            public Object encode(final Object value) {
+                return value == null ? null : encoder.apply(value);
+            }
+
+            @Override
+            public Object read(final ResultSet resultSet, final int columnIndex) throws SQLException {
+                final S stored = resultSet.getObject(columnIndex, storedType);
+                return stored == null ? null : decoder.apply(stored);
+            }
+        };
+    }
+
+    /**
+     * Creates a codec checking each column for {@code NULL} before reading it with another codec,
+     * for drivers failing to convert a {@code NULL} into the requested type.
+     *
+     * @param codec The codec reading the non-null values.
+     * @return The null-checked {@link ColumnCodec}.
+     */
+    static ColumnCodec nullChecked(final ColumnCodec codec) {
+        return new ColumnCodec() {
+            @Override
+            public Object encode(final Object value) {
+                return codec.encode(value);
+            }
+
+            @Override
+            public void bind(final PreparedStatement statement, final int parameterIndex, final Object value)
+                    throws SQLException {
+                codec.bind(statement, parameterIndex, value);
+            }
+
+            @Override
+            public Object read(final ResultSet resultSet, final int columnIndex) throws SQLException {
+                return resultSet.getObject(columnIndex) == null ? null : codec.read(resultSet, columnIndex);
+            }
+        };
+    }
+
+    /**
+     * Creates a codec storing the constants of an enum by ordinal, or by code if it implements {@link CodedEnum}.
+     *
+     * @param enumType The enum type.
+     * @return The enum's {@link ColumnCodec}.
+     */
+    static ColumnCodec enumerated(final Class<?> enumType) {
+        final Object[] constants = enumType.getEnumConstants();
+        if (!CodedEnum.class.isAssignableFrom(enumType)) {
+            return mapped(Integer.class, value -> ((Enum<?>) value).ordinal(), ordinal -> constants[ordinal]);
+        }
+
+        final Map<String, Object> constantsByCode = new HashMap<>();
+        for (final Object constant : constants) constantsByCode.put(((CodedEnum) constant).code(), constant);
+        return mapped(String.class, value -> ((CodedEnum) value).code(), code -> {
+            final Object constant = constantsByCode.get(code);
+            if (constant == null) {
+                throw new IllegalArgumentException(String.format(
+                        "Unknown code '%s' of enum '%s'", code, enumType.getSimpleName()));
+            }
+            return constant;
+        });
+    }
+
+    /**
+     * Creates a codec storing values through an {@link AttributeConverter}, binding and reading the primitive
+     * it stores them as without boxing.
+     *
+     * @param converter The converter.
+     * @return The converted {@link ColumnCodec}.
+     */
+    @SuppressWarnings("unchecked")
+    static ColumnCodec converted(final AttributeConverter<?> converter) {
+        return switch (converter) {
+            case IntConverter<?> intConverter -> convertedInt((IntConverter<Object>) intConverter);
+            case LongConverter<?> longConverter -> convertedLong((LongConverter<Object>) longConverter);
+            case DoubleConverter<?> doubleConverter -> convertedDouble((DoubleConverter<Object>) doubleConverter);
+            case StringConverter<?> stringConverter -> {
+                final StringConverter<Object> typedConverter = (StringConverter<Object>) stringConverter;
+                yield mapped(String.class, typedConverter::toColumn, typedConverter::fromColumn);
+            }
+        };
+    }
+
+    /**
+     * Creates a codec storing values as {@code int}s through a converter.
+     *
+     * @param converter The converter.
+     * @return The {@link ColumnCodec}.
+     */
+    private static ColumnCodec convertedInt(final IntConverter<Object> converter) {
+        return new ColumnCodec() {
+            @Override
+            public Object encode(final Object value) {
+                return value == null ? null : converter.toColumn(value);
+            }
+
+            @Override
+            public void bind(final PreparedStatement statement, final int parameterIndex, final Object value)
+                    throws SQLException {
+                if (value == null) statement.setNull(parameterIndex, Types.INTEGER);
+                else statement.setInt(parameterIndex, converter.toColumn(value));
+            }
+
+            @Override
+            public Object read(final ResultSet resultSet, final int columnIndex) throws SQLException {
+                final int column = resultSet.getInt(columnIndex);
+                return resultSet.wasNull() ? null : converter.fromColumn(column);
+            }
+        };
+    }
+
+    /**
+     * Creates a codec storing values as {@code long}s through a converter.
+     *
+     * @param converter The converter.
+     * @return The {@link ColumnCodec}.
+     */
+    private static ColumnCodec convertedLong(final LongConverter<Object> converter) {
+        return new ColumnCodec() {
+            @Override
+            public Object encode(final Object value) {
+                return value == null ? null : converter.toColumn(value);
+            }
+
+            @Override
+            public void bind(final PreparedStatement statement, final int parameterIndex, final Object value)
+                    throws SQLException {
+                if (value == null) statement.setNull(parameterIndex, Types.BIGINT);
+                else statement.setLong(parameterIndex, converter.toColumn(value));
+            }
+
+            @Override
+            public Object read(final ResultSet resultSet, final int columnIndex) throws SQLException {
+                final long column = resultSet.getLong(columnIndex);
+                return resultSet.wasNull() ? null : converter.fromColumn(column);
+            }
+        };
+    }
+
+    /**
+     * Creates a codec storing values as {@code double}s through a converter.
+     *
+     * @param converter The converter.
+     * @return The {@link ColumnCodec}.
+     */
+    private static ColumnCodec convertedDouble(final DoubleConverter<Object> converter) {
+        return new ColumnCodec() {
+            @Override
+            public Object encode(final Object value) {
+                return value == null ? null : converter.toColumn(value);
+            }
+
+            @Override
+            public void bind(final PreparedStatement statement, final int parameterIndex, final Object value)
+                    throws SQLException {
+                if (value == null) statement.setNull(parameterIndex, Types.DOUBLE);
+                else statement.setDouble(parameterIndex, converter.toColumn(value));
+            }
+
+            @Override
+            public Object read(final ResultSet resultSet, final int columnIndex) throws SQLException {
+                final double column = resultSet.getDouble(columnIndex);
+                return resultSet.wasNull() ? null : converter.fromColumn(column);
+            }
+        };
+    }
+
+    /**
+     * Creates a codec storing UUIDs as their 16 bytes, most significant first.
+     *
+     * @return The binary UUID {@link ColumnCodec}.
+     */
+    static ColumnCodec binaryUuid() {
+        return mapped(byte[].class, value -> {
+            final UUID uuid = (UUID) value;
+            return ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array();
+        }, bytes -> {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        });
+    }
+
+}
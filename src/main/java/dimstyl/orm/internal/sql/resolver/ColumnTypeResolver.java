@@ -1,17 +1,33 @@
 package dimstyl.orm.internal.sql.resolver;
 
+import dimstyl.orm.annotations.Column;
+import dimstyl.orm.annotations.Convert;
+import dimstyl.orm.exceptions.InvalidConverterException;
 import dimstyl.orm.exceptions.UnsupportedFieldTypeException;
 import dimstyl.orm.internal.utils.StringUtils;
+import dimstyl.orm.model.AttributeConverter;
+import dimstyl.orm.model.CodedEnum;
 
 import java.lang.reflect.Field;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interface for resolving SQL column types based on Java field types.
  *
  * <p>This interface defines methods for mapping Java data types to their corresponding SQL column types
- * based on the target database. Implementations are expected to provide type mappings for different databases.</p>
+ * based on the target database. Implementations are expected to provide type mappings for different databases,
+ * along with the {@link ColumnCodec} converting the values of each type to the representation it is stored as.</p>
+ *
+ * <p>Column types may hold the placeholders {@value #LENGTH}, {@value #PRECISION} and {@value #SCALE},
+ * replaced by the corresponding attributes of the field's {@link Column} annotation. Enums are mapped
+ * through the {@link Enum} key when stored by ordinal, and the {@link CodedEnum} key when stored by code,
+ * whose length is the one of the longest code.</p>
+ *
+ * <p>Fields converted through a {@link Convert} {@link AttributeConverter}, declared on the field or on its type,
+ * are mapped through the key of the primitive or string the converter stores them as, and are bound and read
+ * through the converter without boxing.</p>
  *
  * <p>It provides two resolution methods:
  * <ul>
@@ -22,6 +38,21 @@ import java.util.Optional;
  */
 public interface ColumnTypeResolver {
 
+    /**
+     * The placeholder of the column's length in a column type.
+     */
+    String LENGTH = "{length}";
+
+    /**
+     * The placeholder of the column's precision in a column type.
+     */
+    String PRECISION = "{precision}";
+
+    /**
+     * The placeholder of the column's scale in a column type.
+     */
+    String SCALE = "{scale}";
+
     /**
      * Resolves the SQL column type for the given Java field.
      *
@@ -31,10 +62,34 @@ public interface ColumnTypeResolver {
      */
     String resolve(final Field field) throws UnsupportedFieldTypeException;
 
+    /**
+     * Resolves the codec converting the values of a Java type to and from their stored representation.
+     *
+     * @param type The Java type of a column's field.
+     * @return The {@link ColumnCodec} of the type.
+     * @throws InvalidConverterException If the converter of the type cannot be used.
+     */
+    ColumnCodec resolveCodec(final Class<?> type) throws InvalidConverterException;
+
+    /**
+     * Resolves the codec converting the values of a field to and from their stored representation,
+     * through the converter declared on the field if any, or else as the values of its type.
+     *
+     * @param field The Java field of a column.
+     * @return The {@link ColumnCodec} of the field.
+     * @throws InvalidConverterException If the converter of the field cannot be used.
+     */
+    default ColumnCodec resolveCodec(final Field field) throws InvalidConverterException {
+        if (field.isAnnotationPresent(Convert.class)) {
+            return ColumnCodec.converted(AttributeConverters.find(field).orElseThrow());
+        }
+        return resolveCodec(field.getType());
+    }
+
     /**
      * Resolves the SQL column type based on the provided field, database engine, and type mapping.
      *
-     * <p>This method checks the provided type map for a corresponding SQL type.
+     * <p>This method checks the provided type map for a corresponding SQL type, and fills in its placeholders.
      * If no mapping is found, an {@link UnsupportedFieldTypeException} is thrown.</p>
      *
      * @param field          The Java field to be resolved.
@@ -42,14 +97,20 @@ public interface ColumnTypeResolver {
      * @param typeMap        A map of Java classes to SQL column type representations.
      * @return The SQL column type as a string.
      * @throws UnsupportedFieldTypeException If the field type is not supported in the given database.
+     * @throws InvalidConverterException     If the converter of the field cannot be used.
      */
     default String resolve(final Field field, final String databaseEngine, final Map<Class<?>, String> typeMap)
-            throws UnsupportedFieldTypeException {
+            throws UnsupportedFieldTypeException, InvalidConverterException {
         final String entityClassName = field.getDeclaringClass().getSimpleName();
-        final var fieldType = field.getType();
+        // Converted fields are resolved as the type their converter stores them as
+        final Class<?> fieldType = AttributeConverters.find(field)
+                .<Class<?>>map(AttributeConverters::storedType)
+                .orElse(field.getType());
+        final boolean coded = CodedEnum.class.isAssignableFrom(fieldType);
+        final Class<?> typeKey = !fieldType.isEnum() ? fieldType : coded ? CodedEnum.class : Enum.class;
 
-        return Optional
-                .ofNullable(typeMap.get(fieldType))
+        final String columnType = Optional
+                .ofNullable(typeMap.get(typeKey))
                 .orElseThrow(() -> {
                     final String message = String.format(
                             "Unsupported field type '%s' in entityClass class '%s'\n%s",
@@ -59,6 +120,43 @@ public interface ColumnTypeResolver {
                     );
                     return new UnsupportedFieldTypeException(message);
                 });
+
+        // Fields without a @Column annotation take its defaults
+        final Column column = field.getDeclaredAnnotation(Column.class);
+        final int length;
+        if (fieldType.isEnum() && coded) {
+            length = Stream.of(fieldType.getEnumConstants())
+                    .mapToInt(constant -> ((CodedEnum) constant).code().length())
+                    .max()
+                    .orElse(1);
+        } else {
+            length = column != null ? column.length() : 255;
+        }
+        return columnType
+                .replace(LENGTH, Integer.toString(length))
+                .replace(PRECISION, Integer.toString(column != null ? column.precision() : 19))
+                .replace(SCALE, Integer.toString(column != null ? column.scale() : 2));
+    }
+
+    /**
+     * Resolves the codec of a Java type based on the provided codec mapping.
+     *
+     * <p>Types declaring a converter are stored through it, enums are stored by ordinal, or by code if they
+     * implement {@link CodedEnum}, and types without a mapped codec are stored natively, through
+     * a {@link ColumnCodec#direct(Class)} codec.</p>
+     *
+     * @param type     The Java type of a column's field.
+     * @param codecMap A map of Java classes to the codecs of the types the database does not store natively.
+     * @return The {@link ColumnCodec} of the type.
+     * @throws InvalidConverterException If the converter of the type cannot be used.
+     */
+    default ColumnCodec resolveCodec(final Class<?> type, final Map<Class<?>, ColumnCodec> codecMap)
+            throws InvalidConverterException {
+        final Optional<AttributeConverter<?>> converter = AttributeConverters.find(type);
+        if (converter.isPresent()) return ColumnCodec.converted(converter.get());
+        if (type.isEnum()) return ColumnCodec.enumerated(type);
+        final ColumnCodec codec = codecMap.get(type);
+        return codec != null ? codec : ColumnCodec.direct(type);
     }
 
 }
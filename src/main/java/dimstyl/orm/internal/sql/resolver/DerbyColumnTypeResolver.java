@@ -2,9 +2,15 @@ package dimstyl.orm.internal.sql.resolver;
 
 import dimstyl.orm.enums.DatabaseEngine;
 import dimstyl.orm.exceptions.UnsupportedFieldTypeException;
+import dimstyl.orm.model.CodedEnum;
 
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Singleton enum implementation of {@link ColumnTypeResolver} for Apache Derby.
@@ -14,15 +20,25 @@ import java.util.Map;
  *
  * <p>It supports the following Java-to-SQL type mappings:</p>
  * <ul>
- *     <li>{@code String} → {@code VARCHAR(255)}</li>
+ *     <li>{@code String} → {@code VARCHAR(length)}</li>
  *     <li>{@code boolean}, {@code Boolean} → {@code SMALLINT}</li>
  *     <li>{@code short}, {@code Short} → {@code SMALLINT}</li>
  *     <li>{@code int}, {@code Integer} → {@code INTEGER}</li>
  *     <li>{@code long}, {@code Long} → {@code BIGINT}</li>
  *     <li>{@code float}, {@code Float} → {@code REAL}</li>
  *     <li>{@code double}, {@code Double} → {@code DOUBLE}</li>
+ *     <li>{@code BigDecimal} → {@code DECIMAL(precision, scale)}</li>
+ *     <li>{@code byte[]} → {@code VARCHAR(length) FOR BIT DATA}</li>
+ *     <li>{@code LocalDate} → {@code DATE}</li>
+ *     <li>{@code Instant} → {@code BIGINT} (epoch milliseconds)</li>
+ *     <li>{@code UUID} → {@code CHAR(16) FOR BIT DATA}</li>
+ *     <li>Enums → {@code SMALLINT} (ordinal), or {@code VARCHAR(length)} (code) for {@link CodedEnum}s</li>
  * </ul>
  *
+ * <p>Derby has no UUID type, and its timestamps have no time zone, so instants are stored as epoch milliseconds
+ * rather than in the JVM's zone, and UUIDs as their 16 bytes. Its driver predates the {@code java.time}
+ * support of JDBC 4.2, so dates are bound and read as {@link java.sql.Date}s.</p>
+ *
  * @see <a href="https://db.apache.org/derby/docs/10.2/ref/crefsqlj31068.html">Derby Data Types Reference</a>
  */
 enum DerbyColumnTypeResolver implements ColumnTypeResolver {
@@ -36,7 +52,7 @@ enum DerbyColumnTypeResolver implements ColumnTypeResolver {
      * Maps Java types to their corresponding Apache Derby SQL column types.
      */
     private static final Map<Class<?>, String> TYPE_MAP = Map.ofEntries(
-            Map.entry(String.class, "VARCHAR(255)"),
+            Map.entry(String.class, "VARCHAR(" + LENGTH + ")"),
 
             Map.entry(boolean.class, "SMALLINT"),
             Map.entry(Boolean.class, "SMALLINT"),
@@ -50,7 +66,26 @@ enum DerbyColumnTypeResolver implements ColumnTypeResolver {
             Map.entry(float.class, "REAL"),
             Map.entry(Float.class, "REAL"),
             Map.entry(double.class, "DOUBLE"),
-            Map.entry(Double.class, "DOUBLE")
+            Map.entry(Double.class, "DOUBLE"),
+
+            Map.entry(BigDecimal.class, "DECIMAL(" + PRECISION + ", " + SCALE + ")"),
+            Map.entry(byte[].class, "VARCHAR(" + LENGTH + ") FOR BIT DATA"),
+            Map.entry(LocalDate.class, "DATE"),
+            Map.entry(Instant.class, "BIGINT"),
+            Map.entry(UUID.class, "CHAR(16) FOR BIT DATA"),
+            Map.entry(Enum.class, "SMALLINT"),
+            Map.entry(CodedEnum.class, "VARCHAR(" + LENGTH + ")")
+    );
+
+    /**
+     * Maps the Java types Derby does not store natively to their codecs.
+     */
+    private static final Map<Class<?>, ColumnCodec> CODEC_MAP = Map.ofEntries(
+            Map.entry(LocalDate.class, ColumnCodec.mapped(Date.class,
+                    value -> Date.valueOf((LocalDate) value), Date::toLocalDate)),
+            Map.entry(Instant.class, ColumnCodec.mapped(Long.class,
+                    value -> ((Instant) value).toEpochMilli(), Instant::ofEpochMilli)),
+            Map.entry(UUID.class, ColumnCodec.binaryUuid())
     );
 
     /**
@@ -70,4 +105,15 @@ enum DerbyColumnTypeResolver implements ColumnTypeResolver {
         return resolve(field, DATABASE_ENGINE.toString(), TYPE_MAP);
     }
 
+    /**
+     * Resolves the codec converting the values of a Java type to and from their stored representation.
+     *
+     * @param type The Java type of a column's field.
+     * @return The corresponding {@link ColumnCodec} for Derby.
+     */
+    @Override
+    public ColumnCodec resolveCodec(final Class<?> type) {
+        return resolveCodec(type, CODEC_MAP);
+    }
+
 }
@@ -2,9 +2,14 @@ package dimstyl.orm.internal.sql.resolver;
 
 import dimstyl.orm.enums.DatabaseEngine;
 import dimstyl.orm.exceptions.UnsupportedFieldTypeException;
+import dimstyl.orm.model.CodedEnum;
 
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Singleton enum implementation of {@link ColumnTypeResolver} for the H2 database.
@@ -14,15 +19,23 @@ import java.util.Map;
  *
  * <p>It supports the following Java-to-SQL type mappings:</p>
  * <ul>
- *     <li>{@code String} → {@code VARCHAR(255)}</li>
+ *     <li>{@code String} → {@code VARCHAR(length)}</li>
  *     <li>{@code boolean}, {@code Boolean} → {@code BOOLEAN}</li>
  *     <li>{@code short}, {@code Short} → {@code SMALLINT}</li>
  *     <li>{@code int}, {@code Integer} → {@code INTEGER}</li>
  *     <li>{@code long}, {@code Long} → {@code BIGINT}</li>
  *     <li>{@code float}, {@code Float} → {@code REAL}</li>
  *     <li>{@code double}, {@code Double} → {@code DOUBLE}</li>
+ *     <li>{@code BigDecimal} → {@code DECIMAL(precision, scale)}</li>
+ *     <li>{@code byte[]} → {@code VARBINARY(length)}</li>
+ *     <li>{@code LocalDate} → {@code DATE}</li>
+ *     <li>{@code Instant} → {@code TIMESTAMP(9) WITH TIME ZONE}</li>
+ *     <li>{@code UUID} → {@code UUID}</li>
+ *     <li>Enums → {@code SMALLINT} (ordinal), or {@code VARCHAR(length)} (code) for {@link CodedEnum}s</li>
  * </ul>
  *
+ * <p>H2 stores all of these types natively, so their values are bound and read as they are.</p>
+ *
  * @see <a href="https://h2database.com/html/datatypes.html">H2 Data Types Reference</a>
  */
 enum H2ColumnTypeResolver implements ColumnTypeResolver {
@@ -36,7 +49,7 @@ enum H2ColumnTypeResolver implements ColumnTypeResolver {
      * Maps Java types to their corresponding H2 SQL column types.
      */
     private static final Map<Class<?>, String> TYPE_MAP = Map.ofEntries(
-            Map.entry(String.class, "VARCHAR(255)"),
+            Map.entry(String.class, "VARCHAR(" + LENGTH + ")"),
 
             Map.entry(boolean.class, "BOOLEAN"),
             Map.entry(Boolean.class, "BOOLEAN"),
@@ -50,9 +63,22 @@ enum H2ColumnTypeResolver implements ColumnTypeResolver {
             Map.entry(float.class, "REAL"),
             Map.entry(Float.class, "REAL"),
             Map.entry(double.class, "DOUBLE"),
-            Map.entry(Double.class, "DOUBLE")
+            Map.entry(Double.class, "DOUBLE"),
+
+            Map.entry(BigDecimal.class, "DECIMAL(" + PRECISION + ", " + SCALE + ")"),
+            Map.entry(byte[].class, "VARBINARY(" + LENGTH + ")"),
+            Map.entry(LocalDate.class, "DATE"),
+            Map.entry(Instant.class, "TIMESTAMP(9) WITH TIME ZONE"),
+            Map.entry(UUID.class, "UUID"),
+            Map.entry(Enum.class, "SMALLINT"),
+            Map.entry(CodedEnum.class, "VARCHAR(" + LENGTH + ")")
     );
 
+    /**
+     * Maps the Java types H2 does not store natively to their codecs, which is none of them.
+     */
+    private static final Map<Class<?>, ColumnCodec> CODEC_MAP = Map.of();
+
     /**
      * The database engine type for this resolver.
      */
@@ -70,4 +96,15 @@ enum H2ColumnTypeResolver implements ColumnTypeResolver {
         return resolve(field, DATABASE_ENGINE.toString(), TYPE_MAP);
     }
 
+    /**
+     * Resolves the codec converting the values of a Java type to and from their stored representation.
+     *
+     * @param type The Java type of a column's field.
+     * @return The corresponding {@link ColumnCodec} for H2.
+     */
+    @Override
+    public ColumnCodec resolveCodec(final Class<?> type) {
+        return resolveCodec(type, CODEC_MAP);
+    }
+
 }
@@ -2,9 +2,14 @@ package dimstyl.orm.internal.sql.resolver;
 
 import dimstyl.orm.enums.DatabaseEngine;
 import dimstyl.orm.exceptions.UnsupportedFieldTypeException;
+import dimstyl.orm.model.CodedEnum;
 
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Singleton enum implementation of {@link ColumnTypeResolver} for the SQLite database.
@@ -21,8 +26,18 @@ import java.util.Map;
  *     <li>{@code long}, {@code Long} → {@code INTEGER}</li>
  *     <li>{@code float}, {@code Float} → {@code REAL}</li>
  *     <li>{@code double}, {@code Double} → {@code REAL}</li>
+ *     <li>{@code BigDecimal} → {@code TEXT} (plain string, exact)</li>
+ *     <li>{@code byte[]} → {@code BLOB}</li>
+ *     <li>{@code LocalDate} → {@code INTEGER} (epoch day)</li>
+ *     <li>{@code Instant} → {@code INTEGER} (epoch milliseconds)</li>
+ *     <li>{@code UUID} → {@code BLOB} (16 bytes)</li>
+ *     <li>Enums → {@code INTEGER} (ordinal), or {@code TEXT} (code) for {@link CodedEnum}s</li>
  * </ul>
  *
+ * <p>SQLite has no temporal, UUID or exact decimal types, so these values are encoded into the compact
+ * representations above, in which integer-encoded temporal values keep their natural ordering.
+ * The length, precision and scale of columns are ignored, as SQLite does not enforce them.</p>
+ *
  * @see <a href="https://www.sqlite.org/datatype3.html#affinity_name_examples">SQLite Data Types Reference</a>
  */
 enum SQLiteColumnTypeResolver implements ColumnTypeResolver {
@@ -50,7 +65,28 @@ enum SQLiteColumnTypeResolver implements ColumnTypeResolver {
             Map.entry(float.class, "REAL"),
             Map.entry(Float.class, "REAL"),
             Map.entry(double.class, "REAL"),
-            Map.entry(Double.class, "REAL")
+            Map.entry(Double.class, "REAL"),
+
+            Map.entry(BigDecimal.class, "TEXT"),
+            Map.entry(byte[].class, "BLOB"),
+            Map.entry(LocalDate.class, "INTEGER"),
+            Map.entry(Instant.class, "INTEGER"),
+            Map.entry(UUID.class, "BLOB"),
+            Map.entry(Enum.class, "INTEGER"),
+            Map.entry(CodedEnum.class, "TEXT")
+    );
+
+    /**
+     * Maps the Java types SQLite does not store natively to their codecs.
+     */
+    private static final Map<Class<?>, ColumnCodec> CODEC_MAP = Map.ofEntries(
+            Map.entry(BigDecimal.class, ColumnCodec.mapped(String.class,
+                    value -> ((BigDecimal) value).toPlainString(), BigDecimal::new)),
+            Map.entry(LocalDate.class, ColumnCodec.mapped(Long.class,
+                    value -> ((LocalDate) value).toEpochDay(), LocalDate::ofEpochDay)),
+            Map.entry(Instant.class, ColumnCodec.mapped(Long.class,
+                    value -> ((Instant) value).toEpochMilli(), Instant::ofEpochMilli)),
+            Map.entry(UUID.class, ColumnCodec.binaryUuid())
     );
 
     /**
@@ -70,4 +106,19 @@ enum SQLiteColumnTypeResolver implements ColumnTypeResolver {
         return resolve(field, DATABASE_ENGINE.toString(), TYPE_MAP);
     }
 
+    /**
+     * Resolves the codec converting the values of a Java type to and from their stored representation.
+     * <p>
+     * Since the SQLite driver fails to convert a {@code NULL} into most requested types, the codec checks
+     * each column for {@code NULL} before reading it.
+     * </p>
+     *
+     * @param type The Java type of a column's field.
+     * @return The corresponding {@link ColumnCodec} for SQLite.
+     */
+    @Override
+    public ColumnCodec resolveCodec(final Class<?> type) {
+        return ColumnCodec.nullChecked(resolveCodec(type, CODEC_MAP));
+    }
+
 }
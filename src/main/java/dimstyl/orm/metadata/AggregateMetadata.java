@@ -0,0 +1,46 @@
+package dimstyl.orm.metadata;
+
+import dimstyl.orm.enums.AggregateFunction;
+import dimstyl.orm.enums.DatabaseEngine;
+import lombok.Builder;
+
+import java.time.Duration;
+
+/**
+ * Represents metadata for an aggregate method, parsed from its {@code @Aggregate} annotation.
+ *
+ * @param methodName        The name of the method.
+ * @param tableName         The name of the aggregated table.
+ * @param databaseEngine    The {@link DatabaseEngine} the query is generated for.
+ * @param function          The {@link AggregateFunction} of the method.
+ * @param columnName        The name of the aggregated column.
+ * @param columnType        The type of the entity field mapped to the aggregated column.
+ * @param groupByColumnName The name of the column the records are grouped by, or {@code null} if they are not grouped.
+ * @param groupByType       The type the group values are read as, or {@code null} if the records are not grouped.
+ * @param resultType        The type the aggregate values are read as.
+ * @param defaultResult     The value returned when the aggregate is {@code NULL}, e.g. zero for primitive return types.
+ * @param timeout           The timeout of the method, or {@code null} if it has none of its own.
+ */
+@Builder
+public record AggregateMetadata(String methodName,
+                                String tableName,
+                                DatabaseEngine databaseEngine,
+                                AggregateFunction function,
+                                String columnName,
+                                Class<?> columnType,
+                                String groupByColumnName,
+                                Class<?> groupByType,
+                                Class<?> resultType,
+                                Object defaultResult,
+                                Duration timeout) implements Metadata {
+
+    /**
+     * Checks whether the records are grouped.
+     *
+     * @return {@code true} if the records are grouped, {@code false} otherwise.
+     */
+    public boolean grouped() {
+        return groupByColumnName != null;
+    }
+
+}
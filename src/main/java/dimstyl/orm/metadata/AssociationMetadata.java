@@ -0,0 +1,33 @@
+package dimstyl.orm.metadata;
+
+import dimstyl.orm.model.Entity;
+import lombok.Builder;
+
+import java.lang.reflect.Field;
+
+/**
+ * Represents metadata for an association between two entities, declared through a {@code @ManyToOne}
+ * or {@code @OneToMany} field.
+ * <p>
+ * Both kinds of association are resolved to the {@code @Column} field holding the foreign key: for a many-to-one
+ * association it is a field of the owning entity, whose value is the primary key of the target entity,
+ * and for a one-to-many association a field of the target entity, whose value is the primary key
+ * of the owning entity.
+ * </p>
+ *
+ * @param field          The association field.
+ * @param targetClass    The entity class on the other side of the association.
+ * @param manyToOne      {@code true} for a many-to-one association, {@code false} for a one-to-many association.
+ * @param foreignKey     The {@code @Column} field holding the foreign key.
+ * @param backReference  The {@code @ManyToOne} field of the target entity pointing back to the owning entity,
+ *                       or {@code null} for a many-to-one association.
+ * @param cascadePersist {@code true} if persisting the owning entity also persists the target entities.
+ */
+@Builder
+public record AssociationMetadata(Field field,
+                                  Class<? extends Entity> targetClass,
+                                  boolean manyToOne,
+                                  Field foreignKey,
+                                  Field backReference,
+                                  boolean cascadePersist) implements Metadata {
+}
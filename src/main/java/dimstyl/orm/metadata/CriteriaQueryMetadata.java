@@ -0,0 +1,22 @@
+package dimstyl.orm.metadata;
+
+import dimstyl.orm.criteria.CriteriaShape;
+import dimstyl.orm.enums.DatabaseEngine;
+import lombok.Builder;
+
+import java.util.Map;
+
+/**
+ * Represents metadata for rendering a criteria query of a given shape.
+ *
+ * @param tableName        The name of the queried table.
+ * @param databaseEngine   The {@link DatabaseEngine} the query is rendered for.
+ * @param fieldToColumnMap The mapping of the entity's field names to their column names.
+ * @param shape            The {@link CriteriaShape} of the query, whose properties are all columns of the entity.
+ */
+@Builder
+public record CriteriaQueryMetadata(String tableName,
+                                    DatabaseEngine databaseEngine,
+                                    Map<String, String> fieldToColumnMap,
+                                    CriteriaShape shape) implements Metadata {
+}
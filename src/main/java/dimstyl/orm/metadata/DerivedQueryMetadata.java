@@ -0,0 +1,51 @@
+package dimstyl.orm.metadata;
+
+import dimstyl.orm.enums.QueryOperator;
+import lombok.Builder;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Represents metadata for a derived query method, parsed from its name.
+ * <p>
+ * A derived query method is named {@code findBy} followed by one or more conditions on the entity's properties,
+ * joined by {@code And} or {@code Or}, e.g. {@code findByActiveAndLastName}. {@code And} binds tighter than
+ * {@code Or}, just like in SQL.
+ * </p>
+ *
+ * @param methodName   The name of the method.
+ * @param tableName    The name of the queried table.
+ * @param conditions   The conditions of the query, in the order of the method name.
+ * @param singleResult {@code true} if the method returns a single, optional result, {@code false} for a list.
+ * @param timeout      The timeout of the method, or {@code null} if it has none of its own.
+ */
+@Builder
+public record DerivedQueryMetadata(String methodName,
+                                   String tableName,
+                                   List<Condition> conditions,
+                                   boolean singleResult,
+                                   Duration timeout) implements Metadata {
+
+    /**
+     * Counts the arguments of the query, one per placeholder.
+     *
+     * @return The number of arguments.
+     */
+    public int argumentCount() {
+        return conditions.stream().mapToInt(condition -> condition.operator().argumentCount()).sum();
+    }
+
+    /**
+     * Represents a condition of a derived query.
+     *
+     * @param columnName The name of the compared column.
+     * @param fieldType  The type of the entity field mapped to the column.
+     * @param operator   The {@link QueryOperator} of the condition.
+     * @param or         {@code true} if the condition is joined to the previous one with {@code OR},
+     *                   {@code false} for {@code AND} or for the first condition.
+     */
+    public record Condition(String columnName, Class<?> fieldType, QueryOperator operator, boolean or) {
+    }
+
+}
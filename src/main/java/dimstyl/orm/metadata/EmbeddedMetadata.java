@@ -0,0 +1,20 @@
+package dimstyl.orm.metadata;
+
+import lombok.Builder;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Represents metadata for an {@code @Embedded} field of an entity, whose {@code @Embeddable} value is flattened
+ * into columns of the entity's table.
+ *
+ * @param field        The {@code @Embedded} field of the entity.
+ * @param columnFields The {@code @Column} fields of the embeddable, in declaration order.
+ * @param columnNames  The prefixed names of the columns, in the same order as {@code columnFields}.
+ */
+@Builder
+public record EmbeddedMetadata(Field field,
+                               List<Field> columnFields,
+                               List<String> columnNames) implements Metadata {
+}
@@ -0,0 +1,37 @@
+package dimstyl.orm.metadata;
+
+import dimstyl.orm.model.Entity;
+import lombok.Builder;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the mapping of an entity class to its table, resolved once per entity class.
+ * <p>
+ * Unlike {@link TableMetadata}, this record does not depend on a database engine, and holds the reflected
+ * fields of the entity, so that query generation, row mapping and association loading never need
+ * to scan the entity class again.
+ * </p>
+ *
+ * @param entityClass      The entity class.
+ * @param tableName        The name of the table, or {@code null} if the entity class lacks a {@code @Table}
+ *                         annotation.
+ * @param columnFields     The {@code @Column} fields of the entity, in declaration order.
+ * @param columnNames      The names of the columns, in the same order as {@code columnFields}, followed by
+ *                         the columns of the {@code embeddedFields}, in the same order.
+ * @param fieldToColumnMap The mapping of the names of the {@code @Column} fields, and of the paths of the columns
+ *                         of the {@code @Embedded} fields, e.g. {@code address.city}, to their column names.
+ * @param primaryKeyFields The {@code @PrimaryKey} fields of the entity, in declaration order.
+ * @param embeddedFields   The {@link EmbeddedMetadata} of the {@code @Embedded} fields, in declaration order.
+ */
+@Builder
+public record EntityMetadata(Class<? extends Entity> entityClass,
+                             String tableName,
+                             List<Field> columnFields,
+                             List<String> columnNames,
+                             Map<String, String> fieldToColumnMap,
+                             List<Field> primaryKeyFields,
+                             List<EmbeddedMetadata> embeddedFields) implements Metadata {
+}
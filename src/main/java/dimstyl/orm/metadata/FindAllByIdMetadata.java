@@ -0,0 +1,31 @@
+package dimstyl.orm.metadata;
+
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.enums.MultiGetStrategy;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Represents metadata for rendering a query fetching the records matching a collection of keys,
+ * usually primary keys, or foreign keys when loading associations.
+ *
+ * @param tableName            The name of the queried table.
+ * @param databaseEngine       The {@link DatabaseEngine} the query is rendered for.
+ * @param columnNames          The names of the selected columns, in the declaration order of the entity's fields.
+ * @param keyColumnName        The name of the column matched against the keys.
+ * @param strategy             The {@link MultiGetStrategy} the query is rendered for.
+ * @param batchSize            The number of placeholders of the {@code IN} list, unused by
+ *                             {@link MultiGetStrategy#TEMPORARY_TABLE}.
+ * @param idTableName          The name of the temporary table holding the keys, used by
+ *                             {@link MultiGetStrategy#TEMPORARY_TABLE} only.
+ */
+@Builder
+public record FindAllByIdMetadata(String tableName,
+                                  DatabaseEngine databaseEngine,
+                                  List<String> columnNames,
+                                  String keyColumnName,
+                                  MultiGetStrategy strategy,
+                                  int batchSize,
+                                  String idTableName) implements Metadata {
+}
@@ -0,0 +1,19 @@
+package dimstyl.orm.metadata;
+
+import dimstyl.orm.enums.ForeignKeyAction;
+import lombok.Builder;
+
+/**
+ * Represents metadata for a foreign key of a database table, declared through a {@code @ManyToOne} field.
+ *
+ * @param columnName           The name of the foreign key column.
+ * @param referencedTableName  The name of the referenced table.
+ * @param referencedColumnName The name of the referenced primary key column.
+ * @param onDelete             The {@link ForeignKeyAction} taken when a referenced row is deleted.
+ */
+@Builder
+public record ForeignKeyMetadata(String columnName,
+                                 String referencedTableName,
+                                 String referencedColumnName,
+                                 ForeignKeyAction onDelete) implements Metadata {
+}
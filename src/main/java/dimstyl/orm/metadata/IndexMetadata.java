@@ -0,0 +1,21 @@
+package dimstyl.orm.metadata;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents metadata for a non-unique index of a database table.
+ *
+ * @param indexName             The name of the index.
+ * @param columnNames           The names of the indexed columns, in index order.
+ * @param descendingColumnNames The names of the indexed columns sorted in descending order.
+ * @param where                 The condition of a partial index, or an empty string if the index covers all rows.
+ */
+@Builder
+public record IndexMetadata(String indexName,
+                            List<String> columnNames,
+                            Set<String> descendingColumnNames,
+                            String where) implements Metadata {
+}
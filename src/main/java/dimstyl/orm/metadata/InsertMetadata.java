@@ -0,0 +1,15 @@
+package dimstyl.orm.metadata;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Represents metadata for rendering a statement inserting a record into a table.
+ *
+ * @param tableName   The name of the table.
+ * @param columnNames The names of the inserted columns, in the declaration order of the entity's fields.
+ */
+@Builder
+public record InsertMetadata(String tableName, List<String> columnNames) implements Metadata {
+}
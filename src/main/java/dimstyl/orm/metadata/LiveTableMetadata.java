@@ -0,0 +1,24 @@
+package dimstyl.orm.metadata;
+
+import lombok.Builder;
+
+import java.util.Set;
+
+/**
+ * Represents a table as it exists in a live database, read through JDBC {@link java.sql.DatabaseMetaData}.
+ * <p>
+ * Names are upper-cased, since engines differ in the case they store unquoted identifiers in.
+ * </p>
+ *
+ * @param tableName        The name of the table, as stored by the database.
+ * @param columnNames      The upper-cased names of the columns of the table.
+ * @param uniqueColumnSets The upper-cased column names of each unique index of the table, including the one
+ *                         of its primary key.
+ * @param indexNames       The upper-cased names of the indexes of the table, unique or not.
+ */
+@Builder
+public record LiveTableMetadata(String tableName,
+                                Set<String> columnNames,
+                                Set<Set<String>> uniqueColumnSets,
+                                Set<String> indexNames) implements Metadata {
+}
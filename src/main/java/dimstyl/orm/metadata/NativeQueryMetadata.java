@@ -0,0 +1,32 @@
+package dimstyl.orm.metadata;
+
+import lombok.Builder;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Represents metadata for a native query method, parsed from its {@code @Query} annotation.
+ * <p>
+ * The named parameters of the statement are rewritten to positional {@code ?} placeholders,
+ * and each placeholder is resolved to the index of the method parameter bound to it.
+ * A parameter referenced several times is bound to each of its placeholders.
+ * </p>
+ *
+ * @param methodName       The name of the method.
+ * @param sql              The SQL statement, with positional placeholders.
+ * @param parameterIndexes The index of the method parameter bound to each placeholder, in placeholder order.
+ * @param query            {@code true} if the statement is a query, {@code false} if it modifies the database.
+ * @param resultType       The type each row is mapped to, or {@code null} if the statement is not a query.
+ * @param singleResult     {@code true} if the method returns a single, optional result, {@code false} otherwise.
+ * @param timeout          The timeout of the method, or {@code null} if it has none of its own.
+ */
+@Builder
+public record NativeQueryMetadata(String methodName,
+                                  String sql,
+                                  List<Integer> parameterIndexes,
+                                  boolean query,
+                                  Class<?> resultType,
+                                  boolean singleResult,
+                                  Duration timeout) implements Metadata {
+}
@@ -5,6 +5,10 @@ import dimstyl.orm.enums.SqlOperation;
 import dimstyl.orm.model.Entity;
 import lombok.Builder;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -16,16 +20,43 @@ import java.util.Set;
  * supported SQL operations.
  * </p>
  *
+ * @param repositoryClass     The repository class.
  * @param databaseName        The name of the database.
  * @param databaseEngine      The {@link DatabaseEngine} used (e.g., H2, SQLite, Derby).
  * @param tableName           The name of the table associated with this repository.
  * @param entityClass         The entity class linked to this repository.
  * @param supportedOperations The set of {@link SqlOperation} supported by this repository.
+ * @param timeout             The timeout of all the repository's operations, or {@code null} if there is none.
+ * @param methodTimeouts      The timeouts of individual methods, overriding the repository's timeout.
+ * @param derivedQueries      The derived query methods of the repository, with their parsed queries.
+ * @param nativeQueries       The native query methods of the repository, with their parsed statements.
+ * @param aggregates          The aggregate methods of the repository, with their parsed aggregates.
  */
 @Builder
-public record RepositoryMetadata(String databaseName,
+public record RepositoryMetadata(Class<?> repositoryClass,
+                                 String databaseName,
                                  DatabaseEngine databaseEngine,
                                  String tableName,
                                  Class<? extends Entity> entityClass,
-                                 Set<SqlOperation> supportedOperations) implements Metadata {
+                                 Set<SqlOperation> supportedOperations,
+                                 Duration timeout,
+                                 Map<Method, Duration> methodTimeouts,
+                                 Map<Method, DerivedQueryMetadata> derivedQueries,
+                                 Map<Method, NativeQueryMetadata> nativeQueries,
+                                 Map<Method, AggregateMetadata> aggregates) implements Metadata {
+
+    /**
+     * Resolves the timeout of a repository method.
+     * <p>
+     * The method's own timeout takes precedence over the repository's timeout.
+     * </p>
+     *
+     * @param method The repository method whose timeout is resolved.
+     * @return An {@link Optional} containing the timeout, otherwise empty if the method has no timeout.
+     */
+    public Optional<Duration> resolveTimeout(final Method method) {
+        final Duration methodTimeout = methodTimeouts == null ? null : methodTimeouts.get(method);
+        return Optional.ofNullable(methodTimeout != null ? methodTimeout : timeout);
+    }
+
 }
@@ -0,0 +1,18 @@
+package dimstyl.orm.metadata;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+/**
+ * Represents the input of a schema synchronization, i.e. the tables a database should have
+ * and the tables it actually has.
+ *
+ * @param databaseMetadata The {@link DatabaseMetadata} of the database, holding the tables it should have.
+ * @param liveTables       The {@link LiveTableMetadata} of the tables of the database that already exist,
+ *                         by upper-cased name.
+ */
+@Builder
+public record SchemaSyncMetadata(DatabaseMetadata databaseMetadata,
+                                 Map<String, LiveTableMetadata> liveTables) implements Metadata {
+}
@@ -6,19 +6,23 @@ import java.util.List;
 
 /**
  * Represents metadata for a database table, including its name, unique constraints,
- * and associated column metadata.
+ * foreign keys, associated column metadata and indexes.
  * <p>
  * This record provides structural details about a database table, such as the table name,
- * unique constraints, and the list of column metadata associated with it.
+ * unique constraints, foreign keys, the list of column metadata associated with it and its indexes.
  * </p>
  *
  * @param tableName          The name of the table.
  * @param uniqueConstraints  An array of {@link UniqueConstraint} applied to the table.
+ * @param foreignKeys        A list containing {@link ForeignKeyMetadata} for all foreign keys of the table.
  * @param columnMetadataList A list containing {@link ColumnMetadata} for all columns in the table.
+ * @param indexes            A list containing {@link IndexMetadata} for all non-unique indexes of the table.
  */
 public record TableMetadata(String tableName,
                             UniqueConstraint[] uniqueConstraints,
-                            List<ColumnMetadata> columnMetadataList) implements Metadata {
+                            List<ForeignKeyMetadata> foreignKeys,
+                            List<ColumnMetadata> columnMetadataList,
+                            List<IndexMetadata> indexes) implements Metadata {
 
     /**
      * Adds a column's metadata to the table's column metadata list.
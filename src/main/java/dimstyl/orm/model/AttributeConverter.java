@@ -0,0 +1,24 @@
+package dimstyl.orm.model;
+
+import dimstyl.orm.annotations.Convert;
+
+/**
+ * Base interface for converters storing the values of a type the ORM does not support in a supported column.
+ * <p>
+ * Converters are registered with {@link Convert}, and implement one of the specializations below, each storing
+ * the values as a primitive or a string that is bound and read without boxing:
+ * </p>
+ * <ul>
+ *     <li>{@link IntConverter} - Stores the values in an integer column, e.g. bitflag sets.</li>
+ *     <li>{@link LongConverter} - Stores the values in a big integer column, e.g. amounts of money in cents.</li>
+ *     <li>{@link DoubleConverter} - Stores the values in a floating-point column, e.g. measurements.</li>
+ *     <li>{@link StringConverter} - Stores the values in a text column, e.g. email addresses.</li>
+ * </ul>
+ * <p>
+ * Converters never see {@code null}, which is always stored as {@code NULL}.
+ * </p>
+ *
+ * @param <T> The converted type.
+ */
+public sealed interface AttributeConverter<T> permits IntConverter, LongConverter, DoubleConverter, StringConverter {
+}
@@ -0,0 +1,38 @@
+package dimstyl.orm.model;
+
+/**
+ * Interface for enums stored by a short code instead of their ordinal.
+ * <p>
+ * Enum fields are stored by ordinal by default, which is the most compact encoding but breaks existing rows
+ * whenever constants are reordered. Enums implementing this interface are stored by their code instead,
+ * in a text column as long as their longest code. Codes must be unique within the enum and must not change
+ * once rows have been stored.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     public enum Status implements CodedEnum {
+ *         ACTIVE("A"), SUSPENDED("S");
+ *
+ *         private final String code;
+ *
+ *         Status(String code) {
+ *             this.code = code;
+ *         }
+ *
+ *         public String code() {
+ *             return code;
+ *         }
+ *     }
+ * </pre>
+ */
+public interface CodedEnum {
+
+    /**
+     * Returns the code the constant is stored as.
+     *
+     * @return The code of the constant.
+     */
+    String code();
+
+}
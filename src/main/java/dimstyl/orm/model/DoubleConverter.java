@@ -0,0 +1,31 @@
+package dimstyl.orm.model;
+
+/**
+ * Converter storing the values of a type as {@code double}s.
+ * <p>
+ * The values are bound with {@link java.sql.PreparedStatement#setDouble(int, double)} and read with
+ * {@link java.sql.ResultSet#getDouble(int)}, so a converted column costs no more than a {@code double} one.
+ * </p>
+ *
+ * @param <T> The converted type.
+ * @see AttributeConverter
+ */
+public non-sealed interface DoubleConverter<T> extends AttributeConverter<T> {
+
+    /**
+     * Converts a value into the double stored in its column.
+     *
+     * @param value The value, never {@code null}.
+     * @return The stored double.
+     */
+    double toColumn(final T value);
+
+    /**
+     * Converts the double stored in a column back into a value.
+     *
+     * @param column The stored double.
+     * @return The value.
+     */
+    T fromColumn(final double column);
+
+}
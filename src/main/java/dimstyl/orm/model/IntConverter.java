@@ -0,0 +1,31 @@
+package dimstyl.orm.model;
+
+/**
+ * Converter storing the values of a type as {@code int}s.
+ * <p>
+ * The values are bound with {@link java.sql.PreparedStatement#setInt(int, int)} and read with
+ * {@link java.sql.ResultSet#getInt(int)}, so a converted column costs no more than an {@code int} one.
+ * </p>
+ *
+ * @param <T> The converted type.
+ * @see AttributeConverter
+ */
+public non-sealed interface IntConverter<T> extends AttributeConverter<T> {
+
+    /**
+     * Converts a value into the int stored in its column.
+     *
+     * @param value The value, never {@code null}.
+     * @return The stored int.
+     */
+    int toColumn(final T value);
+
+    /**
+     * Converts the int stored in a column back into a value.
+     *
+     * @param column The stored int.
+     * @return The value.
+     */
+    T fromColumn(final int column);
+
+}
@@ -0,0 +1,31 @@
+package dimstyl.orm.model;
+
+/**
+ * Converter storing the values of a type as {@code long}s.
+ * <p>
+ * The values are bound with {@link java.sql.PreparedStatement#setLong(int, long)} and read with
+ * {@link java.sql.ResultSet#getLong(int)}, so a converted column costs no more than a {@code long} one.
+ * </p>
+ *
+ * @param <T> The converted type.
+ * @see AttributeConverter
+ */
+public non-sealed interface LongConverter<T> extends AttributeConverter<T> {
+
+    /**
+     * Converts a value into the long stored in its column.
+     *
+     * @param value The value, never {@code null}.
+     * @return The stored long.
+     */
+    long toColumn(final T value);
+
+    /**
+     * Converts the long stored in a column back into a value.
+     *
+     * @param column The stored long.
+     * @return The value.
+     */
+    T fromColumn(final long column);
+
+}
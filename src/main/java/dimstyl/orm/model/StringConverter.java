@@ -0,0 +1,31 @@
+package dimstyl.orm.model;
+
+/**
+ * Converter storing the values of a type as strings.
+ * <p>
+ * The stored column is a text column, sized by the {@code length} of the field's {@code @Column} annotation
+ * where the engine requires one.
+ * </p>
+ *
+ * @param <T> The converted type.
+ * @see AttributeConverter
+ */
+public non-sealed interface StringConverter<T> extends AttributeConverter<T> {
+
+    /**
+     * Converts a value into the string stored in its column.
+     *
+     * @param value The value, never {@code null}.
+     * @return The stored string.
+     */
+    String toColumn(final T value);
+
+    /**
+     * Converts the string stored in a column back into a value.
+     *
+     * @param column The stored string, never {@code null}.
+     * @return The value.
+     */
+    T fromColumn(final String column);
+
+}
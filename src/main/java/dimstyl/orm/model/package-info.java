@@ -1,4 +1,4 @@
 /**
- * Contains the base model interfaces used to define ORM entities.
+ * Contains the base model interfaces used to define ORM entities, their stored values and attribute converters.
  */
 package dimstyl.orm.model;
\ No newline at end of file
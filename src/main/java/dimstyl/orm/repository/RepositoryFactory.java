@@ -0,0 +1,67 @@
+package dimstyl.orm.repository;
+
+import dimstyl.orm.annotations.Repository;
+import dimstyl.orm.exceptions.ClasspathScanException;
+import dimstyl.orm.exceptions.InvalidRepositoryException;
+import dimstyl.orm.exceptions.MissingRepositoryAnnotationException;
+import dimstyl.orm.internal.discovery.ComponentScanner;
+import dimstyl.orm.internal.repository.RepositoryProxies;
+
+import java.util.List;
+
+/**
+ * Factory class for obtaining implementations of repository interfaces.
+ * <p>
+ * Every abstract method of the repository must be annotated with an SQL operation. When the repository is created,
+ * each method is compiled into an immutable execution plan, holding its SQL statement, parameter binder and
+ * row mapper, so invoking a method neither generates SQL nor performs reflective lookups. Invocations honour
+ * the repository's timeouts, bulkheads and retry policy, and run on connections shared by all repositories
+ * of the same database.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     CustomerRepository customerRepository = RepositoryFactory.create(CustomerRepository.class);
+ *     List&lt;Customer&gt; customers = customerRepository.findAll();
+ *     customerRepository.deleteById(1);
+ * </pre>
+ */
+public final class RepositoryFactory {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private RepositoryFactory() {
+    }
+
+    /**
+     * Creates an implementation of a repository interface.
+     *
+     * @param repositoryClass The repository interface, annotated with {@link Repository}.
+     * @param <T>             The type of the repository.
+     * @return The implementation of the repository.
+     * @throws MissingRepositoryAnnotationException If the interface is not annotated with {@link Repository}.
+     * @throws InvalidRepositoryException           If the repository is not an interface or one of its methods is invalid.
+     */
+    public static <T> T create(final Class<T> repositoryClass)
+            throws MissingRepositoryAnnotationException, InvalidRepositoryException {
+        return RepositoryProxies.create(repositoryClass);
+    }
+
+    /**
+     * Discovers the repository interfaces of packages, i.e. the interfaces annotated with {@link Repository}.
+     * <p>
+     * The packages are looked up in the component index on the classpath, if any, and scanned by reading
+     * class files otherwise, so that only the repository interfaces are loaded. The interfaces are neither
+     * validated nor created, which is left to {@link #create(Class)}.
+     * </p>
+     *
+     * @param packageNames The names of the packages, including their subpackages.
+     * @return The repository interfaces, ordered by name.
+     * @throws ClasspathScanException If the packages cannot be scanned or a discovered interface cannot be loaded.
+     */
+    public static List<Class<?>> discover(final String... packageNames) throws ClasspathScanException {
+        return ComponentScanner.findRepositories(List.of(packageNames));
+    }
+
+}
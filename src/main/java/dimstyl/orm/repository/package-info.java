@@ -0,0 +1,4 @@
+/**
+ * Provides the entry point for obtaining implementations of repository interfaces.
+ */
+package dimstyl.orm.repository;
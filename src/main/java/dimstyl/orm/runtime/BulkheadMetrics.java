@@ -0,0 +1,25 @@
+package dimstyl.orm.runtime;
+
+import java.time.Duration;
+
+/**
+ * Represents a snapshot of the metrics of an {@link OperationBulkhead}.
+ *
+ * @param name           The name of the bulkhead.
+ * @param maxConcurrent  The maximum number of operations executed concurrently.
+ * @param inFlight       The number of operations currently executing.
+ * @param queued         The number of operations currently waiting for a permit.
+ * @param admitted       The total number of admitted operations.
+ * @param rejected       The total number of rejected operations.
+ * @param totalQueueWait The total time admitted and rejected operations spent waiting for a permit.
+ * @param maxQueueWait   The longest time an operation spent waiting for a permit.
+ */
+public record BulkheadMetrics(String name,
+                              int maxConcurrent,
+                              int inFlight,
+                              int queued,
+                              long admitted,
+                              long rejected,
+                              Duration totalQueueWait,
+                              Duration maxQueueWait) {
+}
@@ -0,0 +1,38 @@
+package dimstyl.orm.runtime;
+
+import dimstyl.orm.annotations.Bulkhead;
+import dimstyl.orm.enums.OverflowPolicy;
+import lombok.Builder;
+
+import java.time.Duration;
+
+/**
+ * Represents the settings of an {@link OperationBulkhead}.
+ *
+ * @param maxConcurrent  The maximum number of operations executed concurrently.
+ * @param overflowPolicy The {@link OverflowPolicy} applied when all permits are in use.
+ * @param maxQueueDepth  The maximum number of waiting operations, for {@link OverflowPolicy#SHED_LOAD}.
+ * @param maxWait        How long an operation waits for a permit before it is rejected.
+ */
+@Builder(toBuilder = true)
+public record BulkheadSettings(int maxConcurrent,
+                               OverflowPolicy overflowPolicy,
+                               int maxQueueDepth,
+                               Duration maxWait) {
+
+    /**
+     * Creates bulkhead settings from a {@link Bulkhead} annotation.
+     *
+     * @param bulkhead The annotation to read the settings from.
+     * @return The corresponding {@link BulkheadSettings}.
+     */
+    public static BulkheadSettings from(final Bulkhead bulkhead) {
+        return BulkheadSettings.builder()
+                .maxConcurrent(bulkhead.maxConcurrent())
+                .overflowPolicy(bulkhead.overflowPolicy())
+                .maxQueueDepth(bulkhead.maxQueueDepth())
+                .maxWait(Duration.ofMillis(bulkhead.maxWaitMillis()))
+                .build();
+    }
+
+}
@@ -0,0 +1,108 @@
+package dimstyl.orm.runtime;
+
+import dimstyl.orm.exceptions.BulkheadRejectedException;
+import dimstyl.orm.metadata.RepositoryMetadata;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the bulkheads of databases and repositories.
+ * <p>
+ * Bulkheads are registered automatically from the {@code @Bulkhead} annotation when a database or repository
+ * is processed, or at runtime through {@link #registerDatabase(String, BulkheadSettings)} and
+ * {@link #registerRepository(Class, BulkheadSettings)}.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     List&lt;Purchase&gt; purchases = Bulkheads.execute(repositoryMetadata, () -&gt;
+ *             SqlQueryExecutor.executeSelectAllQuery(query, connection, Purchase.class));
+ * </pre>
+ */
+public final class Bulkheads {
+
+    /**
+     * The bulkheads registered per database name.
+     */
+    private static final Map<String, OperationBulkhead> DATABASE_BULKHEADS = new ConcurrentHashMap<>();
+
+    /**
+     * The bulkheads registered per repository class.
+     */
+    private static final Map<Class<?>, OperationBulkhead> REPOSITORY_BULKHEADS = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Bulkheads() {
+    }
+
+    /**
+     * Registers the bulkhead of a database, replacing any previously registered one.
+     *
+     * @param databaseName The name of the database.
+     * @param settings     The {@link BulkheadSettings} of the bulkhead.
+     */
+    public static void registerDatabase(final String databaseName, final BulkheadSettings settings) {
+        DATABASE_BULKHEADS.put(databaseName, new OperationBulkhead("database:" + databaseName, settings));
+    }
+
+    /**
+     * Registers the bulkhead of a repository, replacing any previously registered one.
+     *
+     * @param repositoryClass The repository class.
+     * @param settings        The {@link BulkheadSettings} of the bulkhead.
+     */
+    public static void registerRepository(final Class<?> repositoryClass, final BulkheadSettings settings) {
+        final String name = "repository:" + repositoryClass.getName();
+        REPOSITORY_BULKHEADS.put(repositoryClass, new OperationBulkhead(name, settings));
+    }
+
+    /**
+     * Finds the bulkhead of a database.
+     *
+     * @param databaseName The name of the database.
+     * @return An {@link Optional} containing the {@link OperationBulkhead}, otherwise empty.
+     */
+    public static Optional<OperationBulkhead> findDatabaseBulkhead(final String databaseName) {
+        return Optional.ofNullable(DATABASE_BULKHEADS.get(databaseName));
+    }
+
+    /**
+     * Finds the bulkhead of a repository.
+     *
+     * @param repositoryClass The repository class.
+     * @return An {@link Optional} containing the {@link OperationBulkhead}, otherwise empty.
+     */
+    public static Optional<OperationBulkhead> findRepositoryBulkhead(final Class<?> repositoryClass) {
+        return Optional.ofNullable(REPOSITORY_BULKHEADS.get(repositoryClass));
+    }
+
+    /**
+     * Executes an operation of a repository once both its repository and database bulkheads admit it.
+     * <p>
+     * The repository bulkhead is entered first, so operations queued on a busy repository
+     * never hold permits of the database bulkhead shared with other repositories.
+     * Missing bulkheads admit every operation.
+     * </p>
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param work               The operation to execute.
+     * @param <R>                The type of the operation's result.
+     * @return The result of the operation.
+     * @throws BulkheadRejectedException If one of the bulkheads does not admit the operation.
+     */
+    public static <R> R execute(final RepositoryMetadata repositoryMetadata, final Supplier<R> work)
+            throws BulkheadRejectedException {
+        final Supplier<R> databaseGuarded = findDatabaseBulkhead(repositoryMetadata.databaseName())
+                .<Supplier<R>>map(bulkhead -> () -> bulkhead.execute(work))
+                .orElse(work);
+        return findRepositoryBulkhead(repositoryMetadata.repositoryClass())
+                .map(bulkhead -> bulkhead.execute(databaseGuarded))
+                .orElseGet(databaseGuarded);
+    }
+
+}
@@ -0,0 +1,150 @@
+package dimstyl.orm.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Represents a point in time by which a repository operation must complete.
+ * <p>
+ * Deadlines are propagated from the caller through the calling thread: every statement executed
+ * while a deadline is active gets a query timeout matching the remaining time, and is cancelled
+ * once the deadline passes. Nested deadlines never extend an outer one, the earliest deadline always wins.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     List&lt;Customer&gt; customers = Deadline.call(Duration.ofMillis(200), () -&gt;
+ *             SqlQueryExecutor.executeSelectAllQuery(query, connection, Customer.class));
+ * </pre>
+ */
+public final class Deadline {
+
+    /**
+     * The deadline active on the current thread, if any.
+     */
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The value of {@link System#nanoTime()} at which the deadline passes.
+     */
+    private final long deadlineNanos;
+
+    /**
+     * Private constructor, use {@link #after(Duration)}.
+     *
+     * @param deadlineNanos The value of {@link System#nanoTime()} at which the deadline passes.
+     */
+    private Deadline(final long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a deadline that passes after the given duration from now.
+     *
+     * @param timeout The time left until the deadline passes.
+     * @return The new {@link Deadline}.
+     */
+    public static Deadline after(final Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Retrieves the deadline active on the current thread.
+     *
+     * @return An {@link Optional} containing the active {@link Deadline}, otherwise empty.
+     */
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Executes an operation that must complete within the given timeout.
+     * <p>
+     * If a deadline is already active on the current thread and passes earlier, it is kept.
+     * </p>
+     *
+     * @param timeout The time the operation is allowed to take.
+     * @param work    The operation to execute.
+     * @param <R>     The type of the operation's result.
+     * @return The result of the operation.
+     */
+    public static <R> R call(final Duration timeout, final Supplier<R> work) {
+        return call(after(timeout), work);
+    }
+
+    /**
+     * Executes an operation that must complete before the given deadline.
+     * <p>
+     * If a deadline is already active on the current thread and passes earlier, it is kept.
+     * </p>
+     *
+     * @param deadline The deadline of the operation.
+     * @param work     The operation to execute.
+     * @param <R>      The type of the operation's result.
+     * @return The result of the operation.
+     */
+    public static <R> R call(final Deadline deadline, final Supplier<R> work) {
+        final Deadline outer = CURRENT.get();
+        CURRENT.set(outer == null ? deadline : outer.earliest(deadline));
+        try {
+            return work.get();
+        } finally {
+            if (outer == null) CURRENT.remove();
+            else CURRENT.set(outer);
+        }
+    }
+
+    /**
+     * Executes an operation that must complete within the given timeout.
+     *
+     * @param timeout The time the operation is allowed to take.
+     * @param work    The operation to execute.
+     * @see #call(Duration, Supplier)
+     */
+    public static void run(final Duration timeout, final Runnable work) {
+        call(timeout, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the time left until the deadline passes.
+     *
+     * @return The remaining time in nanoseconds, negative or zero if the deadline has passed.
+     */
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * Checks whether the deadline has passed.
+     *
+     * @return {@code true} if the deadline has passed, {@code false} otherwise.
+     */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Returns whichever of this deadline and the given one passes first.
+     *
+     * @param other The deadline to compare with.
+     * @return The earliest of the two deadlines.
+     */
+    public Deadline earliest(final Deadline other) {
+        return deadlineNanos - other.deadlineNanos <= 0 ? this : other;
+    }
+
+    /**
+     * Returns whichever of this deadline and the given one passes last.
+     *
+     * @param other The deadline to compare with.
+     * @return The latest of the two deadlines.
+     */
+    public Deadline latest(final Deadline other) {
+        return deadlineNanos - other.deadlineNanos >= 0 ? this : other;
+    }
+
+}
@@ -0,0 +1,80 @@
+package dimstyl.orm.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Opens an explicit scope within which primary key lookups are micro-batched.
+ * <p>
+ * While a scope is active, every {@code @FindById} method invoked by the calling thread, or by a thread started
+ * from it, such as the virtual threads of a per-task executor, has its lookups collected for the scope's window
+ * and answered together with a single multi-key query, whether or not the method is annotated with
+ * {@code @BatchLookups}. The scope's window takes precedence over the annotation's.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     List&lt;Optional&lt;Customer&gt;&gt; customers = LookupBatching.call(Duration.ofMillis(2), () -&gt; {
+ *         try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+ *             var lookups = ids.stream().map(id -&gt; executor.submit(() -&gt; repository.findById(id))).toList();
+ *             return lookups.stream().map(Future::resultNow).toList();
+ *         }
+ *     });
+ * </pre>
+ */
+public final class LookupBatching {
+
+    /**
+     * The batching window of the scope active on the current thread, if any, inherited by the threads it starts.
+     */
+    private static final InheritableThreadLocal<Duration> CURRENT = new InheritableThreadLocal<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private LookupBatching() {
+    }
+
+    /**
+     * Retrieves the batching window of the scope active on the current thread.
+     *
+     * @return An {@link Optional} containing the window, or empty if no scope is active.
+     */
+    public static Optional<Duration> currentWindow() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Executes work within a batching scope.
+     *
+     * @param window The batching window of the lookups made within the scope.
+     * @param work   The work to execute.
+     * @param <R>    The type of the work's result.
+     * @return The result of the work.
+     */
+    public static <R> R call(final Duration window, final Supplier<R> work) {
+        final Duration outer = CURRENT.get();
+        CURRENT.set(window);
+        try {
+            return work.get();
+        } finally {
+            if (outer == null) CURRENT.remove();
+            else CURRENT.set(outer);
+        }
+    }
+
+    /**
+     * Executes work within a batching scope.
+     *
+     * @param window The batching window of the lookups made within the scope.
+     * @param work   The work to execute.
+     */
+    public static void run(final Duration window, final Runnable work) {
+        call(window, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,185 @@
+package dimstyl.orm.runtime;
+
+import dimstyl.orm.enums.OverflowPolicy;
+import dimstyl.orm.exceptions.BulkheadRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of operations executed concurrently on a repository or a database.
+ * <p>
+ * Operations that arrive while all permits are in use are queued, rejected, or shed,
+ * according to the bulkhead's {@link OverflowPolicy}. Waiting for a permit is bounded by the bulkhead's
+ * maximum wait and by the caller's {@link Deadline}, whichever is shorter.
+ * </p>
+ */
+public final class OperationBulkhead {
+
+    /**
+     * The name of the bulkhead.
+     */
+    private final String name;
+
+    /**
+     * The settings of the bulkhead.
+     */
+    private final BulkheadSettings settings;
+
+    /**
+     * The permits of the bulkhead, handed out in arrival order to waiting operations.
+     */
+    private final Semaphore permits;
+
+    /**
+     * The number of operations currently waiting for a permit.
+     */
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * The total number of admitted operations.
+     */
+    private final LongAdder admitted = new LongAdder();
+
+    /**
+     * The total number of rejected operations.
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * The total time, in nanoseconds, operations spent waiting for a permit.
+     */
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+
+    /**
+     * The longest time, in nanoseconds, an operation spent waiting for a permit.
+     */
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+    /**
+     * Constructs a new bulkhead.
+     *
+     * @param name     The name of the bulkhead, used in rejection messages and metrics.
+     * @param settings The {@link BulkheadSettings} of the bulkhead.
+     */
+    public OperationBulkhead(final String name, final BulkheadSettings settings) {
+        this.name = name;
+        this.settings = settings;
+        this.permits = new Semaphore(settings.maxConcurrent(), true);
+    }
+
+    /**
+     * Executes an operation once the bulkhead admits it.
+     *
+     * @param work The operation to execute.
+     * @param <R>  The type of the operation's result.
+     * @return The result of the operation.
+     * @throws BulkheadRejectedException If the bulkhead does not admit the operation.
+     */
+    public <R> R execute(final Supplier<R> work) throws BulkheadRejectedException {
+        acquire();
+        try {
+            return work.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Takes a snapshot of the bulkhead's metrics.
+     *
+     * @return The current {@link BulkheadMetrics}.
+     */
+    public BulkheadMetrics metrics() {
+        return new BulkheadMetrics(
+                name,
+                settings.maxConcurrent(),
+                settings.maxConcurrent() - permits.availablePermits(),
+                queued.get(),
+                admitted.sum(),
+                rejected.sum(),
+                Duration.ofNanos(totalQueueWaitNanos.sum()),
+                Duration.ofNanos(maxQueueWaitNanos.get())
+        );
+    }
+
+    /**
+     * Acquires a permit according to the bulkhead's overflow policy.
+     *
+     * @throws BulkheadRejectedException If no permit can be acquired.
+     */
+    private void acquire() throws BulkheadRejectedException {
+        // Fast path, no contention
+        if (permits.tryAcquire()) {
+            admitted.increment();
+            return;
+        }
+
+        final OverflowPolicy overflowPolicy = settings.overflowPolicy();
+        if (overflowPolicy == OverflowPolicy.FAIL_FAST) {
+            throw reject(String.format("all %d permits are in use", settings.maxConcurrent()), null);
+        }
+
+        final int depth = queued.incrementAndGet();
+        if (overflowPolicy == OverflowPolicy.SHED_LOAD && depth > settings.maxQueueDepth()) {
+            queued.decrementAndGet();
+            throw reject(String.format("the queue is full (%d waiting)", settings.maxQueueDepth()), null);
+        }
+
+        final long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            acquired = permits.tryAcquire(resolveMaxWaitNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("the calling thread was interrupted while waiting", e);
+        } finally {
+            queued.decrementAndGet();
+            recordQueueWait(System.nanoTime() - start);
+        }
+
+        if (!acquired) throw reject("no permit became available in time", null);
+        admitted.increment();
+    }
+
+    /**
+     * Resolves how long an operation may wait for a permit.
+     *
+     * @return The maximum wait in nanoseconds, bounded by the caller's deadline.
+     */
+    private long resolveMaxWaitNanos() {
+        final long maxWaitNanos = settings.maxWait().toNanos();
+        return Deadline.current()
+                .map(deadline -> Math.min(maxWaitNanos, deadline.remainingNanos()))
+                .orElse(maxWaitNanos);
+    }
+
+    /**
+     * Records the time an operation spent waiting for a permit.
+     *
+     * @param waitNanos The wait in nanoseconds.
+     */
+    private void recordQueueWait(final long waitNanos) {
+        totalQueueWaitNanos.add(waitNanos);
+        maxQueueWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * Counts a rejection and creates the exception to throw.
+     *
+     * @param reason The reason of the rejection.
+     * @param cause  The underlying cause of the rejection, or {@code null}.
+     * @return The {@link BulkheadRejectedException} to throw.
+     */
+    private BulkheadRejectedException reject(final String reason, final Throwable cause) {
+        rejected.increment();
+        final String message = String.format("Bulkhead '%s' rejected the operation: %s.", name, reason);
+        return new BulkheadRejectedException(message, cause);
+    }
+
+}
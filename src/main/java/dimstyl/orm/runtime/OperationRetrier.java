@@ -0,0 +1,221 @@
+package dimstyl.orm.runtime;
+
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.exceptions.SqlExecutionException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Retries operations that fail with transient errors, according to a {@link RetryPolicy}.
+ * <p>
+ * Retries are limited by a retry budget: every operation earns a fraction of a retry, and every retry spends one.
+ * Under sustained contention the budget runs out and failures surface to the caller, instead of every caller
+ * multiplying the load on the database with its own retries. Backoffs never outlive the caller's {@link Deadline}.
+ * </p>
+ */
+public final class OperationRetrier {
+
+    /**
+     * The number of budget units per retry, so that fractions of a retry can be earned atomically.
+     */
+    private static final long UNITS_PER_RETRY = 1_000;
+
+    /**
+     * The name of the retrier.
+     */
+    private final String name;
+
+    /**
+     * The database engine whose errors are classified.
+     */
+    private final DatabaseEngine databaseEngine;
+
+    /**
+     * The retry policy of the retrier.
+     */
+    private final RetryPolicy policy;
+
+    /**
+     * The units of the retry budget currently available.
+     */
+    private final AtomicLong budgetUnits;
+
+    /**
+     * The total number of executed operations.
+     */
+    private final LongAdder operations = new LongAdder();
+
+    /**
+     * The total number of retries.
+     */
+    private final LongAdder retries = new LongAdder();
+
+    /**
+     * The number of operations that succeeded after at least one retry.
+     */
+    private final LongAdder recovered = new LongAdder();
+
+    /**
+     * The number of operations that failed with a transient error after their last attempt.
+     */
+    private final LongAdder exhausted = new LongAdder();
+
+    /**
+     * The number of retries denied because the retry budget was spent.
+     */
+    private final LongAdder budgetDenied = new LongAdder();
+
+    /**
+     * Constructs a new retrier.
+     *
+     * @param name           The name of the retrier, used in metrics.
+     * @param databaseEngine The {@link DatabaseEngine} whose errors are classified.
+     * @param policy         The {@link RetryPolicy} of the retrier.
+     */
+    public OperationRetrier(final String name, final DatabaseEngine databaseEngine, final RetryPolicy policy) {
+        this.name = name;
+        this.databaseEngine = databaseEngine;
+        this.policy = policy;
+        this.budgetUnits = new AtomicLong(policy.budgetCapacity() * UNITS_PER_RETRY);
+    }
+
+    /**
+     * Executes an idempotent operation, retrying it after transient errors.
+     *
+     * @param work The operation to execute, which must be safe to execute more than once.
+     * @param <R>  The type of the operation's result.
+     * @return The result of the operation.
+     */
+    public <R> R execute(final Supplier<R> work) {
+        earnBudget();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                final R result = work.get();
+                if (attempt > 1) recovered.increment();
+                return result;
+            } catch (RuntimeException e) {
+                if (!shouldRetry(e, attempt)) throw e;
+            }
+        }
+    }
+
+    /**
+     * Executes a transaction, retrying the whole transaction after transient errors.
+     * <p>
+     * The work is executed with auto-commit disabled and committed once it completes.
+     * If it fails, the transaction is rolled back before it is retried or the failure is rethrown, a failed
+     * rollback being attached to the failure as a suppressed exception.
+     * The auto-commit mode of the connection is restored afterward.
+     * </p>
+     *
+     * @param connection The connection to execute the transaction on.
+     * @param work       The statements of the transaction.
+     * @param <R>        The type of the transaction's result.
+     * @return The result of the transaction.
+     * @throws SqlExecutionException If the transaction cannot be started, committed or rolled back.
+     */
+    public <R> R transaction(final Connection connection, final Function<Connection, R> work)
+            throws SqlExecutionException {
+        return execute(() -> {
+            try {
+                final boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try {
+                    final R result = work.apply(connection);
+                    connection.commit();
+                    return result;
+                } catch (SQLException | RuntimeException | Error e) {
+                    try {
+                        connection.rollback();
+                    } catch (SQLException rollbackException) {
+                        e.addSuppressed(rollbackException);
+                    }
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            } catch (SQLException e) {
+                throw new SqlExecutionException(e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Takes a snapshot of the retrier's metrics.
+     *
+     * @return The current {@link RetryMetrics}.
+     */
+    public RetryMetrics metrics() {
+        return new RetryMetrics(
+                name,
+                operations.sum(),
+                retries.sum(),
+                recovered.sum(),
+                exhausted.sum(),
+                budgetDenied.sum(),
+                (double) budgetUnits.get() / UNITS_PER_RETRY
+        );
+    }
+
+    /**
+     * Decides whether a failed attempt is retried, and waits for the backoff if it is.
+     *
+     * @param e       The error of the failed attempt.
+     * @param attempt The number of the failed attempt, starting from {@code 1}.
+     * @return {@code true} if the operation should be attempted again, {@code false} otherwise.
+     */
+    private boolean shouldRetry(final RuntimeException e, final int attempt) {
+        if (!TransientErrors.isTransient(databaseEngine, e)) return false;
+
+        final long backoffNanos = policy.backoffNanos(attempt);
+        final boolean outlivesDeadline = Deadline.current()
+                .map(deadline -> deadline.remainingNanos() <= backoffNanos)
+                .orElse(false);
+        if (attempt >= policy.maxAttempts() || outlivesDeadline) {
+            exhausted.increment();
+            return false;
+        }
+        if (!spendBudget()) {
+            budgetDenied.increment();
+            exhausted.increment();
+            return false;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(backoffNanos);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            e.addSuppressed(ie);
+            return false;
+        }
+        retries.increment();
+        return true;
+    }
+
+    /**
+     * Adds the fraction of a retry earned by an operation to the budget, up to its capacity.
+     */
+    private void earnBudget() {
+        operations.increment();
+        final long earned = (long) (policy.budgetRatio() * UNITS_PER_RETRY);
+        final long capacity = policy.budgetCapacity() * UNITS_PER_RETRY;
+        budgetUnits.accumulateAndGet(earned, (units, e) -> Math.min(capacity, units + e));
+    }
+
+    /**
+     * Spends one retry from the budget, if available.
+     *
+     * @return {@code true} if a retry was spent, {@code false} if the budget is spent.
+     */
+    private boolean spendBudget() {
+        return budgetUnits.getAndUpdate(units -> units >= UNITS_PER_RETRY ? units - UNITS_PER_RETRY : units)
+               >= UNITS_PER_RETRY;
+    }
+
+}
@@ -0,0 +1,150 @@
+package dimstyl.orm.runtime;
+
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.exceptions.SqlExecutionException;
+import dimstyl.orm.metadata.DatabaseMetadata;
+import dimstyl.orm.metadata.RepositoryMetadata;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the retriers of repositories and databases.
+ * <p>
+ * Retriers are registered automatically from the {@code @Retry} annotation when a repository is processed,
+ * or at runtime through {@link #registerRepository(Class, DatabaseEngine, RetryPolicy)}. Repositories without
+ * a registered retrier get one with {@link RetryPolicy#DEFAULT} on their first operation, and so do databases
+ * on their first schema transaction.
+ * </p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ *     List&lt;Purchase&gt; purchases = Retries.execute(repositoryMetadata, SqlOperation.SELECT_ALL, () -&gt;
+ *             SqlQueryExecutor.executeSelectAllQuery(query, connection, Purchase.class));
+ * </pre>
+ */
+public final class Retries {
+
+    /**
+     * The retriers registered per repository class.
+     */
+    private static final Map<Class<?>, OperationRetrier> REPOSITORY_RETRIERS = new ConcurrentHashMap<>();
+
+    /**
+     * The retriers of schema transactions, per database name.
+     */
+    private static final Map<String, OperationRetrier> DATABASE_RETRIERS = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Retries() {
+    }
+
+    /**
+     * Registers the retrier of a repository, replacing any previously registered one.
+     *
+     * @param repositoryClass The repository class.
+     * @param databaseEngine  The {@link DatabaseEngine} of the repository's database.
+     * @param policy          The {@link RetryPolicy} of the retrier.
+     */
+    public static void registerRepository(final Class<?> repositoryClass,
+                                          final DatabaseEngine databaseEngine,
+                                          final RetryPolicy policy) {
+        REPOSITORY_RETRIERS.put(repositoryClass, newRetrier(repositoryClass, databaseEngine, policy));
+    }
+
+    /**
+     * Finds the retrier of a repository.
+     *
+     * @param repositoryClass The repository class.
+     * @return An {@link Optional} containing the {@link OperationRetrier}, otherwise empty.
+     */
+    public static Optional<OperationRetrier> findRepositoryRetrier(final Class<?> repositoryClass) {
+        return Optional.ofNullable(REPOSITORY_RETRIERS.get(repositoryClass));
+    }
+
+    /**
+     * Executes an operation of a repository, retrying it after transient errors if it is idempotent.
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param sqlOperation       The {@link SqlOperation} being executed.
+     * @param work               The operation to execute.
+     * @param <R>                The type of the operation's result.
+     * @return The result of the operation.
+     */
+    public static <R> R execute(final RepositoryMetadata repositoryMetadata,
+                                final SqlOperation sqlOperation,
+                                final Supplier<R> work) {
+        if (!sqlOperation.isIdempotent()) return work.get();
+        return retrierOf(repositoryMetadata).execute(work);
+    }
+
+    /**
+     * Executes a transaction on a repository's database, retrying the whole transaction after transient errors.
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @param connection         The connection to execute the transaction on.
+     * @param work               The statements of the transaction.
+     * @param <R>                The type of the transaction's result.
+     * @return The result of the transaction.
+     * @throws SqlExecutionException If the transaction cannot be started, committed or rolled back.
+     * @see OperationRetrier#transaction(Connection, Function)
+     */
+    public static <R> R transaction(final RepositoryMetadata repositoryMetadata,
+                                    final Connection connection,
+                                    final Function<Connection, R> work) throws SqlExecutionException {
+        return retrierOf(repositoryMetadata).transaction(connection, work);
+    }
+
+    /**
+     * Executes a schema transaction on a database, retrying the whole transaction after transient errors.
+     *
+     * @param databaseMetadata The {@link DatabaseMetadata} of the database.
+     * @param connection       The connection to execute the transaction on.
+     * @param work             The statements of the transaction.
+     * @param <R>              The type of the transaction's result.
+     * @return The result of the transaction.
+     * @throws SqlExecutionException If the transaction cannot be started, committed or rolled back.
+     * @see OperationRetrier#transaction(Connection, Function)
+     */
+    public static <R> R transaction(final DatabaseMetadata databaseMetadata,
+                                    final Connection connection,
+                                    final Function<Connection, R> work) throws SqlExecutionException {
+        final OperationRetrier retrier = DATABASE_RETRIERS.computeIfAbsent(databaseMetadata.databaseName(),
+                databaseName -> new OperationRetrier("database:" + databaseName, databaseMetadata.databaseEngine(),
+                        RetryPolicy.DEFAULT));
+        return retrier.transaction(connection, work);
+    }
+
+    /**
+     * Retrieves the retrier of a repository, creating one with the default policy if none is registered.
+     *
+     * @param repositoryMetadata The {@link RepositoryMetadata} of the repository.
+     * @return The {@link OperationRetrier} of the repository.
+     */
+    private static OperationRetrier retrierOf(final RepositoryMetadata repositoryMetadata) {
+        return REPOSITORY_RETRIERS.computeIfAbsent(repositoryMetadata.repositoryClass(), repositoryClass ->
+                newRetrier(repositoryClass, repositoryMetadata.databaseEngine(), RetryPolicy.DEFAULT));
+    }
+
+    /**
+     * Creates the retrier of a repository.
+     *
+     * @param repositoryClass The repository class.
+     * @param databaseEngine  The {@link DatabaseEngine} of the repository's database.
+     * @param policy          The {@link RetryPolicy} of the retrier.
+     * @return The new {@link OperationRetrier}.
+     */
+    private static OperationRetrier newRetrier(final Class<?> repositoryClass,
+                                               final DatabaseEngine databaseEngine,
+                                               final RetryPolicy policy) {
+        return new OperationRetrier("repository:" + repositoryClass.getName(), databaseEngine, policy);
+    }
+
+}
@@ -0,0 +1,21 @@
+package dimstyl.orm.runtime;
+
+/**
+ * Represents a snapshot of the metrics of an {@link OperationRetrier}.
+ *
+ * @param name           The name of the retrier.
+ * @param operations     The total number of executed operations.
+ * @param retries        The total number of retries.
+ * @param recovered      The number of operations that succeeded after at least one retry.
+ * @param exhausted      The number of operations that failed with a transient error after their last attempt.
+ * @param budgetDenied   The number of retries denied because the retry budget was spent.
+ * @param budgetBalance  The number of retries the budget currently holds.
+ */
+public record RetryMetrics(String name,
+                           long operations,
+                           long retries,
+                           long recovered,
+                           long exhausted,
+                           long budgetDenied,
+                           double budgetBalance) {
+}
@@ -0,0 +1,72 @@
+package dimstyl.orm.runtime;
+
+import dimstyl.orm.annotations.Retry;
+import lombok.Builder;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Represents how an {@link OperationRetrier} retries operations after transient errors.
+ *
+ * @param maxAttempts       The maximum number of attempts of an operation, including the first one.
+ * @param initialBackoff    The backoff before the first retry.
+ * @param maxBackoff        The maximum backoff between two attempts.
+ * @param backoffMultiplier The factor by which the backoff grows after each retry.
+ * @param budgetRatio       The number of retries earned by each operation.
+ * @param budgetCapacity    The maximum number of retries the budget can hold.
+ */
+@Builder(toBuilder = true)
+public record RetryPolicy(int maxAttempts,
+                          Duration initialBackoff,
+                          Duration maxBackoff,
+                          double backoffMultiplier,
+                          double budgetRatio,
+                          int budgetCapacity) {
+
+    /**
+     * The retry policy applied to repositories that are not annotated with {@link Retry}.
+     */
+    public static final RetryPolicy DEFAULT = RetryPolicy.builder()
+            .maxAttempts(3)
+            .initialBackoff(Duration.ofMillis(10))
+            .maxBackoff(Duration.ofSeconds(1))
+            .backoffMultiplier(2.0)
+            .budgetRatio(0.2)
+            .budgetCapacity(10)
+            .build();
+
+    /**
+     * Creates a retry policy from a {@link Retry} annotation.
+     *
+     * @param retry The annotation to read the policy from.
+     * @return The corresponding {@link RetryPolicy}.
+     */
+    public static RetryPolicy from(final Retry retry) {
+        return RetryPolicy.builder()
+                .maxAttempts(retry.maxAttempts())
+                .initialBackoff(Duration.ofMillis(retry.initialBackoffMillis()))
+                .maxBackoff(Duration.ofMillis(retry.maxBackoffMillis()))
+                .backoffMultiplier(retry.backoffMultiplier())
+                .budgetRatio(retry.budgetRatio())
+                .budgetCapacity(retry.budgetCapacity())
+                .build();
+    }
+
+    /**
+     * Computes the backoff before a retry, using full jitter.
+     * <p>
+     * The backoff is drawn uniformly between zero and the exponential backoff of the retry, capped by
+     * the maximum backoff, so that operations that failed together do not retry together.
+     * </p>
+     *
+     * @param retry The number of the retry, starting from {@code 1}.
+     * @return The backoff in nanoseconds.
+     */
+    long backoffNanos(final int retry) {
+        final double exponential = initialBackoff.toNanos() * Math.pow(backoffMultiplier, retry - 1);
+        final long capped = (long) Math.min(exponential, maxBackoff.toNanos());
+        return capped <= 0 ? 0 : ThreadLocalRandom.current().nextLong(capped + 1);
+    }
+
+}
@@ -0,0 +1,82 @@
+package dimstyl.orm.runtime;
+
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.exceptions.QueryTimeoutException;
+
+import java.sql.SQLException;
+import java.util.Set;
+
+/**
+ * Classifies the errors reported by each database engine as transient or permanent.
+ * <p>
+ * Transient errors are caused by lock contention between concurrent transactions and are expected
+ * to go away once the operation is attempted again:
+ * </p>
+ * <ul>
+ *     <li>SQLite: {@code SQLITE_BUSY} (5) and {@code SQLITE_LOCKED} (6), including their extended codes.</li>
+ *     <li>Derby: deadlocks ({@code 40001}) and lock timeouts ({@code 40XL1}, {@code 40XL2}).</li>
+ *     <li>H2: deadlocks ({@code 40001}), lock timeouts ({@code 50200}) and concurrent updates ({@code 90131}).</li>
+ * </ul>
+ * <p>
+ * Cancelled statements are never transient, since retrying them would outlive their deadline.
+ * </p>
+ */
+public final class TransientErrors {
+
+    /**
+     * The SQLite result codes of transient errors.
+     */
+    private static final Set<Integer> SQLITE_RESULT_CODES = Set.of(5, 6);
+
+    /**
+     * The Derby SQLStates of transient errors.
+     */
+    private static final Set<String> DERBY_SQL_STATES = Set.of("40001", "40XL1", "40XL2");
+
+    /**
+     * The H2 error codes of transient errors.
+     */
+    private static final Set<Integer> H2_ERROR_CODES = Set.of(40001, 50200, 90131);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private TransientErrors() {
+    }
+
+    /**
+     * Checks whether an error reported by the given database engine is transient.
+     * <p>
+     * The error and all of its causes are inspected, so both raw {@link SQLException}s and
+     * the ORM's exceptions wrapping them are classified.
+     * </p>
+     *
+     * @param databaseEngine The {@link DatabaseEngine} that reported the error.
+     * @param error          The error to classify.
+     * @return {@code true} if the error is transient, {@code false} otherwise.
+     */
+    public static boolean isTransient(final DatabaseEngine databaseEngine, final Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof QueryTimeoutException) return false;
+            if (t instanceof SQLException e && isTransient(databaseEngine, e)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether an {@link SQLException} reported by the given database engine is transient.
+     *
+     * @param databaseEngine The {@link DatabaseEngine} that reported the exception.
+     * @param e              The exception to classify.
+     * @return {@code true} if the exception is transient, {@code false} otherwise.
+     */
+    private static boolean isTransient(final DatabaseEngine databaseEngine, final SQLException e) {
+        return switch (databaseEngine) {
+            // Extended result codes keep the primary result code in their low byte
+            case SQLITE -> SQLITE_RESULT_CODES.contains(e.getErrorCode() & 0xff);
+            case DERBY -> e.getSQLState() != null && DERBY_SQL_STATES.contains(e.getSQLState());
+            case H2 -> H2_ERROR_CODES.contains(e.getErrorCode());
+        };
+    }
+
+}
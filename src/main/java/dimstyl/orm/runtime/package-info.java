@@ -0,0 +1,4 @@
+/**
+ * Provides runtime controls applied to repository operations, such as deadlines, bulkheads and retries.
+ */
+package dimstyl.orm.runtime;
\ No newline at end of file
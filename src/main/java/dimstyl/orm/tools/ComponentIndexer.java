@@ -0,0 +1,66 @@
+package dimstyl.orm.tools;
+
+import dimstyl.orm.annotations.Database;
+import dimstyl.orm.exceptions.ClasspathScanException;
+import dimstyl.orm.internal.discovery.ComponentScanner;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Build-time generator of the component index, which lets the ORM discover entity and repository classes
+ * at startup without scanning the classpath.
+ * <p>
+ * The indexer scans the given packages for entity classes and repository interfaces, and writes their names
+ * under {@value ComponentScanner#RESOURCE_NAME} of the build's output directory, from where the index is picked up
+ * on the classpath by {@link Database#scanPackages()} and {@code RepositoryFactory.discover}. Packages missing from
+ * the index are still scanned at runtime.
+ * </p>
+ *
+ * <p><strong>Usage Example</strong> (with the {@code exec-maven-plugin}, after the classes are compiled):</p>
+ * <pre>
+ *     &lt;execution&gt;
+ *         &lt;id&gt;index-components&lt;/id&gt;
+ *         &lt;phase&gt;process-classes&lt;/phase&gt;
+ *         &lt;goals&gt;&lt;goal&gt;java&lt;/goal&gt;&lt;/goals&gt;
+ *         &lt;configuration&gt;
+ *             &lt;mainClass&gt;dimstyl.orm.tools.ComponentIndexer&lt;/mainClass&gt;
+ *             &lt;arguments&gt;
+ *                 &lt;argument&gt;${project.build.outputDirectory}&lt;/argument&gt;
+ *                 &lt;argument&gt;com.example.shop&lt;/argument&gt;
+ *             &lt;/arguments&gt;
+ *         &lt;/configuration&gt;
+ *     &lt;/execution&gt;
+ * </pre>
+ */
+public final class ComponentIndexer {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ComponentIndexer() {
+    }
+
+    /**
+     * Writes the component index of the given packages.
+     *
+     * @param args The output directory, followed by the names of the packages to index.
+     * @throws IllegalArgumentException If no output directory or package is given.
+     * @throws ClasspathScanException   If a package cannot be scanned.
+     * @throws IOException              If the index cannot be written.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: ComponentIndexer <output directory> <package> [<package> ...]");
+        }
+
+        final List<String> packageNames = Arrays.asList(args).subList(1, args.length);
+        final Path index = ComponentScanner.write(Path.of(args[0]), packageNames);
+        ConsoleUtils.printFormatted("💾 Component index of %d package(s) saved to '%s'\n",
+                packageNames.size(), index.toAbsolutePath());
+    }
+
+}
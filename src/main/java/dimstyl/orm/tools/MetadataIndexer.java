@@ -0,0 +1,70 @@
+package dimstyl.orm.tools;
+
+import dimstyl.orm.annotations.Database;
+import dimstyl.orm.exceptions.MissingDatabaseAnnotationException;
+import dimstyl.orm.internal.processors.MetadataIndex;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Build-time generator of the metadata index, which lets the ORM create schemas at startup without reflection.
+ * <p>
+ * The indexer resolves the table metadata of every table of the given {@link Database} classes, and writes it
+ * as a compact binary index under {@value MetadataIndex#RESOURCE_NAME} of the build's output directory,
+ * from where it is picked up on the classpath at runtime. Tables missing from the index, such as those of entity
+ * classes added since the last build, are still resolved through reflection.
+ * </p>
+ *
+ * <p><strong>Usage Example</strong> (with the {@code exec-maven-plugin}, after the classes are compiled):</p>
+ * <pre>
+ *     &lt;execution&gt;
+ *         &lt;id&gt;index-metadata&lt;/id&gt;
+ *         &lt;phase&gt;process-classes&lt;/phase&gt;
+ *         &lt;goals&gt;&lt;goal&gt;java&lt;/goal&gt;&lt;/goals&gt;
+ *         &lt;configuration&gt;
+ *             &lt;mainClass&gt;dimstyl.orm.tools.MetadataIndexer&lt;/mainClass&gt;
+ *             &lt;arguments&gt;
+ *                 &lt;argument&gt;${project.build.outputDirectory}&lt;/argument&gt;
+ *                 &lt;argument&gt;com.example.ShopDatabase&lt;/argument&gt;
+ *             &lt;/arguments&gt;
+ *         &lt;/configuration&gt;
+ *     &lt;/execution&gt;
+ * </pre>
+ */
+public final class MetadataIndexer {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MetadataIndexer() {
+    }
+
+    /**
+     * Writes the metadata index of the given databases.
+     *
+     * @param args The output directory, followed by the fully qualified names of the {@link Database} classes.
+     * @throws IllegalArgumentException           If no output directory or database class is given.
+     * @throws ClassNotFoundException             If a database class cannot be found.
+     * @throws MissingDatabaseAnnotationException If a class is not annotated with {@link Database}.
+     * @throws IOException                        If the index cannot be written.
+     */
+    public static void main(final String[] args) throws ClassNotFoundException, IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException(
+                    "Usage: MetadataIndexer <output directory> <database class> [<database class> ...]");
+        }
+
+        final List<Class<?>> databaseClasses = new ArrayList<>();
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (int i = 1; i < args.length; i++) databaseClasses.add(Class.forName(args[i], false, classLoader));
+
+        final Path index = MetadataIndex.write(Path.of(args[0]), databaseClasses);
+        ConsoleUtils.printFormatted("💾 Metadata index of %d database(s) saved to '%s'\n",
+                databaseClasses.size(), index.toAbsolutePath());
+    }
+
+}
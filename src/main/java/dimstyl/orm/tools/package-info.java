@@ -0,0 +1,4 @@
+/**
+ * Provides build-time tools, such as the generators of the metadata and component indexes loaded at startup.
+ */
+package dimstyl.orm.tools;
@@ -1,6 +1,7 @@
 package databases;
 
 import dimstyl.orm.annotations.Database;
+import dimstyl.orm.annotations.DerbyTuning;
 import dimstyl.orm.enums.DatabaseEngine;
 import entities.Customer;
 import entities.Purchase;
@@ -9,7 +10,8 @@ import entities.Purchase;
  * Represents a Derby database configuration for the ORM.
  * <p>
  * This class is annotated with {@link Database} to define the database properties,
- * including its name, engine type, and associated entity tables.
+ * including its name, engine type, associated entity tables and Derby tuning profile. Its schema is
+ * synchronized rather than created, since Derby cannot create tables only if they do not exist.
  * </p>
  * <p>
  * {@link Database} Specifies that this class represents a database configuration.
@@ -17,7 +19,9 @@ import entities.Purchase;
 @Database(
         name = "derbyDB",
         engine = DatabaseEngine.DERBY,
-        tables = {Purchase.class, Customer.class}
+        tables = {Purchase.class, Customer.class},
+        derbyTuning = @DerbyTuning(pageCacheSize = 2_000),
+        syncSchema = true
 )
 public class DerbyDatabase {
 }
@@ -1,6 +1,8 @@
 package databases;
 
+import dimstyl.orm.annotations.Bulkhead;
 import dimstyl.orm.annotations.Database;
+import dimstyl.orm.annotations.H2Tuning;
 import dimstyl.orm.enums.DatabaseEngine;
 import entities.Customer;
 import entities.Purchase;
@@ -9,15 +11,18 @@ import entities.Purchase;
  * Represents an H2 database configuration for the ORM.
  * <p>
  * This class is annotated with {@link Database} to define the database properties,
- * including its name, engine type, and associated entity tables.
+ * including its name, engine type, associated entity tables and H2 tuning profile,
+ * and its bulkhead limits the operations executed concurrently on the database.
  * </p>
  * <p>
  * {@link Database} Specifies that this class represents a database configuration.
  */
+@Bulkhead(maxConcurrent = 16)
 @Database(
         name = "h2DB",
         engine = DatabaseEngine.H2,
-        tables = {Purchase.class, Customer.class}
+        tables = {Purchase.class, Customer.class},
+        h2Tuning = @H2Tuning(cacheSize = 65_536, lockTimeout = 10_000)
 )
 public class H2Database {
 }
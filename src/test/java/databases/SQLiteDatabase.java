@@ -2,14 +2,14 @@ package databases;
 
 import dimstyl.orm.annotations.Database;
 import dimstyl.orm.enums.DatabaseEngine;
-import entities.Customer;
 import entities.Purchase;
 
 /**
  * Represents an SQLite database configuration for the ORM.
  * <p>
  * This class is annotated with {@link Database} to define the database properties,
- * including its name, engine type, and associated entity tables.
+ * including its name, engine type, and associated entity tables, the rest of which are discovered
+ * by scanning the entities package.
  * </p>
  * <p>
  * {@link Database} Specifies that this class represents a database configuration.
@@ -17,7 +17,8 @@ import entities.Purchase;
 @Database(
         name = "sqliteDB",
         engine = DatabaseEngine.SQLITE,
-        tables = {Purchase.class, Customer.class}
+        tables = {Purchase.class},
+        scanPackages = "entities"
 )
 public class SQLiteDatabase {
 }
@@ -1,16 +1,23 @@
 package entities;
 
 import dimstyl.orm.annotations.Column;
+import dimstyl.orm.annotations.Index;
+import dimstyl.orm.annotations.OneToMany;
 import dimstyl.orm.annotations.PrimaryKey;
 import dimstyl.orm.annotations.Table;
 import dimstyl.orm.model.Entity;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
+import java.util.List;
+
 /**
  * Represents a customer entity in the database.
  * <p>
  * This class is annotated with {@link Table} to define the corresponding table name
  * and {@link Column} annotations to specify the properties of each column.
+ * The {@link Index} on {@code lastName} only covers active customers on SQLite, and all customers elsewhere.
  * It implements {@link Entity}, indicating that it is a persistable ORM entity.
  * </p>
  *
@@ -21,13 +28,20 @@ import lombok.ToString;
  *     <li>{@code lastName} - The last name of the customer.</li>
  *     <li>{@code email} - The email of the customer (unique, not nullable).</li>
  *     <li>{@code active} - A flag indicating whether the customer is active.</li>
+ *     <li>{@code purchases} - The purchases of the customer, loaded with the customer
+ *     and persisted along with it.</li>
  * </ul>
  *
  * @see Entity
  * @see Table
+ * @see Index
+ * @see OneToMany
  */
+@Getter
+@Setter
 @ToString
 @Table(name = "customer")
+@Index(columnNames = "last_name", where = "active = 1")
 public class Customer implements Entity {
 
     @PrimaryKey
@@ -46,4 +60,8 @@ public class Customer implements Entity {
     @Column
     private boolean active;
 
+    @OneToMany(mappedBy = "customer", cascadePersist = true)
+    @ToString.Exclude
+    private List<Purchase> purchases;
+
 }
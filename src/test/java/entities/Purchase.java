@@ -1,10 +1,14 @@
 package entities;
 
 import dimstyl.orm.annotations.Column;
+import dimstyl.orm.annotations.Index;
+import dimstyl.orm.annotations.ManyToOne;
 import dimstyl.orm.annotations.PrimaryKey;
 import dimstyl.orm.annotations.Table;
 import dimstyl.orm.annotations.UniqueConstraint;
 import dimstyl.orm.model.Entity;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
 /**
@@ -12,6 +16,8 @@ import lombok.ToString;
  * <p>
  * This class is annotated with {@link Table} to define the corresponding table
  * and includes a {@link UniqueConstraint} on the combination of {@code customerId} and {@code createdAt}.
+ * The {@code customerId} column is a foreign key to the customer table, mapped by the {@link ManyToOne} association.
+ * The {@link Index} on {@code createdAt} (descending) and {@code customerId} serves the most recent purchases first.
  * It implements {@link Entity}, indicating that it is a persistable ORM entity.
  * </p>
  *
@@ -20,14 +26,20 @@ import lombok.ToString;
  *     <li>{@code id} - The primary key for the purchase table.</li>
  *     <li>{@code customerId} - The ID of the customer who made the purchase (not nullable).</li>
  *     <li>{@code createdAt} - The timestamp when the purchase was made (not nullable).</li>
+ *     <li>{@code customer} - The customer who made the purchase, loaded with the purchase.</li>
  * </ul>
  *
  * @see Entity
  * @see Table
  * @see UniqueConstraint
+ * @see Index
+ * @see ManyToOne
  */
+@Getter
+@Setter
 @ToString
 @Table(uniqueConstraints = @UniqueConstraint(columnNames = {"customer_id", "created_at"}))
+@Index(columnNames = {"created_at", "customer_id"}, descending = "created_at")
 public class Purchase implements Entity {
 
     @PrimaryKey
@@ -40,4 +52,7 @@ public class Purchase implements Entity {
     @Column(nullable = false)
     private String createdAt;
 
+    @ManyToOne(column = "customer_id")
+    private Customer customer;
+
 }
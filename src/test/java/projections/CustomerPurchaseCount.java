@@ -0,0 +1,14 @@
+package projections;
+
+/**
+ * Projection of a customer joined with the number of their purchases.
+ * <p>
+ * It is returned by native queries joining the {@code customer} and {@code purchase} tables,
+ * and each component is read from the column labeled after it in snake_case.
+ * </p>
+ *
+ * @param email         The email of the customer.
+ * @param purchaseCount The number of the customer's purchases.
+ */
+public record CustomerPurchaseCount(String email, long purchaseCount) {
+}
@@ -1,11 +1,18 @@
 package repositories.derby;
 
+import dimstyl.orm.annotations.BatchLookups;
+import dimstyl.orm.annotations.FindAllById;
+import dimstyl.orm.annotations.FindById;
+import dimstyl.orm.annotations.Persist;
 import dimstyl.orm.annotations.Repository;
 import dimstyl.orm.annotations.SelectAll;
+import dimstyl.orm.criteria.Criteria;
 import dimstyl.orm.enums.DatabaseEngine;
 import entities.Customer;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing {@link Customer} entities in the Derby database.
@@ -24,6 +31,12 @@ import java.util.List;
  * <p>Methods:</p>
  * <ul>
  *     <li>{@code findAll()} - Retrieves all customers from the database.</li>
+ *     <li>{@code findById(int id)} - Retrieves a customer record by its ID.</li>
+ *     <li>{@code findByIdBatched(int id)} - Retrieves a customer record by its ID, batched with concurrent lookups.</li>
+ *     <li>{@code findAllById(Collection<Integer> ids)} - Retrieves the customer records matching a collection of IDs.</li>
+ *     <li>{@code persist(Customer customer)}, {@code persistAll(Collection<Customer> customers)} - Insert new
+ *     customers along with their purchases.</li>
+ *     <li>{@code findMatching(Criteria<Customer> criteria)} - Retrieves the customers matching a criteria.</li>
  * </ul>
  *
  * @see Repository
@@ -35,4 +48,22 @@ public interface CustomerRepository {
     @SelectAll
     List<Customer> findAll();
 
+    @FindById
+    Optional<Customer> findById(int id);
+
+    @FindById
+    @BatchLookups(windowMicros = 20_000, maxBatchSize = 16)
+    Optional<Customer> findByIdBatched(int id);
+
+    @FindAllById
+    List<Customer> findAllById(Collection<Integer> ids);
+
+    @Persist
+    void persist(Customer customer);
+
+    @Persist
+    int persistAll(Collection<Customer> customers);
+
+    List<Customer> findMatching(Criteria<Customer> criteria);
+
 }
@@ -1,13 +1,18 @@
 package repositories.derby;
 
+import dimstyl.orm.annotations.Aggregate;
+import dimstyl.orm.annotations.Count;
 import dimstyl.orm.annotations.DeleteById;
+import dimstyl.orm.annotations.ExistsById;
 import dimstyl.orm.annotations.Repository;
 import dimstyl.orm.annotations.SelectAll;
+import dimstyl.orm.enums.AggregateFunction;
 import dimstyl.orm.enums.DatabaseEngine;
 import entities.Customer;
 import entities.Purchase;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Repository interface for managing {@link Purchase} entities in the Derby database.
@@ -27,6 +32,11 @@ import java.util.List;
  * <ul>
  *     <li>{@code findAll()} - Retrieves all purchases from the database.</li>
  *     <li>{@code deleteById(int id)} - Deletes a purchase record by its ID.</li>
+ *     <li>{@code count()} - Counts the purchases.</li>
+ *     <li>{@code existsById(int id)} - Checks whether a purchase record exists by its ID.</li>
+ *     <li>{@code maxId()}, {@code sumOfIds()}, {@code averageId()} - Aggregate the IDs of the purchases.</li>
+ *     <li>{@code countByCustomerId()} - Counts the purchases of each customer.</li>
+ *     <li>{@code findByCustomerId(Integer customerId)} - Retrieves the purchases of a customer, with their customer.</li>
  * </ul>
  *
  * @see Repository
@@ -41,4 +51,24 @@ public interface PurchaseRepository {
     @DeleteById
     void deleteBydId(int id);
 
+    @Count
+    long count();
+
+    @ExistsById
+    boolean existsById(int id);
+
+    @Aggregate(function = AggregateFunction.MAX, column = "id")
+    int maxId();
+
+    @Aggregate(function = AggregateFunction.SUM, column = "id")
+    long sumOfIds();
+
+    @Aggregate(function = AggregateFunction.AVG, column = "id")
+    double averageId();
+
+    @Aggregate(function = AggregateFunction.COUNT, column = "id", groupBy = "customerId")
+    Map<Integer, Long> countByCustomerId();
+
+    List<Purchase> findByCustomerId(Integer customerId);
+
 }
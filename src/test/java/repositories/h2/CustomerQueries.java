@@ -0,0 +1,38 @@
+package repositories.h2;
+
+import dimstyl.orm.annotations.Aggregate;
+import dimstyl.orm.annotations.Param;
+import dimstyl.orm.annotations.Query;
+import dimstyl.orm.enums.AggregateFunction;
+import entities.Customer;
+
+import java.util.List;
+
+/**
+ * Query methods for {@link Customer} entities, shared by the repositories extending this interface.
+ * <p>
+ * It is not a repository by itself, so its methods are only implemented through the repositories inheriting them.
+ * </p>
+ *
+ * <p>Methods:</p>
+ * <ul>
+ *     <li>{@code findByLastName(String lastName)} - Retrieves the customers with the given last name.</li>
+ *     <li>{@code searchByFirstName(String name)} - Retrieves the customers with the given first name,
+ *     through a native query.</li>
+ *     <li>{@code maxId()} - Finds the largest customer ID.</li>
+ * </ul>
+ *
+ * @see InheritingCustomerRepository
+ * @see Customer
+ */
+public interface CustomerQueries {
+
+    List<Customer> findByLastName(String lastName);
+
+    @Query("SELECT * FROM customer WHERE first_name = :name")
+    List<Customer> searchByFirstName(@Param("name") String name);
+
+    @Aggregate(function = AggregateFunction.MAX, column = "id")
+    int maxId();
+
+}
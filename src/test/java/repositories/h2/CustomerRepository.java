@@ -1,12 +1,22 @@
 package repositories.h2;
 
+import dimstyl.orm.annotations.BatchLookups;
 import dimstyl.orm.annotations.DeleteById;
+import dimstyl.orm.annotations.FindAllById;
+import dimstyl.orm.annotations.FindById;
+import dimstyl.orm.annotations.Persist;
+import dimstyl.orm.annotations.Param;
+import dimstyl.orm.annotations.Query;
 import dimstyl.orm.annotations.Repository;
 import dimstyl.orm.annotations.SelectAll;
+import dimstyl.orm.criteria.Criteria;
 import dimstyl.orm.enums.DatabaseEngine;
 import entities.Customer;
+import projections.CustomerPurchaseCount;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing {@link Customer} entities in the H2 database.
@@ -25,7 +35,23 @@ import java.util.List;
  * <p>Methods:</p>
  * <ul>
  *     <li>{@code findAll()} - Retrieves all customers from the database.</li>
+ *     <li>{@code findById(int id)} - Retrieves a customer record by its ID.</li>
+ *     <li>{@code findByIdBatched(int id)} - Retrieves a customer record by its ID, batched with concurrent lookups.</li>
+ *     <li>{@code findAllById(Collection<Integer> ids)} - Retrieves the customer records matching a collection of IDs.</li>
+ *     <li>{@code persist(Customer customer)}, {@code persistAll(Collection<Customer> customers)} - Insert new
+ *     customers along with their purchases.</li>
+ *     <li>{@code findMatching(Criteria<Customer> criteria)} - Retrieves the customers matching a criteria.</li>
  *     <li>{@code deleteById(int id)} - Deletes a customer record by its ID.</li>
+ *     <li>{@code findByEmail(String email)} - Retrieves the customer with the given email.</li>
+ *     <li>{@code findByActiveAndLastName(boolean active, String lastName)} - Retrieves the active or inactive
+ *     customers with the given last name.</li>
+ *     <li>{@code findByIdLessThan(int id)} - Retrieves the only customer with an ID below the given one.</li>
+ *     <li>{@code countPurchasesByEmail(String email)} - Retrieves the customer with the given email
+ *     along with the number of their purchases, through a native join.</li>
+ *     <li>{@code searchByName(String name)} - Retrieves the customers with the given first or last name,
+ *     through a native query.</li>
+ *     <li>{@code deactivateByEmail(String email)} - Deactivates the customer with the given email,
+ *     through a native update.</li>
  * </ul>
  *
  * @see Repository
@@ -37,7 +63,44 @@ public interface CustomerRepository {
     @SelectAll
     List<Customer> findAll();
 
+    @FindById
+    Optional<Customer> findById(int id);
+
+    @FindById
+    @BatchLookups(windowMicros = 20_000, maxBatchSize = 16)
+    Optional<Customer> findByIdBatched(int id);
+
+    @FindAllById
+    List<Customer> findAllById(Collection<Integer> ids);
+
+    @Persist
+    void persist(Customer customer);
+
+    @Persist
+    int persistAll(Collection<Customer> customers);
+
+    List<Customer> findMatching(Criteria<Customer> criteria);
+
     @DeleteById
     void deleteBydId(int id);
 
+    Optional<Customer> findByEmail(String email);
+
+    List<Customer> findByActiveAndLastName(boolean active, String lastName);
+
+    Optional<Customer> findByIdLessThan(int id);
+
+    @Query("""
+            SELECT c.email, COUNT(p.id) AS purchase_count
+            FROM customer c LEFT JOIN purchase p ON p.customer_id = c.id
+            WHERE c.email = :email
+            GROUP BY c.email""")
+    Optional<CustomerPurchaseCount> countPurchasesByEmail(@Param("email") String email);
+
+    @Query("SELECT * FROM customer WHERE first_name = :name OR last_name = :name")
+    List<Customer> searchByName(@Param("name") String name);
+
+    @Query("UPDATE customer SET active = FALSE WHERE email = :email")
+    int deactivateByEmail(@Param("email") String email);
+
 }
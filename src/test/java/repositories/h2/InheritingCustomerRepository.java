@@ -0,0 +1,31 @@
+package repositories.h2;
+
+import dimstyl.orm.annotations.Repository;
+import dimstyl.orm.annotations.SelectAll;
+import dimstyl.orm.enums.DatabaseEngine;
+import entities.Customer;
+
+import java.util.List;
+
+/**
+ * Repository interface for {@link Customer} entities in the H2 database, inheriting its query methods.
+ * <p>
+ * Its derived, native and aggregate query methods are declared by {@link CustomerQueries}, so the repository
+ * must implement them just like its own methods.
+ * </p>
+ *
+ * <p>Methods:</p>
+ * <ul>
+ *     <li>{@code findAll()} - Retrieves all customers from the database.</li>
+ * </ul>
+ *
+ * @see Repository
+ * @see Customer
+ */
+@Repository(databaseName = "h2DB", databaseEngine = DatabaseEngine.H2, entity = Customer.class)
+public interface InheritingCustomerRepository extends CustomerQueries {
+
+    @SelectAll
+    List<Customer> findAll();
+
+}
@@ -0,0 +1,24 @@
+package repositories.h2;
+
+import dimstyl.orm.annotations.Repository;
+import dimstyl.orm.enums.DatabaseEngine;
+import entities.Customer;
+
+import java.util.List;
+
+/**
+ * Invalid repository interface for {@link Customer} entities in the H2 database.
+ * <p>
+ * Its derived query method refers to a property that is not a column of {@link Customer},
+ * so the repository must be rejected when it is processed.
+ * </p>
+ *
+ * @see Repository
+ * @see Customer
+ */
+@Repository(databaseName = "h2DB", databaseEngine = DatabaseEngine.H2, entity = Customer.class)
+public interface InvalidCustomerRepository {
+
+    List<Customer> findByNickname(String nickname);
+
+}
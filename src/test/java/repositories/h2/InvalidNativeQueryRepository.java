@@ -0,0 +1,27 @@
+package repositories.h2;
+
+import dimstyl.orm.annotations.Param;
+import dimstyl.orm.annotations.Query;
+import dimstyl.orm.annotations.Repository;
+import dimstyl.orm.enums.DatabaseEngine;
+import entities.Customer;
+
+import java.util.List;
+
+/**
+ * Invalid repository interface for {@link Customer} entities in the H2 database.
+ * <p>
+ * Its native query refers to a named parameter that is not a parameter of the method,
+ * so the repository must be rejected when it is processed.
+ * </p>
+ *
+ * @see Repository
+ * @see Customer
+ */
+@Repository(databaseName = "h2DB", databaseEngine = DatabaseEngine.H2, entity = Customer.class)
+public interface InvalidNativeQueryRepository {
+
+    @Query("SELECT * FROM customer WHERE email = :mail")
+    List<Customer> searchByEmail(@Param("email") String email);
+
+}
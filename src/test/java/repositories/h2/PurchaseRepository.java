@@ -1,13 +1,19 @@
 package repositories.h2;
 
+import dimstyl.orm.annotations.Aggregate;
+import dimstyl.orm.annotations.Count;
 import dimstyl.orm.annotations.DeleteById;
+import dimstyl.orm.annotations.ExistsById;
 import dimstyl.orm.annotations.Repository;
 import dimstyl.orm.annotations.SelectAll;
+import dimstyl.orm.annotations.Timeout;
+import dimstyl.orm.enums.AggregateFunction;
 import dimstyl.orm.enums.DatabaseEngine;
 import entities.Customer;
 import entities.Purchase;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Repository interface for managing {@link Purchase} entities in the H2 database.
@@ -21,24 +27,56 @@ import java.util.List;
  *     <li>Database Name: {@code h2DB}</li>
  *     <li>Database Engine: {@link DatabaseEngine#H2}</li>
  *     <li>Entity Type: {@link Purchase}</li>
+ *     <li>Timeout: 5 seconds per operation, 30 seconds for {@code findAll()}</li>
  * </ul>
  *
  * <p>Methods:</p>
  * <ul>
  *     <li>{@code findAll()} - Retrieves all purchases from the database.</li>
+ *     <li>{@code findAllPurchases()} - Retrieves all purchases from the database, with the repository's timeout.</li>
  *     <li>{@code deleteById(int id)} - Deletes a purchase record by its ID.</li>
+ *     <li>{@code count()} - Counts the purchases.</li>
+ *     <li>{@code existsById(int id)} - Checks whether a purchase record exists by its ID.</li>
+ *     <li>{@code maxId()}, {@code sumOfIds()}, {@code averageId()} - Aggregate the IDs of the purchases.</li>
+ *     <li>{@code countByCustomerId()} - Counts the purchases of each customer.</li>
+ *     <li>{@code findByCustomerId(Integer customerId)} - Retrieves the purchases of a customer, with their customer.</li>
  * </ul>
  *
  * @see Repository
  * @see Purchase
  */
+@Timeout(millis = 5_000)
 @Repository(databaseName = "h2DB", databaseEngine = DatabaseEngine.H2, entity = Purchase.class)
 public interface PurchaseRepository {
 
     @SelectAll
+    @Timeout(millis = 30_000)
     List<Customer> findAll();
 
+    @SelectAll
+    List<Purchase> findAllPurchases();
+
     @DeleteById
     void deleteBydId(int id);
 
+    @Count
+    long count();
+
+    @ExistsById
+    boolean existsById(int id);
+
+    @Aggregate(function = AggregateFunction.MAX, column = "id")
+    int maxId();
+
+    @Aggregate(function = AggregateFunction.SUM, column = "id")
+    long sumOfIds();
+
+    @Aggregate(function = AggregateFunction.AVG, column = "id")
+    double averageId();
+
+    @Aggregate(function = AggregateFunction.COUNT, column = "id", groupBy = "customerId")
+    Map<Integer, Long> countByCustomerId();
+
+    List<Purchase> findByCustomerId(Integer customerId);
+
 }
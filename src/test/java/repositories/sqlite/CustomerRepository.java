@@ -1,12 +1,23 @@
 package repositories.sqlite;
 
+import dimstyl.orm.annotations.Bulkhead;
 import dimstyl.orm.annotations.DeleteById;
+import dimstyl.orm.annotations.FindAllById;
+import dimstyl.orm.annotations.FindById;
+import dimstyl.orm.annotations.Persist;
+import dimstyl.orm.annotations.Param;
+import dimstyl.orm.annotations.Query;
 import dimstyl.orm.annotations.Repository;
 import dimstyl.orm.annotations.SelectAll;
+import dimstyl.orm.criteria.Criteria;
 import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.enums.OverflowPolicy;
 import entities.Customer;
+import projections.CustomerPurchaseCount;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing {@link Customer} entities in the SQLite database.
@@ -25,19 +36,55 @@ import java.util.List;
  * <p>Methods:</p>
  * <ul>
  *     <li>{@code findAll()} - Retrieves all customers from the database.</li>
+ *     <li>{@code findById(int id)} - Retrieves a customer record by its ID.</li>
+ *     <li>{@code findAllById(Collection<Integer> ids)} - Retrieves the customer records matching a collection of IDs.</li>
+ *     <li>{@code persist(Customer customer)}, {@code persistAll(Collection<Customer> customers)} - Insert new
+ *     customers along with their purchases.</li>
+ *     <li>{@code findMatching(Criteria<Customer> criteria)} - Retrieves the customers matching a criteria.</li>
  *     <li>{@code deleteById(int id)} - Deletes a customer record by its ID.</li>
+ *     <li>{@code findByEmail(String email)} - Retrieves the customer with the given email.</li>
+ *     <li>{@code findByActiveAndLastName(boolean active, String lastName)} - Retrieves the active or inactive
+ *     customers with the given last name.</li>
+ *     <li>{@code countPurchasesByEmail(String email)} - Retrieves the customer with the given email
+ *     along with the number of their purchases, through a native join.</li>
  * </ul>
  *
  * @see Repository
  * @see Customer
  */
+@Bulkhead(maxConcurrent = 1, overflowPolicy = OverflowPolicy.FAIL_FAST)
 @Repository(databaseName = "sqliteDB", databaseEngine = DatabaseEngine.SQLITE, entity = Customer.class)
 public interface CustomerRepository {
 
     @SelectAll
     List<Customer> findAll();
 
+    @FindById
+    Optional<Customer> findById(int id);
+
+    @FindAllById
+    List<Customer> findAllById(Collection<Integer> ids);
+
+    @Persist
+    void persist(Customer customer);
+
+    @Persist
+    int persistAll(Collection<Customer> customers);
+
+    List<Customer> findMatching(Criteria<Customer> criteria);
+
     @DeleteById
     void deleteBydId(int id);
 
+    Optional<Customer> findByEmail(String email);
+
+    List<Customer> findByActiveAndLastName(boolean active, String lastName);
+
+    @Query("""
+            SELECT c.email, COUNT(p.id) AS purchase_count
+            FROM customer c LEFT JOIN purchase p ON p.customer_id = c.id
+            WHERE c.email = :email
+            GROUP BY c.email""")
+    Optional<CustomerPurchaseCount> countPurchasesByEmail(@Param("email") String email);
+
 }
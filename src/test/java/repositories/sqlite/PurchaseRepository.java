@@ -1,13 +1,22 @@
 package repositories.sqlite;
 
+import dimstyl.orm.annotations.Aggregate;
+import dimstyl.orm.annotations.Count;
 import dimstyl.orm.annotations.DeleteById;
+import dimstyl.orm.annotations.ExistsById;
+import dimstyl.orm.annotations.Query;
 import dimstyl.orm.annotations.Repository;
+import dimstyl.orm.annotations.Retry;
 import dimstyl.orm.annotations.SelectAll;
+import dimstyl.orm.annotations.Timeout;
+import dimstyl.orm.enums.AggregateFunction;
 import dimstyl.orm.enums.DatabaseEngine;
 import entities.Customer;
 import entities.Purchase;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Repository interface for managing {@link Purchase} entities in the SQLite database.
@@ -27,11 +36,19 @@ import java.util.List;
  * <ul>
  *     <li>{@code findAll()} - Retrieves all purchases from the database.</li>
  *     <li>{@code deleteById(int id)} - Deletes a purchase record by its ID.</li>
+ *     <li>{@code count()} - Counts the purchases.</li>
+ *     <li>{@code existsById(int id)} - Checks whether a purchase record exists by its ID.</li>
+ *     <li>{@code maxId()}, {@code sumOfIds()}, {@code averageId()} - Aggregate the IDs of the purchases.</li>
+ *     <li>{@code countByCustomerId()} - Counts the purchases of each customer.</li>
+ *     <li>{@code findByCustomerId(Integer customerId)} - Retrieves the purchases of a customer, with their customer.</li>
+ *     <li>{@code countRunaway()} - Counts an endless sequence, which only completes if it is cancelled by its
+ *     timeout.</li>
  * </ul>
  *
  * @see Repository
  * @see Purchase
  */
+@Retry(maxAttempts = 4, initialBackoffMillis = 1)
 @Repository(databaseName = "sqliteDB", databaseEngine = DatabaseEngine.SQLITE, entity = Purchase.class)
 public interface PurchaseRepository {
 
@@ -41,4 +58,30 @@ public interface PurchaseRepository {
     @DeleteById
     void deleteBydId(int id);
 
+    @Count
+    long count();
+
+    @ExistsById
+    boolean existsById(int id);
+
+    @Aggregate(function = AggregateFunction.MAX, column = "id")
+    int maxId();
+
+    @Aggregate(function = AggregateFunction.SUM, column = "id")
+    long sumOfIds();
+
+    @Aggregate(function = AggregateFunction.AVG, column = "id")
+    double averageId();
+
+    @Aggregate(function = AggregateFunction.COUNT, column = "id", groupBy = "customerId")
+    Map<Integer, Long> countByCustomerId();
+
+    List<Purchase> findByCustomerId(Integer customerId);
+
+    @Timeout(millis = 200)
+    @Query("""
+            WITH RECURSIVE numbers(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM numbers)
+            SELECT COUNT(*) FROM numbers""")
+    Optional<Long> countRunaway();
+
 }
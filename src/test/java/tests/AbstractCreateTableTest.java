@@ -1,16 +1,55 @@
 package tests;
 
+import dimstyl.orm.annotations.Database;
+import dimstyl.orm.annotations.UniqueConstraint;
 import dimstyl.orm.configuration.DatabaseConfigurationFactory;
 import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.exceptions.InvalidColumnNameException;
+import dimstyl.orm.exceptions.SqlExecutionException;
+import dimstyl.orm.internal.discovery.ComponentScanner;
 import dimstyl.orm.internal.processors.DatabaseProcessor;
+import dimstyl.orm.internal.processors.MetadataIndex;
+import dimstyl.orm.internal.processors.MetadataRegistry;
+import dimstyl.orm.internal.sql.execution.SchemaFingerprint;
 import dimstyl.orm.internal.sql.execution.SqlQueryExecutor;
 import dimstyl.orm.internal.sql.generator.SqlQueryGenerator;
 import dimstyl.orm.internal.sql.generator.SqlQueryGeneratorFactory;
 import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.ColumnMetadata;
 import dimstyl.orm.metadata.DatabaseMetadata;
+import dimstyl.orm.metadata.IndexMetadata;
+import dimstyl.orm.metadata.SchemaSyncMetadata;
+import dimstyl.orm.metadata.TableMetadata;
+import dimstyl.orm.model.Entity;
+import dimstyl.orm.repository.RepositoryFactory;
+import dimstyl.orm.tools.ComponentIndexer;
+import dimstyl.orm.tools.MetadataIndexer;
+import entities.Customer;
+import entities.Purchase;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Abstract test class for testing the creation of database tables using ORM metadata.
@@ -22,8 +61,10 @@ import java.util.List;
  * <p>Test Workflow:</p>
  * <ol>
  *     <li>Extract metadata from the provided database class.</li>
+ *     <li>Skip the remaining steps if the schema fingerprint stored in the database is current.</li>
  *     <li>Generate SQL "CREATE TABLE" queries.</li>
  *     <li>Execute the generated queries within a database connection.</li>
+ *     <li>Record the schema fingerprint in the database.</li>
  * </ol>
  *
  * @see DatabaseProcessor
@@ -43,20 +84,315 @@ abstract class AbstractCreateTableTest extends AbstractTest {
         ConsoleUtils.printFormatted("\n------ DATABASE PROCESSING PHASE ------\n");
         final DatabaseMetadata databaseMetadata = DatabaseProcessor.extractMetadata(databaseClass);
 
-        // Generate "CREATE TABLE" queries
-        ConsoleUtils.printFormatted("\n------ GENERATING \"CREATE TABLE\" QUERIES PHASE ------\n");
-        final SqlQueryGenerator<List<String>, DatabaseMetadata> sqlQueryGenerator =
-                SqlQueryGeneratorFactory.getGenerator(databaseMetadata.sqlOperation());
-        final List<String> createTableQueries = sqlQueryGenerator.generate(databaseMetadata);
         final String databaseName = databaseMetadata.databaseName();
         final DatabaseEngine databaseEngine = databaseMetadata.databaseEngine();
-
-        // Execute "CREATE TABLE" queries
-        ConsoleUtils.printFormatted("\n------ EXECUTING \"CREATE TABLE\" QUERIES PHASE ------\n");
         try (final var databaseConfiguration = DatabaseConfigurationFactory.getConfiguration(databaseEngine)) {
             databaseConfiguration.connect(databaseName, databaseMetadata.sqlOperation());
             final Connection connection = databaseConfiguration.getConnection();
-            SqlQueryExecutor.executeCreateTableQueries(createTableQueries, connection);
+
+            // Skip all DDL work if the schema is unchanged since the last run
+            if (SchemaFingerprint.isCurrent(databaseMetadata, connection)) return;
+
+            if (databaseMetadata.sqlOperation() == SqlOperation.SYNC_SCHEMA) {
+                // Synchronize the schema instead, if the database is configured so
+                syncSchema(databaseMetadata, connection);
+            } else {
+                // Generate "CREATE TABLE" queries
+                ConsoleUtils.printFormatted("\n------ GENERATING \"CREATE TABLE\" QUERIES PHASE ------\n");
+                final SqlQueryGenerator<List<String>, DatabaseMetadata> sqlQueryGenerator =
+                        SqlQueryGeneratorFactory.getGenerator(databaseMetadata.sqlOperation());
+                final List<String> createTableQueries = sqlQueryGenerator.generate(databaseMetadata);
+
+                // Execute "CREATE TABLE" queries
+                ConsoleUtils.printFormatted("\n------ EXECUTING \"CREATE TABLE\" QUERIES PHASE ------\n");
+                SqlQueryExecutor.executeCreateTableQueries(createTableQueries, connection);
+            }
+            SchemaFingerprint.record(databaseMetadata, connection);
+        }
+    }
+
+    /**
+     * Synchronizes the schema of a database with its tables, by reading its live schema, generating the queries
+     * creating what is missing and executing them.
+     *
+     * @param databaseMetadata The metadata of the database.
+     * @param connection       The connection to the database.
+     * @return The executed queries, empty if the schema was up to date.
+     */
+    private static List<String> syncSchema(final DatabaseMetadata databaseMetadata, final Connection connection) {
+        ConsoleUtils.printFormatted("\n------ READING LIVE SCHEMA PHASE ------\n");
+        final SchemaSyncMetadata schemaSyncMetadata = SqlQueryExecutor.inspectSchema(databaseMetadata, connection);
+
+        ConsoleUtils.printFormatted("\n------ GENERATING SCHEMA SYNCHRONIZATION QUERIES PHASE ------\n");
+        final SqlQueryGenerator<List<String>, SchemaSyncMetadata> sqlQueryGenerator =
+                SqlQueryGeneratorFactory.getGenerator(SqlOperation.SYNC_SCHEMA);
+        final List<String> schemaSyncQueries = sqlQueryGenerator.generate(schemaSyncMetadata);
+
+        ConsoleUtils.printFormatted("\n------ EXECUTING SCHEMA SYNCHRONIZATION QUERIES PHASE ------\n");
+        SqlQueryExecutor.executeSchemaSyncQueries(schemaSyncQueries, connection);
+        return schemaSyncQueries;
+    }
+
+    /**
+     * Tests the synchronization of the schema of an existing database.
+     * <p>
+     * Synchronizing the tables of the database twice must leave nothing to do the second time. A probe table
+     * missing a unique column and a non-nullable column must then gain both, along with a unique index,
+     * after which its schema must be up to date as well.
+     * </p>
+     *
+     * @param databaseClass The class annotated as a database.
+     */
+    static void syncSchemaTest(final Class<?> databaseClass) {
+        final DatabaseMetadata databaseMetadata = DatabaseProcessor.extractMetadata(databaseClass);
+        final var probeMetadata = new DatabaseMetadata(databaseMetadata.databaseName(),
+                databaseMetadata.databaseEngine(), SqlOperation.SYNC_SCHEMA, new ArrayList<>());
+        probeMetadata.addTableMetadata(new TableMetadata("sync_probe", new UniqueConstraint[0], List.of(), List.of(
+                ColumnMetadata.builder().columnName("id").columnType("INT").primaryKey(true).build(),
+                ColumnMetadata.builder().columnName("label").columnType("VARCHAR(255)").nullable(true).unique(true)
+                        .build(),
+                ColumnMetadata.builder().columnName("amount").columnType("INT").build()
+        ), List.of()));
+
+        try (final var databaseConfiguration =
+                     DatabaseConfigurationFactory.getConfiguration(databaseMetadata.databaseEngine())) {
+            databaseConfiguration.connect(databaseMetadata.databaseName(), SqlOperation.SYNC_SCHEMA);
+            final Connection connection = databaseConfiguration.getConnection();
+            syncSchema(databaseMetadata, connection);
+            assertTrue(syncSchema(databaseMetadata, connection).isEmpty());
+
+            try (final Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE sync_probe (id INT NOT NULL, PRIMARY KEY (id))");
+                try {
+                    final List<String> schemaSyncQueries = syncSchema(probeMetadata, connection);
+                    assertEquals(3, schemaSyncQueries.size());
+                    assertTrue(schemaSyncQueries.get(0).startsWith("ALTER TABLE sync_probe ADD COLUMN label"));
+                    assertTrue(schemaSyncQueries.get(1).startsWith("ALTER TABLE sync_probe ADD COLUMN amount"));
+                    assertTrue(schemaSyncQueries.get(2).startsWith("CREATE UNIQUE INDEX uk_sync_probe_label"));
+                    assertTrue(syncSchema(probeMetadata, connection).isEmpty());
+                } finally {
+                    statement.execute("DROP TABLE sync_probe");
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Tests that the schema of a database is not processed again on a restart with unchanged tables.
+     * <p>
+     * Once the schema is created, recreating it must neither regenerate its SQL script nor execute any DDL,
+     * while a database with an additional table must not match the recorded fingerprint.
+     * </p>
+     *
+     * @param databaseClass The class annotated as a database, whose schema is created rather than synchronized.
+     * @param scriptFile    The SQL script file written when the schema is created.
+     */
+    static void schemaFingerprintTest(final Class<?> databaseClass, final Path scriptFile) {
+        createDatabaseTest(databaseClass);
+        try {
+            Files.deleteIfExists(scriptFile);
+            createDatabaseTest(databaseClass);
+            assertTrue(Files.notExists(scriptFile));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        final DatabaseMetadata databaseMetadata = DatabaseProcessor.extractMetadata(databaseClass);
+        final var changedMetadata = new DatabaseMetadata(databaseMetadata.databaseName(),
+                databaseMetadata.databaseEngine(), databaseMetadata.sqlOperation(),
+                new ArrayList<>(databaseMetadata.tableMetadataList().reversed()));
+        assertEquals(SchemaFingerprint.compute(databaseMetadata), SchemaFingerprint.compute(changedMetadata));
+        changedMetadata.addTableMetadata(new TableMetadata("fingerprint_probe", new UniqueConstraint[0], List.of(),
+                List.of(ColumnMetadata.builder().columnName("id").columnType("INT").primaryKey(true).build()), List.of()));
+        assertNotEquals(SchemaFingerprint.compute(databaseMetadata), SchemaFingerprint.compute(changedMetadata));
+
+        try (final var databaseConfiguration =
+                     DatabaseConfigurationFactory.getConfiguration(databaseMetadata.databaseEngine())) {
+            databaseConfiguration.connect(databaseMetadata.databaseName(), databaseMetadata.sqlOperation());
+            final Connection connection = databaseConfiguration.getConnection();
+            assertTrue(SchemaFingerprint.isCurrent(databaseMetadata, connection));
+            assertFalse(SchemaFingerprint.isCurrent(changedMetadata, connection));
+        }
+    }
+
+    /**
+     * Tests that the indexes declared on the tables of a database are created along with them.
+     * <p>
+     * Each index must be found by name among the indexes of its table once the schema is created,
+     * while an index referencing a column missing from its table must be rejected.
+     * </p>
+     *
+     * @param databaseClass The class annotated as a database.
+     */
+    static void createIndexesTest(final Class<?> databaseClass) {
+        createDatabaseTest(databaseClass);
+
+        final DatabaseMetadata databaseMetadata = DatabaseProcessor.extractMetadata(databaseClass);
+        try (final var databaseConfiguration =
+                     DatabaseConfigurationFactory.getConfiguration(databaseMetadata.databaseEngine())) {
+            databaseConfiguration.connect(databaseMetadata.databaseName(), databaseMetadata.sqlOperation());
+            final Connection connection = databaseConfiguration.getConnection();
+            for (final TableMetadata tableMetadata : databaseMetadata.tableMetadataList()) {
+                final Set<String> indexNames = new HashSet<>();
+                final String tableName = connection.getMetaData().storesUpperCaseIdentifiers()
+                        ? tableMetadata.tableName().toUpperCase(Locale.ROOT)
+                        : tableMetadata.tableName();
+                try (final ResultSet indexes = connection.getMetaData().getIndexInfo(
+                        null, connection.getSchema(), tableName, false, true)) {
+                    while (indexes.next()) indexNames.add(indexes.getString("INDEX_NAME").toUpperCase(Locale.ROOT));
+                }
+                for (final IndexMetadata index : tableMetadata.indexes()) {
+                    ConsoleUtils.printFormatted("\t✅ Found index '%s'\n", index.indexName());
+                    assertTrue(indexNames.contains(index.indexName().toUpperCase(Locale.ROOT)));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        final var invalidMetadata = new DatabaseMetadata(databaseMetadata.databaseName(),
+                databaseMetadata.databaseEngine(), SqlOperation.CREATE_TABLE, new ArrayList<>());
+        invalidMetadata.addTableMetadata(new TableMetadata("index_probe", new UniqueConstraint[0], List.of(),
+                List.of(ColumnMetadata.builder().columnName("id").columnType("INT").primaryKey(true).build()),
+                List.of(IndexMetadata.builder()
+                        .indexName("idx_index_probe_missing")
+                        .columnNames(List.of("missing"))
+                        .descendingColumnNames(Set.of())
+                        .where("")
+                        .build())));
+        final SqlQueryGenerator<List<String>, DatabaseMetadata> generator =
+                SqlQueryGeneratorFactory.getGenerator(SqlOperation.CREATE_TABLE);
+        assertThrows(InvalidColumnNameException.class, () -> generator.generate(invalidMetadata));
+    }
+
+    /**
+     * Tests that the metadata index generated at build time holds the same tables as reflection resolves.
+     * <p>
+     * The index is written to a temporary directory by the {@link MetadataIndexer} and memory-mapped back.
+     * Tables of engines the index was not generated for must not be found in it.
+     * </p>
+     *
+     * @param unindexedEngine A {@link DatabaseEngine} of none of the given databases.
+     * @param databaseClasses The classes annotated as databases to index.
+     */
+    static void metadataIndexTest(final DatabaseEngine unindexedEngine, final Class<?>... databaseClasses) {
+        try {
+            final Path outputDirectory = Files.createTempDirectory("orm-index");
+            final List<String> args = new ArrayList<>(List.of(outputDirectory.toString()));
+            Stream.of(databaseClasses).map(Class::getName).forEach(args::add);
+            MetadataIndexer.main(args.toArray(String[]::new));
+
+            final MetadataIndex index = MetadataIndex.open(outputDirectory.resolve(MetadataIndex.RESOURCE_NAME));
+            for (final Class<?> databaseClass : databaseClasses) {
+                final Database database = databaseClass.getDeclaredAnnotation(Database.class);
+                for (final Class<? extends Entity> entityClass : DatabaseProcessor.resolveTables(database)) {
+                    final TableMetadata expected = MetadataRegistry.table(entityClass, database.engine());
+                    final TableMetadata indexed = index.table(entityClass, database.engine()).orElseThrow();
+                    ConsoleUtils.printFormatted("\t✅ Indexed table '%s'\n", indexed.tableName());
+                    assertEquals(expected.tableName(), indexed.tableName());
+                    assertEquals(expected.foreignKeys(), indexed.foreignKeys());
+                    assertEquals(expected.columnMetadataList(), indexed.columnMetadataList());
+                    assertEquals(expected.indexes(), indexed.indexes());
+                    assertEquals(expected.uniqueConstraints().length, indexed.uniqueConstraints().length);
+                    for (int i = 0; i < expected.uniqueConstraints().length; i++) {
+                        assertArrayEquals(expected.uniqueConstraints()[i].columnNames(),
+                                indexed.uniqueConstraints()[i].columnNames());
+                    }
+                    assertTrue(index.table(entityClass, unindexedEngine).isEmpty());
+                }
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Tests that the "CREATE TABLE" queries of a database are executed atomically.
+     * <p>
+     * A batch whose last query fails must leave none of its tables created, which only holds on engines
+     * with transactional DDL.
+     * </p>
+     *
+     * @param databaseClass The class annotated as a database, of an engine with transactional DDL.
+     */
+    static void createTablesAtomicallyTest(final Class<?> databaseClass) {
+        final DatabaseMetadata databaseMetadata = DatabaseProcessor.extractMetadata(databaseClass);
+        final List<String> createTableQueries = List.of(
+                "CREATE TABLE ddl_probe (id INT)",
+                "CREATE TABLE ddl_probe_broken ("
+        );
+
+        ConsoleUtils.printFormatted("\n------ EXECUTING FAILING \"CREATE TABLE\" QUERIES PHASE ------\n");
+        try (final var databaseConfiguration =
+                     DatabaseConfigurationFactory.getConfiguration(databaseMetadata.databaseEngine())) {
+            databaseConfiguration.connect(databaseMetadata.databaseName(), databaseMetadata.sqlOperation());
+            final Connection connection = databaseConfiguration.getConnection();
+            assertThrows(SqlExecutionException.class, () ->
+                    SqlQueryExecutor.executeCreateTableQueries(createTableQueries, connection));
+
+            assertTrue(connection.getAutoCommit());
+            try (final ResultSet tables = connection.getMetaData().getTables(null, null, "%", null)) {
+                while (tables.next()) assertNotEquals("ddl_probe", tables.getString("TABLE_NAME").toLowerCase());
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Tests the resolution of the tables of a database, declared or discovered by package.
+     *
+     * @param databaseClass The class annotated as a database.
+     * @param expected      The expected entity classes, in order.
+     */
+    @SafeVarargs
+    static void discoverTablesTest(final Class<?> databaseClass, final Class<? extends Entity>... expected) {
+        final Database database = databaseClass.getDeclaredAnnotation(Database.class);
+        assertEquals(List.of(expected), DatabaseProcessor.resolveTables(database));
+        assertEquals(List.of(Customer.class, Purchase.class), ComponentScanner.findEntities(List.of("entities")));
+    }
+
+    /**
+     * Tests the discovery of the repositories of a package, by scanning the classpath and through
+     * the component index generated for the package.
+     * <p>
+     * The index is then replaced by one listing only the first repository, which must be the only one discovered,
+     * proving that an indexed package is not scanned again.
+     * </p>
+     *
+     * @param packageName The name of the package.
+     * @param expected    The expected repository interfaces, ordered by name.
+     */
+    static void componentIndexTest(final String packageName, final Class<?>... expected) {
+        final List<Class<?>> scanned = RepositoryFactory.discover(packageName);
+        assertEquals(List.of(expected), scanned);
+
+        final Thread thread = Thread.currentThread();
+        final ClassLoader classLoader = thread.getContextClassLoader();
+        try {
+            final Path outputDirectory = Files.createTempDirectory("orm-components");
+            ComponentIndexer.main(new String[]{outputDirectory.toString(), packageName});
+
+            try (final URLClassLoader indexedClassLoader =
+                         new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, classLoader)) {
+                thread.setContextClassLoader(indexedClassLoader);
+                assertEquals(scanned, RepositoryFactory.discover(packageName));
+
+                Files.write(outputDirectory.resolve(ComponentScanner.RESOURCE_NAME), List.of(
+                        "# dimstyl-orm component index, version 1",
+                        "package " + packageName,
+                        "repository " + expected[0].getName()
+                ));
+                assertEquals(List.of(expected[0]), RepositoryFactory.discover(packageName));
+                ConsoleUtils.printFormatted("\t✅ Discovered %d repositories of package '%s'\n",
+                        scanned.size(), packageName);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            thread.setContextClassLoader(classLoader);
         }
     }
 
@@ -1,27 +1,95 @@
 package tests;
 
 import dimstyl.orm.configuration.DatabaseConfigurationFactory;
+import dimstyl.orm.configuration.SQLiteRuntime;
+import dimstyl.orm.criteria.Criteria;
+import dimstyl.orm.criteria.Order;
 import dimstyl.orm.enums.DatabaseEngine;
 import dimstyl.orm.enums.SqlOperation;
+import dimstyl.orm.exceptions.InvalidCriteriaException;
+import dimstyl.orm.exceptions.InvalidRepositoryException;
+import dimstyl.orm.exceptions.NonUniqueResultException;
+import dimstyl.orm.exceptions.QueryTimeoutException;
+import dimstyl.orm.exceptions.SqlExecutionException;
+import dimstyl.orm.internal.processors.MetadataRegistry;
 import dimstyl.orm.internal.processors.RepositoryProcessor;
+import dimstyl.orm.internal.processors.TableProcessor;
+import dimstyl.orm.internal.sql.execution.EntityRowMapper;
 import dimstyl.orm.internal.sql.execution.SqlQueryExecutor;
 import dimstyl.orm.internal.sql.generator.SqlQueryGenerator;
 import dimstyl.orm.internal.sql.generator.SqlQueryGeneratorFactory;
+import dimstyl.orm.internal.sql.resolver.ColumnTypeResolver;
+import dimstyl.orm.internal.sql.resolver.ColumnTypeResolverFactory;
 import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.EmbeddedMetadata;
+import dimstyl.orm.metadata.EntityMetadata;
 import dimstyl.orm.metadata.RepositoryMetadata;
+import dimstyl.orm.model.Entity;
+import dimstyl.orm.repository.RepositoryFactory;
+import dimstyl.orm.runtime.Deadline;
+import dimstyl.orm.runtime.LookupBatching;
+import entities.Customer;
+import entities.Purchase;
+import projections.CustomerPurchaseCount;
+import types.Address;
+import types.Dimensions;
+import types.EmailAddress;
+import types.HandlingFlags;
+import types.Money;
+import types.Shipment;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static dimstyl.orm.criteria.Criterion.anyOf;
+import static dimstyl.orm.criteria.Criterion.property;
+
 /**
  * Abstract test class for CRUD (Create, Read, Update, Delete) operations using ORM-based repository processing.
  * <p>
@@ -108,7 +176,8 @@ abstract class AbstractCrudTest extends AbstractTest {
         try (final var databaseConfiguration = DatabaseConfigurationFactory.getConfiguration(databaseEngine)) {
             databaseConfiguration.connect(databaseName, sqlOperation);
             final Connection connection = databaseConfiguration.getConnection();
-            final var resultList = SqlQueryExecutor.executeSelectAllQuery(selectAllQuery, connection, entityClass);
+            final var resultList =
+                    SqlQueryExecutor.executeSelectAllQuery(selectAllQuery, connection, entityClass, databaseEngine);
             ConsoleUtils.printFormatted("\tResult: %s\n", resultList);
         }
     }
@@ -142,7 +211,695 @@ abstract class AbstractCrudTest extends AbstractTest {
         try (final var databaseConfiguration = DatabaseConfigurationFactory.getConfiguration(databaseEngine)) {
             databaseConfiguration.connect(databaseName, sqlOperation);
             final Connection connection = databaseConfiguration.getConnection();
-            SqlQueryExecutor.executeDeleteByIdQuery(deleteByIdQuery, connection, id);
+            SqlQueryExecutor.executeDeleteByIdQuery(deleteByIdQuery, connection, id, databaseEngine);
+        }
+    }
+
+    /**
+     * Tests retrieval of a record by ID in a given repository.
+     *
+     * @param repositoryClass The repository class to test.
+     * @param id              The ID of an existing record.
+     */
+    static void findByIdTest(final Class<?> repositoryClass, final int id) {
+        // Process repository
+        ConsoleUtils.printFormatted("\n------ REPOSITORY PROCESSING PHASE ------\n");
+        final RepositoryMetadata repositoryMetadata = RepositoryProcessor.extractMetadata(repositoryClass);
+        final DatabaseEngine databaseEngine = repositoryMetadata.databaseEngine();
+
+        // Generate "FIND BY ID" query
+        ConsoleUtils.printFormatted("\n------ GENERATING \"FIND BY ID\" QUERY PHASE ------\n");
+        final SqlOperation sqlOperation = SqlOperation.FIND_BY_ID;
+        final SqlQueryGenerator<Optional<String>, RepositoryMetadata> findByIdQueryGenerator =
+                SqlQueryGeneratorFactory.getGenerator(sqlOperation);
+        final Optional<String> optionalFindByIdQuery = findByIdQueryGenerator.generate(repositoryMetadata);
+
+        if (optionalFindByIdQuery.isEmpty()) return;
+
+        final String findByIdQuery = optionalFindByIdQuery.get();
+        final String databaseName = repositoryMetadata.databaseName();
+        final var entityClass = repositoryMetadata.entityClass();
+
+        // Execute "FIND BY ID" query
+        ConsoleUtils.printFormatted("\n------ EXECUTING \"FIND BY ID\" QUERY PHASE ------\n");
+        try (final var databaseConfiguration = DatabaseConfigurationFactory.getConfiguration(databaseEngine)) {
+            databaseConfiguration.connect(databaseName, sqlOperation);
+            final Connection connection = databaseConfiguration.getConnection();
+            final Optional<?> result = SqlQueryExecutor.executeFindByIdQuery(findByIdQuery, connection, entityClass, id, databaseEngine);
+            ConsoleUtils.printFormatted("\tResult: %s\n", result);
+            assertTrue(result.isPresent());
+            assertTrue(SqlQueryExecutor.executeFindByIdQuery(findByIdQuery, connection, entityClass, -1, databaseEngine).isEmpty());
+        }
+    }
+
+    /**
+     * Tests retrieval and deletion through a repository proxy created by {@link RepositoryFactory}.
+     * <p>
+     * Deleting an existing record through the proxy must remove exactly one record from the retrieved ones.
+     * </p>
+     *
+     * @param findAll    The proxy's method retrieving all records.
+     * @param deleteById The proxy's method deleting a record by ID.
+     * @param id         The ID of an existing record to delete.
+     */
+    static void repositoryProxyTest(final Supplier<List<?>> findAll, final IntConsumer deleteById, final int id) {
+        ConsoleUtils.printFormatted("\n------ INVOKING REPOSITORY PROXY PHASE ------\n");
+        final List<?> before = findAll.get();
+        deleteById.accept(id);
+        final List<?> after = findAll.get();
+        ConsoleUtils.printFormatted("\tResult: %s\n", after);
+        assertEquals(before.size() - 1, after.size());
+    }
+
+    /**
+     * Tests the query methods a customer repository proxy inherits from a parent interface.
+     * <p>
+     * The inherited derived, native and aggregate methods must agree with the retrieved customers.
+     * The seeded customer {@code john doe} is never deleted by the other tests.
+     * </p>
+     *
+     * @param findAll           The proxy's own method retrieving all customers.
+     * @param findByLastName    The proxy's inherited method retrieving customers by last name.
+     * @param searchByFirstName The proxy's inherited method retrieving customers by first name.
+     * @param maxId             The proxy's inherited method finding the largest customer ID.
+     */
+    static void inheritedQueryMethodTest(final Supplier<List<Customer>> findAll,
+                                         final Function<String, List<Customer>> findByLastName,
+                                         final Function<String, List<Customer>> searchByFirstName,
+                                         final IntSupplier maxId) {
+        ConsoleUtils.printFormatted("\n------ INVOKING INHERITED QUERY METHODS PHASE ------\n");
+        final List<Customer> customers = findAll.get();
+        final Customer johnDoe = customers.stream().filter(customer -> customer.getId() == 2).findFirst().orElseThrow();
+
+        final List<String> expected = List.of(johnDoe.toString());
+        assertEquals(expected, findByLastName.apply("doe").stream().map(Customer::toString).toList());
+        assertEquals(expected, searchByFirstName.apply("john").stream().map(Customer::toString).toList());
+        assertEquals(customers.stream().mapToInt(Customer::getId).max().orElseThrow(), maxId.getAsInt());
+    }
+
+    /**
+     * Tests the derived query methods of a customer repository proxy.
+     * <p>
+     * The seeded customer {@code john doe} is inactive and never deleted by the other tests.
+     * </p>
+     *
+     * @param findByEmail             The proxy's method retrieving a customer by email.
+     * @param findByActiveAndLastName The proxy's method retrieving customers by activity and last name.
+     */
+    static void derivedQueryTest(final Function<String, Optional<?>> findByEmail,
+                                 final BiFunction<Boolean, String, List<?>> findByActiveAndLastName) {
+        ConsoleUtils.printFormatted("\n------ INVOKING DERIVED QUERY METHODS PHASE ------\n");
+        final Optional<?> customer = findByEmail.apply("johndoe@email.com");
+        ConsoleUtils.printFormatted("\tResult: %s\n", customer);
+        assertTrue(customer.isPresent());
+        assertTrue(findByEmail.apply("nobody@email.com").isEmpty());
+        assertEquals(1, findByActiveAndLastName.apply(false, "doe").size());
+        assertTrue(findByActiveAndLastName.apply(true, "doe").isEmpty());
+    }
+
+    /**
+     * Tests that a derived query method returning an {@link Optional} fails when several rows match.
+     * <p>
+     * The seeded customers {@code 1} and {@code 2} are never deleted by the other tests.
+     * </p>
+     *
+     * @param findByIdLessThan The proxy's method retrieving the only customer with an ID below the given one.
+     */
+    static void uniqueResultTest(final IntFunction<Optional<Customer>> findByIdLessThan) {
+        ConsoleUtils.printFormatted("\n------ INVOKING SINGLE RESULT DERIVED QUERY METHOD PHASE ------\n");
+        assertEquals(1, findByIdLessThan.apply(2).orElseThrow().getId());
+        assertTrue(findByIdLessThan.apply(1).isEmpty());
+        assertThrows(NonUniqueResultException.class, () -> findByIdLessThan.apply(3));
+    }
+
+    /**
+     * Tests retrieval of records by ID through a repository proxy.
+     *
+     * @param findById The proxy's method retrieving a record by ID.
+     * @param id       The ID of an existing record.
+     */
+    static void findByIdProxyTest(final IntFunction<Optional<?>> findById, final int id) {
+        ConsoleUtils.printFormatted("\n------ INVOKING REPOSITORY PROXY PHASE ------\n");
+        final Optional<?> result = findById.apply(id);
+        ConsoleUtils.printFormatted("\tResult: %s\n", result);
+        assertTrue(result.isPresent());
+        assertEquals(result.toString(), findById.apply(id).toString());
+        assertTrue(findById.apply(-1).isEmpty());
+    }
+
+    /**
+     * Tests retrieval of records by a collection of IDs through a repository proxy.
+     * <p>
+     * The collections are sized so that each fetching strategy is used: a single {@code IN} list,
+     * chunked {@code IN} lists, and a temporary table, which is reused by the second call on the same connection.
+     * Negative IDs match no record.
+     * </p>
+     *
+     * @param findAllById The proxy's method retrieving the records matching a collection of IDs.
+     * @param findById    The proxy's method retrieving a record by ID.
+     * @param id          The ID of an existing record, never deleted by the other tests.
+     */
+    static void findAllByIdProxyTest(final Function<Collection<Integer>, List<?>> findAllById,
+                                     final IntFunction<Optional<?>> findById,
+                                     final int id) {
+        ConsoleUtils.printFormatted("\n------ INVOKING FIND ALL BY ID PHASE ------\n");
+        final String expected = findById.apply(id).orElseThrow().toString();
+
+        assertTrue(findAllById.apply(List.of()).isEmpty());
+        final List<?> result = findAllById.apply(List.of(id, -1, id));
+        ConsoleUtils.printFormatted("\tResult: %s\n", result);
+        assertEquals(List.of(expected, expected), result.stream().map(Object::toString).toList());
+
+        for (final int size : new int[]{300, 3_000, 3_000}) {
+            final List<Integer> ids = new ArrayList<>(IntStream.rangeClosed(1, size).map(i -> -i).boxed().toList());
+            ids.add(size / 2, id);
+            final List<?> found = findAllById.apply(ids);
+            assertEquals(1, found.size());
+            assertEquals(expected, found.getFirst().toString());
+        }
+    }
+
+    /**
+     * Tests the loading of the associations between customers and purchases through repository proxies.
+     * <p>
+     * All seeded purchases belong to customer {@code 1}, which is never deleted, while customer {@code 2}
+     * has no purchases. Each side of an association must be loaded in one batch, so the purchases of a customer
+     * point back to the very same customer instance.
+     * </p>
+     *
+     * @param findAllCustomers          The proxy's method retrieving all customers.
+     * @param findPurchasesByCustomerId The proxy's method retrieving the purchases of a customer.
+     */
+    static void associationTest(final Supplier<List<Customer>> findAllCustomers,
+                                final IntFunction<List<Purchase>> findPurchasesByCustomerId) {
+        ConsoleUtils.printFormatted("\n------ LOADING ASSOCIATIONS PHASE ------\n");
+        final List<Purchase> purchases = findPurchasesByCustomerId.apply(1);
+        ConsoleUtils.printFormatted("\tResult: %s\n", purchases);
+        assertFalse(purchases.isEmpty());
+        final Customer owner = purchases.getFirst().getCustomer();
+        assertNotNull(owner);
+        assertEquals(1, owner.getId());
+        for (final Purchase purchase : purchases) assertSame(owner, purchase.getCustomer());
+
+        final List<Customer> customers = findAllCustomers.get();
+        final Customer customer = customers.stream().filter(c -> c.getId() == 1).findFirst().orElseThrow();
+        assertEquals(purchases.size(), customer.getPurchases().size());
+        for (final Purchase purchase : customer.getPurchases()) {
+            assertEquals(1, purchase.getCustomerId());
+            assertSame(customer, purchase.getCustomer());
+        }
+        assertThrows(UnsupportedOperationException.class, () -> customer.getPurchases().clear());
+
+        final Customer withoutPurchases = customers.stream().filter(c -> c.getId() == 2).findFirst().orElseThrow();
+        assertTrue(withoutPurchases.getPurchases().isEmpty());
+    }
+
+    /**
+     * Tests the cascading insertion of a customer along with its purchases through a repository proxy.
+     * <p>
+     * The inserted purchases only reference their customer as an object, so their foreign keys must be set
+     * from it, and there are enough of them to span several JDBC batches. A second graph reusing the ID of
+     * a seeded purchase must fail as a whole, without inserting its customer. The inserted records are deleted
+     * afterwards, so the other tests only ever see the seeded data.
+     * </p>
+     *
+     * @param databaseName   The name of the database, used to delete the inserted records.
+     * @param databaseEngine The {@link DatabaseEngine} of the database.
+     * @param persistAll     The proxy's method inserting customers with their purchases.
+     * @param persist        The proxy's method inserting a customer with its purchases.
+     * @param findById       The proxy's method retrieving a customer by ID.
+     * @throws SQLException If the inserted records cannot be deleted.
+     */
+    static void persistTest(final String databaseName,
+                            final DatabaseEngine databaseEngine,
+                            final ToIntFunction<Collection<Customer>> persistAll,
+                            final Consumer<Customer> persist,
+                            final IntFunction<Optional<Customer>> findById) throws SQLException {
+        ConsoleUtils.printFormatted("\n------ PERSISTING OBJECT GRAPH PHASE ------\n");
+        final int purchaseCount = 2_500;
+        try {
+            final Customer customer = newCustomer(10, IntStream.range(0, purchaseCount).map(i -> 1_000 + i).toArray());
+            assertEquals(1 + purchaseCount, persistAll.applyAsInt(List.of(customer)));
+
+            final Customer persisted = findById.apply(10).orElseThrow();
+            assertEquals(customer.getEmail(), persisted.getEmail());
+            assertEquals(purchaseCount, persisted.getPurchases().size());
+            for (final Purchase purchase : persisted.getPurchases()) {
+                assertEquals(10, purchase.getCustomerId());
+                assertSame(persisted, purchase.getCustomer());
+            }
+
+            assertThrows(SqlExecutionException.class, () -> persist.accept(newCustomer(11, 5_000, 9)));
+            assertTrue(findById.apply(11).isEmpty());
+        } finally {
+            try (final Connection connection = DriverManager.getConnection(
+                    buildConnectionString(databaseName, databaseEngine))) {
+                executeQuery("DELETE FROM PURCHASE WHERE CUSTOMER_ID IN (10, 11)", connection);
+                executeQuery("DELETE FROM CUSTOMER WHERE ID IN (10, 11)", connection);
+            }
+        }
+    }
+
+    /**
+     * Creates a new customer with new purchases, which only reference the customer as an object.
+     *
+     * @param id          The ID of the customer.
+     * @param purchaseIds The IDs of the purchases.
+     * @return The new {@link Customer}.
+     */
+    static Customer newCustomer(final int id, final int... purchaseIds) {
+        final Customer customer = new Customer();
+        customer.setId(id);
+        customer.setFirstName("ada");
+        customer.setLastName("lovelace");
+        customer.setEmail(String.format("adalovelace%d@email.com", id));
+        customer.setActive(true);
+
+        final List<Purchase> purchases = new ArrayList<>();
+        for (final int purchaseId : purchaseIds) {
+            final Purchase purchase = new Purchase();
+            purchase.setId(purchaseId);
+            purchase.setCreatedAt(String.format("2030-01-01 00:00:00.%09d", purchaseId));
+            purchases.add(purchase);
+        }
+        customer.setPurchases(purchases);
+        return customer;
+    }
+
+    /**
+     * Tests the micro-batched lookups of a customer repository proxy.
+     * <p>
+     * Concurrent lookups through the annotated method, and through the plain method within a
+     * {@link LookupBatching} scope, must return the same customers as sequential lookups, the concurrent lookups
+     * of one ID sharing a single instance. A lookup waiting for its batch must still honor its deadline, without
+     * cancelling the lookups of the callers sharing its batch.
+     * The seeded customer {@code 2} is never deleted by the other tests.
+     * </p>
+     *
+     * @param findByIdBatched The proxy's method retrieving a customer by ID, annotated with {@code @BatchLookups}.
+     * @param findById        The proxy's method retrieving a customer by ID.
+     */
+    static void batchedLookupTest(final IntFunction<Optional<Customer>> findByIdBatched,
+                                  final IntFunction<Optional<Customer>> findById) {
+        ConsoleUtils.printFormatted("\n------ BATCHING LOOKUPS PHASE ------\n");
+        final int[] ids = IntStream.range(0, 64).map(i -> i % 2 == 0 ? 2 : -i).toArray();
+
+        final List<Optional<Customer>> batched = lookUpConcurrently(findByIdBatched, ids);
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(findById.apply(ids[i]).toString(), batched.get(i).toString());
+        }
+
+        final List<Optional<Customer>> scoped =
+                LookupBatching.call(Duration.ofMillis(200), () -> lookUpConcurrently(findById, ids));
+        final Customer customer = scoped.getFirst().orElseThrow();
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == 2) assertSame(customer, scoped.get(i).orElseThrow());
+            else assertTrue(scoped.get(i).isEmpty());
+        }
+
+        assertThrows(QueryTimeoutException.class, () -> LookupBatching.call(Duration.ofMillis(300),
+                () -> Deadline.call(Duration.ofMillis(1), () -> findById.apply(2))));
+
+        final List<Future<Optional<Customer>>> mixed = LookupBatching.call(Duration.ofMillis(300), () -> {
+            try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                return List.of(
+                        executor.submit(() -> Deadline.call(Duration.ofMillis(50), () -> findById.apply(2))),
+                        executor.submit(() -> findById.apply(2)));
+            }
+        });
+        assertInstanceOf(QueryTimeoutException.class, mixed.getFirst().exceptionNow());
+        assertEquals(customer.toString(), mixed.getLast().resultNow().orElseThrow().toString());
+    }
+
+    /**
+     * Looks up the given IDs concurrently, one virtual thread per lookup.
+     *
+     * @param findById The proxy's method retrieving a customer by ID.
+     * @param ids      The IDs to look up.
+     * @return The results of the lookups, in the order of the IDs.
+     */
+    private static List<Optional<Customer>> lookUpConcurrently(final IntFunction<Optional<Customer>> findById,
+                                                               final int[] ids) {
+        final List<Future<Optional<Customer>>> lookups;
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            lookups = IntStream.of(ids).mapToObj(id -> executor.submit(() -> findById.apply(id))).toList();
+        }
+        return lookups.stream().map(Future::resultNow).toList();
+    }
+
+    /**
+     * Tests the count, existence and aggregate methods of a purchase repository proxy.
+     * <p>
+     * The results must agree with the retrieved purchases, whichever of them were deleted by the other tests.
+     * The seeded purchase {@code 9}, the one with the largest ID, is never deleted, and all seeded purchases
+     * belong to customer {@code 1}.
+     * </p>
+     *
+     * @param findAll           The proxy's method retrieving all purchases.
+     * @param count             The proxy's method counting the purchases.
+     * @param existsById        The proxy's method checking whether a purchase exists by ID.
+     * @param maxId             The proxy's method finding the largest purchase ID.
+     * @param sumOfIds          The proxy's method summing the purchase IDs.
+     * @param averageId         The proxy's method averaging the purchase IDs.
+     * @param countByCustomerId The proxy's method counting the purchases of each customer.
+     */
+    static void aggregateTest(final Supplier<List<?>> findAll,
+                              final LongSupplier count,
+                              final IntPredicate existsById,
+                              final IntSupplier maxId,
+                              final LongSupplier sumOfIds,
+                              final DoubleSupplier averageId,
+                              final Supplier<Map<Integer, Long>> countByCustomerId) {
+        ConsoleUtils.printFormatted("\n------ INVOKING AGGREGATE METHODS PHASE ------\n");
+        final long purchases = count.getAsLong();
+        ConsoleUtils.printFormatted("\tResult: %d purchases, grouped %s\n", purchases, countByCustomerId.get());
+        assertEquals(findAll.get().size(), purchases);
+        assertTrue(existsById.test(9));
+        assertFalse(existsById.test(-1));
+        assertEquals(9, maxId.getAsInt());
+        assertEquals(sumOfIds.getAsLong(), Math.round(averageId.getAsDouble() * purchases));
+        assertEquals(Map.of(1, purchases), countByCustomerId.get());
+    }
+
+    /**
+     * Tests the criteria query method of a customer repository proxy.
+     * <p>
+     * The seeded customer {@code john doe} is inactive and never deleted by the other tests. Criteria differing
+     * only in their values, or in the number of {@code IN} values within the same power of two, share a shape.
+     * </p>
+     *
+     * @param findMatching The proxy's method retrieving the customers matching a criteria.
+     */
+    static void criteriaTest(final Function<Criteria<Customer>, List<Customer>> findMatching) {
+        ConsoleUtils.printFormatted("\n------ INVOKING CRITERIA QUERY METHODS PHASE ------\n");
+        final Criteria<Customer> customers = Criteria.from(Customer.class);
+
+        final List<Customer> result = findMatching.apply(customers.where(property("lastName").eq("doe")));
+        ConsoleUtils.printFormatted("\tResult: %s\n", result);
+        assertEquals(1, result.size());
+        assertTrue(findMatching.apply(customers.where(property("lastName").eq("nobody"))).isEmpty());
+        assertEquals(1, findMatching.apply(customers.where(property("lastName").in("doe", "nobody", "smith"))).size());
+        assertEquals(1, findMatching.apply(customers.where(
+                property("email").like("%doe%").and(property("active").eq(false)))).size());
+        assertEquals(1, findMatching.apply(customers
+                .where(anyOf(property("firstName").eq("john"), property("lastName").isNull().and(property("id").gt(0))))
+                .orderBy(Order.desc("email"), Order.asc("id"))
+                .limit(1)
+                .offset(0)).size());
+        assertTrue(findMatching.apply(customers.where(property("lastName").eq("doe")).offset(1)).isEmpty());
+        assertTrue(findMatching.apply(customers.limit(0)).isEmpty());
+
+        assertEquals(customers.where(property("lastName").eq("doe")).shape(),
+                customers.where(property("lastName").eq("marley")).shape());
+        assertEquals(customers.where(property("id").in(1, 2, 3)).shape(),
+                customers.where(property("id").in(1, 2, 3, 4)).shape());
+        assertNotEquals(customers.where(property("id").in(1, 2, 3, 4)).shape(),
+                customers.where(property("id").in(1, 2, 3, 4, 5)).shape());
+
+        assertThrows(InvalidCriteriaException.class, () ->
+                findMatching.apply(customers.where(property("nickname").eq("johnny"))));
+        assertThrows(InvalidCriteriaException.class, () ->
+                findMatching.apply(customers.where(property("active").eq("yes"))));
+    }
+
+    /**
+     * Tests the native query methods of a customer repository proxy.
+     * <p>
+     * The seeded customer {@code john doe} has no purchases and is never deleted by the other tests.
+     * </p>
+     *
+     * @param countPurchasesByEmail The proxy's method joining a customer with the number of their purchases.
+     */
+    static void nativeQueryTest(final Function<String, Optional<CustomerPurchaseCount>> countPurchasesByEmail) {
+        ConsoleUtils.printFormatted("\n------ INVOKING NATIVE QUERY METHODS PHASE ------\n");
+        final Optional<CustomerPurchaseCount> result = countPurchasesByEmail.apply("johndoe@email.com");
+        ConsoleUtils.printFormatted("\tResult: %s\n", result);
+        assertEquals(Optional.of(new CustomerPurchaseCount("johndoe@email.com", 0)), result);
+        assertTrue(countPurchasesByEmail.apply("nobody@email.com").isEmpty());
+    }
+
+    /**
+     * Tests native query methods binding a named parameter to several placeholders, and native updates.
+     *
+     * @param searchByName      The proxy's method retrieving customers by first or last name.
+     * @param deactivateByEmail The proxy's method deactivating a customer by email.
+     */
+    static void nativeUpdateTest(final Function<String, List<?>> searchByName,
+                                 final ToIntFunction<String> deactivateByEmail) {
+        ConsoleUtils.printFormatted("\n------ INVOKING NATIVE UPDATE METHODS PHASE ------\n");
+        assertEquals(1, searchByName.apply("john").size());
+        assertEquals(1, searchByName.apply("doe").size());
+        assertTrue(searchByName.apply("nobody").isEmpty());
+        assertEquals(1, deactivateByEmail.applyAsInt("johndoe@email.com"));
+        assertEquals(0, deactivateByEmail.applyAsInt("nobody@email.com"));
+    }
+
+    /**
+     * Tests that creating a proxy of an invalid repository fails.
+     *
+     * @param repositoryClass The invalid repository class.
+     */
+    static void invalidRepositoryTest(final Class<?> repositoryClass) {
+        final var exception = assertThrows(InvalidRepositoryException.class, () ->
+                RepositoryFactory.create(repositoryClass));
+        ConsoleUtils.printFormatted("\tERROR: %s\n", exception.getMessage());
+    }
+
+    /**
+     * Tests that the metadata of a repository and of its entity is computed once and shared.
+     * <p>
+     * Extracting the metadata again must return the cached instances, which must be immutable,
+     * while an invalid repository must keep failing rather than being cached.
+     * </p>
+     *
+     * @param repositoryClass        The repository class to test.
+     * @param invalidRepositoryClass An invalid repository class.
+     */
+    static void metadataRegistryTest(final Class<?> repositoryClass, final Class<?> invalidRepositoryClass) {
+        final RepositoryMetadata repositoryMetadata = RepositoryProcessor.extractMetadata(repositoryClass);
+        assertSame(repositoryMetadata, RepositoryProcessor.extractMetadata(repositoryClass));
+        assertThrows(UnsupportedOperationException.class,
+                () -> repositoryMetadata.supportedOperations().add(SqlOperation.PERSIST));
+
+        final Class<? extends Entity> entityClass = repositoryMetadata.entityClass();
+        final EntityMetadata entityMetadata = MetadataRegistry.entity(entityClass);
+        assertSame(entityMetadata, MetadataRegistry.entity(entityClass));
+        assertSame(entityMetadata.fieldToColumnMap(), TableProcessor.mapFieldsToColumns(entityClass));
+        assertEquals(entityMetadata.columnNames(), TableProcessor.resolveColumnNames(entityClass));
+        assertEquals(entityMetadata.primaryKeyFields().getFirst(), TableProcessor.resolvePrimaryKeyField(entityClass));
+        assertThrows(UnsupportedOperationException.class, () -> entityMetadata.fieldToColumnMap().put("x", "x"));
+        final DatabaseEngine databaseEngine = repositoryMetadata.databaseEngine();
+        assertSame(EntityRowMapper.of(entityClass, databaseEngine), EntityRowMapper.of(entityClass, databaseEngine));
+        assertSame(EntityRowMapper.indexed(entityClass, databaseEngine),
+                EntityRowMapper.indexed(entityClass, databaseEngine));
+
+        assertThrows(InvalidRepositoryException.class, () -> RepositoryProcessor.extractMetadata(invalidRepositoryClass));
+        assertThrows(InvalidRepositoryException.class, () -> RepositoryProcessor.extractMetadata(invalidRepositoryClass));
+    }
+
+    /**
+     * Tests that every richer column type, converted value type and embedded value type is stored and read back
+     * unchanged on a database engine.
+     * <p>
+     * The {@link Shipment} table is created from the types resolved for the engine, a fully populated and an empty
+     * shipment are inserted through the column codecs, and both are read back through the row mappers, after which
+     * the table is dropped. The converted values must be stored as the primitives or strings of their converters,
+     * and the embedded values flattened into prefixed columns following the entity's own columns.
+     * </p>
+     *
+     * @param databaseName   The name of the database.
+     * @param databaseEngine The {@link DatabaseEngine} to be used.
+     * @throws SQLException           If an error occurs while executing SQL queries.
+     * @throws IllegalAccessException If a field of the shipment cannot be read.
+     */
+    static void columnTypesTest(final String databaseName, final DatabaseEngine databaseEngine)
+            throws SQLException, IllegalAccessException {
+        final ColumnTypeResolver resolver = ColumnTypeResolverFactory.getResolver(databaseEngine);
+        final Map<String, String> fieldToColumnMap = TableProcessor.mapFieldsToColumns(Shipment.class);
+        final List<Field> fields = TableProcessor.resolveColumnFields(Shipment.class);
+        final List<String> columnDefinitions = new ArrayList<>();
+        for (final Field field : fields) {
+            columnDefinitions.add(fieldToColumnMap.get(field.getName()) + " " + resolver.resolve(field));
+        }
+        final List<EmbeddedMetadata> embeddedFields = TableProcessor.resolveEmbeddedFields(Shipment.class);
+        for (final EmbeddedMetadata embedded : embeddedFields) {
+            for (int i = 0; i < embedded.columnFields().size(); i++) {
+                columnDefinitions.add(
+                        embedded.columnNames().get(i) + " " + resolver.resolve(embedded.columnFields().get(i)));
+            }
+        }
+        final String createTableQuery = String.format("CREATE TABLE shipment (%s, PRIMARY KEY (id))",
+                String.join(", ", columnDefinitions));
+        ConsoleUtils.printFormatted("\tQuery: %s\n", createTableQuery);
+        if (databaseEngine != DatabaseEngine.SQLITE) {
+            assertTrue(createTableQuery.contains("tracking_code VARCHAR(32)"));
+            assertTrue(createTableQuery.contains("weight DECIMAL(10, 3)"));
+            assertTrue(createTableQuery.contains("carrier VARCHAR(3)"));
+            assertTrue(createTableQuery.contains("price BIGINT"));
+            assertTrue(createTableQuery.contains("recipient_email VARCHAR(128)"));
+            assertTrue(createTableQuery.contains("ship_to_postal_code VARCHAR(10)"));
+        } else {
+            assertTrue(createTableQuery.contains("price INTEGER"));
+            assertTrue(createTableQuery.contains("recipient_email TEXT"));
+        }
+        assertTrue(createTableQuery.contains("handling INTEGER"));
+        assertTrue(createTableQuery.contains("dimensions_length INTEGER"));
+        assertEquals("ship_to_city", fieldToColumnMap.get("destination.city"));
+
+        final Shipment shipment = new Shipment();
+        shipment.setId(1);
+        shipment.setTrackingCode("TRK-0001");
+        shipment.setWeight(new BigDecimal("2.500"));
+        shipment.setShippedOn(LocalDate.of(2025, 1, 31));
+        shipment.setDeliveredAt(Instant.ofEpochMilli(1_738_400_000_123L));
+        shipment.setReference(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        shipment.setStatus(Shipment.Status.DELIVERED);
+        shipment.setCarrier(Shipment.Carrier.COURIER);
+        shipment.setLabel(new byte[]{0, 1, 127, -128, -1});
+        shipment.setPrice(new Money(1_999));
+        shipment.setRecipientEmail(new EmailAddress("johndoe@email.com"));
+        shipment.setHandling(new HandlingFlags(HandlingFlags.FRAGILE | HandlingFlags.SIGNATURE_REQUIRED));
+        shipment.setDestination(new Address(null, "Piraeus", "185 34"));
+        shipment.setDimensions(new Dimensions(40, 30, 20));
+        final Shipment emptyShipment = new Shipment();
+        emptyShipment.setId(2);
+
+        final String insertQuery = String.format("INSERT INTO shipment (%s) VALUES (%s)",
+                String.join(", ", TableProcessor.resolveColumnNames(Shipment.class)),
+                String.join(", ", Collections.nCopies(columnDefinitions.size(), "?")));
+        final String findByIdQuery = "SELECT * FROM shipment WHERE id = ?";
+        try (final Connection connection =
+                     DriverManager.getConnection(buildConnectionString(databaseName, databaseEngine))) {
+            executeQuery(createTableQuery, connection);
+            try {
+                try (final PreparedStatement statement = connection.prepareStatement(insertQuery)) {
+                    for (final Shipment row : List.of(shipment, emptyShipment)) {
+                        int parameterIndex = 0;
+                        for (final Field field : fields) {
+                            field.setAccessible(true);
+                            resolver.resolveCodec(field).bind(statement, ++parameterIndex, field.get(row));
+                        }
+                        for (final EmbeddedMetadata embedded : embeddedFields) {
+                            embedded.field().setAccessible(true);
+                            final Object value = embedded.field().get(row);
+                            for (final Field field : embedded.columnFields()) {
+                                field.setAccessible(true);
+                                resolver.resolveCodec(field)
+                                        .bind(statement, ++parameterIndex, value == null ? null : field.get(value));
+                            }
+                        }
+                        statement.executeUpdate();
+                    }
+                }
+
+                final Shipment result = SqlQueryExecutor.executeFindByIdQuery(
+                        findByIdQuery, connection, Shipment.class, 1, databaseEngine).orElseThrow();
+                ConsoleUtils.printFormatted("\tResult: %s\n", result);
+                assertEquals(shipment.getTrackingCode(), result.getTrackingCode());
+                assertEquals(shipment.getWeight(), result.getWeight());
+                assertEquals(shipment.getShippedOn(), result.getShippedOn());
+                assertEquals(shipment.getDeliveredAt(), result.getDeliveredAt());
+                assertEquals(shipment.getReference(), result.getReference());
+                assertEquals(shipment.getStatus(), result.getStatus());
+                assertEquals(shipment.getCarrier(), result.getCarrier());
+                assertArrayEquals(shipment.getLabel(), result.getLabel());
+                assertEquals(shipment.getPrice(), result.getPrice());
+                assertEquals(shipment.getRecipientEmail(), result.getRecipientEmail());
+                assertEquals(shipment.getHandling(), result.getHandling());
+                assertEquals(shipment.getDestination(), result.getDestination());
+                assertEquals(shipment.getDimensions(), result.getDimensions());
+
+                final Shipment emptyResult = SqlQueryExecutor.executeFindByIdQuery(
+                        findByIdQuery, connection, Shipment.class, 2, databaseEngine).orElseThrow();
+                assertNull(emptyResult.getWeight());
+                assertNull(emptyResult.getShippedOn());
+                assertNull(emptyResult.getDeliveredAt());
+                assertNull(emptyResult.getReference());
+                assertNull(emptyResult.getStatus());
+                assertNull(emptyResult.getCarrier());
+                assertNull(emptyResult.getLabel());
+                assertNull(emptyResult.getPrice());
+                assertNull(emptyResult.getRecipientEmail());
+                assertNull(emptyResult.getHandling());
+                assertNull(emptyResult.getDestination());
+                assertNull(emptyResult.getDimensions());
+            } finally {
+                executeQuery("DROP TABLE shipment", connection);
+            }
+        }
+    }
+
+    /**
+     * Tests concurrent retrieval and deletion through the SQLite single-writer runtime.
+     * <p>
+     * Several readers retrieve all records concurrently through the read-only connection pool,
+     * while a record is deleted by ID through the writer queue. Both kinds of connection must run in the
+     * WAL journal mode of the runtime's tuning profile, every reader must retrieve records, the seeded purchase
+     * {@code 9} never being deleted by the other tests, and the record must be gone once the write completed.
+     * </p>
+     *
+     * @param repositoryClass The SQLite repository class to test.
+     * @param id              The ID of the record to delete.
+     * @param existsById      The proxy's method checking whether a record exists by its ID.
+     */
+    static void sqliteRuntimeTest(final Class<?> repositoryClass, final int id, final IntPredicate existsById) {
+        // Process repository
+        ConsoleUtils.printFormatted("\n------ REPOSITORY PROCESSING PHASE ------\n");
+        final RepositoryMetadata repositoryMetadata = RepositoryProcessor.extractMetadata(repositoryClass);
+
+        // Generate "SELECT ALL" and "DELETE BY ID" queries
+        ConsoleUtils.printFormatted("\n------ GENERATING QUERIES PHASE ------\n");
+        final SqlQueryGenerator<Optional<String>, RepositoryMetadata> selectAllQueryGenerator =
+                SqlQueryGeneratorFactory.getGenerator(SqlOperation.SELECT_ALL);
+        final SqlQueryGenerator<Optional<String>, RepositoryMetadata> deleteByIdQueryGenerator =
+                SqlQueryGeneratorFactory.getGenerator(SqlOperation.DELETE_BY_ID);
+        final String selectAllQuery = selectAllQueryGenerator.generate(repositoryMetadata).orElseThrow();
+        final String deleteByIdQuery = deleteByIdQueryGenerator.generate(repositoryMetadata).orElseThrow();
+
+        final var entityClass = repositoryMetadata.entityClass();
+        final SQLiteRuntime sqliteRuntime =
+                DatabaseConfigurationFactory.getSQLiteRuntime(repositoryMetadata.databaseName());
+
+        // Check the pragmas of both kinds of connection
+        ConsoleUtils.printFormatted("\n------ CHECKING PRAGMAS PHASE ------\n");
+        assertEquals("wal", sqliteRuntime.read(AbstractCrudTest::queryJournalMode));
+        assertEquals("wal", sqliteRuntime.write(AbstractCrudTest::queryJournalMode));
+
+        // Execute the queries concurrently
+        ConsoleUtils.printFormatted("\n------ EXECUTING QUERIES CONCURRENTLY PHASE ------\n");
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<List<? extends Entity>>> reads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                reads.add(executor.submit(() -> sqliteRuntime.read(connection ->
+                        SqlQueryExecutor.executeSelectAllQuery(selectAllQuery, connection, entityClass,
+                                DatabaseEngine.SQLITE))
+                ));
+            }
+            final Future<?> write = executor.submit(() -> sqliteRuntime.write(connection -> {
+                SqlQueryExecutor.executeDeleteByIdQuery(deleteByIdQuery, connection, id, DatabaseEngine.SQLITE);
+                return null;
+            }));
+            for (final Future<List<? extends Entity>> read : reads) assertFalse(read.get().isEmpty());
+            write.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+        assertFalse(existsById.test(id));
+    }
+
+    /**
+     * Queries the journal mode of an SQLite connection.
+     *
+     * @param connection The SQLite connection.
+     * @return The journal mode, in lower case.
+     */
+    private static String queryJournalMode(final Connection connection) {
+        try (final Statement statement = connection.createStatement();
+             final var resultSet = statement.executeQuery("PRAGMA journal_mode")) {
+            assertTrue(resultSet.next());
+            return resultSet.getString(1).toLowerCase();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
         }
     }
 
@@ -153,7 +910,7 @@ abstract class AbstractCrudTest extends AbstractTest {
      * @param databaseEngine The {@link DatabaseEngine} to be used.
      * @return The connection string for the specified database.
      */
-    private static String buildConnectionString(final String databaseName, final DatabaseEngine databaseEngine) {
+    static String buildConnectionString(final String databaseName, final DatabaseEngine databaseEngine) {
         String projectRoot = Paths.get("").toAbsolutePath().toString();
         return switch (databaseEngine) {
             case DERBY -> String.format("jdbc:derby:%s/db/derby/%s.db", projectRoot, databaseName);
@@ -169,7 +926,7 @@ abstract class AbstractCrudTest extends AbstractTest {
      * @param connection The database connection.
      * @throws SQLException If an error occurs while executing the query.
      */
-    private static void executeQuery(final String query, final Connection connection) throws SQLException {
+    static void executeQuery(final String query, final Connection connection) throws SQLException {
         try (final Statement statement = connection.createStatement()) {
             statement.executeUpdate(query);
         }
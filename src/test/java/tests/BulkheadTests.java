@@ -0,0 +1,90 @@
+package tests;
+
+import databases.SQLiteDatabase;
+import dimstyl.orm.configuration.DatabaseConfigurationFactory;
+import dimstyl.orm.configuration.SQLiteRuntime;
+import dimstyl.orm.exceptions.BulkheadRejectedException;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.repository.RepositoryFactory;
+import dimstyl.orm.runtime.BulkheadMetrics;
+import dimstyl.orm.runtime.Bulkheads;
+import dimstyl.orm.runtime.OperationBulkhead;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test suite for the bulkheads of repository operations.
+ * <p>
+ * Operations are invoked through repository proxies, which admit them through the bulkheads of their repository
+ * and database.
+ * </p>
+ */
+public class BulkheadTests extends AbstractTest {
+
+    /**
+     * Creates the tables of the SQLite database, unless they are already up to date.
+     */
+    @BeforeAll
+    static void beforeAll() {
+        AbstractCreateTableTest.createDatabaseTest(SQLiteDatabase.class);
+    }
+
+    /**
+     * Simulates an operation on the SQLite customers while the repository's fail-fast bulkhead is saturated.
+     * <p>
+     * A deletion holds the repository's only permit while it is queued behind a busy writer, until a retrieval
+     * of all customers has been rejected.
+     * </p>
+     */
+    @Test
+    void bulkheadFailFastSqliteTest() throws InterruptedException {
+        final var customerRepository = RepositoryFactory.create(repositories.sqlite.CustomerRepository.class);
+        final OperationBulkhead bulkhead =
+                Bulkheads.findRepositoryBulkhead(repositories.sqlite.CustomerRepository.class).orElseThrow();
+        final long rejectedBefore = bulkhead.metrics().rejected();
+        final SQLiteRuntime sqliteRuntime = DatabaseConfigurationFactory.getSQLiteRuntime("sqliteDB");
+        final CountDownLatch writerBusy = new CountDownLatch(1);
+        final CountDownLatch releaseWriter = new CountDownLatch(1);
+
+        ConsoleUtils.printFormatted("\n------ EXECUTING OPERATIONS THROUGH THE BULKHEAD PHASE ------\n");
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final Future<?> blockingWrite = executor.submit(() -> sqliteRuntime.write(connection -> {
+                writerBusy.countDown();
+                try {
+                    releaseWriter.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }));
+            writerBusy.await();
+
+            final Future<?> holder = executor.submit(() -> customerRepository.deleteBydId(-1));
+            for (int i = 0; i < 5_000 && bulkhead.metrics().inFlight() == 0; i++) Thread.sleep(1);
+            assertEquals(1, bulkhead.metrics().inFlight());
+
+            assertThrows(BulkheadRejectedException.class, customerRepository::findAll);
+
+            releaseWriter.countDown();
+            blockingWrite.get();
+            holder.get();
+
+            final BulkheadMetrics metrics = bulkhead.metrics();
+            ConsoleUtils.printFormatted("\tMetrics: %s\n", metrics);
+            assertEquals(rejectedBefore + 1, metrics.rejected());
+            assertEquals(0, metrics.inFlight());
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+package tests;
+
+import dimstyl.orm.configuration.ConnectionPool;
+import dimstyl.orm.configuration.DatabaseConfigurationFactory;
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.exceptions.SqlExecutionException;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test suite for the connection pools shared by the H2 and Derby repositories.
+ * <p>
+ * The pools must hand out usable connections only, whatever state the previous callers left them in.
+ * </p>
+ */
+public class ConnectionPoolTests extends AbstractTest {
+
+    /**
+     * The number of operations of each round, more than the connections of a pool, so that every pooled
+     * connection is returned at least once per round.
+     */
+    private static final int OPERATIONS_PER_ROUND = 16;
+
+    /**
+     * Simulates operations closing their connection or leaving a transaction open on the H2 connection pool.
+     */
+    @Test
+    void deadConnectionsH2Test() {
+        recycleTest(DatabaseConfigurationFactory.getConnectionPool("h2DB", DatabaseEngine.H2), "SELECT 1");
+    }
+
+    /**
+     * Simulates operations closing their connection or leaving a transaction open on the Derby connection pool.
+     */
+    @Test
+    void deadConnectionsDerbyTest() {
+        recycleTest(DatabaseConfigurationFactory.getConnectionPool("derbyDB", DatabaseEngine.DERBY), "VALUES 1");
+    }
+
+    /**
+     * Tests that a pool replaces the connections returned closed and resets those returned within a transaction.
+     * <p>
+     * After a round of failed operations closing their connection and a round of operations leaving auto-commit
+     * disabled, every operation must still get an open connection in auto-commit mode, able to run a query.
+     * </p>
+     *
+     * @param pool  The connection pool to test.
+     * @param query A query of the pool's database engine selecting a constant.
+     */
+    private static void recycleTest(final ConnectionPool pool, final String query) {
+        ConsoleUtils.printFormatted("\n------ RECYCLING POOLED CONNECTIONS PHASE ------\n");
+        for (int i = 0; i < OPERATIONS_PER_ROUND; i++) {
+            assertThrows(IllegalStateException.class, () -> pool.execute(connection -> {
+                close(connection);
+                throw new IllegalStateException("The connection was lost");
+            }));
+        }
+        for (int i = 0; i < OPERATIONS_PER_ROUND; i++) {
+            pool.execute(connection -> {
+                try {
+                    connection.setAutoCommit(false);
+                    return null;
+                } catch (SQLException e) {
+                    throw new SqlExecutionException(e.getMessage(), e);
+                }
+            });
+        }
+
+        final Set<Connection> connections = new HashSet<>();
+        for (int i = 0; i < OPERATIONS_PER_ROUND; i++) {
+            final int result = pool.execute(connection -> {
+                connections.add(connection);
+                try (final Statement statement = connection.createStatement();
+                     final ResultSet resultSet = statement.executeQuery(query)) {
+                    assertFalse(connection.isClosed());
+                    assertTrue(connection.getAutoCommit());
+                    assertTrue(resultSet.next());
+                    return resultSet.getInt(1);
+                } catch (SQLException e) {
+                    throw new SqlExecutionException(e.getMessage(), e);
+                }
+            });
+            assertEquals(1, result);
+        }
+        ConsoleUtils.printFormatted("\tOperations ran on %d distinct connection(s)\n", connections.size());
+    }
+
+    /**
+     * Closes a pooled connection, as a dropped connection would be.
+     *
+     * @param connection The connection to close.
+     */
+    private static void close(final Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new SqlExecutionException(e.getMessage(), e);
+        }
+    }
+
+}
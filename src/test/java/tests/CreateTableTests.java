@@ -3,7 +3,17 @@ package tests;
 import databases.DerbyDatabase;
 import databases.H2Database;
 import databases.SQLiteDatabase;
+import dimstyl.orm.enums.DatabaseEngine;
+import entities.Customer;
+import entities.Purchase;
 import org.junit.jupiter.api.Test;
+import repositories.h2.CustomerRepository;
+import repositories.h2.InheritingCustomerRepository;
+import repositories.h2.InvalidCustomerRepository;
+import repositories.h2.InvalidNativeQueryRepository;
+import repositories.h2.PurchaseRepository;
+
+import java.nio.file.Path;
 
 /**
  * Test suite for simulating the ORM's table creation flow.
@@ -31,6 +41,22 @@ public class CreateTableTests extends AbstractCreateTableTest {
         createDatabaseTest(H2Database.class);
     }
 
+    /**
+     * Simulates restarting the ORM against the {@link H2Database}, whose unchanged schema must not be processed again.
+     */
+    @Test
+    void createH2DatabaseFingerprintTest() {
+        schemaFingerprintTest(H2Database.class, Path.of("db/h2/create_tables.sql"));
+    }
+
+    /**
+     * Verifies that the composite and descending indexes of the {@link H2Database} tables are created with them.
+     */
+    @Test
+    void createH2IndexesTest() {
+        createIndexesTest(H2Database.class);
+    }
+
     /**
      * Simulates the ORM's table creation process for a Derby database.
      * <p>
@@ -43,6 +69,23 @@ public class CreateTableTests extends AbstractCreateTableTest {
         createDatabaseTest(DerbyDatabase.class);
     }
 
+    /**
+     * Simulates a failing table creation on a Derby database, which must leave no table created.
+     */
+    @Test
+    void createTablesAtomicallyDerbyTest() {
+        createTablesAtomicallyTest(DerbyDatabase.class);
+    }
+
+    /**
+     * Verifies that the schema of the {@link DerbyDatabase}, which has no {@code IF NOT EXISTS} clause,
+     * can be synchronized repeatedly and evolved with new columns and unique indexes.
+     */
+    @Test
+    void syncDerbySchemaTest() {
+        syncSchemaTest(DerbyDatabase.class);
+    }
+
     /**
      * Simulates the ORM's table creation process for an SQLite database.
      * <p>
@@ -55,4 +98,58 @@ public class CreateTableTests extends AbstractCreateTableTest {
         createDatabaseTest(SQLiteDatabase.class);
     }
 
+    /**
+     * Simulates a failing table creation on an SQLite database, which must leave no table created.
+     */
+    @Test
+    void createTablesAtomicallySqliteTest() {
+        createTablesAtomicallyTest(SQLiteDatabase.class);
+    }
+
+    /**
+     * Verifies that the indexes of the {@link SQLiteDatabase} tables, including its partial index,
+     * are created with them.
+     */
+    @Test
+    void createSqliteIndexesTest() {
+        createIndexesTest(SQLiteDatabase.class);
+    }
+
+    /**
+     * Verifies that the schema of the {@link SQLiteDatabase} can be synchronized repeatedly
+     * and evolved with new columns and unique indexes.
+     */
+    @Test
+    void syncSqliteSchemaTest() {
+        syncSchemaTest(SQLiteDatabase.class);
+    }
+
+    /**
+     * Simulates generating the metadata index of the H2 and SQLite databases at build time,
+     * and reading their tables back from it.
+     */
+    @Test
+    void metadataIndexTest() {
+        metadataIndexTest(DatabaseEngine.DERBY, H2Database.class, SQLiteDatabase.class);
+    }
+
+    /**
+     * Verifies that the tables of the {@link SQLiteDatabase} declared in its annotation are followed by the ones
+     * discovered in its scanned package, without duplicates.
+     */
+    @Test
+    void discoverSqliteTablesTest() {
+        discoverTablesTest(SQLiteDatabase.class, Purchase.class, Customer.class);
+    }
+
+    /**
+     * Simulates generating the component index of the H2 repositories at build time,
+     * and discovering them from it at a later start.
+     */
+    @Test
+    void componentIndexTest() {
+        componentIndexTest("repositories.h2", CustomerRepository.class, InheritingCustomerRepository.class,
+                InvalidCustomerRepository.class, InvalidNativeQueryRepository.class, PurchaseRepository.class);
+    }
+
 }
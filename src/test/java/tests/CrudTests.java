@@ -1,6 +1,7 @@
 package tests;
 
 import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.repository.RepositoryFactory;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -58,12 +59,20 @@ public class CrudTests extends AbstractCrudTest {
         getAllTest(repositories.h2.CustomerRepository.class);
     }
 
+    /**
+     * Simulates retrieving a customer by ID from the H2 database.
+     */
+    @Test
+    void findCustomerByIdH2Test() {
+        findByIdTest(repositories.h2.CustomerRepository.class, 2);
+    }
+
     /**
      * Simulates deleting a customer by ID from the H2 database.
      */
     @Test
     void deleteCustomerByIdH2Test() {
-        deleteByIdTest(repositories.h2.CustomerRepository.class, 1);
+        deleteByIdTest(repositories.h2.CustomerRepository.class, 3);
     }
 
     /**
@@ -82,6 +91,171 @@ public class CrudTests extends AbstractCrudTest {
         deleteByIdTest(repositories.h2.PurchaseRepository.class, 1);
     }
 
+    /**
+     * Simulates retrieving and deleting purchases through a repository proxy on the H2 database.
+     */
+    @Test
+    void purchaseRepositoryProxyH2Test() {
+        final var purchaseRepository = RepositoryFactory.create(repositories.h2.PurchaseRepository.class);
+        repositoryProxyTest(purchaseRepository::findAll, purchaseRepository::deleteBydId, 3);
+    }
+
+    /**
+     * Simulates counting and aggregating purchases without loading them from the H2 database.
+     */
+    @Test
+    void purchaseAggregatesH2Test() {
+        final var purchaseRepository = RepositoryFactory.create(repositories.h2.PurchaseRepository.class);
+        aggregateTest(
+                purchaseRepository::findAll,
+                purchaseRepository::count,
+                purchaseRepository::existsById,
+                purchaseRepository::maxId,
+                purchaseRepository::sumOfIds,
+                purchaseRepository::averageId,
+                purchaseRepository::countByCustomerId
+        );
+    }
+
+    /**
+     * Simulates retrieving customers matching criteria built at runtime from the H2 database.
+     */
+    @Test
+    void customerCriteriaH2Test() {
+        final var customerRepository = RepositoryFactory.create(repositories.h2.CustomerRepository.class);
+        criteriaTest(customerRepository::findMatching);
+    }
+
+    /**
+     * Simulates retrieving customers by a collection of IDs through a repository proxy on the H2 database.
+     */
+    @Test
+    void customerRepositoryProxyFindAllByIdH2Test() {
+        final var customerRepository = RepositoryFactory.create(repositories.h2.CustomerRepository.class);
+        findAllByIdProxyTest(customerRepository::findAllById, customerRepository::findById, 2);
+    }
+
+    /**
+     * Simulates loading the associations between customers and purchases from the H2 database.
+     */
+    @Test
+    void customerPurchaseAssociationsH2Test() {
+        final var customerRepository = RepositoryFactory.create(repositories.h2.CustomerRepository.class);
+        final var purchaseRepository = RepositoryFactory.create(repositories.h2.PurchaseRepository.class);
+        associationTest(customerRepository::findAll, purchaseRepository::findByCustomerId);
+    }
+
+    /**
+     * Simulates inserting a customer along with its purchases into the H2 database.
+     *
+     * @throws SQLException If there is an error deleting the inserted records.
+     */
+    @Test
+    void customerPersistCascadeH2Test() throws SQLException {
+        final var customerRepository = RepositoryFactory.create(repositories.h2.CustomerRepository.class);
+        persistTest("h2DB", DatabaseEngine.H2, customerRepository::persistAll, customerRepository::persist,
+                customerRepository::findById);
+    }
+
+    /**
+     * Simulates concurrent customer lookups micro-batched into multi-key queries on the H2 database.
+     */
+    @Test
+    void customerBatchedLookupsH2Test() {
+        final var customerRepository = RepositoryFactory.create(repositories.h2.CustomerRepository.class);
+        batchedLookupTest(customerRepository::findByIdBatched, customerRepository::findById);
+    }
+
+    /**
+     * Simulates retrieving customers through derived query methods on the H2 database.
+     */
+    @Test
+    void customerDerivedQueriesH2Test() {
+        final var customerRepository = RepositoryFactory.create(repositories.h2.CustomerRepository.class);
+        derivedQueryTest(customerRepository::findByEmail, customerRepository::findByActiveAndLastName);
+    }
+
+    /**
+     * Simulates retrieving customers through query methods inherited by a repository on the H2 database.
+     */
+    @Test
+    void customerInheritedQueriesH2Test() {
+        final var customerRepository = RepositoryFactory.create(repositories.h2.InheritingCustomerRepository.class);
+        inheritedQueryMethodTest(customerRepository::findAll, customerRepository::findByLastName,
+                customerRepository::searchByFirstName, customerRepository::maxId);
+    }
+
+    /**
+     * Simulates a single-result derived query matching several customers on the H2 database.
+     */
+    @Test
+    void customerUniqueResultH2Test() {
+        final var customerRepository = RepositoryFactory.create(repositories.h2.CustomerRepository.class);
+        uniqueResultTest(customerRepository::findByIdLessThan);
+    }
+
+    /**
+     * Simulates retrieving customers by ID through a repository proxy on the H2 database.
+     */
+    @Test
+    void customerRepositoryProxyFindByIdH2Test() {
+        final var customerRepository = RepositoryFactory.create(repositories.h2.CustomerRepository.class);
+        findByIdProxyTest(customerRepository::findById, 2);
+    }
+
+    /**
+     * Simulates creating a repository whose derived query method refers to an unknown property.
+     */
+    @Test
+    void invalidDerivedQueryH2Test() {
+        invalidRepositoryTest(repositories.h2.InvalidCustomerRepository.class);
+    }
+
+    /**
+     * Simulates retrieving customers joined with their purchases through a native query on the H2 database.
+     */
+    @Test
+    void customerNativeQueriesH2Test() {
+        final var customerRepository = RepositoryFactory.create(repositories.h2.CustomerRepository.class);
+        nativeQueryTest(customerRepository::countPurchasesByEmail);
+    }
+
+    /**
+     * Simulates searching and deactivating customers through native statements on the H2 database.
+     */
+    @Test
+    void customerNativeUpdatesH2Test() {
+        final var customerRepository = RepositoryFactory.create(repositories.h2.CustomerRepository.class);
+        nativeUpdateTest(customerRepository::searchByName, customerRepository::deactivateByEmail);
+    }
+
+    /**
+     * Simulates creating a repository whose native query refers to an unknown named parameter.
+     */
+    @Test
+    void invalidNativeQueryH2Test() {
+        invalidRepositoryTest(repositories.h2.InvalidNativeQueryRepository.class);
+    }
+
+    /**
+     * Simulates extracting the metadata of a repository and of its entity repeatedly on the H2 database.
+     */
+    @Test
+    void metadataRegistryH2Test() {
+        metadataRegistryTest(repositories.h2.CustomerRepository.class, repositories.h2.InvalidCustomerRepository.class);
+    }
+
+    /**
+     * Simulates storing and reading back a shipment with every richer column type on the H2 database.
+     *
+     * @throws SQLException           If there is an error executing SQL queries.
+     * @throws IllegalAccessException If a field of the shipment cannot be read.
+     */
+    @Test
+    void columnTypesH2Test() throws SQLException, IllegalAccessException {
+        columnTypesTest("h2DB", DatabaseEngine.H2);
+    }
+
     /* ------------- Derby tests ------------- */
 
     /**
@@ -92,12 +266,20 @@ public class CrudTests extends AbstractCrudTest {
         getAllTest(repositories.derby.CustomerRepository.class);
     }
 
+    /**
+     * Simulates retrieving a customer by ID from the Derby database.
+     */
+    @Test
+    void findCustomerByIdDerbyTest() {
+        findByIdTest(repositories.derby.CustomerRepository.class, 2);
+    }
+
     /**
      * Simulates deleting a customer by ID from the Derby database.
      */
     @Test
     void deleteCustomerByIdDerbyTest() {
-        deleteByIdTest(repositories.derby.CustomerRepository.class, 1);
+        deleteByIdTest(repositories.derby.CustomerRepository.class, 3);
     }
 
     /**
@@ -116,6 +298,92 @@ public class CrudTests extends AbstractCrudTest {
         deleteByIdTest(repositories.derby.PurchaseRepository.class, 1);
     }
 
+    /**
+     * Simulates retrieving and deleting purchases through a repository proxy on the Derby database.
+     */
+    @Test
+    void purchaseRepositoryProxyDerbyTest() {
+        final var purchaseRepository = RepositoryFactory.create(repositories.derby.PurchaseRepository.class);
+        repositoryProxyTest(purchaseRepository::findAll, purchaseRepository::deleteBydId, 3);
+    }
+
+    /**
+     * Simulates counting and aggregating purchases without loading them from the Derby database.
+     */
+    @Test
+    void purchaseAggregatesDerbyTest() {
+        final var purchaseRepository = RepositoryFactory.create(repositories.derby.PurchaseRepository.class);
+        aggregateTest(
+                purchaseRepository::findAll,
+                purchaseRepository::count,
+                purchaseRepository::existsById,
+                purchaseRepository::maxId,
+                purchaseRepository::sumOfIds,
+                purchaseRepository::averageId,
+                purchaseRepository::countByCustomerId
+        );
+    }
+
+    /**
+     * Simulates retrieving customers matching criteria built at runtime from the Derby database.
+     */
+    @Test
+    void customerCriteriaDerbyTest() {
+        final var customerRepository = RepositoryFactory.create(repositories.derby.CustomerRepository.class);
+        criteriaTest(customerRepository::findMatching);
+    }
+
+    /**
+     * Simulates retrieving customers by a collection of IDs through a repository proxy on the Derby database.
+     */
+    @Test
+    void customerRepositoryProxyFindAllByIdDerbyTest() {
+        final var customerRepository = RepositoryFactory.create(repositories.derby.CustomerRepository.class);
+        findAllByIdProxyTest(customerRepository::findAllById, customerRepository::findById, 2);
+    }
+
+    /**
+     * Simulates loading the associations between customers and purchases from the Derby database.
+     */
+    @Test
+    void customerPurchaseAssociationsDerbyTest() {
+        final var customerRepository = RepositoryFactory.create(repositories.derby.CustomerRepository.class);
+        final var purchaseRepository = RepositoryFactory.create(repositories.derby.PurchaseRepository.class);
+        associationTest(customerRepository::findAll, purchaseRepository::findByCustomerId);
+    }
+
+    /**
+     * Simulates inserting a customer along with its purchases into the Derby database.
+     *
+     * @throws SQLException If there is an error deleting the inserted records.
+     */
+    @Test
+    void customerPersistCascadeDerbyTest() throws SQLException {
+        final var customerRepository = RepositoryFactory.create(repositories.derby.CustomerRepository.class);
+        persistTest("derbyDB", DatabaseEngine.DERBY, customerRepository::persistAll, customerRepository::persist,
+                customerRepository::findById);
+    }
+
+    /**
+     * Simulates concurrent customer lookups micro-batched into multi-key queries on the Derby database.
+     */
+    @Test
+    void customerBatchedLookupsDerbyTest() {
+        final var customerRepository = RepositoryFactory.create(repositories.derby.CustomerRepository.class);
+        batchedLookupTest(customerRepository::findByIdBatched, customerRepository::findById);
+    }
+
+    /**
+     * Simulates storing and reading back a shipment with every richer column type on the Derby database.
+     *
+     * @throws SQLException           If there is an error executing SQL queries.
+     * @throws IllegalAccessException If a field of the shipment cannot be read.
+     */
+    @Test
+    void columnTypesDerbyTest() throws SQLException, IllegalAccessException {
+        columnTypesTest("derbyDB", DatabaseEngine.DERBY);
+    }
+
     /* ------------- SQLite tests ------------- */
 
     /**
@@ -126,12 +394,20 @@ public class CrudTests extends AbstractCrudTest {
         getAllTest(repositories.sqlite.CustomerRepository.class);
     }
 
+    /**
+     * Simulates retrieving a customer by ID from the SQLite database.
+     */
+    @Test
+    void findCustomerByIdSqliteTest() {
+        findByIdTest(repositories.sqlite.CustomerRepository.class, 2);
+    }
+
     /**
      * Simulates deleting a customer by ID from the SQLite database.
      */
     @Test
     void deleteCustomerByIdSqliteTest() {
-        deleteByIdTest(repositories.sqlite.CustomerRepository.class, 1);
+        deleteByIdTest(repositories.sqlite.CustomerRepository.class, 3);
     }
 
     /**
@@ -150,4 +426,108 @@ public class CrudTests extends AbstractCrudTest {
         deleteByIdTest(repositories.sqlite.PurchaseRepository.class, 1);
     }
 
+    /**
+     * Simulates retrieving and deleting purchases through a repository proxy on the SQLite database.
+     */
+    @Test
+    void purchaseRepositoryProxySqliteTest() {
+        final var purchaseRepository = RepositoryFactory.create(repositories.sqlite.PurchaseRepository.class);
+        repositoryProxyTest(purchaseRepository::findAll, purchaseRepository::deleteBydId, 3);
+    }
+
+    /**
+     * Simulates counting and aggregating purchases without loading them from the SQLite database.
+     */
+    @Test
+    void purchaseAggregatesSqliteTest() {
+        final var purchaseRepository = RepositoryFactory.create(repositories.sqlite.PurchaseRepository.class);
+        aggregateTest(
+                purchaseRepository::findAll,
+                purchaseRepository::count,
+                purchaseRepository::existsById,
+                purchaseRepository::maxId,
+                purchaseRepository::sumOfIds,
+                purchaseRepository::averageId,
+                purchaseRepository::countByCustomerId
+        );
+    }
+
+    /**
+     * Simulates retrieving customers matching criteria built at runtime from the SQLite database.
+     */
+    @Test
+    void customerCriteriaSqliteTest() {
+        final var customerRepository = RepositoryFactory.create(repositories.sqlite.CustomerRepository.class);
+        criteriaTest(customerRepository::findMatching);
+    }
+
+    /**
+     * Simulates retrieving customers by a collection of IDs through a repository proxy on the SQLite database.
+     */
+    @Test
+    void customerRepositoryProxyFindAllByIdSqliteTest() {
+        final var customerRepository = RepositoryFactory.create(repositories.sqlite.CustomerRepository.class);
+        findAllByIdProxyTest(customerRepository::findAllById, customerRepository::findById, 2);
+    }
+
+    /**
+     * Simulates loading the associations between customers and purchases from the SQLite database.
+     */
+    @Test
+    void customerPurchaseAssociationsSqliteTest() {
+        final var customerRepository = RepositoryFactory.create(repositories.sqlite.CustomerRepository.class);
+        final var purchaseRepository = RepositoryFactory.create(repositories.sqlite.PurchaseRepository.class);
+        associationTest(customerRepository::findAll, purchaseRepository::findByCustomerId);
+    }
+
+    /**
+     * Simulates inserting a customer along with its purchases into the SQLite database.
+     *
+     * @throws SQLException If there is an error deleting the inserted records.
+     */
+    @Test
+    void customerPersistCascadeSqliteTest() throws SQLException {
+        final var customerRepository = RepositoryFactory.create(repositories.sqlite.CustomerRepository.class);
+        persistTest("sqliteDB", DatabaseEngine.SQLITE, customerRepository::persistAll, customerRepository::persist,
+                customerRepository::findById);
+    }
+
+    /**
+     * Simulates retrieving customers through derived query methods on the SQLite database.
+     */
+    @Test
+    void customerDerivedQueriesSqliteTest() {
+        final var customerRepository = RepositoryFactory.create(repositories.sqlite.CustomerRepository.class);
+        derivedQueryTest(customerRepository::findByEmail, customerRepository::findByActiveAndLastName);
+    }
+
+    /**
+     * Simulates retrieving customers joined with their purchases through a native query on the SQLite database.
+     */
+    @Test
+    void customerNativeQueriesSqliteTest() {
+        final var customerRepository = RepositoryFactory.create(repositories.sqlite.CustomerRepository.class);
+        nativeQueryTest(customerRepository::countPurchasesByEmail);
+    }
+
+    /**
+     * Simulates storing and reading back a shipment with every richer column type on the SQLite database.
+     *
+     * @throws SQLException           If there is an error executing SQL queries.
+     * @throws IllegalAccessException If a field of the shipment cannot be read.
+     */
+    @Test
+    void columnTypesSqliteTest() throws SQLException, IllegalAccessException {
+        columnTypesTest("sqliteDB", DatabaseEngine.SQLITE);
+    }
+
+    /**
+     * Simulates concurrent retrieval and deletion of purchases through the SQLite single-writer runtime.
+     */
+    @Test
+    void sqliteRuntimePurchasesTest() {
+        final var purchaseRepository = RepositoryFactory.create(repositories.sqlite.PurchaseRepository.class);
+        sqliteRuntimeTest(repositories.sqlite.PurchaseRepository.class, 2, purchaseRepository::existsById);
+    }
+
 }
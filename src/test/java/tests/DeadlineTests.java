@@ -0,0 +1,121 @@
+package tests;
+
+import databases.SQLiteDatabase;
+import dimstyl.orm.configuration.DatabaseConfigurationFactory;
+import dimstyl.orm.configuration.SQLiteRuntime;
+import dimstyl.orm.exceptions.QueryTimeoutException;
+import dimstyl.orm.internal.processors.RepositoryProcessor;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.metadata.RepositoryMetadata;
+import dimstyl.orm.repository.RepositoryFactory;
+import dimstyl.orm.runtime.Deadline;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test suite for the deadlines of repository operations.
+ * <p>
+ * Operations are invoked through repository proxies, which run them under the {@code @Timeout} of their method
+ * or repository, or under the {@link Deadline} active on the calling thread if it is earlier.
+ * </p>
+ */
+public class DeadlineTests extends AbstractTest {
+
+    /**
+     * Creates the tables of the SQLite database, unless they are already up to date.
+     */
+    @BeforeAll
+    static void beforeAll() {
+        AbstractCreateTableTest.createDatabaseTest(SQLiteDatabase.class);
+    }
+
+    /**
+     * Checks that the timeout of a method applies to it alone and not to other methods of the same operation
+     * in the H2 purchase repository.
+     */
+    @Test
+    void methodTimeoutH2Test() throws NoSuchMethodException {
+        final Class<?> repositoryClass = repositories.h2.PurchaseRepository.class;
+        final RepositoryMetadata repositoryMetadata = RepositoryProcessor.extractMetadata(repositoryClass);
+        final Method timed = repositoryClass.getMethod("findAll");
+        final Method untimed = repositoryClass.getMethod("findAllPurchases");
+        assertEquals(RepositoryProcessor.resolveSqlOperation(timed), RepositoryProcessor.resolveSqlOperation(untimed));
+        assertEquals(Optional.of(Duration.ofSeconds(30)), repositoryMetadata.resolveTimeout(timed));
+        assertEquals(Optional.of(Duration.ofSeconds(5)), repositoryMetadata.resolveTimeout(untimed));
+    }
+
+    /**
+     * Simulates a runaway query on the SQLite database, which must be cancelled once its method's timeout passes.
+     * <p>
+     * The query counts the rows of an endless recursive common table expression,
+     * so it only completes if it is cancelled.
+     * </p>
+     */
+    @Test
+    void runawayQueryTimeoutSqliteTest() {
+        final var purchaseRepository = RepositoryFactory.create(repositories.sqlite.PurchaseRepository.class);
+
+        ConsoleUtils.printFormatted("\n------ EXECUTING RUNAWAY QUERY PHASE ------\n");
+        final long start = System.nanoTime();
+        assertThrows(QueryTimeoutException.class, purchaseRepository::countRunaway);
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        ConsoleUtils.printFormatted("\tCancelled after %d ms\n", elapsed.toMillis());
+        assertTrue(elapsed.compareTo(Duration.ofMillis(200).plusSeconds(1)) < 0);
+    }
+
+    /**
+     * Simulates a write on the SQLite purchases timing out while queued behind a busy writer.
+     * <p>
+     * A first write holds the writer thread until a deletion, whose deadline is active on its calling thread,
+     * has timed out waiting for it.
+     * </p>
+     */
+    @Test
+    void writeDeadlineSqliteTest() {
+        final var purchaseRepository = RepositoryFactory.create(repositories.sqlite.PurchaseRepository.class);
+        final SQLiteRuntime sqliteRuntime = DatabaseConfigurationFactory.getSQLiteRuntime("sqliteDB");
+        final Duration timeout = Duration.ofMillis(200);
+        final CountDownLatch writerBusy = new CountDownLatch(1);
+        final CountDownLatch releaseWriter = new CountDownLatch(1);
+
+        ConsoleUtils.printFormatted("\n------ EXECUTING WRITE BEHIND A BUSY WRITER PHASE ------\n");
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final Future<?> blockingWrite = executor.submit(() -> sqliteRuntime.write(connection -> {
+                writerBusy.countDown();
+                try {
+                    releaseWriter.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }));
+            writerBusy.await();
+
+            final long start = System.nanoTime();
+            assertThrows(QueryTimeoutException.class, () -> Deadline.run(timeout, () ->
+                    purchaseRepository.deleteBydId(-1)));
+            final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            ConsoleUtils.printFormatted("\tTimed out after %d ms\n", elapsed.toMillis());
+            assertTrue(elapsed.compareTo(timeout.plusSeconds(1)) < 0);
+
+            releaseWriter.countDown();
+            blockingWrite.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,192 @@
+package tests;
+
+import databases.H2Database;
+import dimstyl.orm.enums.DatabaseEngine;
+import dimstyl.orm.exceptions.SqlExecutionException;
+import dimstyl.orm.internal.utils.ConsoleUtils;
+import dimstyl.orm.repository.RepositoryFactory;
+import dimstyl.orm.runtime.Retries;
+import dimstyl.orm.runtime.RetryMetrics;
+import dimstyl.orm.runtime.TransientErrors;
+import org.h2.api.Trigger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test suite for the retries of repository operations after transient errors.
+ * <p>
+ * Operations are invoked through repository proxies, while a trigger on the H2 purchases fails their first
+ * attempts with the errors H2 reports under lock contention.
+ * </p>
+ */
+public class RetryTests extends AbstractCrudTest {
+
+    /**
+     * Creates the tables of the H2 database, unless they are already up to date, and seeds it with test data.
+     *
+     * @throws SQLException If there is an error executing SQL queries.
+     * @throws IOException  If there is an error reading the SQL script.
+     */
+    @BeforeAll
+    static void beforeAll() throws SQLException, IOException {
+        AbstractCreateTableTest.createDatabaseTest(H2Database.class);
+        seedData("h2DB", DatabaseEngine.H2);
+    }
+
+    /**
+     * Cleans up database records after all tests have been executed.
+     *
+     * @throws SQLException If there is an error executing SQL queries.
+     * @throws IOException  If there is an error reading the SQL script.
+     */
+    @AfterAll
+    static void afterAll() throws SQLException, IOException {
+        deleteData("h2DB", DatabaseEngine.H2);
+    }
+
+    /**
+     * Simulates deleting an H2 purchase while its table is locked, which must succeed once the lock is released.
+     * <p>
+     * A permanent error, on the other hand, must surface after a single attempt.
+     * </p>
+     */
+    @Test
+    void retryLockTimeoutH2Test() throws SQLException {
+        final var purchaseRepository = RepositoryFactory.create(repositories.h2.PurchaseRepository.class);
+
+        ConsoleUtils.printFormatted("\n------ EXECUTING \"DELETE BY ID\" QUERY WITH RETRIES PHASE ------\n");
+        final Supplier<SQLException> lockTimeout =
+                () -> new SQLException("Timeout trying to lock table \"PURCHASE\"", "HYT00", 50200);
+        withFailingTrigger("BEFORE DELETE", lockTimeout, 2, () -> purchaseRepository.deleteBydId(8));
+        assertEquals(3, FailingTrigger.FIRES.get());
+        assertFalse(purchaseRepository.existsById(8));
+
+        final Supplier<SQLException> syntaxError = () -> new SQLException("Syntax error", "42000", 42000);
+        withFailingTrigger("BEFORE DELETE", syntaxError, 1, () ->
+                assertThrows(SqlExecutionException.class, () -> purchaseRepository.deleteBydId(9)));
+        assertEquals(1, FailingTrigger.FIRES.get());
+        assertTrue(purchaseRepository.existsById(9));
+
+        final RetryMetrics metrics =
+                Retries.findRepositoryRetrier(repositories.h2.PurchaseRepository.class).orElseThrow().metrics();
+        ConsoleUtils.printFormatted("\tMetrics: %s\n", metrics);
+        assertTrue(metrics.retries() >= 2);
+        assertTrue(metrics.recovered() >= 1);
+    }
+
+    /**
+     * Simulates a deadlock in the middle of persisting an H2 customer with its purchases.
+     * <p>
+     * The first attempt inserts the customer and then fails inserting its purchase, so the replayed transaction
+     * only succeeds if the first one was rolled back.
+     * </p>
+     */
+    @Test
+    void retryTransactionDeadlockH2Test() throws SQLException {
+        final var customerRepository = RepositoryFactory.create(repositories.h2.CustomerRepository.class);
+        final var purchaseRepository = RepositoryFactory.create(repositories.h2.PurchaseRepository.class);
+
+        ConsoleUtils.printFormatted("\n------ EXECUTING TRANSACTION WITH RETRIES PHASE ------\n");
+        final Supplier<SQLException> deadlock = () -> new SQLException("Deadlock detected", "40001", 40001);
+        withFailingTrigger("BEFORE INSERT", deadlock, 1, () -> customerRepository.persist(newCustomer(12, 1_012)));
+        assertEquals(2, FailingTrigger.FIRES.get());
+        assertTrue(customerRepository.findById(12).isPresent());
+        assertTrue(purchaseRepository.existsById(1_012));
+    }
+
+    /**
+     * Checks that the errors SQLite and Derby report under lock contention are classified as transient,
+     * wherever they are in the cause chain, unlike permanent errors.
+     */
+    @Test
+    void transientErrorsTest() {
+        final SQLException busy = new SQLException("[SQLITE_BUSY] The database file is locked", null, 5);
+        final SQLException busySnapshot = new SQLException("[SQLITE_BUSY_SNAPSHOT] The database file is locked",
+                null, 517);
+        final SQLException lockTimeout = new SQLException("A lock could not be obtained within the time requested",
+                "40XL1", 30000);
+        final SQLException constraint = new SQLException("[SQLITE_CONSTRAINT] Abort due to constraint violation",
+                null, 19);
+
+        assertTrue(TransientErrors.isTransient(DatabaseEngine.SQLITE, busy));
+        assertTrue(TransientErrors.isTransient(DatabaseEngine.SQLITE, busySnapshot));
+        assertTrue(TransientErrors.isTransient(DatabaseEngine.DERBY,
+                new SqlExecutionException(lockTimeout.getMessage(), lockTimeout)));
+        assertFalse(TransientErrors.isTransient(DatabaseEngine.SQLITE, constraint));
+        assertFalse(TransientErrors.isTransient(DatabaseEngine.DERBY, busy));
+    }
+
+    /**
+     * Runs an operation while a trigger on the H2 purchases fails its first firings.
+     * <p>
+     * The trigger is dropped once the operation completes, and its firings are counted from zero.
+     * </p>
+     *
+     * @param timing    The timing and event of the trigger, e.g. {@code BEFORE DELETE}.
+     * @param failure   The error thrown by each failing firing.
+     * @param failures  The number of firings failing with the error.
+     * @param operation The operation to run.
+     * @throws SQLException If the trigger cannot be created or dropped.
+     */
+    private static void withFailingTrigger(final String timing,
+                                           final Supplier<SQLException> failure,
+                                           final int failures,
+                                           final Runnable operation) throws SQLException {
+        FailingTrigger.FAILURE = failure;
+        FailingTrigger.REMAINING_FAILURES.set(failures);
+        FailingTrigger.FIRES.set(0);
+        try (final Connection connection =
+                     DriverManager.getConnection(buildConnectionString("h2DB", DatabaseEngine.H2))) {
+            executeQuery(String.format("CREATE TRIGGER FAILING_PURCHASE %s ON PURCHASE FOR EACH ROW CALL '%s'",
+                    timing, FailingTrigger.class.getName()), connection);
+            try {
+                operation.run();
+            } finally {
+                executeQuery("DROP TRIGGER FAILING_PURCHASE", connection);
+            }
+        }
+    }
+
+    /**
+     * H2 trigger failing its first firings with a configured error, and counting all of its firings.
+     */
+    public static final class FailingTrigger implements Trigger {
+
+        /**
+         * The number of firings since the trigger was configured.
+         */
+        private static final AtomicInteger FIRES = new AtomicInteger();
+
+        /**
+         * The number of firings still to fail.
+         */
+        private static final AtomicInteger REMAINING_FAILURES = new AtomicInteger();
+
+        /**
+         * The error thrown by each failing firing.
+         */
+        private static volatile Supplier<SQLException> FAILURE;
+
+        @Override
+        public void fire(final Connection connection, final Object[] oldRow, final Object[] newRow)
+                throws SQLException {
+            FIRES.incrementAndGet();
+            if (REMAINING_FAILURES.getAndDecrement() > 0) throw FAILURE.get();
+        }
+
+    }
+
+}
@@ -0,0 +1,18 @@
+package types;
+
+import dimstyl.orm.annotations.Column;
+import dimstyl.orm.annotations.Embeddable;
+
+/**
+ * Represents a postal address, embedded into the tables of the entities using it.
+ *
+ * @param street     The street and number.
+ * @param city       The city.
+ * @param postalCode The postal code, of up to 10 characters.
+ * @see Embeddable
+ */
+@Embeddable
+public record Address(@Column String street,
+                      @Column String city,
+                      @Column(length = 10) String postalCode) {
+}
@@ -0,0 +1,38 @@
+package types;
+
+import dimstyl.orm.annotations.Column;
+import dimstyl.orm.annotations.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Represents the dimensions of a parcel in centimeters, embedded into the tables of the entities using it.
+ * <p>
+ * Unlike {@link Address}, it is a mutable class, rebuilt through its no-arg constructor and fields.
+ * </p>
+ *
+ * @see Embeddable
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class Dimensions {
+
+    @Column
+    private int length;
+
+    @Column
+    private int width;
+
+    @Column
+    private int height;
+
+}
@@ -0,0 +1,30 @@
+package types;
+
+import dimstyl.orm.model.StringConverter;
+
+/**
+ * Represents an email address, stored in a text column by the fields converting it.
+ *
+ * @param value The email address.
+ * @see Converter
+ */
+public record EmailAddress(String value) {
+
+    /**
+     * Stores email addresses as their text.
+     */
+    public static class Converter implements StringConverter<EmailAddress> {
+
+        @Override
+        public String toColumn(final EmailAddress emailAddress) {
+            return emailAddress.value();
+        }
+
+        @Override
+        public EmailAddress fromColumn(final String value) {
+            return new EmailAddress(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,46 @@
+package types;
+
+import dimstyl.orm.model.IntConverter;
+
+/**
+ * Represents the handling instructions of a shipment as a set of bit flags, stored in an integer column
+ * by the fields converting it.
+ *
+ * @param bits The set flags.
+ * @see Converter
+ */
+public record HandlingFlags(int bits) {
+
+    /**
+     * The flag of fragile shipments.
+     */
+    public static final int FRAGILE = 1;
+
+    /**
+     * The flag of refrigerated shipments.
+     */
+    public static final int REFRIGERATED = 1 << 1;
+
+    /**
+     * The flag of shipments requiring a signature on delivery.
+     */
+    public static final int SIGNATURE_REQUIRED = 1 << 2;
+
+    /**
+     * Stores handling flags as their bits.
+     */
+    public static class Converter implements IntConverter<HandlingFlags> {
+
+        @Override
+        public int toColumn(final HandlingFlags flags) {
+            return flags.bits();
+        }
+
+        @Override
+        public HandlingFlags fromColumn(final int bits) {
+            return new HandlingFlags(bits);
+        }
+
+    }
+
+}
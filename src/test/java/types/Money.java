@@ -0,0 +1,32 @@
+package types;
+
+import dimstyl.orm.annotations.Convert;
+import dimstyl.orm.model.LongConverter;
+
+/**
+ * Represents an amount of money in cents, stored in a big integer column wherever it is used.
+ *
+ * @param cents The amount in cents.
+ * @see Converter
+ */
+@Convert(Money.Converter.class)
+public record Money(long cents) {
+
+    /**
+     * Stores amounts of money as their cents.
+     */
+    public static class Converter implements LongConverter<Money> {
+
+        @Override
+        public long toColumn(final Money money) {
+            return money.cents();
+        }
+
+        @Override
+        public Money fromColumn(final long cents) {
+            return new Money(cents);
+        }
+
+    }
+
+}
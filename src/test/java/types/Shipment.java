@@ -0,0 +1,128 @@
+package types;
+
+import dimstyl.orm.annotations.Column;
+import dimstyl.orm.annotations.Convert;
+import dimstyl.orm.annotations.Embedded;
+import dimstyl.orm.annotations.PrimaryKey;
+import dimstyl.orm.annotations.Table;
+import dimstyl.orm.model.CodedEnum;
+import dimstyl.orm.model.Entity;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Represents a shipment entity, mapping a column of each of the richer column types, converted value types
+ * and embedded value types.
+ * <p>
+ * It is kept out of the scanned {@code entities} package and of every test database, and its table is created
+ * and dropped by the tests using it.
+ * It implements {@link Entity}, indicating that it is a persistable ORM entity.
+ * </p>
+ *
+ * <p>Fields:</p>
+ * <ul>
+ *     <li>{@code id} - The primary key for the shipment table.</li>
+ *     <li>{@code trackingCode} - The tracking code of the shipment, of up to 32 characters.</li>
+ *     <li>{@code weight} - The weight of the shipment in kilograms, with 3 decimal places.</li>
+ *     <li>{@code shippedOn} - The date the shipment was shipped on.</li>
+ *     <li>{@code deliveredAt} - The instant the shipment was delivered at.</li>
+ *     <li>{@code reference} - The external reference of the shipment.</li>
+ *     <li>{@code status} - The status of the shipment, stored by ordinal.</li>
+ *     <li>{@code carrier} - The carrier of the shipment, stored by code.</li>
+ *     <li>{@code label} - The printed label of the shipment, of up to 64 bytes.</li>
+ *     <li>{@code price} - The price of the shipment, converted by the converter of {@link Money}.</li>
+ *     <li>{@code recipientEmail} - The email address of the recipient, converted by the field's converter.</li>
+ *     <li>{@code handling} - The handling instructions of the shipment, converted by the field's converter.</li>
+ *     <li>{@code destination} - The address the shipment is sent to, embedded with the {@code ship_to_} prefix.</li>
+ *     <li>{@code dimensions} - The dimensions of the shipment, embedded with the default prefix.</li>
+ * </ul>
+ *
+ * @see Entity
+ * @see Table
+ * @see CodedEnum
+ * @see Convert
+ * @see Embedded
+ */
+@Getter
+@Setter
+@ToString
+@Table(name = "shipment")
+public class Shipment implements Entity {
+
+    @PrimaryKey
+    @Column(nullable = false)
+    private int id;
+
+    @Column(length = 32)
+    private String trackingCode;
+
+    @Column(precision = 10, scale = 3)
+    private BigDecimal weight;
+
+    @Column
+    private LocalDate shippedOn;
+
+    @Column
+    private Instant deliveredAt;
+
+    @Column
+    private UUID reference;
+
+    @Column
+    private Status status;
+
+    @Column
+    private Carrier carrier;
+
+    @Column(length = 64)
+    private byte[] label;
+
+    @Column
+    private Money price;
+
+    @Column(length = 128)
+    @Convert(EmailAddress.Converter.class)
+    private EmailAddress recipientEmail;
+
+    @Column
+    @Convert(HandlingFlags.Converter.class)
+    private HandlingFlags handling;
+
+    @Embedded(prefix = "ship_to_")
+    private Address destination;
+
+    @Embedded
+    private Dimensions dimensions;
+
+    /**
+     * The status of a shipment.
+     */
+    public enum Status {
+        PENDING, SHIPPED, DELIVERED
+    }
+
+    /**
+     * The carrier of a shipment, identified by a short code.
+     */
+    public enum Carrier implements CodedEnum {
+        POSTAL("PST"), COURIER("CR");
+
+        private final String code;
+
+        Carrier(final String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String code() {
+            return code;
+        }
+    }
+
+}
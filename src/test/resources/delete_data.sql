@@ -1,2 +1,2 @@
-DELETE FROM CUSTOMER
-DELETE FROM PURCHASE
\ No newline at end of file
+DELETE FROM PURCHASE
+DELETE FROM CUSTOMER
\ No newline at end of file
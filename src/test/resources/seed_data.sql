@@ -1,5 +1,6 @@
 INSERT INTO CUSTOMER (ID, FIRST_NAME, LAST_NAME, EMAIL, ACTIVE) VALUES (1, 'bob', 'marley', 'bobmarley@email.com', 1)
 INSERT INTO CUSTOMER (ID, FIRST_NAME, LAST_NAME, EMAIL, ACTIVE) VALUES (2, 'john', 'doe', 'johndoe@email.com', 0)
+INSERT INTO CUSTOMER (ID, FIRST_NAME, LAST_NAME, EMAIL, ACTIVE) VALUES (3, 'jane', 'roe', 'janeroe@email.com', 1)
 INSERT INTO PURCHASE (ID, CUSTOMER_ID, CREATED_AT) VALUES (6, 1, '2020-03-12 20:11:55.000000000')
 INSERT INTO PURCHASE (ID, CUSTOMER_ID, CREATED_AT) VALUES (7, 1, '2023-03-12 20:11:55.000000000')
 INSERT INTO PURCHASE (ID, CUSTOMER_ID, CREATED_AT) VALUES (8, 1, '2024-03-12 20:11:55.000000000')